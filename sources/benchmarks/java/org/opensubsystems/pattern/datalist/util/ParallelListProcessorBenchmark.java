@@ -0,0 +1,266 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListColumnDefinition;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+import org.opensubsystems.pattern.datalist.data.ListDataDescriptor;
+import org.opensubsystems.pattern.datalist.data.ListOrder;
+import org.opensubsystems.pattern.datalist.data.RowPredicate;
+
+/**
+ * Benchmarks of filtering and sorting of large in memory list by single 
+ * thread compared to ParallelListProcessor using all available processors.
+ *
+ * @author OpenSubsystems
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelListProcessorBenchmark
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Code of the column with category of the row.
+    */
+   public static final int COLUMN_CATEGORY = 1;
+
+   /**
+    * Code of the column with name of the row.
+    */
+   public static final int COLUMN_NAME = 2;
+
+   /**
+    * Code of the column with score of the row.
+    */
+   public static final int COLUMN_SCORE = 3;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Number of rows in the list.
+    */
+   @Param({"100000", "1000000"})
+   public int m_iRowCount;
+
+   /**
+    * Rows of the list, each row is array of values indexed by column code.
+    */
+   protected List<Object[]> m_lstRows;
+
+   /**
+    * Conditions selecting about 80% of the rows.
+    */
+   protected List<DataCondition> m_lstConditions;
+
+   /**
+    * Descriptor of the list ordered by category and by name descending.
+    */
+   protected ListDataDescriptor<?> m_descriptor;
+
+   /**
+    * Accessor to the values of the rows.
+    */
+   protected ListDataAccessor<Object[]> m_accessor;
+
+   /**
+    * Pool used by the parallel processor.
+    */
+   protected ForkJoinPool m_pool;
+
+   /**
+    * Processor using all available processors.
+    */
+   protected ParallelListProcessor<Object[]> m_processor;
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Generate the rows and create the processor.
+    *
+    * @throws OSSException - an error has occurred
+    */
+   @Setup
+   public void setUp(
+   ) throws OSSException
+   {
+      Random random = new Random(m_iRowCount);
+
+      m_lstRows = new ArrayList<>(m_iRowCount);
+      for (int iIndex = 0; iIndex < m_iRowCount; iIndex++)
+      {
+         m_lstRows.add(new Object[] {null, 
+                                     Long.valueOf(random.nextInt(100)),
+                                     "name" + random.nextInt(m_iRowCount),
+                                     Double.valueOf(random.nextDouble())});
+      }
+      m_lstConditions = Collections.singletonList(
+                           new DataCondition(COLUMN_SCORE, 
+                                             DataCondition.OPERATION_GREATER,
+                                             Double.valueOf(0.2),
+                                             DataCondition.VALUE_TYPE_DOUBLE));
+      m_descriptor = new ListDataDescriptor<>(1, "Row", "Row", 
+                        EnumSet.noneOf(Column.class), 
+                        new int[] {COLUMN_CATEGORY, COLUMN_NAME, COLUMN_SCORE},
+                        new int[] {COLUMN_CATEGORY, COLUMN_NAME},
+                        new String[] {ListOrder.ORDER_ASCENDING, 
+                                      ListOrder.ORDER_DESCENDING},
+                        new int[] {COLUMN_CATEGORY, COLUMN_NAME, COLUMN_SCORE},
+                        Arrays.asList(
+                           new ListColumnDefinition(COLUMN_CATEGORY, 
+                              "Category", "", DataCondition.VALUE_TYPE_INTEGER, 
+                              1, true),
+                           new ListColumnDefinition(COLUMN_NAME, "Name", "", 
+                              DataCondition.VALUE_TYPE_STRING, 1, true),
+                           new ListColumnDefinition(COLUMN_SCORE, "Score", "", 
+                              DataCondition.VALUE_TYPE_DOUBLE, 1, true)));
+      m_accessor = new ArrayAccessor();
+      m_pool = new ForkJoinPool();
+      m_processor = new ParallelListProcessor<>(m_descriptor, m_accessor, 
+                                                m_pool);
+   }
+
+   /**
+    * Shut down the pool.
+    */
+   @TearDown
+   public void tearDown(
+   )
+   {
+      m_pool.shutdown();
+   }
+
+   /**
+    * @return List<Object[]> - rows filtered and sorted by single thread
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public List<Object[]> processSequential(
+   ) throws OSSException
+   {
+      RowPredicate<Object[]> predicate;
+      Comparator<Object[]>   comparator;
+      List<Object[]>         lstResult;
+
+      predicate = new DataConditionCompiler<>(m_descriptor, m_accessor).compile(
+                     m_lstConditions);
+      comparator = new ListOrderCompiler<>(m_descriptor, m_accessor).compile();
+      lstResult = DataConditionCompiler.filter(m_lstRows, predicate);
+      Collections.sort(lstResult, comparator);
+
+      return lstResult;
+   }
+
+   /**
+    * @return List<Object[]> - rows filtered and sorted in parallel
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public List<Object[]> processParallel(
+   ) throws OSSException
+   {
+      return m_processor.process(m_lstRows, m_lstConditions);
+   }
+
+   /**
+    * @return List<Object[]> - rows sorted by single thread
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public List<Object[]> sortSequential(
+   ) throws OSSException
+   {
+      List<Object[]> lstResult = new ArrayList<>(m_lstRows);
+
+      Collections.sort(lstResult, 
+         new ListOrderCompiler<Object[]>(m_descriptor, m_accessor).compile());
+
+      return lstResult;
+   }
+
+   /**
+    * @return List<Object[]> - rows sorted in parallel
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public List<Object[]> sortParallel(
+   ) throws OSSException
+   {
+      return m_processor.sort(m_lstRows);
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Fields of the benchmarked rows.
+    */
+   public static enum Column
+   {
+      CATEGORY,
+      NAME,
+      SCORE
+   }
+
+   /**
+    * Accessor to rows represented by arrays of values indexed by column code.
+    */
+   protected static class ArrayAccessor 
+      extends ListDataAccessorAdapter<Object[]>
+   {
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Object getValue(
+         Object[] row,
+         int      iColumnCode
+      )
+      {
+         return row[iColumnCode];
+      }
+   }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.data.impl;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensubsystems.core.data.DataDescriptor;
+import org.opensubsystems.core.data.DataObject;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.pattern.parameter.data.Parameter;
+import org.opensubsystems.pattern.parameter.util.ConfigurationBenchmarkData;
+
+/**
+ * Benchmarks of lookups of parameters in ConfigurationImpl and of merging of 
+ * configurations using inheritAndOverride.
+ *
+ * @author OpenSubsystems
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationImplBenchmark
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Number of parameters of the configuration.
+    */
+   @Param({"100", "10000"})
+   public int m_iParamCount;
+
+   /**
+    * Configuration used by the benchmarks.
+    */
+   protected ConfigurationImpl m_config;
+
+   /**
+    * Parameters overriding every tenth parameter of the configuration.
+    */
+   protected Parameter[] m_arrOverrides;
+
+   /**
+    * Name of parameter with plain value.
+    */
+   protected String m_strPlainName;
+
+   /**
+    * Name of parameter whose value contains variable.
+    */
+   protected String m_strVariableName;
+
+   /**
+    * Name of parameter defined only using default value.
+    */
+   protected String m_strDefaultName;
+
+   /**
+    * Name of parameter which is not defined at all.
+    */
+   protected String m_strMissingName;
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Create the configuration.
+    *
+    * @throws OSSException - an error has occurred
+    */
+   @Setup
+   public void setUp(
+   ) throws OSSException
+   {
+      m_config = ConfigurationBenchmarkData.createConfiguration(m_iParamCount, 10);
+      m_strPlainName = ConfigurationBenchmarkData.getName(m_iParamCount / 2 + 2);
+      m_strVariableName = ConfigurationBenchmarkData.getName(m_iParamCount / 2);
+      m_strDefaultName = ConfigurationBenchmarkData.getName(m_iParamCount / 2 + 1);
+      m_strMissingName = "missing.param";
+      m_arrOverrides = new Parameter[m_iParamCount / 10];
+      for (int iIndex = 0; iIndex < m_arrOverrides.length; iIndex++)
+      {
+         m_arrOverrides[iIndex] = new ParameterImpl<String>(
+                                     DataDescriptor.NO_DATA_DESCRIPTOR_CLASS, 
+                                     DataObject.NEW_ID, 
+                                     ConfigurationBenchmarkData.getName(
+                                        iIndex * 10), 
+                                     null, "override" + iIndex);
+      }
+   }
+
+   /**
+    * @return Parameter - parameter with plain value
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public Parameter getParamPlain(
+   ) throws OSSException
+   {
+      return m_config.getParam(m_strPlainName);
+   }
+
+   /**
+    * @return Parameter - parameter with resolved variable
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public Parameter getParamWithVariable(
+   ) throws OSSException
+   {
+      return m_config.getParam(m_strVariableName);
+   }
+
+   /**
+    * @return Parameter - parameter with unresolved variable
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public Parameter getParamWithoutVariableResolution(
+   ) throws OSSException
+   {
+      return m_config.getParamWithoutVariableResolution(m_strVariableName);
+   }
+
+   /**
+    * @return Parameter - parameter created from default value
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public Parameter getParamDefault(
+   ) throws OSSException
+   {
+      return m_config.getParam(m_strDefaultName);
+   }
+
+   /**
+    * @return Parameter - null since the parameter doesn't exist
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public Parameter getParamMissing(
+   ) throws OSSException
+   {
+      return m_config.getParam(m_strMissingName);
+   }
+
+   /**
+    * @return Parameter - parameter found after the prefixed name wasn't found
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public Parameter getParamPrefixed(
+   ) throws OSSException
+   {
+      return m_config.getParam("prefix", m_strPlainName);
+   }
+
+   /**
+    * Merge configuration overriding every tenth parameter with the benchmark
+    * configuration. Creation of the overriding configuration is part of the
+    * measurement.
+    *
+    * @return ConfigurationImpl - merged configuration
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public ConfigurationImpl inheritAndOverride(
+   ) throws OSSException
+   {
+      ConfigurationImpl override = new ConfigurationImpl();
+
+      for (Parameter param : m_arrOverrides)
+      {
+         override.addParam(param);
+      }
+      override.inheritAndOverride("", "override", m_config, "base");
+
+      return override;
+   }
+}
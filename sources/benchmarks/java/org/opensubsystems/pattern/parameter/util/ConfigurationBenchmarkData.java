@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.opensubsystems.core.data.DataDescriptor;
+import org.opensubsystems.core.data.DataObject;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+import org.opensubsystems.pattern.parameter.data.impl.ParameterImpl;
+
+/**
+ * Synthetic configuration data shared by the benchmarks. Parameters are named
+ * sectionX.paramY and spread evenly over SECTION_COUNT sections. 
+ *
+ * @author OpenSubsystems
+ */
+public final class ConfigurationBenchmarkData
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Number of sections over which the parameters are spread.
+    */
+   public static final int SECTION_COUNT = 32;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Private constructor since this class cannot be instantiated
+    */
+   private ConfigurationBenchmarkData(
+   )
+   {
+      // Do nothing
+   }
+
+   // Public methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Get name of the parameter with specified index.
+    *
+    * @param iIndex - index of the parameter
+    * @return String - name of the parameter
+    */
+   public static String getName(
+      int iIndex
+   )
+   {
+      return "section" + (iIndex % SECTION_COUNT) + ".param" + iIndex;
+   }
+
+   /**
+    * Create configuration with specified number of parameters. Every 
+    * iVariableEvery-th parameter refers to the previous parameter using a
+    * variable. Parameters with odd index are defined only as default values.
+    *
+    * @param iCount - number of parameters
+    * @param iVariableEvery - how often to use variable, 0 for never
+    * @return ConfigurationImpl - new configuration
+    * @throws OSSException - an error has occurred
+    */
+   public static ConfigurationImpl createConfiguration(
+      int iCount,
+      int iVariableEvery
+   ) throws OSSException
+   {
+      ConfigurationImpl config = new ConfigurationImpl();
+
+      for (int iIndex = 0; iIndex < iCount; iIndex++)
+      {
+         String strValue = getValue(iIndex, iVariableEvery);
+
+         if (iIndex % 2 == 0)
+         {
+            config.addParam(new ParameterImpl<String>(
+                               DataDescriptor.NO_DATA_DESCRIPTOR_CLASS, 
+                               DataObject.NEW_ID, getName(iIndex), null, 
+                               strValue));
+         }
+         else
+         {
+            config.addDefault(getName(iIndex), strValue);
+         }
+      }
+
+      return config;
+   }
+
+   /**
+    * Write configuration file with specified number of parameters in format 
+    * read by XMLConfig.
+    *
+    * @param fileConfig - file where to write the configuration
+    * @param iCount - number of parameters
+    * @throws IOException - an error has occurred
+    */
+   public static void writeXML(
+      File fileConfig,
+      int  iCount
+   ) throws IOException
+   {
+      try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                              Files.newOutputStream(fileConfig.toPath()), 
+                              StandardCharsets.UTF_8)))
+      {
+         writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<config>\n");
+         for (int iIndex = 0; iIndex < iCount; iIndex++)
+         {
+            writer.write("   <param>\n      <name>");
+            writer.write(getName(iIndex));
+            writer.write("</name>\n      <value>");
+            writer.write(getValue(iIndex, 10));
+            writer.write("</value>\n   </param>\n");
+         }
+         writer.write("</config>\n");
+      }
+   }
+
+   /**
+    * Write configuration file with specified number of parameters in format 
+    * read by PropertiesConfig. The parameters are the same as those written 
+    * by writeXML.
+    *
+    * @param fileConfig - file where to write the configuration
+    * @param iCount - number of parameters
+    * @throws IOException - an error has occurred
+    */
+   public static void writeProperties(
+      File fileConfig,
+      int  iCount
+   ) throws IOException
+   {
+      try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                              Files.newOutputStream(fileConfig.toPath()), 
+                              StandardCharsets.ISO_8859_1)))
+      {
+         writer.write("# Generated benchmark configuration\n");
+         for (int iIndex = 0; iIndex < iCount; iIndex++)
+         {
+            writer.write(getName(iIndex));
+            writer.write(" = ");
+            writer.write(getValue(iIndex, 10));
+            writer.write("\n");
+         }
+      }
+   }
+
+   /**
+    * Write configuration file with specified number of parameters in format 
+    * read by JSONConfig. The parameters are the same as those written by 
+    * writeXML, each section is written as nested object.
+    *
+    * @param fileConfig - file where to write the configuration
+    * @param iCount - number of parameters
+    * @throws IOException - an error has occurred
+    */
+   public static void writeJSON(
+      File fileConfig,
+      int  iCount
+   ) throws IOException
+   {
+      try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                              Files.newOutputStream(fileConfig.toPath()), 
+                              StandardCharsets.UTF_8)))
+      {
+         int iSections = Math.min(iCount, SECTION_COUNT);
+         
+         writer.write("{\n");
+         for (int iSection = 0; iSection < iSections; iSection++)
+         {
+            writer.write("   \"section" + iSection + "\": {\n");
+            for (int iIndex = iSection; iIndex < iCount; iIndex += SECTION_COUNT)
+            {
+               writer.write("      \"param" + iIndex + "\": \"");
+               writer.write(getValue(iIndex, 10));
+               writer.write((iIndex + SECTION_COUNT < iCount) ? "\",\n" : "\"\n");
+            }
+            writer.write((iSection + 1 < iSections) ? "   },\n" : "   }\n");
+         }
+         writer.write("}\n");
+      }
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Get value of the parameter with specified index.
+    *
+    * @param iIndex - index of the parameter
+    * @param iVariableEvery - how often to use variable, 0 for never
+    * @return String - value of the parameter
+    */
+   private static String getValue(
+      int iIndex,
+      int iVariableEvery
+   )
+   {
+      String strValue;
+
+      if ((iVariableEvery > 0) && (iIndex > 0) && (iIndex % iVariableEvery == 0))
+      {
+         strValue = ConfigurationImpl.VARIABLE_START + getName(iIndex - 1)
+                    + ConfigurationImpl.VARIABLE_END + "/value" + iIndex;
+      }
+      else
+      {
+         strValue = "value" + iIndex;
+      }
+
+      return strValue;
+   }
+}
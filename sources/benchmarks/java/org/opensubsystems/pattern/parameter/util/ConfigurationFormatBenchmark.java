@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+
+/**
+ * Benchmarks comparing time and memory needed to load the same configuration 
+ * stored in XML, properties and JSON format. Run with -prof gc to see the 
+ * memory allocated per load (gc.alloc.rate.norm).
+ *
+ * @author OpenSubsystems
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigurationFormatBenchmark
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Number of parameters in the configuration files.
+    */
+   @Param({"1000", "10000", "100000"})
+   public int m_iParamCount;
+
+   /**
+    * Configuration file in XML format.
+    */
+   protected File m_fileXML;
+
+   /**
+    * Configuration file in properties format.
+    */
+   protected File m_fileProperties;
+
+   /**
+    * Configuration file in JSON format.
+    */
+   protected File m_fileJSON;
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Generate the configuration files.
+    *
+    * @throws IOException - an error has occurred
+    */
+   @Setup
+   public void setUp(
+   ) throws IOException
+   {
+      m_fileXML = File.createTempFile("benchmark", ".xml");
+      ConfigurationBenchmarkData.writeXML(m_fileXML, m_iParamCount);
+      m_fileProperties = File.createTempFile("benchmark", ".properties");
+      ConfigurationBenchmarkData.writeProperties(m_fileProperties, m_iParamCount);
+      m_fileJSON = File.createTempFile("benchmark", ".json");
+      ConfigurationBenchmarkData.writeJSON(m_fileJSON, m_iParamCount);
+   }
+
+   /**
+    * Delete the configuration files.
+    */
+   @TearDown
+   public void tearDown(
+   )
+   {
+      for (File file : new File[] {m_fileXML, m_fileProperties, m_fileJSON})
+      {
+         if (!file.delete())
+         {
+            file.deleteOnExit();
+         }
+      }
+   }
+
+   /**
+    * @return ConfigurationImpl - configuration read from XML file
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public ConfigurationImpl readXML(
+   ) throws OSSException
+   {
+      return XMLConfig.read(m_fileXML);
+   }
+
+   /**
+    * @return ConfigurationImpl - configuration read from properties file
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public ConfigurationImpl readProperties(
+   ) throws OSSException
+   {
+      return PropertiesConfig.read(m_fileProperties);
+   }
+
+   /**
+    * @return ConfigurationImpl - configuration read from JSON file
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public ConfigurationImpl readJSON(
+   ) throws OSSException
+   {
+      return JSONConfig.read(m_fileJSON);
+   }
+}
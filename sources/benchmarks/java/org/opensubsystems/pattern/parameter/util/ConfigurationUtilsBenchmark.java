@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensubsystems.core.data.DataDescriptor;
+import org.opensubsystems.core.data.DataObject;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+import org.opensubsystems.pattern.parameter.data.impl.ParameterImpl;
+
+/**
+ * Benchmarks of typed getters of ConfigurationUtils.
+ *
+ * @author OpenSubsystems
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationUtilsBenchmark
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Configuration used by the benchmarks.
+    */
+   protected ConfigurationImpl m_config;
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Create the configuration.
+    *
+    * @throws OSSException - an error has occurred
+    */
+   @Setup
+   public void setUp(
+   ) throws OSSException
+   {
+      m_config = ConfigurationBenchmarkData.createConfiguration(1000, 10);
+      addParam("typed.int", "12345");
+      addParam("typed.long", "1234567890123");
+      addParam("typed.boolean", "true");
+      addParam("typed.string", "some string value");
+      addParam("prefix.typed.int", "54321");
+   }
+
+   /**
+    * @return Integer - value of integer parameter
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public Integer getParamAsInt(
+   ) throws OSSException
+   {
+      return ConfigurationUtils.getParamAsInt(m_config, "typed.int");
+   }
+
+   /**
+    * @return Integer - value of integer parameter defined with prefix
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public Integer getParamAsIntPrefixed(
+   ) throws OSSException
+   {
+      return ConfigurationUtils.getParamAsInt(m_config, "prefix", "typed.int");
+   }
+
+   /**
+    * @return Long - value of long parameter
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public Long getParamAsLong(
+   ) throws OSSException
+   {
+      return ConfigurationUtils.getParamAsLong(m_config, "typed.long");
+   }
+
+   /**
+    * @return Boolean - value of boolean parameter
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public Boolean getParamAsBoolean(
+   ) throws OSSException
+   {
+      return ConfigurationUtils.getParamAsBoolean(m_config, "typed.boolean");
+   }
+
+   /**
+    * @return String - value of string parameter
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public String getParamAsString(
+   ) throws OSSException
+   {
+      return ConfigurationUtils.getParamAsString(m_config, "typed.string");
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Add parameter to the benchmark configuration.
+    *
+    * @param strName - name of the parameter
+    * @param strValue - value of the parameter
+    * @throws OSSException - an error has occurred
+    */
+   protected void addParam(
+      String strName,
+      String strValue
+   ) throws OSSException
+   {
+      m_config.addParam(new ParameterImpl<String>(
+                           DataDescriptor.NO_DATA_DESCRIPTOR_CLASS, 
+                           DataObject.NEW_ID, strName, null, strValue));
+   }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.pattern.parameter.data.Parameter;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+
+/**
+ * Benchmarks of reading configuration files of different sizes.
+ *
+ * @author OpenSubsystems
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XMLConfigBenchmark
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Number of parameters in the configuration file.
+    */
+   @Param({"1000", "10000", "100000"})
+   public int m_iParamCount;
+
+   /**
+    * Generated configuration file.
+    */
+   protected File m_fileConfig;
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Generate the configuration file.
+    *
+    * @throws IOException - an error has occurred
+    */
+   @Setup
+   public void setUp(
+   ) throws IOException
+   {
+      m_fileConfig = File.createTempFile("benchmark", ".xml");
+      ConfigurationBenchmarkData.writeXML(m_fileConfig, m_iParamCount);
+   }
+
+   /**
+    * Delete the configuration file.
+    */
+   @TearDown
+   public void tearDown(
+   )
+   {
+      if (!m_fileConfig.delete())
+      {
+         m_fileConfig.deleteOnExit();
+      }
+   }
+
+   /**
+    * @return ConfigurationImpl - configuration read from the file
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public ConfigurationImpl read(
+   ) throws OSSException
+   {
+      return XMLConfig.read(m_fileConfig);
+   }
+
+   /**
+    * @return Parameter - single parameter read from lazily loaded file
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public Parameter readLazySingleParam(
+   ) throws OSSException
+   {
+      return XMLConfig.readLazy(m_fileConfig).getParamWithoutVariableResolution(
+                ConfigurationBenchmarkData.getName(m_iParamCount / 2));
+   }
+
+   /**
+    * @return Collection<Parameter> - all parameters read from lazily loaded 
+    *                                 file
+    * @throws OSSException - an error has occurred
+    */
+   @Benchmark
+   public Collection<Parameter> readLazyAllParams(
+   ) throws OSSException
+   {
+      return XMLConfig.readLazy(m_fileConfig).getParameters();
+   }
+}
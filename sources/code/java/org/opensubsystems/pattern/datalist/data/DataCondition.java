@@ -19,7 +19,9 @@
 
 package org.opensubsystems.pattern.datalist.data;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.sql.Timestamp;
 import org.opensubsystems.core.util.OSSObject;
 
@@ -496,6 +498,43 @@ public class DataCondition extends    OSSObject
       return getValueAsString(m_objOriginalValue);
    }
    
+   /**
+    * Append representation of value to the output. The appended characters 
+    * are the same as returned by getValueString.
+    * 
+    * @param output - output to append the value to
+    * @throws IOException - an error has occurred while appending
+    */
+   public void appendValue(
+      Appendable output
+   ) throws IOException
+   {
+      appendValue(output, m_objValue);
+   }
+   
+   /**
+    * Append UTF-8 encoded representation of value to the buffer. The 
+    * appended characters are the same as returned by getValueString.
+    * 
+    * @param buffer - buffer to append the value to, it has to have enough 
+    *                 space remaining otherwise BufferOverflowException is 
+    *                 thrown
+    */
+   public void appendValue(
+      ByteBuffer buffer
+   )
+   {
+      try
+      {
+         appendValue(new ByteBufferAppender(buffer), m_objValue);
+      }
+      catch (IOException exc)
+      {
+         // ByteBufferAppender doesn't actually throw
+         throw new IllegalStateException(exc);
+      }
+   }
+   
    // Helper methods ///////////////////////////////////////////////////////////
    
    /**
@@ -507,9 +546,35 @@ public class DataCondition extends    OSSObject
    )
    {
       StringBuilder sbReturn = new StringBuilder();
+
+      try
+      {
+         appendValue(sbReturn, objValue);
+      }
+      catch (IOException exc)
+      {
+         // StringBuilder doesn't actually throw
+         throw new IllegalStateException(exc);
+      }
+      return sbReturn.toString();
+   }
+
+   /**
+    * Append representation of value to the output. The type of the value is
+    * examined only once even for values of IN and NOT IN operations and 
+    * numbers are appended without converting them to strings first.
+    * 
+    * @param output - output to append the value to
+    * @param objValue - value to append
+    * @throws IOException - an error has occurred while appending
+    */
+   public void appendValue(
+      Appendable output,
+      Object     objValue
+   ) throws IOException
+   {
       if (objValue != null)
       {
-         
          if (m_iOperation != DataCondition.OPERATION_IN
             && m_iOperation != DataCondition.OPERATION_NOT_IN)
          {
@@ -517,33 +582,30 @@ public class DataCondition extends    OSSObject
             switch (m_iValueType)
             {
                case (DataCondition.VALUE_TYPE_ID):
+               case (DataCondition.VALUE_TYPE_INTEGER):
                {
-                  sbReturn.append(((Integer)objValue).intValue());
+                  appendLong(output, ((Integer)objValue).intValue());
                   break;
                }
                case (DataCondition.VALUE_TYPE_BOOLEAN):
                {
-                  sbReturn.append(((Boolean)objValue).booleanValue());
-                  break;
-               }
-               case (DataCondition.VALUE_TYPE_INTEGER):
-               {
-                  sbReturn.append(((Integer)objValue).intValue());
+                  output.append(((Boolean)objValue).booleanValue() 
+                                ? "true" : "false");
                   break;
                }
                case (DataCondition.VALUE_TYPE_DOUBLE):
                {
-                  sbReturn.append(((Double)objValue).doubleValue());
+                  appendDouble(output, ((Double)objValue).doubleValue());
                   break;
                }
                case (DataCondition.VALUE_TYPE_STRING):
                {
-                  sbReturn.append(objValue);
+                  output.append(String.valueOf(objValue));
                   break;
                }
                case (DataCondition.VALUE_TYPE_TIMESTAMP):
                {
-                  sbReturn.append(((Timestamp)objValue).getTime());
+                  appendLong(output, ((Timestamp)objValue).getTime());
                   break;
                }
                default :
@@ -555,55 +617,284 @@ public class DataCondition extends    OSSObject
          else
          {
             // Parse data condition multiple value (IN or NOT IN operations)
-            Object[] arrObject = (Object[])objValue;
-            Object oHelp;
+            appendValues(output, (Object[])objValue);
+         }
+      }
+   }
+
+   /**
+    * Append values of IN or NOT IN operation separated by comma. Separator 
+    * is appended only if some characters were already appended.
+    * 
+    * @param output - output to append the values to
+    * @param arrObject - values to append
+    * @throws IOException - an error has occurred while appending
+    */
+   protected void appendValues(
+      Appendable output,
+      Object[]   arrObject
+   ) throws IOException
+   {
+      switch (m_iValueType)
+      {
+         case (DataCondition.VALUE_TYPE_ID):
+         case (DataCondition.VALUE_TYPE_INTEGER):
+         {
             for (int iCounter = 0; iCounter < arrObject.length; iCounter++)
             {
-               oHelp = arrObject[iCounter];
-               if (sbReturn.length()> 0)
+               if (iCounter > 0)
                {
-                  sbReturn.append(",");
+                  output.append(',');
                }
-               switch (m_iValueType)
+               appendLong(output, ((Integer)arrObject[iCounter]).intValue());
+            }
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_BOOLEAN):
+         {
+            for (int iCounter = 0; iCounter < arrObject.length; iCounter++)
+            {
+               if (iCounter > 0)
                {
-                  case (DataCondition.VALUE_TYPE_ID):
-                  {
-                     sbReturn.append(((Integer)oHelp).intValue());
-                     break;
-                  }
-                  case (DataCondition.VALUE_TYPE_BOOLEAN):
-                  {
-                     sbReturn.append(((Boolean)oHelp).booleanValue());
-                     break;
-                  }
-                  case (DataCondition.VALUE_TYPE_INTEGER):
-                  {
-                     sbReturn.append(((Integer)oHelp).intValue());
-                     break;
-                  }
-                  case (DataCondition.VALUE_TYPE_DOUBLE):
-                  {
-                     sbReturn.append(((Double)oHelp).doubleValue());
-                     break;
-                  }
-                  case (DataCondition.VALUE_TYPE_STRING):
-                  {
-                     sbReturn.append(oHelp);
-                     break;
-                  }
-                  case (DataCondition.VALUE_TYPE_TIMESTAMP):
-                  {
-                     sbReturn.append(((Timestamp)oHelp).getTime());
-                     break;
-                  }
-                  default :
-                  {
-                     assert false : "Not supported data condition value type.";
-                  }
+                  output.append(',');
                }
+               output.append(((Boolean)arrObject[iCounter]).booleanValue() 
+                             ? "true" : "false");
             }
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_DOUBLE):
+         {
+            for (int iCounter = 0; iCounter < arrObject.length; iCounter++)
+            {
+               if (iCounter > 0)
+               {
+                  output.append(',');
+               }
+               appendDouble(output, 
+                            ((Double)arrObject[iCounter]).doubleValue());
+            }
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_STRING):
+         {
+            boolean bEmpty = true;
+            String  strValue;
+
+            for (int iCounter = 0; iCounter < arrObject.length; iCounter++)
+            {
+               strValue = String.valueOf(arrObject[iCounter]);
+               // Empty strings at the beginning are not separated
+               if (!bEmpty)
+               {
+                  output.append(',');
+               }
+               output.append(strValue);
+               bEmpty = bEmpty && strValue.isEmpty();
+            }
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_TIMESTAMP):
+         {
+            for (int iCounter = 0; iCounter < arrObject.length; iCounter++)
+            {
+               if (iCounter > 0)
+               {
+                  output.append(',');
+               }
+               appendLong(output, ((Timestamp)arrObject[iCounter]).getTime());
+            }
+            break;
+         }
+         default :
+         {
+            assert (arrObject.length == 0) 
+                   : "Not supported data condition value type.";
+         }
+      }
+   }
+
+   /**
+    * Append decimal representation of number without creating string.
+    * 
+    * @param output - output to append the number to
+    * @param lValue - number to append
+    * @throws IOException - an error has occurred while appending
+    */
+   protected static void appendLong(
+      Appendable output,
+      long       lValue
+   ) throws IOException
+   {
+      if (output instanceof StringBuilder)
+      {
+         ((StringBuilder)output).append(lValue);
+      }
+      else
+      {
+         // Negative numbers are used so that Long.MIN_VALUE doesn't overflow
+         long lRemaining = (lValue < 0) ? lValue : -lValue;
+         long lDivisor = 1;
+
+         if (lValue < 0)
+         {
+            output.append('-');
+         }
+         while (lRemaining / lDivisor <= -10)
+         {
+            lDivisor *= 10;
+         }
+         while (lDivisor > 0)
+         {
+            output.append((char)('0' - lRemaining / lDivisor));
+            lRemaining %= lDivisor;
+            lDivisor /= 10;
+         }
+      }
+   }
+
+   /**
+    * Append representation of number produced by Double.toString.
+    * 
+    * @param output - output to append the number to
+    * @param dValue - number to append
+    * @throws IOException - an error has occurred while appending
+    */
+   protected static void appendDouble(
+      Appendable output,
+      double     dValue
+   ) throws IOException
+   {
+      if (output instanceof StringBuilder)
+      {
+         ((StringBuilder)output).append(dValue);
+      }
+      else
+      {
+         output.append(Double.toString(dValue));
+      }
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Appendable encoding appended characters using UTF-8 directly into byte 
+    * buffer. Unpaired surrogates are encoded as question mark the same way 
+    * as by String.getBytes.
+    */
+   protected static class ByteBufferAppender implements Appendable
+   {
+      /**
+       * Buffer to write the encoded characters to.
+       */
+      private final ByteBuffer m_buffer;
+
+      /**
+       * Constructor.
+       * 
+       * @param buffer - buffer to write the encoded characters to
+       */
+      protected ByteBufferAppender(
+         ByteBuffer buffer
+      )
+      {
+         m_buffer = buffer;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Appendable append(
+         CharSequence csq
+      )
+      {
+         CharSequence sequence = (csq == null) ? "null" : csq;
+
+         return append(sequence, 0, sequence.length());
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Appendable append(
+         CharSequence csq,
+         int          start,
+         int          end
+      )
+      {
+         CharSequence sequence = (csq == null) ? "null" : csq;
+         int          iIndex = start;
+         char         cCurrent;
+
+         while (iIndex < end)
+         {
+            cCurrent = sequence.charAt(iIndex++);
+            if ((Character.isHighSurrogate(cCurrent)) && (iIndex < end)
+               && (Character.isLowSurrogate(sequence.charAt(iIndex))))
+            {
+               encode(Character.toCodePoint(cCurrent, 
+                                            sequence.charAt(iIndex++)));
+            }
+            else
+            {
+               encode(cCurrent);
+            }
+         }
+
+         return this;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Appendable append(
+         char c
+      )
+      {
+         encode(c);
+
+         return this;
+      }
+
+      /**
+       * Encode single code point.
+       * 
+       * @param iCodePoint - code point to encode
+       */
+      private void encode(
+         int iCodePoint
+      )
+      {
+         if (iCodePoint < 0x80)
+         {
+            m_buffer.put((byte)iCodePoint);
+         }
+         else if (iCodePoint < 0x800)
+         {
+            m_buffer.put((byte)(0xC0 | (iCodePoint >> 6)));
+            m_buffer.put((byte)(0x80 | (iCodePoint & 0x3F)));
+         }
+         else if ((iCodePoint >= Character.MIN_SURROGATE) 
+                 && (iCodePoint <= Character.MAX_SURROGATE))
+         {
+            m_buffer.put((byte)'?');
+         }
+         else if (iCodePoint < 0x10000)
+         {
+            m_buffer.put((byte)(0xE0 | (iCodePoint >> 12)));
+            m_buffer.put((byte)(0x80 | ((iCodePoint >> 6) & 0x3F)));
+            m_buffer.put((byte)(0x80 | (iCodePoint & 0x3F)));
+         }
+         else
+         {
+            m_buffer.put((byte)(0xF0 | (iCodePoint >> 18)));
+            m_buffer.put((byte)(0x80 | ((iCodePoint >> 12) & 0x3F)));
+            m_buffer.put((byte)(0x80 | ((iCodePoint >> 6) & 0x3F)));
+            m_buffer.put((byte)(0x80 | (iCodePoint & 0x3F)));
          }
       }
-      return sbReturn.toString();
    }
 }
@@ -166,12 +166,13 @@ public class ListColumnDefinition extends OSSObject
       boolean  bIsColumnMandatory
    )
    {
-      m_iColumnCode        = iColumnCode;
-      m_strColumnName      = strColumnName;
-      m_strColumnTooltip   = strColumnTooltip;
-      m_iColumnDataType    = DataCondition.VALUE_TYPE_BOOLEAN;
-      m_dColumnWidth       = dColumnWidth;
-      m_bIsColumnMandatory = bIsColumnMandatory;
+      m_iColumnCode            = iColumnCode;
+      m_strColumnName          = strColumnName;
+      m_strColumnTooltip       = strColumnTooltip;
+      m_iColumnDataType        = DataCondition.VALUE_TYPE_BOOLEAN;
+      m_arrColumnBooleanValues = arrColumnBooleanValues;
+      m_dColumnWidth           = dColumnWidth;
+      m_bIsColumnMandatory     = bIsColumnMandatory;
    }
 
    // Logic ////////////////////////////////////////////////////////////////////
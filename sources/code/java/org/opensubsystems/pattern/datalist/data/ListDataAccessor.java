@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.data;
+
+/**
+ * Access to values of columns of rows of list of data objects. The columns 
+ * are identified by the codes of the columns defined by ListColumnDefinition. 
+ * 
+ * Besides the generic getValue method the accessor provides methods returning 
+ * primitive values so that rows can be evaluated without boxing the values.
+ * The methods returning primitive values are called only for columns of 
+ * matching type and only when isNull returned false for the same row and 
+ * column. Method getString is called without testing for null first and it
+ * has to return null if the value is null.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public interface ListDataAccessor<T>
+{
+   /**
+    * Get value of the column.
+    *
+    * @param row - row to get the value from
+    * @param iColumnCode - code of the column
+    * @return Object - value of the column, can be null
+    */
+   Object getValue(
+      T   row,
+      int iColumnCode
+   );
+
+   /**
+    * Test if value of the column is null.
+    *
+    * @param row - row to get the value from
+    * @param iColumnCode - code of the column
+    * @return boolean - true if the value is null
+    */
+   boolean isNull(
+      T   row,
+      int iColumnCode
+   );
+
+   /**
+    * Get value of the column of type VALUE_TYPE_ID, VALUE_TYPE_INTEGER or
+    * VALUE_TYPE_TIMESTAMP. Timestamps are returned as number of milliseconds
+    * since the epoch.
+    *
+    * @param row - row to get the value from
+    * @param iColumnCode - code of the column
+    * @return long - value of the column
+    */
+   long getLong(
+      T   row,
+      int iColumnCode
+   );
+
+   /**
+    * Get value of the column of type VALUE_TYPE_DOUBLE.
+    *
+    * @param row - row to get the value from
+    * @param iColumnCode - code of the column
+    * @return double - value of the column
+    */
+   double getDouble(
+      T   row,
+      int iColumnCode
+   );
+
+   /**
+    * Get value of the column of type VALUE_TYPE_BOOLEAN.
+    *
+    * @param row - row to get the value from
+    * @param iColumnCode - code of the column
+    * @return boolean - value of the column
+    */
+   boolean getBoolean(
+      T   row,
+      int iColumnCode
+   );
+
+   /**
+    * Get value of the column of type VALUE_TYPE_STRING.
+    *
+    * @param row - row to get the value from
+    * @param iColumnCode - code of the column
+    * @return String - value of the column or null if the value is null
+    */
+   String getString(
+      T   row,
+      int iColumnCode
+   );
+}
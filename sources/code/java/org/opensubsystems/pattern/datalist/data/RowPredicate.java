@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.data;
+
+/**
+ * Predicate evaluated for a single row of list of data objects. Predicates are
+ * usually created by compiling list of data conditions and once created they 
+ * are immutable and can be evaluated concurrently from multiple threads. 
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public interface RowPredicate<T>
+{
+   /**
+    * Test if the row satisfies the predicate.
+    *
+    * @param row - row to test
+    * @return boolean - true if the row satisfies the predicate
+    */
+   boolean evaluate(
+      T row
+   );
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton which finds occurrences of several patterns during
+ * a single pass over the value. Each state of the automaton represents the
+ * longest suffix of the already scanned characters which is a prefix of some 
+ * pattern and it knows which patterns end at that position.
+ *
+ * The transitions for ASCII characters are precomputed for every state so 
+ * that each such character is processed using a single array lookup. Other 
+ * characters follow the failure links. Patterns are identified by their 
+ * index and the patterns ending in a state are represented as a bit mask, 
+ * therefore the automaton can contain at most 64 patterns.
+ *
+ * When the automaton is case insensitive, the patterns are case folded when
+ * the automaton is constructed and the caller has to fold the characters of
+ * the value using CaseFoldingMatcher.fold before passing them to next.
+ *
+ * The automaton is immutable and it can be used concurrently.
+ *
+ * @author OpenSubsystems
+ */
+public class AhoCorasickAutomaton
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Maximal number of patterns in one automaton.
+    */
+   public static final int MAX_PATTERNS = Long.SIZE;
+
+   /**
+    * Initial state of the automaton.
+    */
+   public static final int INITIAL_STATE = 0;
+
+   /**
+    * Number of characters for which the transitions are precomputed.
+    */
+   protected static final int ASCII_SIZE = 128;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Flag signaling that the patterns are case folded.
+    */
+   protected final boolean m_bCaseInsensitive;
+
+   /**
+    * Lengths of the patterns.
+    */
+   protected final int[] m_arrPatternLengths;
+
+   /**
+    * Characters of transitions of each state sorted in ascending order.
+    */
+   protected final char[][] m_arrTransitionChars;
+
+   /**
+    * Target states of transitions of each state in the same order as 
+    * m_arrTransitionChars.
+    */
+   protected final int[][] m_arrTransitionTargets;
+
+   /**
+    * Failure link of each state.
+    */
+   protected final int[] m_arrFailures;
+
+   /**
+    * Bit masks of patterns which end in each state, including patterns 
+    * reachable through the failure links.
+    */
+   protected final long[] m_arrOutputs;
+
+   /**
+    * Precomputed transitions for ASCII characters, ASCII_SIZE entries for 
+    * each state.
+    */
+   protected final int[] m_arrAsciiTransitions;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param arrPatterns - patterns to find, at most MAX_PATTERNS non empty 
+    *                      patterns
+    * @param bCaseInsensitive - true if the patterns should be matched 
+    *                           ignoring case
+    */
+   public AhoCorasickAutomaton(
+      String[] arrPatterns,
+      boolean  bCaseInsensitive
+   )
+   {
+      List<char[]> lstChars = new ArrayList<>();
+      List<int[]>  lstTargets = new ArrayList<>();
+      List<Long>   lstOutputs = new ArrayList<>();
+      int          iStateCount;
+
+      if (arrPatterns.length > MAX_PATTERNS)
+      {
+         throw new IllegalArgumentException("Automaton can contain at most " 
+                                            + MAX_PATTERNS + " patterns.");
+      }
+
+      m_bCaseInsensitive = bCaseInsensitive;
+      m_arrPatternLengths = new int[arrPatterns.length];
+
+      // Build the trie of the patterns
+      lstChars.add(new char[0]);
+      lstTargets.add(new int[0]);
+      lstOutputs.add(0L);
+      for (int iPattern = 0; iPattern < arrPatterns.length; iPattern++)
+      {
+         char[] arrPattern = bCaseInsensitive 
+                             ? CaseFoldingMatcher.fold(arrPatterns[iPattern])
+                             : arrPatterns[iPattern].toCharArray();
+         int    iState = INITIAL_STATE;
+
+         if (arrPattern.length == 0)
+         {
+            throw new IllegalArgumentException("Pattern cannot be empty.");
+         }
+         m_arrPatternLengths[iPattern] = arrPattern.length;
+         for (char cChar : arrPattern)
+         {
+            int iTarget = find(lstChars.get(iState), lstTargets.get(iState), 
+                               cChar);
+
+            if (iTarget < 0)
+            {
+               iTarget = lstChars.size();
+               lstChars.add(new char[0]);
+               lstTargets.add(new int[0]);
+               lstOutputs.add(0L);
+               addTransition(lstChars, lstTargets, iState, cChar, iTarget);
+            }
+            iState = iTarget;
+         }
+         lstOutputs.set(iState, lstOutputs.get(iState) | (1L << iPattern));
+      }
+
+      iStateCount = lstChars.size();
+      m_arrTransitionChars = lstChars.toArray(new char[iStateCount][]);
+      m_arrTransitionTargets = lstTargets.toArray(new int[iStateCount][]);
+      m_arrFailures = new int[iStateCount];
+      m_arrOutputs = new long[iStateCount];
+      for (int iState = 0; iState < iStateCount; iState++)
+      {
+         m_arrOutputs[iState] = lstOutputs.get(iState);
+      }
+      m_arrAsciiTransitions = new int[iStateCount * ASCII_SIZE];
+
+      computeFailures();
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Get state of the automaton after processing the character.
+    *
+    * @param iState - current state
+    * @param cChar - next character of the value, case folded if the automaton
+    *                is case insensitive
+    * @return int - next state
+    */
+   public int next(
+      int  iState,
+      char cChar
+   )
+   {
+      int iNext;
+
+      if (cChar < ASCII_SIZE)
+      {
+         iNext = m_arrAsciiTransitions[iState * ASCII_SIZE + cChar];
+      }
+      else
+      {
+         iNext = computeNext(iState, cChar);
+      }
+
+      return iNext;
+   }
+
+   /**
+    * Get patterns which end in the specified state.
+    *
+    * @param iState - state of the automaton
+    * @return long - bit mask where bit i is set if pattern i ends in the state
+    */
+   public long getOutput(
+      int iState
+   )
+   {
+      return m_arrOutputs[iState];
+   }
+
+   /**
+    * Get length of the pattern.
+    *
+    * @param iPattern - index of the pattern
+    * @return int - length of the pattern
+    */
+   public int getPatternLength(
+      int iPattern
+   )
+   {
+      return m_arrPatternLengths[iPattern];
+   }
+
+   /**
+    * @return int - number of patterns in the automaton
+    */
+   public int getPatternCount(
+   )
+   {
+      return m_arrPatternLengths.length;
+   }
+
+   /**
+    * @return boolean - true if the patterns are matched ignoring case
+    */
+   public boolean isCaseInsensitive(
+   )
+   {
+      return m_bCaseInsensitive;
+   }
+
+   /**
+    * Find which patterns occur in the value.
+    *
+    * @param strValue - value to scan
+    * @return long - bit mask where bit i is set if pattern i occurs in the
+    *                value
+    */
+   public long findAll(
+      String strValue
+   )
+   {
+      int  iState = INITIAL_STATE;
+      long lFound = 0;
+
+      for (int iIndex = 0; iIndex < strValue.length(); iIndex++)
+      {
+         char cChar = strValue.charAt(iIndex);
+
+         iState = next(iState, m_bCaseInsensitive 
+                               ? CaseFoldingMatcher.fold(cChar) : cChar);
+         lFound |= m_arrOutputs[iState];
+      }
+
+      return lFound;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Compute failure links, merge outputs along them and precompute the 
+    * transitions for ASCII characters. The states are processed in the 
+    * breadth first order so that the failure link of each state points to 
+    * already processed state.
+    */
+   protected void computeFailures(
+   )
+   {
+      Queue<Integer> queue = new LinkedList<>();
+
+      m_arrFailures[INITIAL_STATE] = INITIAL_STATE;
+      queue.add(INITIAL_STATE);
+      while (!queue.isEmpty())
+      {
+         int    iState = queue.remove();
+         char[] arrChars = m_arrTransitionChars[iState];
+         int[]  arrTargets = m_arrTransitionTargets[iState];
+
+         for (int iIndex = 0; iIndex < arrChars.length; iIndex++)
+         {
+            int iTarget = arrTargets[iIndex];
+
+            if (iState == INITIAL_STATE)
+            {
+               m_arrFailures[iTarget] = INITIAL_STATE;
+            }
+            else
+            {
+               m_arrFailures[iTarget] = computeNext(m_arrFailures[iState], 
+                                                    arrChars[iIndex]);
+            }
+            m_arrOutputs[iTarget] |= m_arrOutputs[m_arrFailures[iTarget]];
+            queue.add(iTarget);
+         }
+         for (char cChar = 0; cChar < ASCII_SIZE; cChar++)
+         {
+            m_arrAsciiTransitions[iState * ASCII_SIZE + cChar] 
+               = computeNext(iState, cChar);
+         }
+      }
+   }
+
+   /**
+    * Compute next state following the failure links. The failure links have
+    * to be already computed for the state and all states on the path.
+    *
+    * @param iState - current state
+    * @param cChar - next character
+    * @return int - next state
+    */
+   protected int computeNext(
+      int  iState,
+      char cChar
+   )
+   {
+      int iNext = find(m_arrTransitionChars[iState], 
+                       m_arrTransitionTargets[iState], cChar);
+
+      while ((iNext < 0) && (iState != INITIAL_STATE))
+      {
+         iState = m_arrFailures[iState];
+         iNext = find(m_arrTransitionChars[iState], 
+                      m_arrTransitionTargets[iState], cChar);
+      }
+      if (iNext < 0)
+      {
+         iNext = INITIAL_STATE;
+      }
+
+      return iNext;
+   }
+
+   /**
+    * Find target of transition for the character.
+    *
+    * @param arrChars - sorted characters of transitions of the state
+    * @param arrTargets - targets of transitions of the state
+    * @param cChar - character to find
+    * @return int - target state or -1 if there is no such transition
+    */
+   protected static int find(
+      char[] arrChars,
+      int[]  arrTargets,
+      char   cChar
+   )
+   {
+      int iIndex = Arrays.binarySearch(arrChars, cChar);
+
+      return (iIndex >= 0) ? arrTargets[iIndex] : -1;
+   }
+
+   /**
+    * Add transition to the state keeping the transitions sorted.
+    *
+    * @param lstChars - characters of transitions of all states
+    * @param lstTargets - targets of transitions of all states
+    * @param iState - state to add the transition to
+    * @param cChar - character of the transition
+    * @param iTarget - target state of the transition
+    */
+   protected static void addTransition(
+      List<char[]> lstChars,
+      List<int[]>  lstTargets,
+      int          iState,
+      char         cChar,
+      int          iTarget
+   )
+   {
+      char[] arrChars = lstChars.get(iState);
+      int[]  arrTargets = lstTargets.get(iState);
+      int    iInsert = -(Arrays.binarySearch(arrChars, cChar) + 1);
+      char[] arrNewChars = new char[arrChars.length + 1];
+      int[]  arrNewTargets = new int[arrTargets.length + 1];
+
+      System.arraycopy(arrChars, 0, arrNewChars, 0, iInsert);
+      System.arraycopy(arrTargets, 0, arrNewTargets, 0, iInsert);
+      arrNewChars[iInsert] = cChar;
+      arrNewTargets[iInsert] = iTarget;
+      System.arraycopy(arrChars, iInsert, arrNewChars, iInsert + 1, 
+                       arrChars.length - iInsert);
+      System.arraycopy(arrTargets, iInsert, arrNewTargets, iInsert + 1, 
+                       arrTargets.length - iInsert);
+      lstChars.set(iState, arrNewChars);
+      lstTargets.set(iState, arrNewTargets);
+   }
+}
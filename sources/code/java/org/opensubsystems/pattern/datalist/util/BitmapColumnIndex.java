@@ -0,0 +1,344 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+
+/**
+ * Index storing a compressed bitmap of rows for each distinct value of the 
+ * column. It is suitable for boolean columns and columns with few distinct 
+ * values, where each value is shared by many rows and the bitmaps are both 
+ * smaller and faster to combine than lists of ids of rows.
+ *
+ * Rows satisfying a condition can be found as a compressed bitmap, so that 
+ * results of several conditions can be combined and counted using word level 
+ * operations before any row data or uncompressed bit sets are accessed.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public class BitmapColumnIndex<T> extends ColumnIndex<T>
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Bitmaps of rows keyed by the key of the value of the column.
+    */
+   protected Map<Object, CompressedBitmap> m_mpBitmaps;
+
+   /**
+    * Rows with null value of the column.
+    */
+   protected CompressedBitmap m_nullBitmap;
+
+   /**
+    * Rows with value of the column which is not null.
+    */
+   protected CompressedBitmap m_valueBitmap;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param accessor - accessor to the values of the column
+    * @param iColumnCode - code of the indexed column
+    * @param iValueType - type of the values of the column
+    */
+   public BitmapColumnIndex(
+      ListDataAccessor<T> accessor,
+      int                 iColumnCode,
+      int                 iValueType
+   )
+   {
+      super(accessor, iColumnCode, iValueType);
+
+      m_mpBitmaps = new HashMap<>();
+      m_nullBitmap = new CompressedBitmap();
+      m_valueBitmap = new CompressedBitmap();
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int getDistinctCount(
+   )
+   {
+      return m_mpBitmaps.size();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int getNullCount(
+   )
+   {
+      return m_nullBitmap.getCardinality();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int getValueCount(
+   )
+   {
+      return m_valueBitmap.getCardinality();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void add(
+      int iRowId,
+      T   row
+   )
+   {
+      // Rows are tracked only by the compressed bitmaps, bit sets of the base
+      // class stay empty
+      if (m_accessor.isNull(row, m_iColumnCode))
+      {
+         m_nullBitmap.add(iRowId);
+      }
+      else
+      {
+         Object objKey = getKey(row);
+
+         m_valueBitmap.add(iRowId);
+         if (objKey != null)
+         {
+            addKey(objKey, iRowId);
+         }
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void remove(
+      int iRowId,
+      T   row
+   )
+   {
+      if (m_accessor.isNull(row, m_iColumnCode))
+      {
+         m_nullBitmap.remove(iRowId);
+      }
+      else
+      {
+         Object objKey = getKey(row);
+
+         m_valueBitmap.remove(iRowId);
+         if (objKey != null)
+         {
+            removeKey(objKey, iRowId);
+         }
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public BitSet lookup(
+      DataCondition condition
+   ) throws OSSException
+   {
+      return lookupBitmap(condition).toBitSet();
+   }
+
+   /**
+    * Find rows satisfying the condition as compressed bitmap. 
+    *
+    * @param condition - condition supported by the index
+    * @return CompressedBitmap - ids of rows satisfying the condition, the 
+    *                            caller must not modify it since it can be
+    *                            shared with the index
+    * @throws OSSException - value of the condition is not valid
+    */
+   public CompressedBitmap lookupBitmap(
+      DataCondition condition
+   ) throws OSSException
+   {
+      int              iOperation = condition.getOperation();
+      Object           objValue = condition.getValue();
+      CompressedBitmap result;
+
+      if ((iOperation == DataCondition.OPERATION_IN)
+         || (iOperation == DataCondition.OPERATION_NOT_IN))
+      {
+         result = new CompressedBitmap();
+         for (Object objElement : DataConditionValues.toValues(objValue))
+         {
+            // Null is never equal to any value
+            if (objElement != null)
+            {
+               result = result.or(getBitmap(DataConditionValues.toKey(
+                                               objElement, m_iValueType)));
+            }
+         }
+         if (iOperation == DataCondition.OPERATION_NOT_IN)
+         {
+            result = m_valueBitmap.andNot(result);
+         }
+      }
+      else if (objValue == null)
+      {
+         switch (iOperation)
+         {
+            case (DataCondition.OPERATION_EQUALS):
+            case (DataCondition.OPERATION_EQUALS_CASESENSITIVE):
+            case (DataCondition.OPERATION_EQUALS_OR_NULL):
+            {
+               result = m_nullBitmap;
+               break;
+            }
+            case (DataCondition.OPERATION_NOT_EQUALS):
+            case (DataCondition.OPERATION_NOT_EQUALS_CASESENSITIVE):
+            {
+               result = m_valueBitmap;
+               break;
+            }
+            default :
+            {
+               // Comparison with null is never satisfied
+               result = new CompressedBitmap();
+            }
+         }
+      }
+      else
+      {
+         CompressedBitmap bitmap;
+
+         bitmap = getBitmap(DataConditionValues.toKey(objValue, m_iValueType));
+         switch (iOperation)
+         {
+            case (DataCondition.OPERATION_EQUALS):
+            case (DataCondition.OPERATION_EQUALS_CASESENSITIVE):
+            {
+               result = bitmap;
+               break;
+            }
+            case (DataCondition.OPERATION_EQUALS_OR_NULL):
+            {
+               result = m_nullBitmap.or(bitmap);
+               break;
+            }
+            default :
+            {
+               // Only inequality is supported in addition to equality
+               result = m_valueBitmap.andNot(bitmap);
+            }
+         }
+      }
+
+      return result;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Get bitmap of rows with the specified key.
+    *
+    * @param objKey - key of the value
+    * @return CompressedBitmap - bitmap of the rows, empty if there are none
+    */
+   protected CompressedBitmap getBitmap(
+      Object objKey
+   )
+   {
+      CompressedBitmap bitmap = m_mpBitmaps.get(objKey);
+
+      if (bitmap == null)
+      {
+         bitmap = new CompressedBitmap();
+      }
+
+      return bitmap;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void addKey(
+      Object objKey,
+      int    iRowId
+   )
+   {
+      CompressedBitmap bitmap = m_mpBitmaps.get(objKey);
+
+      if (bitmap == null)
+      {
+         bitmap = new CompressedBitmap();
+         m_mpBitmaps.put(objKey, bitmap);
+      }
+      bitmap.add(iRowId);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void removeKey(
+      Object objKey,
+      int    iRowId
+   )
+   {
+      CompressedBitmap bitmap = m_mpBitmaps.get(objKey);
+
+      if (bitmap != null)
+      {
+         bitmap.remove(iRowId);
+         if (bitmap.isEmpty())
+         {
+            m_mpBitmaps.remove(objKey);
+         }
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void orRowIds(
+      Object objKey,
+      BitSet result
+   )
+   {
+      CompressedBitmap bitmap = m_mpBitmaps.get(objKey);
+
+      if (bitmap != null)
+      {
+         bitmap.orInto(result);
+      }
+   }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+
+/**
+ * Predicates comparing boolean values of columns. Operations NOT_EQUALS, IN 
+ * and NOT_IN are compiled to the Equals predicate since there are only two 
+ * possible values. Rows with null value don't satisfy any of the predicates 
+ * except EqualsOrNull, the same way as in SQL.
+ *
+ * @author OpenSubsystems
+ */
+public final class BooleanPredicates
+{
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /** 
+    * Private constructor since this class cannot be instantiated
+    */
+   private BooleanPredicates(
+   )
+   {
+      // Do nothing
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Predicate satisfied if the value is equal to the specified value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Equals<T> extends ColumnPredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final boolean m_bValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param bValue - value to compare to
+       */
+      public Equals(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         boolean             bValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_bValue = bValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         return (!m_accessor.isNull(row, m_iColumnCode))
+                && (m_accessor.getBoolean(row, m_iColumnCode) == m_bValue);
+      }
+
+      /**
+       * @return boolean - value to compare to
+       */
+      public boolean getValue(
+      )
+      {
+         return m_bValue;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is null or it is equal to the specified
+    * value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class EqualsOrNull<T> extends ColumnPredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final boolean m_bValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param bValue - value to compare to
+       */
+      public EqualsOrNull(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         boolean             bValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_bValue = bValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         return (m_accessor.isNull(row, m_iColumnCode))
+                || (m_accessor.getBoolean(row, m_iColumnCode) == m_bValue);
+      }
+   }
+}
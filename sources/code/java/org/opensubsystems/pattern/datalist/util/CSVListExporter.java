@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.io.IOException;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+import org.opensubsystems.pattern.datalist.data.ListDataDescriptor;
+
+/**
+ * Exporter streaming lists of data objects as comma separated values as 
+ * described by RFC 4180. The first line contains names of the columns, 
+ * lines are terminated by CRLF and values containing separator, quote or
+ * line break are enclosed in quotes. Null values are written as empty 
+ * fields.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public class CSVListExporter<T> extends ListExporter<T>
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Default separator of the values.
+    */
+   public static final char DEFAULT_SEPARATOR = ',';
+
+   /**
+    * Terminator of the lines.
+    */
+   public static final String LINE_TERMINATOR = "\r\n";
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Separator of the values.
+    */
+   protected char m_cSeparator;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor exporting all columns defined by the descriptor.
+    *
+    * @param descriptor - descriptor of the data in the list
+    * @param accessor - accessor to the values of the rows
+    */
+   public CSVListExporter(
+      ListDataDescriptor<?> descriptor,
+      ListDataAccessor<T>   accessor
+   )
+   {
+      super(descriptor, accessor);
+
+      m_cSeparator = DEFAULT_SEPARATOR;
+   }
+
+   /**
+    * Constructor exporting only specified columns.
+    *
+    * @param descriptor - descriptor of the data in the list
+    * @param accessor - accessor to the values of the rows
+    * @param arrColumnCodes - codes of the columns to export in the order in 
+    *                         which they should be written
+    * @param iBufferSize - size of the buffer in characters
+    * @param cSeparator - separator of the values
+    * @throws OSSException - some column is not defined by the descriptor
+    */
+   public CSVListExporter(
+      ListDataDescriptor<?> descriptor,
+      ListDataAccessor<T>   accessor,
+      int[]                 arrColumnCodes,
+      int                   iBufferSize,
+      char                  cSeparator
+   ) throws OSSException
+   {
+      super(descriptor, accessor, arrColumnCodes, iBufferSize);
+
+      m_cSeparator = cSeparator;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "CSVListExporter[");
+      append(sb, ind + 1, "m_cSeparator = ", m_cSeparator);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void writeHeader(
+      ExportBuffer buffer
+   ) throws IOException
+   {
+      for (int iIndex = 0; iIndex < m_arrColumns.length; iIndex++)
+      {
+         if (iIndex > 0)
+         {
+            buffer.append(m_cSeparator);
+         }
+         writeText(buffer, m_arrColumns[iIndex].getColumnName());
+      }
+      buffer.append(LINE_TERMINATOR);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void writeRow(
+      ExportBuffer buffer,
+      T            row,
+      long         lIndex
+   ) throws IOException
+   {
+      for (int iIndex = 0; iIndex < m_arrColumns.length; iIndex++)
+      {
+         if (iIndex > 0)
+         {
+            buffer.append(m_cSeparator);
+         }
+         writeValue(buffer, row, m_arrColumns[iIndex]);
+      }
+      buffer.append(LINE_TERMINATOR);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void writeFooter(
+      ExportBuffer buffer,
+      long         lCount
+   ) throws IOException
+   {
+      // Nothing follows the last line
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void writeText(
+      ExportBuffer buffer,
+      String       strValue
+   ) throws IOException
+   {
+      if (isQuotingRequired(strValue))
+      {
+         int iStart = 0;
+         int iQuote;
+
+         buffer.append('"');
+         // Quotes inside of the value are doubled
+         iQuote = strValue.indexOf('"');
+         while (iQuote != -1)
+         {
+            buffer.append(strValue, iStart, iQuote + 1);
+            buffer.append('"');
+            iStart = iQuote + 1;
+            iQuote = strValue.indexOf('"', iStart);
+         }
+         buffer.append(strValue, iStart, strValue.length());
+         buffer.append('"');
+      }
+      else
+      {
+         buffer.append(strValue);
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void writeNull(
+      ExportBuffer buffer
+   ) throws IOException
+   {
+      // Null is represented by empty field
+   }
+
+   /**
+    * Test if the value has to be enclosed in quotes.
+    *
+    * @param strValue - value to test
+    * @return boolean - true if the value contains separator, quote or line 
+    *                   break
+    */
+   protected boolean isQuotingRequired(
+      String strValue
+   )
+   {
+      boolean bRequired = false;
+      char    cCurrent;
+
+      for (int iIndex = 0; (iIndex < strValue.length()) && (!bRequired); 
+           iIndex++)
+      {
+         cCurrent = strValue.charAt(iIndex);
+         bRequired = (cCurrent == m_cSeparator) || (cCurrent == '"') 
+                     || (cCurrent == '\n') || (cCurrent == '\r');
+      }
+
+      return bRequired;
+   }
+}
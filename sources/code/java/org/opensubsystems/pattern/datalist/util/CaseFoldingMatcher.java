@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+/**
+ * Case insensitive matcher of a single pattern. The pattern is case folded 
+ * only once when the matcher is created and the characters of the tested 
+ * values are folded one by one as they are compared, so that no lower case
+ * copy of the value has to be created. The characters are folded the same 
+ * way as by String.equalsIgnoreCase and String.regionMatches so the results
+ * are identical to these methods.
+ *
+ * The matcher is immutable and it can be used concurrently.
+ *
+ * @author OpenSubsystems
+ */
+public class CaseFoldingMatcher
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Case folded characters of the pattern.
+    */
+   protected final char[] m_arrFolded;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param strPattern - pattern to match
+    */
+   public CaseFoldingMatcher(
+      String strPattern
+   )
+   {
+      m_arrFolded = fold(strPattern);
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Fold character so that characters which differ only in case are folded 
+    * to the same character.
+    *
+    * @param cValue - character to fold
+    * @return char - folded character
+    */
+   public static char fold(
+      char cValue
+   )
+   {
+      char cFolded;
+
+      if (cValue < 128)
+      {
+         cFolded = ((cValue >= 'A') && (cValue <= 'Z')) 
+                   ? (char)(cValue + ('a' - 'A')) : cValue;
+      }
+      else
+      {
+         cFolded = Character.toLowerCase(Character.toUpperCase(cValue));
+      }
+
+      return cFolded;
+   }
+
+   /**
+    * Fold all characters of the string.
+    *
+    * @param strValue - string to fold
+    * @return char[] - folded characters
+    */
+   public static char[] fold(
+      String strValue
+   )
+   {
+      char[] arrFolded = new char[strValue.length()];
+
+      for (int iIndex = 0; iIndex < arrFolded.length; iIndex++)
+      {
+         arrFolded[iIndex] = fold(strValue.charAt(iIndex));
+      }
+
+      return arrFolded;
+   }
+
+   /**
+    * @return int - length of the pattern
+    */
+   public int length(
+   )
+   {
+      return m_arrFolded.length;
+   }
+
+   /**
+    * Test if the value is equal to the pattern ignoring case.
+    *
+    * @param strValue - value to test
+    * @return boolean - true if the value is equal to the pattern
+    */
+   public boolean matchesEqual(
+      String strValue
+   )
+   {
+      return (strValue.length() == m_arrFolded.length)
+             && (matchesAt(strValue, 0));
+   }
+
+   /**
+    * Test if the value starts with the pattern ignoring case.
+    *
+    * @param strValue - value to test
+    * @return boolean - true if the value starts with the pattern
+    */
+   public boolean matchesStart(
+      String strValue
+   )
+   {
+      return (strValue.length() >= m_arrFolded.length)
+             && (matchesAt(strValue, 0));
+   }
+
+   /**
+    * Test if the value ends with the pattern ignoring case.
+    *
+    * @param strValue - value to test
+    * @return boolean - true if the value ends with the pattern
+    */
+   public boolean matchesEnd(
+      String strValue
+   )
+   {
+      int iStart = strValue.length() - m_arrFolded.length;
+
+      return (iStart >= 0) && (matchesAt(strValue, iStart));
+   }
+
+   /**
+    * Test if the value contains the pattern ignoring case.
+    *
+    * @param strValue - value to test
+    * @return boolean - true if the value contains the pattern
+    */
+   public boolean matchesContain(
+      String strValue
+   )
+   {
+      int     iLast = strValue.length() - m_arrFolded.length;
+      boolean bResult = (m_arrFolded.length == 0) && (iLast >= 0);
+
+      if (m_arrFolded.length > 0)
+      {
+         char cFirst = m_arrFolded[0];
+
+         for (int iIndex = 0; (!bResult) && (iIndex <= iLast); iIndex++)
+         {
+            // Compare the rest of the pattern only if the first character 
+            // matches
+            bResult = (fold(strValue.charAt(iIndex)) == cFirst)
+                      && (matchesAt(strValue, iIndex));
+         }
+      }
+
+      return bResult;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Test if the value contains the pattern at the specified position. The 
+    * caller has to make sure the value is long enough.
+    *
+    * @param strValue - value to test
+    * @param iStart - position in the value where the pattern should start
+    * @return boolean - true if the pattern is at the specified position
+    */
+   protected boolean matchesAt(
+      String strValue,
+      int    iStart
+   )
+   {
+      boolean bResult = true;
+
+      for (int iIndex = 0; (bResult) && (iIndex < m_arrFolded.length); iIndex++)
+      {
+         bResult = (fold(strValue.charAt(iStart + iIndex)) == m_arrFolded[iIndex]);
+      }
+
+      return bResult;
+   }
+}
@@ -0,0 +1,632 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+
+/**
+ * Comparators of rows by values of single column created by 
+ * ListOrderCompiler. Each type of the value and direction of the ordering is
+ * implemented by its own class so that neither has to be selected again for
+ * every comparison and the values are compared as primitives without 
+ * boxing. Null values are ordered before all other values in ascending order 
+ * and after them in descending order.
+ *
+ * @author OpenSubsystems
+ */
+public final class ColumnComparators
+{
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /** 
+    * Private constructor since this class cannot be instantiated
+    */
+   private ColumnComparators(
+   )
+   {
+      // Do nothing
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Base class for comparators of rows by value of single column.
+    *
+    * @param <T> - type of the rows
+    */
+   public abstract static class ColumnComparator<T> implements Comparator<T>
+   {
+      /**
+       * Accessor to the values of the column.
+       */
+      protected final ListDataAccessor<T> m_accessor;
+
+      /**
+       * Code of the column.
+       */
+      protected final int m_iColumnCode;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      protected ColumnComparator(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         m_accessor = accessor;
+         m_iColumnCode = iColumnCode;
+      }
+
+      /**
+       * @return int - code of the column
+       */
+      public int getColumnCode(
+      )
+      {
+         return m_iColumnCode;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public String toString(
+      )
+      {
+         return getClass().getSimpleName() + "(" + m_iColumnCode + ")";
+      }
+   }
+
+   /**
+    * Base class for comparators of rows by numeric, identifier or timestamp 
+    * value of column.
+    *
+    * @param <T> - type of the rows
+    */
+   public abstract static class LongComparator<T> extends ColumnComparator<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      protected LongComparator(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * Compare values of the column in ascending order.
+       *
+       * @param first - first row to compare
+       * @param second - second row to compare
+       * @return int - result of the comparison
+       */
+      protected final int compareAscending(
+         T first,
+         T second
+      )
+      {
+         boolean bFirstNull = m_accessor.isNull(first, m_iColumnCode);
+         boolean bSecondNull = m_accessor.isNull(second, m_iColumnCode);
+         int     iResult;
+
+         if ((bFirstNull) || (bSecondNull))
+         {
+            iResult = (bFirstNull == bSecondNull) ? 0 : (bFirstNull ? -1 : 1);
+         }
+         else
+         {
+            iResult = Long.compare(m_accessor.getLong(first, m_iColumnCode),
+                                   m_accessor.getLong(second, m_iColumnCode));
+         }
+
+         return iResult;
+      }
+   }
+
+   /**
+    * Comparator of rows by numeric, identifier or timestamp value of column 
+    * in ascending order.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class LongAscending<T> extends LongComparator<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      public LongAscending(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public int compare(
+         T first,
+         T second
+      )
+      {
+         return compareAscending(first, second);
+      }
+   }
+
+   /**
+    * Comparator of rows by numeric, identifier or timestamp value of column 
+    * in descending order.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class LongDescending<T> extends LongComparator<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      public LongDescending(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public int compare(
+         T first,
+         T second
+      )
+      {
+         return compareAscending(second, first);
+      }
+   }
+
+   /**
+    * Base class for comparators of rows by floating point value of column.
+    *
+    * @param <T> - type of the rows
+    */
+   public abstract static class DoubleComparator<T> extends ColumnComparator<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      protected DoubleComparator(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * Compare values of the column in ascending order.
+       *
+       * @param first - first row to compare
+       * @param second - second row to compare
+       * @return int - result of the comparison
+       */
+      protected final int compareAscending(
+         T first,
+         T second
+      )
+      {
+         boolean bFirstNull = m_accessor.isNull(first, m_iColumnCode);
+         boolean bSecondNull = m_accessor.isNull(second, m_iColumnCode);
+         int     iResult;
+
+         if ((bFirstNull) || (bSecondNull))
+         {
+            iResult = (bFirstNull == bSecondNull) ? 0 : (bFirstNull ? -1 : 1);
+         }
+         else
+         {
+            iResult = Double.compare(
+                         m_accessor.getDouble(first, m_iColumnCode),
+                         m_accessor.getDouble(second, m_iColumnCode));
+         }
+
+         return iResult;
+      }
+   }
+
+   /**
+    * Comparator of rows by floating point value of column in ascending order.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class DoubleAscending<T> extends DoubleComparator<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      public DoubleAscending(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public int compare(
+         T first,
+         T second
+      )
+      {
+         return compareAscending(first, second);
+      }
+   }
+
+   /**
+    * Comparator of rows by floating point value of column in descending 
+    * order.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class DoubleDescending<T> extends DoubleComparator<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      public DoubleDescending(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public int compare(
+         T first,
+         T second
+      )
+      {
+         return compareAscending(second, first);
+      }
+   }
+
+   /**
+    * Base class for comparators of rows by boolean value of column.
+    *
+    * @param <T> - type of the rows
+    */
+   public abstract static class BooleanComparator<T> extends ColumnComparator<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      protected BooleanComparator(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * Compare values of the column in ascending order.
+       *
+       * @param first - first row to compare
+       * @param second - second row to compare
+       * @return int - result of the comparison
+       */
+      protected final int compareAscending(
+         T first,
+         T second
+      )
+      {
+         boolean bFirstNull = m_accessor.isNull(first, m_iColumnCode);
+         boolean bSecondNull = m_accessor.isNull(second, m_iColumnCode);
+         int     iResult;
+
+         if ((bFirstNull) || (bSecondNull))
+         {
+            iResult = (bFirstNull == bSecondNull) ? 0 : (bFirstNull ? -1 : 1);
+         }
+         else
+         {
+            iResult = Boolean.compare(
+                         m_accessor.getBoolean(first, m_iColumnCode),
+                         m_accessor.getBoolean(second, m_iColumnCode));
+         }
+
+         return iResult;
+      }
+   }
+
+   /**
+    * Comparator of rows by boolean value of column in ascending order.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class BooleanAscending<T> extends BooleanComparator<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      public BooleanAscending(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public int compare(
+         T first,
+         T second
+      )
+      {
+         return compareAscending(first, second);
+      }
+   }
+
+   /**
+    * Comparator of rows by boolean value of column in descending order.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class BooleanDescending<T> extends BooleanComparator<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      public BooleanDescending(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public int compare(
+         T first,
+         T second
+      )
+      {
+         return compareAscending(second, first);
+      }
+   }
+
+   /**
+    * Base class for comparators of rows by string value of column.
+    *
+    * @param <T> - type of the rows
+    */
+   public abstract static class StringComparator<T> extends ColumnComparator<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      protected StringComparator(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * Compare values of the column in ascending order.
+       *
+       * @param first - first row to compare
+       * @param second - second row to compare
+       * @return int - result of the comparison
+       */
+      protected final int compareAscending(
+         T first,
+         T second
+      )
+      {
+         String strFirst = m_accessor.getString(first, m_iColumnCode);
+         String strSecond = m_accessor.getString(second, m_iColumnCode);
+
+         return (strFirst == null) 
+                ? ((strSecond == null) ? 0 : -1)
+                : ((strSecond == null) ? 1 : strFirst.compareTo(strSecond));
+      }
+   }
+
+   /**
+    * Comparator of rows by string value of column in ascending order.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class StringAscending<T> extends StringComparator<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      public StringAscending(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public int compare(
+         T first,
+         T second
+      )
+      {
+         return compareAscending(first, second);
+      }
+   }
+
+   /**
+    * Comparator of rows by string value of column in descending order.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class StringDescending<T> extends StringComparator<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      public StringDescending(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public int compare(
+         T first,
+         T second
+      )
+      {
+         return compareAscending(second, first);
+      }
+   }
+
+   /**
+    * Comparator of rows by several columns. The rows are compared by the 
+    * next column only if they are equal for all previous columns.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Chain<T> implements Comparator<T>
+   {
+      /**
+       * Comparators of the columns in the order of their priority.
+       */
+      private final Comparator<T>[] m_arrComparators;
+
+      /**
+       * Constructor.
+       *
+       * @param arrComparators - comparators of the columns in the order of 
+       *                         their priority
+       */
+      public Chain(
+         Comparator<T>[] arrComparators
+      )
+      {
+         m_arrComparators = arrComparators;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public int compare(
+         T first,
+         T second
+      )
+      {
+         int iResult = 0;
+
+         for (int iIndex = 0; (iIndex < m_arrComparators.length) 
+                              && (iResult == 0); iIndex++)
+         {
+            iResult = m_arrComparators[iIndex].compare(first, second);
+         }
+
+         return iResult;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public String toString(
+      )
+      {
+         return "Chain" + Arrays.toString(m_arrComparators);
+      }
+   }
+}
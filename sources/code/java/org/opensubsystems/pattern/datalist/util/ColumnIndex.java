@@ -0,0 +1,492 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.BitSet;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.error.OSSInvalidDataException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+
+/**
+ * Base class for indexes of values of single column of in memory list. The 
+ * index maps values of the column to ids of rows and it finds rows 
+ * satisfying data conditions without evaluating the conditions for each row.
+ * The rows found by the index are exactly the rows which would satisfy the 
+ * predicate compiled by DataConditionCompiler, including the treatment of 
+ * null values.
+ *
+ * Every index supports equality, IN and NOT IN operations and comparisons 
+ * with null, subclasses can support additional operations. Values of the 
+ * column are read using the typed methods of ListDataAccessor, the same way
+ * as the compiled predicates read them.
+ *
+ * Indexes are not synchronized, IndexedList serializes their modifications.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public abstract class ColumnIndex<T> extends OSSObject
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Accessor to the values of the column.
+    */
+   protected ListDataAccessor<T> m_accessor;
+
+   /**
+    * Code of the indexed column.
+    */
+   protected int m_iColumnCode;
+
+   /**
+    * Type of the values of the column, one of the DataCondition.VALUE_TYPE_XXX
+    * constants.
+    */
+   protected int m_iValueType;
+
+   /**
+    * Rows with null value of the column.
+    */
+   protected BitSet m_nullRows;
+
+   /**
+    * Rows with value of the column which is not null.
+    */
+   protected BitSet m_valueRows;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param accessor - accessor to the values of the column
+    * @param iColumnCode - code of the indexed column
+    * @param iValueType - type of the values of the column
+    */
+   protected ColumnIndex(
+      ListDataAccessor<T> accessor,
+      int                 iColumnCode,
+      int                 iValueType
+   )
+   {
+      super();
+
+      m_accessor = accessor;
+      m_iColumnCode = iColumnCode;
+      m_iValueType = iValueType;
+      m_nullRows = new BitSet();
+      m_valueRows = new BitSet();
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, getClass().getSimpleName() + "[");
+      append(sb, ind + 1, "m_iColumnCode = ", m_iColumnCode);
+      append(sb, ind + 1, "m_iValueType = ", m_iValueType);
+      append(sb, ind + 1, "getNullCount() = ", getNullCount());
+      append(sb, ind + 1, "getValueCount() = ", getValueCount());
+      append(sb, ind + 1, "getDistinctCount() = ", getDistinctCount());
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return int - code of the indexed column
+    */
+   public int getColumnCode(
+   )
+   {
+      return m_iColumnCode;
+   }
+
+   /**
+    * @return int - type of the values of the column
+    */
+   public int getValueType(
+   )
+   {
+      return m_iValueType;
+   }
+
+   /**
+    * @return int - number of rows with null value of the column
+    */
+   public int getNullCount(
+   )
+   {
+      return m_nullRows.cardinality();
+   }
+
+   /**
+    * @return int - number of rows with value of the column which is not null
+    */
+   public int getValueCount(
+   )
+   {
+      return m_valueRows.cardinality();
+   }
+
+   /**
+    * @return int - number of distinct values of the column which are not null
+    */
+   public abstract int getDistinctCount(
+   );
+
+   /**
+    * Add row to the index.
+    *
+    * @param iRowId - id of the row
+    * @param row - row to add
+    */
+   public void add(
+      int iRowId,
+      T   row
+   )
+   {
+      if (m_accessor.isNull(row, m_iColumnCode))
+      {
+         m_nullRows.set(iRowId);
+      }
+      else
+      {
+         Object objKey = getKey(row);
+
+         m_valueRows.set(iRowId);
+         if (objKey != null)
+         {
+            addKey(objKey, iRowId);
+         }
+      }
+   }
+
+   /**
+    * Remove row from the index. The row has to have the same value of the 
+    * column as when it was added.
+    *
+    * @param iRowId - id of the row
+    * @param row - row to remove
+    */
+   public void remove(
+      int iRowId,
+      T   row
+   )
+   {
+      if (m_accessor.isNull(row, m_iColumnCode))
+      {
+         m_nullRows.clear(iRowId);
+      }
+      else
+      {
+         Object objKey = getKey(row);
+
+         m_valueRows.clear(iRowId);
+         if (objKey != null)
+         {
+            removeKey(objKey, iRowId);
+         }
+      }
+   }
+
+   /**
+    * Test if the index can find rows satisfying the condition.
+    *
+    * @param condition - condition to test
+    * @param iValueType - type of the value of the condition, with 
+    *                     VALUE_TYPE_UNKNOWN already resolved to the type of 
+    *                     the column
+    * @return boolean - true if the index can find the rows
+    */
+   public boolean supports(
+      DataCondition condition,
+      int           iValueType
+   )
+   {
+      return (iValueType == m_iValueType)
+             && (condition.getAttribute() == m_iColumnCode)
+             && (supportsOperation(condition.getOperation()));
+   }
+
+   /**
+    * Find rows satisfying the condition.
+    *
+    * @param condition - condition supported by the index
+    * @return BitSet - ids of rows satisfying the condition, the caller can 
+    *                  modify it
+    * @throws OSSException - value of the condition is not valid
+    */
+   public BitSet lookup(
+      DataCondition condition
+   ) throws OSSException
+   {
+      int    iOperation = condition.getOperation();
+      Object objValue = condition.getValue();
+      BitSet result;
+
+      if ((iOperation == DataCondition.OPERATION_IN)
+         || (iOperation == DataCondition.OPERATION_NOT_IN))
+      {
+         result = new BitSet();
+         for (Object objElement : DataConditionValues.toValues(objValue))
+         {
+            // Null is never equal to any value
+            if (objElement != null)
+            {
+               orRowIds(DataConditionValues.toKey(objElement, m_iValueType), 
+                        result);
+            }
+         }
+         if (iOperation == DataCondition.OPERATION_NOT_IN)
+         {
+            result = andNotValueRows(result);
+         }
+      }
+      else if (objValue == null)
+      {
+         switch (iOperation)
+         {
+            case (DataCondition.OPERATION_EQUALS):
+            case (DataCondition.OPERATION_EQUALS_CASESENSITIVE):
+            case (DataCondition.OPERATION_EQUALS_OR_NULL):
+            {
+               result = (BitSet)m_nullRows.clone();
+               break;
+            }
+            case (DataCondition.OPERATION_NOT_EQUALS):
+            case (DataCondition.OPERATION_NOT_EQUALS_CASESENSITIVE):
+            {
+               result = (BitSet)m_valueRows.clone();
+               break;
+            }
+            default :
+            {
+               // Comparison with null is never satisfied
+               result = new BitSet();
+            }
+         }
+      }
+      else
+      {
+         Object objKey = DataConditionValues.toKey(objValue, m_iValueType);
+
+         switch (iOperation)
+         {
+            case (DataCondition.OPERATION_EQUALS):
+            case (DataCondition.OPERATION_EQUALS_CASESENSITIVE):
+            {
+               result = new BitSet();
+               orRowIds(objKey, result);
+               break;
+            }
+            case (DataCondition.OPERATION_EQUALS_OR_NULL):
+            {
+               result = (BitSet)m_nullRows.clone();
+               orRowIds(objKey, result);
+               break;
+            }
+            case (DataCondition.OPERATION_NOT_EQUALS):
+            case (DataCondition.OPERATION_NOT_EQUALS_CASESENSITIVE):
+            {
+               result = new BitSet();
+               orRowIds(objKey, result);
+               result = andNotValueRows(result);
+               break;
+            }
+            default :
+            {
+               result = lookupOperation(condition, objKey);
+            }
+         }
+      }
+
+      return result;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Test if the index can find rows satisfying condition with the operation.
+    *
+    * @param iOperation - one of the DataCondition.OPERATION_XXX constants
+    * @return boolean - true if the operation is supported
+    */
+   protected boolean supportsOperation(
+      int iOperation
+   )
+   {
+      boolean bSupported;
+
+      switch (iOperation)
+      {
+         case (DataCondition.OPERATION_EQUALS):
+         case (DataCondition.OPERATION_NOT_EQUALS):
+         case (DataCondition.OPERATION_EQUALS_OR_NULL):
+         case (DataCondition.OPERATION_IN):
+         case (DataCondition.OPERATION_NOT_IN):
+         {
+            bSupported = true;
+            break;
+         }
+         case (DataCondition.OPERATION_EQUALS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_EQUALS_CASESENSITIVE):
+         {
+            bSupported = (m_iValueType == DataCondition.VALUE_TYPE_STRING);
+            break;
+         }
+         default :
+         {
+            bSupported = false;
+         }
+      }
+
+      return bSupported;
+   }
+
+   /**
+    * Find rows satisfying condition with operation which is not supported by
+    * all indexes. 
+    *
+    * @param condition - condition supported by the index
+    * @param objKey - key of the value of the condition
+    * @return BitSet - ids of rows satisfying the condition
+    * @throws OSSException - the operation is not supported
+    */
+   protected BitSet lookupOperation(
+      DataCondition condition,
+      Object        objKey
+   ) throws OSSException
+   {
+      throw new OSSInvalidDataException("Operation " + condition.getOperation()
+                   + " is not supported by " + getClass().getSimpleName()
+                   + " of column " + m_iColumnCode);
+   }
+
+   /**
+    * Get rows with value of the column which is not null and which are not 
+    * among the specified rows.
+    *
+    * @param excluded - rows to exclude, it can be modified
+    * @return BitSet - rows which are not excluded
+    */
+   protected BitSet andNotValueRows(
+      BitSet excluded
+   )
+   {
+      BitSet result = (BitSet)m_valueRows.clone();
+
+      result.andNot(excluded);
+
+      return result;
+   }
+
+   /**
+    * Get key of the value of the column of the row, which is not null. Values
+    * of double columns which are not numbers don't have any key, since they
+    * are not equal to any value. 
+    *
+    * @param row - row to get the key for
+    * @return Object - key of the value or null if the value has no key
+    */
+   protected Object getKey(
+      T row
+   )
+   {
+      Object objKey;
+
+      switch (m_iValueType)
+      {
+         case (DataCondition.VALUE_TYPE_DOUBLE):
+         {
+            double dValue = m_accessor.getDouble(row, m_iColumnCode);
+
+            if (Double.isNaN(dValue))
+            {
+               objKey = null;
+            }
+            else
+            {
+               // Negative zero is equal to zero when compared as number
+               objKey = Double.valueOf(dValue + 0.0);
+            }
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_BOOLEAN):
+         {
+            objKey = Boolean.valueOf(m_accessor.getBoolean(row, m_iColumnCode));
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_STRING):
+         {
+            objKey = m_accessor.getString(row, m_iColumnCode);
+            break;
+         }
+         default :
+         {
+            objKey = Long.valueOf(m_accessor.getLong(row, m_iColumnCode));
+         }
+      }
+
+      return objKey;
+   }
+
+   /**
+    * Add row with the specified key to the index.
+    *
+    * @param objKey - key of the value of the column
+    * @param iRowId - id of the row
+    */
+   protected abstract void addKey(
+      Object objKey,
+      int    iRowId
+   );
+
+   /**
+    * Remove row with the specified key from the index.
+    *
+    * @param objKey - key of the value of the column
+    * @param iRowId - id of the row
+    */
+   protected abstract void removeKey(
+      Object objKey,
+      int    iRowId
+   );
+
+   /**
+    * Set bits of all rows with the specified key.
+    *
+    * @param objKey - key of the value
+    * @param result - bit set to set the bits in
+    */
+   protected abstract void orRowIds(
+      Object objKey,
+      BitSet result
+   );
+}
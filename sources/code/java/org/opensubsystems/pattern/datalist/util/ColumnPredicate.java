@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+import org.opensubsystems.pattern.datalist.data.RowPredicate;
+
+/**
+ * Base class for predicates testing value of a single column.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public abstract class ColumnPredicate<T> implements RowPredicate<T>
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Accessor to the values of the column.
+    */
+   protected final ListDataAccessor<T> m_accessor;
+
+   /**
+    * Code of the column.
+    */
+   protected final int m_iColumnCode;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param accessor - accessor to the values of the column
+    * @param iColumnCode - code of the column
+    */
+   protected ColumnPredicate(
+      ListDataAccessor<T> accessor,
+      int                 iColumnCode
+   )
+   {
+      m_accessor = accessor;
+      m_iColumnCode = iColumnCode;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * @return int - code of the column
+    */
+   public int getColumnCode(
+   )
+   {
+      return m_iColumnCode;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public String toString(
+   )
+   {
+      return getClass().getSimpleName() + "(" + m_iColumnCode + ")";
+   }
+}
@@ -0,0 +1,446 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListColumnDefinition;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+import org.opensubsystems.pattern.datalist.data.ListDataDescriptor;
+
+/**
+ * Statistics of values of single column identified by the code of its 
+ * ListColumnDefinition. The statistics are used to estimate how many rows 
+ * satisfy data conditions so that the most selective conditions can be 
+ * evaluated first. 
+ *
+ * Number of distinct values is estimated using linear counting with fixed 
+ * size bitmap, so that collection of the statistics requires constant memory 
+ * regardless of the number of rows. 
+ *
+ * @author OpenSubsystems
+ */
+public class ColumnStatistics extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Number of bits of the bitmap used to estimate number of distinct values.
+    */
+   public static final int DISTINCT_BITMAP_SIZE = 1 << 16;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Code of the column the statistics belong to.
+    */
+   protected int m_iColumnCode;
+
+   /**
+    * Type of the values of the column, one of the DataCondition.VALUE_TYPE_XXX
+    * constants.
+    */
+   protected int m_iValueType;
+
+   /**
+    * Number of rows.
+    */
+   protected long m_lRowCount;
+
+   /**
+    * Number of rows with null value of the column.
+    */
+   protected long m_lNullCount;
+
+   /**
+    * Estimated number of distinct values which are not null.
+    */
+   protected long m_lDistinctCount;
+
+   /**
+    * Minimal value for numbers and timestamps, NaN if it is not known.
+    */
+   protected double m_dMinValue;
+
+   /**
+    * Maximal value for numbers and timestamps, NaN if it is not known.
+    */
+   protected double m_dMaxValue;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param iColumnCode - code of the column the statistics belong to
+    * @param iValueType - type of the values of the column
+    * @param lRowCount - number of rows
+    * @param lNullCount - number of rows with null value of the column
+    * @param lDistinctCount - estimated number of distinct values which are 
+    *                         not null
+    * @param dMinValue - minimal value for numbers and timestamps, NaN if it 
+    *                    is not known
+    * @param dMaxValue - maximal value for numbers and timestamps, NaN if it 
+    *                    is not known
+    */
+   public ColumnStatistics(
+      int    iColumnCode,
+      int    iValueType,
+      long   lRowCount,
+      long   lNullCount,
+      long   lDistinctCount,
+      double dMinValue,
+      double dMaxValue
+   )
+   {
+      super();
+
+      m_iColumnCode = iColumnCode;
+      m_iValueType = iValueType;
+      m_lRowCount = lRowCount;
+      m_lNullCount = lNullCount;
+      m_lDistinctCount = lDistinctCount;
+      m_dMinValue = dMinValue;
+      m_dMaxValue = dMaxValue;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Collect statistics of all columns defined by the descriptor.
+    *
+    * @param <T> - type of the rows
+    * @param colRows - rows to examine
+    * @param accessor - accessor of values of the rows
+    * @param descriptor - descriptor defining the columns
+    * @return Map<Integer, ColumnStatistics> - statistics keyed by the column
+    *                                          code
+    */
+   public static <T> Map<Integer, ColumnStatistics> collect(
+      Collection<T>         colRows,
+      ListDataAccessor<T>   accessor,
+      ListDataDescriptor<?> descriptor
+   )
+   {
+      Map<Integer, ColumnStatistics> mpStatistics = new HashMap<>();
+
+      if (descriptor.getColumnDefinitions() != null)
+      {
+         for (ListColumnDefinition column : descriptor.getColumnDefinitions())
+         {
+            mpStatistics.put(column.getColumnCode(), 
+                             collect(colRows, accessor, column.getColumnCode(), 
+                                     column.getColumnDataType()));
+         }
+      }
+
+      return mpStatistics;
+   }
+
+   /**
+    * Collect statistics of single column.
+    *
+    * @param <T> - type of the rows
+    * @param colRows - rows to examine
+    * @param accessor - accessor of values of the rows
+    * @param iColumnCode - code of the column to examine
+    * @param iValueType - type of the values of the column
+    * @return ColumnStatistics - statistics of the column
+    */
+   public static <T> ColumnStatistics collect(
+      Collection<T>       colRows,
+      ListDataAccessor<T> accessor,
+      int                 iColumnCode,
+      int                 iValueType
+   )
+   {
+      long[]  arrBitmap = new long[DISTINCT_BITMAP_SIZE / Long.SIZE];
+      boolean bNumeric = isNumeric(iValueType);
+      long    lNullCount = 0;
+      double  dMinValue = Double.NaN;
+      double  dMaxValue = Double.NaN;
+
+      for (T row : colRows)
+      {
+         if (accessor.isNull(row, iColumnCode))
+         {
+            lNullCount++;
+         }
+         else
+         {
+            long lHash;
+
+            if (bNumeric)
+            {
+               double dValue = (iValueType == DataCondition.VALUE_TYPE_DOUBLE)
+                               ? accessor.getDouble(row, iColumnCode)
+                               : accessor.getLong(row, iColumnCode);
+
+               if ((Double.isNaN(dMinValue)) || (dValue < dMinValue))
+               {
+                  dMinValue = dValue;
+               }
+               if ((Double.isNaN(dMaxValue)) || (dValue > dMaxValue))
+               {
+                  dMaxValue = dValue;
+               }
+               lHash = (iValueType == DataCondition.VALUE_TYPE_DOUBLE)
+                       ? Double.doubleToLongBits(dValue + 0.0)
+                       : accessor.getLong(row, iColumnCode);
+            }
+            else if (iValueType == DataCondition.VALUE_TYPE_BOOLEAN)
+            {
+               lHash = accessor.getBoolean(row, iColumnCode) ? 1 : 0;
+            }
+            else
+            {
+               lHash = accessor.getString(row, iColumnCode).hashCode();
+            }
+            // Linear counting requires hashes which behave as random numbers
+            // so the hash is mixed using finalizer of MurmurHash3
+            lHash ^= lHash >>> 33;
+            lHash *= 0xFF51AFD7ED558CCDL;
+            lHash ^= lHash >>> 33;
+            lHash *= 0xC4CEB9FE1A85EC53L;
+            lHash ^= lHash >>> 33;
+            lHash &= DISTINCT_BITMAP_SIZE - 1;
+            arrBitmap[(int)(lHash >>> 6)] |= 1L << lHash;
+         }
+      }
+
+      return new ColumnStatistics(iColumnCode, iValueType, colRows.size(), 
+                                  lNullCount, 
+                                  estimateDistinct(arrBitmap, 
+                                                   colRows.size() - lNullCount),
+                                  dMinValue, dMaxValue);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ColumnStatistics[");
+      append(sb, ind + 1, "m_iColumnCode = ", m_iColumnCode);
+      append(sb, ind + 1, "m_iValueType = ", m_iValueType);
+      append(sb, ind + 1, "m_lRowCount = ", m_lRowCount);
+      append(sb, ind + 1, "m_lNullCount = ", m_lNullCount);
+      append(sb, ind + 1, "m_lDistinctCount = ", m_lDistinctCount);
+      append(sb, ind + 1, "m_dMinValue = ", m_dMinValue);
+      append(sb, ind + 1, "m_dMaxValue = ", m_dMaxValue);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return int - code of the column the statistics belong to
+    */
+   public int getColumnCode(
+   )
+   {
+      return m_iColumnCode;
+   }
+
+   /**
+    * @return int - type of the values of the column
+    */
+   public int getValueType(
+   )
+   {
+      return m_iValueType;
+   }
+
+   /**
+    * @return long - number of rows
+    */
+   public long getRowCount(
+   )
+   {
+      return m_lRowCount;
+   }
+
+   /**
+    * @return long - number of rows with null value of the column
+    */
+   public long getNullCount(
+   )
+   {
+      return m_lNullCount;
+   }
+
+   /**
+    * @return long - estimated number of distinct values which are not null
+    */
+   public long getDistinctCount(
+   )
+   {
+      return m_lDistinctCount;
+   }
+
+   /**
+    * @return double - minimal value for numbers and timestamps, NaN if it is 
+    *                  not known
+    */
+   public double getMinValue(
+   )
+   {
+      return m_dMinValue;
+   }
+
+   /**
+    * @return double - maximal value for numbers and timestamps, NaN if it is 
+    *                  not known
+    */
+   public double getMaxValue(
+   )
+   {
+      return m_dMaxValue;
+   }
+
+   /**
+    * @return double - fraction of rows with null value of the column, 0 if 
+    *                  there are no rows
+    */
+   public double getNullFraction(
+   )
+   {
+      return (m_lRowCount == 0) ? 0 : (double)m_lNullCount / m_lRowCount;
+   }
+
+   /**
+    * Estimate fraction of rows with value equal to single value. Values are 
+    * assumed to be distributed uniformly.
+    *
+    * @return double - estimated fraction of rows
+    */
+   public double getEqualsSelectivity(
+   )
+   {
+      return (1 - getNullFraction()) / Math.max(1, m_lDistinctCount);
+   }
+
+   /**
+    * Estimate fraction of rows with value within the range. Values are 
+    * assumed to be distributed uniformly between the minimal and the maximal 
+    * value.
+    *
+    * @param dLower - lower bound of the range, use negative infinity for 
+    *                 unbounded range
+    * @param dUpper - upper bound of the range, use positive infinity for 
+    *                 unbounded range
+    * @param dDefault - selectivity used if the minimal and the maximal value 
+    *                   are not known
+    * @return double - estimated fraction of rows
+    */
+   public double getRangeSelectivity(
+      double dLower,
+      double dUpper,
+      double dDefault
+   )
+   {
+      double dSelectivity;
+
+      if ((Double.isNaN(m_dMinValue)) || (Double.isNaN(m_dMaxValue)))
+      {
+         dSelectivity = dDefault;
+      }
+      else if ((dLower > m_dMaxValue) || (dUpper < m_dMinValue) 
+              || (dLower > dUpper))
+      {
+         dSelectivity = 0;
+      }
+      else if (m_dMaxValue == m_dMinValue)
+      {
+         dSelectivity = 1 - getNullFraction();
+      }
+      else
+      {
+         double dFrom = Math.max(dLower, m_dMinValue);
+         double dTo = Math.min(dUpper, m_dMaxValue);
+
+         // At least single value is always within the range
+         dSelectivity = Math.max((dTo - dFrom) / (m_dMaxValue - m_dMinValue), 
+                                 1.0 / Math.max(1, m_lDistinctCount));
+         dSelectivity = Math.min(1, dSelectivity) * (1 - getNullFraction());
+      }
+
+      return dSelectivity;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Test if the values of the specified type can be compared as numbers.
+    *
+    * @param iValueType - type of the values
+    * @return boolean - true for numbers and timestamps
+    */
+   protected static boolean isNumeric(
+      int iValueType
+   )
+   {
+      return (iValueType == DataCondition.VALUE_TYPE_ID)
+             || (iValueType == DataCondition.VALUE_TYPE_INTEGER)
+             || (iValueType == DataCondition.VALUE_TYPE_TIMESTAMP)
+             || (iValueType == DataCondition.VALUE_TYPE_DOUBLE);
+   }
+
+   /**
+    * Estimate number of distinct values using linear counting.
+    *
+    * @param arrBitmap - bitmap with bits set for hashes of the values
+    * @param lValueCount - number of values
+    * @return long - estimated number of distinct values
+    */
+   protected static long estimateDistinct(
+      long[] arrBitmap,
+      long   lValueCount
+   )
+   {
+      int  iEmptyBits = 0;
+      long lDistinct;
+
+      for (long lBits : arrBitmap)
+      {
+         iEmptyBits += Long.SIZE - Long.bitCount(lBits);
+      }
+      if (iEmptyBits == 0)
+      {
+         // The bitmap is saturated, the estimate cannot be better than this
+         lDistinct = lValueCount;
+      }
+      else
+      {
+         lDistinct = Math.round(DISTINCT_BITMAP_SIZE 
+                                * Math.log((double)DISTINCT_BITMAP_SIZE 
+                                           / iEmptyBits));
+         lDistinct = Math.min(lValueCount, lDistinct);
+      }
+
+      return lDistinct;
+   }
+}
@@ -0,0 +1,1152 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Compressed bitmap of non-negative integers organized the same way as 
+ * Roaring bitmaps. Values are partitioned into chunks of 65536 values with 
+ * the same upper 16 bits and each chunk is stored in a container. Sparse 
+ * chunks with at most MAX_ARRAY_CONTAINER_SIZE values are stored as sorted
+ * arrays of the lower 16 bits, dense chunks as bitmaps of 1024 words. Empty 
+ * chunks are not stored at all. 
+ *
+ * The bitmaps can be combined using AND, OR and ANDNOT operations, which 
+ * process whole words of dense chunks at once and skip chunks missing in 
+ * either bitmap, and the number of values in the result can be computed 
+ * without expanding it. The operations create new bitmaps and don't modify
+ * their operands. The bitmap is not synchronized.
+ *
+ * @author OpenSubsystems
+ */
+public class CompressedBitmap
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Maximal number of values of chunk stored as sorted array. Array of this
+    * size occupies the same memory as bitmap of the whole chunk.
+    */
+   public static final int MAX_ARRAY_CONTAINER_SIZE = 4096;
+
+   /**
+    * Number of words of bitmap container.
+    */
+   protected static final int BITMAP_CONTAINER_WORDS = 1024;
+
+   /**
+    * Initial number of containers.
+    */
+   protected static final int INITIAL_CAPACITY = 4;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Upper 16 bits of values of the containers in increasing order, only the
+    * first m_iSize elements are used.
+    */
+   protected char[] m_arrKeys;
+
+   /**
+    * Containers storing lower 16 bits of values in the order of the keys.
+    */
+   protected Container[] m_arrContainers;
+
+   /**
+    * Number of containers.
+    */
+   protected int m_iSize;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor of empty bitmap.
+    */
+   public CompressedBitmap(
+   )
+   {
+      this(INITIAL_CAPACITY);
+   }
+
+   /**
+    * Constructor of empty bitmap.
+    *
+    * @param iCapacity - expected number of containers
+    */
+   protected CompressedBitmap(
+      int iCapacity
+   )
+   {
+      m_arrKeys = new char[Math.max(1, iCapacity)];
+      m_arrContainers = new Container[m_arrKeys.length];
+      m_iSize = 0;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Add value to the bitmap.
+    *
+    * @param iValue - non-negative value to add
+    */
+   public void add(
+      int iValue
+   )
+   {
+      char cKey = (char)(iValue >>> 16);
+      int  iIndex = findContainer(cKey);
+
+      if (iIndex < 0)
+      {
+         iIndex = -iIndex - 1;
+         insertContainer(iIndex, cKey, new ArrayContainer());
+      }
+      m_arrContainers[iIndex] = m_arrContainers[iIndex].add((char)iValue);
+   }
+
+   /**
+    * Remove value from the bitmap.
+    *
+    * @param iValue - non-negative value to remove
+    */
+   public void remove(
+      int iValue
+   )
+   {
+      int iIndex = findContainer((char)(iValue >>> 16));
+
+      if (iIndex >= 0)
+      {
+         Container container = m_arrContainers[iIndex].remove((char)iValue);
+
+         if (container.getCardinality() == 0)
+         {
+            System.arraycopy(m_arrKeys, iIndex + 1, m_arrKeys, iIndex, 
+                             m_iSize - iIndex - 1);
+            System.arraycopy(m_arrContainers, iIndex + 1, m_arrContainers, 
+                             iIndex, m_iSize - iIndex - 1);
+            m_iSize--;
+            m_arrContainers[m_iSize] = null;
+         }
+         else
+         {
+            m_arrContainers[iIndex] = container;
+         }
+      }
+   }
+
+   /**
+    * Test if the value is in the bitmap.
+    *
+    * @param iValue - non-negative value to test
+    * @return boolean - true if the value is in the bitmap
+    */
+   public boolean contains(
+      int iValue
+   )
+   {
+      int iIndex = findContainer((char)(iValue >>> 16));
+
+      return (iIndex >= 0) && (m_arrContainers[iIndex].contains((char)iValue));
+   }
+
+   /**
+    * @return int - number of values in the bitmap
+    */
+   public int getCardinality(
+   )
+   {
+      int iCardinality = 0;
+
+      for (int iIndex = 0; iIndex < m_iSize; iIndex++)
+      {
+         iCardinality += m_arrContainers[iIndex].getCardinality();
+      }
+
+      return iCardinality;
+   }
+
+   /**
+    * @return boolean - true if there are no values in the bitmap
+    */
+   public boolean isEmpty(
+   )
+   {
+      // Empty containers are never stored
+      return m_iSize == 0;
+   }
+
+   /**
+    * Create bitmap containing values which are in both bitmaps.
+    *
+    * @param other - bitmap to intersect with
+    * @return CompressedBitmap - new bitmap
+    */
+   public CompressedBitmap and(
+      CompressedBitmap other
+   )
+   {
+      CompressedBitmap result;
+      int              iFirst = 0;
+      int              iSecond = 0;
+
+      result = new CompressedBitmap(Math.min(m_iSize, other.m_iSize));
+      while ((iFirst < m_iSize) && (iSecond < other.m_iSize))
+      {
+         char cFirst = m_arrKeys[iFirst];
+         char cSecond = other.m_arrKeys[iSecond];
+
+         if (cFirst < cSecond)
+         {
+            iFirst++;
+         }
+         else if (cFirst > cSecond)
+         {
+            iSecond++;
+         }
+         else
+         {
+            result.appendContainer(cFirst, m_arrContainers[iFirst].and(
+                                              other.m_arrContainers[iSecond]));
+            iFirst++;
+            iSecond++;
+         }
+      }
+
+      return result;
+   }
+
+   /**
+    * Create bitmap containing values which are in at least one of the bitmaps.
+    *
+    * @param other - bitmap to unite with
+    * @return CompressedBitmap - new bitmap
+    */
+   public CompressedBitmap or(
+      CompressedBitmap other
+   )
+   {
+      CompressedBitmap result;
+      int              iFirst = 0;
+      int              iSecond = 0;
+
+      result = new CompressedBitmap(m_iSize + other.m_iSize);
+      while ((iFirst < m_iSize) || (iSecond < other.m_iSize))
+      {
+         int iFirstKey = (iFirst < m_iSize) ? m_arrKeys[iFirst] 
+                                            : Integer.MAX_VALUE;
+         int iSecondKey = (iSecond < other.m_iSize) ? other.m_arrKeys[iSecond] 
+                                                    : Integer.MAX_VALUE;
+
+         if (iFirstKey < iSecondKey)
+         {
+            result.appendContainer((char)iFirstKey, 
+                                   m_arrContainers[iFirst].copy());
+            iFirst++;
+         }
+         else if (iFirstKey > iSecondKey)
+         {
+            result.appendContainer((char)iSecondKey, 
+                                   other.m_arrContainers[iSecond].copy());
+            iSecond++;
+         }
+         else
+         {
+            result.appendContainer((char)iFirstKey, 
+                                   m_arrContainers[iFirst].or(
+                                      other.m_arrContainers[iSecond]));
+            iFirst++;
+            iSecond++;
+         }
+      }
+
+      return result;
+   }
+
+   /**
+    * Create bitmap containing values which are in this bitmap and which are 
+    * not in the other bitmap.
+    *
+    * @param other - bitmap with values to exclude
+    * @return CompressedBitmap - new bitmap
+    */
+   public CompressedBitmap andNot(
+      CompressedBitmap other
+   )
+   {
+      CompressedBitmap result;
+      int              iSecond = 0;
+
+      result = new CompressedBitmap(m_iSize);
+      for (int iFirst = 0; iFirst < m_iSize; iFirst++)
+      {
+         char cKey = m_arrKeys[iFirst];
+
+         while ((iSecond < other.m_iSize) && (other.m_arrKeys[iSecond] < cKey))
+         {
+            iSecond++;
+         }
+         if ((iSecond < other.m_iSize) && (other.m_arrKeys[iSecond] == cKey))
+         {
+            result.appendContainer(cKey, m_arrContainers[iFirst].andNot(
+                                            other.m_arrContainers[iSecond]));
+         }
+         else
+         {
+            result.appendContainer(cKey, m_arrContainers[iFirst].copy());
+         }
+      }
+
+      return result;
+   }
+
+   /**
+    * Set bits corresponding to all values of the bitmap.
+    *
+    * @param result - bit set to set the bits in
+    */
+   public void orInto(
+      BitSet result
+   )
+   {
+      for (int iIndex = 0; iIndex < m_iSize; iIndex++)
+      {
+         m_arrContainers[iIndex].orInto(result, m_arrKeys[iIndex] << 16);
+      }
+   }
+
+   /**
+    * @return BitSet - bit set with bits corresponding to the values set
+    */
+   public BitSet toBitSet(
+   )
+   {
+      BitSet result = new BitSet();
+
+      orInto(result);
+
+      return result;
+   }
+
+   /**
+    * Get approximate size of memory occupied by the containers.
+    *
+    * @return long - size in bytes
+    */
+   public long getSizeInBytes(
+   )
+   {
+      long lSize = m_arrKeys.length * 2L + m_arrContainers.length * 8L;
+
+      for (int iIndex = 0; iIndex < m_iSize; iIndex++)
+      {
+         lSize += m_arrContainers[iIndex].getSizeInBytes();
+      }
+
+      return lSize;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public String toString(
+   )
+   {
+      return "CompressedBitmap[cardinality = " + getCardinality() 
+             + ", containers = " + m_iSize + "]";
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Find container for values with the specified upper bits.
+    *
+    * @param cKey - upper 16 bits of the values
+    * @return int - index of the container if it exists, otherwise 
+    *               (-(insertion point) - 1)
+    */
+   protected int findContainer(
+      char cKey
+   )
+   {
+      int iIndex;
+
+      // Values are mostly added in increasing order, check the last first
+      if ((m_iSize > 0) && (m_arrKeys[m_iSize - 1] == cKey))
+      {
+         iIndex = m_iSize - 1;
+      }
+      else
+      {
+         iIndex = Arrays.binarySearch(m_arrKeys, 0, m_iSize, cKey);
+      }
+
+      return iIndex;
+   }
+
+   /**
+    * Insert container at the specified position.
+    *
+    * @param iIndex - position of the container
+    * @param cKey - upper 16 bits of the values of the container
+    * @param container - container to insert
+    */
+   protected void insertContainer(
+      int       iIndex,
+      char      cKey,
+      Container container
+   )
+   {
+      if (m_iSize == m_arrKeys.length)
+      {
+         m_arrKeys = Arrays.copyOf(m_arrKeys, m_iSize * 2);
+         m_arrContainers = Arrays.copyOf(m_arrContainers, m_iSize * 2);
+      }
+      System.arraycopy(m_arrKeys, iIndex, m_arrKeys, iIndex + 1, 
+                       m_iSize - iIndex);
+      System.arraycopy(m_arrContainers, iIndex, m_arrContainers, iIndex + 1, 
+                       m_iSize - iIndex);
+      m_arrKeys[iIndex] = cKey;
+      m_arrContainers[iIndex] = container;
+      m_iSize++;
+   }
+
+   /**
+    * Append container after all existing containers unless it is empty.
+    *
+    * @param cKey - upper 16 bits of the values of the container, greater 
+    *               than keys of all existing containers
+    * @param container - container to append
+    */
+   protected void appendContainer(
+      char      cKey,
+      Container container
+   )
+   {
+      if (container.getCardinality() > 0)
+      {
+         insertContainer(m_iSize, cKey, container);
+      }
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Container of lower 16 bits of values sharing the same upper 16 bits.
+    * Operations which can change the type of the container return the 
+    * container which should replace it.
+    */
+   protected abstract static class Container
+   {
+      /**
+       * @return int - number of values in the container
+       */
+      public abstract int getCardinality(
+      );
+
+      /**
+       * @return long - approximate size of memory occupied by the container
+       */
+      public abstract long getSizeInBytes(
+      );
+
+      /**
+       * @param cValue - lower 16 bits of the value
+       * @return boolean - true if the value is in the container
+       */
+      public abstract boolean contains(
+         char cValue
+      );
+
+      /**
+       * @param cValue - lower 16 bits of the value to add
+       * @return Container - container containing the value
+       */
+      public abstract Container add(
+         char cValue
+      );
+
+      /**
+       * @param cValue - lower 16 bits of the value to remove
+       * @return Container - container not containing the value
+       */
+      public abstract Container remove(
+         char cValue
+      );
+
+      /**
+       * @param other - container to intersect with
+       * @return Container - new container with values in both containers
+       */
+      public abstract Container and(
+         Container other
+      );
+
+      /**
+       * @param other - container to unite with
+       * @return Container - new container with values in either container
+       */
+      public abstract Container or(
+         Container other
+      );
+
+      /**
+       * @param other - container with values to exclude
+       * @return Container - new container with values of this container not
+       *                     in the other container
+       */
+      public abstract Container andNot(
+         Container other
+      );
+
+      /**
+       * @return Container - copy of this container
+       */
+      public abstract Container copy(
+      );
+
+      /**
+       * Set bits corresponding to all values of the container.
+       *
+       * @param result - bit set to set the bits in
+       * @param iBase - upper 16 bits of the values shifted to their position
+       */
+      public abstract void orInto(
+         BitSet result,
+         int    iBase
+      );
+   }
+
+   /**
+    * Container storing values in sorted array.
+    */
+   protected static final class ArrayContainer extends Container
+   {
+      /**
+       * Values in increasing order, only the first m_iCardinality elements 
+       * are used.
+       */
+      private char[] m_arrValues;
+
+      /**
+       * Number of values.
+       */
+      private int m_iCardinality;
+
+      /**
+       * Constructor of empty container.
+       */
+      public ArrayContainer(
+      )
+      {
+         this(new char[INITIAL_CAPACITY], 0);
+      }
+
+      /**
+       * Constructor.
+       *
+       * @param arrValues - values in increasing order
+       * @param iCardinality - number of used elements of the array
+       */
+      public ArrayContainer(
+         char[] arrValues,
+         int    iCardinality
+      )
+      {
+         m_arrValues = arrValues;
+         m_iCardinality = iCardinality;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public int getCardinality(
+      )
+      {
+         return m_iCardinality;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public long getSizeInBytes(
+      )
+      {
+         return 16L + m_arrValues.length * 2L;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean contains(
+         char cValue
+      )
+      {
+         return Arrays.binarySearch(m_arrValues, 0, m_iCardinality, cValue) >= 0;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Container add(
+         char cValue
+      )
+      {
+         Container result = this;
+         int       iIndex;
+
+         if ((m_iCardinality == 0) 
+            || (m_arrValues[m_iCardinality - 1] < cValue))
+         {
+            iIndex = -m_iCardinality - 1;
+         }
+         else
+         {
+            iIndex = Arrays.binarySearch(m_arrValues, 0, m_iCardinality, 
+                                         cValue);
+         }
+         if (iIndex < 0)
+         {
+            if (m_iCardinality == MAX_ARRAY_CONTAINER_SIZE)
+            {
+               result = toBitmapContainer().add(cValue);
+            }
+            else
+            {
+               iIndex = -iIndex - 1;
+               if (m_iCardinality == m_arrValues.length)
+               {
+                  m_arrValues = Arrays.copyOf(m_arrValues, 
+                                   Math.min(MAX_ARRAY_CONTAINER_SIZE, 
+                                            m_iCardinality * 2));
+               }
+               System.arraycopy(m_arrValues, iIndex, m_arrValues, iIndex + 1,
+                                m_iCardinality - iIndex);
+               m_arrValues[iIndex] = cValue;
+               m_iCardinality++;
+            }
+         }
+
+         return result;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Container remove(
+         char cValue
+      )
+      {
+         int iIndex = Arrays.binarySearch(m_arrValues, 0, m_iCardinality, 
+                                          cValue);
+
+         if (iIndex >= 0)
+         {
+            System.arraycopy(m_arrValues, iIndex + 1, m_arrValues, iIndex,
+                             m_iCardinality - iIndex - 1);
+            m_iCardinality--;
+         }
+
+         return this;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Container and(
+         Container other
+      )
+      {
+         char[] arrResult = new char[m_iCardinality];
+         int    iCount = 0;
+
+         if (other instanceof ArrayContainer)
+         {
+            ArrayContainer array = (ArrayContainer)other;
+            int            iFirst = 0;
+            int            iSecond = 0;
+
+            while ((iFirst < m_iCardinality) && (iSecond < array.m_iCardinality))
+            {
+               char cFirst = m_arrValues[iFirst];
+               char cSecond = array.m_arrValues[iSecond];
+
+               if (cFirst < cSecond)
+               {
+                  iFirst++;
+               }
+               else if (cFirst > cSecond)
+               {
+                  iSecond++;
+               }
+               else
+               {
+                  arrResult[iCount++] = cFirst;
+                  iFirst++;
+                  iSecond++;
+               }
+            }
+         }
+         else
+         {
+            for (int iIndex = 0; iIndex < m_iCardinality; iIndex++)
+            {
+               if (other.contains(m_arrValues[iIndex]))
+               {
+                  arrResult[iCount++] = m_arrValues[iIndex];
+               }
+            }
+         }
+
+         return new ArrayContainer(arrResult, iCount);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Container or(
+         Container other
+      )
+      {
+         Container result;
+
+         if (other instanceof ArrayContainer)
+         {
+            ArrayContainer array = (ArrayContainer)other;
+            char[]         arrResult;
+            int            iFirst = 0;
+            int            iSecond = 0;
+            int            iCount = 0;
+
+            arrResult = new char[m_iCardinality + array.m_iCardinality];
+            while ((iFirst < m_iCardinality) || (iSecond < array.m_iCardinality))
+            {
+               int iFirstValue = (iFirst < m_iCardinality) 
+                                 ? m_arrValues[iFirst] : Integer.MAX_VALUE;
+               int iSecondValue = (iSecond < array.m_iCardinality) 
+                                  ? array.m_arrValues[iSecond] 
+                                  : Integer.MAX_VALUE;
+
+               if (iFirstValue <= iSecondValue)
+               {
+                  arrResult[iCount++] = (char)iFirstValue;
+                  iFirst++;
+                  if (iFirstValue == iSecondValue)
+                  {
+                     iSecond++;
+                  }
+               }
+               else
+               {
+                  arrResult[iCount++] = (char)iSecondValue;
+                  iSecond++;
+               }
+            }
+            result = new ArrayContainer(arrResult, iCount);
+            if (iCount > MAX_ARRAY_CONTAINER_SIZE)
+            {
+               result = ((ArrayContainer)result).toBitmapContainer();
+            }
+         }
+         else
+         {
+            result = other.or(this);
+         }
+
+         return result;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Container andNot(
+         Container other
+      )
+      {
+         char[] arrResult = new char[m_iCardinality];
+         int    iCount = 0;
+
+         for (int iIndex = 0; iIndex < m_iCardinality; iIndex++)
+         {
+            if (!other.contains(m_arrValues[iIndex]))
+            {
+               arrResult[iCount++] = m_arrValues[iIndex];
+            }
+         }
+
+         return new ArrayContainer(arrResult, iCount);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Container copy(
+      )
+      {
+         return new ArrayContainer(Arrays.copyOf(m_arrValues, 
+                                      Math.max(1, m_iCardinality)), 
+                                   m_iCardinality);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public void orInto(
+         BitSet result,
+         int    iBase
+      )
+      {
+         for (int iIndex = 0; iIndex < m_iCardinality; iIndex++)
+         {
+            result.set(iBase | m_arrValues[iIndex]);
+         }
+      }
+
+      /**
+       * @return BitmapContainer - container with the same values stored as
+       *                           bitmap
+       */
+      private BitmapContainer toBitmapContainer(
+      )
+      {
+         long[] arrWords = new long[BITMAP_CONTAINER_WORDS];
+
+         for (int iIndex = 0; iIndex < m_iCardinality; iIndex++)
+         {
+            arrWords[m_arrValues[iIndex] >>> 6] |= 1L << m_arrValues[iIndex];
+         }
+
+         return new BitmapContainer(arrWords, m_iCardinality);
+      }
+   }
+
+   /**
+    * Container storing values as bitmap of all 65536 possible values.
+    */
+   protected static final class BitmapContainer extends Container
+   {
+      /**
+       * Bits of the values.
+       */
+      private final long[] m_arrWords;
+
+      /**
+       * Number of values.
+       */
+      private int m_iCardinality;
+
+      /**
+       * Constructor.
+       *
+       * @param arrWords - bits of the values
+       * @param iCardinality - number of bits set
+       */
+      public BitmapContainer(
+         long[] arrWords,
+         int    iCardinality
+      )
+      {
+         m_arrWords = arrWords;
+         m_iCardinality = iCardinality;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public int getCardinality(
+      )
+      {
+         return m_iCardinality;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public long getSizeInBytes(
+      )
+      {
+         return 16L + BITMAP_CONTAINER_WORDS * 8L;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean contains(
+         char cValue
+      )
+      {
+         return (m_arrWords[cValue >>> 6] & (1L << cValue)) != 0;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Container add(
+         char cValue
+      )
+      {
+         long lBit = 1L << cValue;
+
+         if ((m_arrWords[cValue >>> 6] & lBit) == 0)
+         {
+            m_arrWords[cValue >>> 6] |= lBit;
+            m_iCardinality++;
+         }
+
+         return this;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Container remove(
+         char cValue
+      )
+      {
+         Container result = this;
+         long      lBit = 1L << cValue;
+
+         if ((m_arrWords[cValue >>> 6] & lBit) != 0)
+         {
+            m_arrWords[cValue >>> 6] &= ~lBit;
+            m_iCardinality--;
+            if (m_iCardinality <= MAX_ARRAY_CONTAINER_SIZE)
+            {
+               result = toArrayContainer(m_arrWords, m_iCardinality);
+            }
+         }
+
+         return result;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Container and(
+         Container other
+      )
+      {
+         Container result;
+
+         if (other instanceof BitmapContainer)
+         {
+            long[] arrOther = ((BitmapContainer)other).m_arrWords;
+            long[] arrResult = new long[BITMAP_CONTAINER_WORDS];
+            int    iCardinality = 0;
+
+            for (int iIndex = 0; iIndex < BITMAP_CONTAINER_WORDS; iIndex++)
+            {
+               arrResult[iIndex] = m_arrWords[iIndex] & arrOther[iIndex];
+               iCardinality += Long.bitCount(arrResult[iIndex]);
+            }
+            result = createContainer(arrResult, iCardinality);
+         }
+         else
+         {
+            result = other.and(this);
+         }
+
+         return result;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Container or(
+         Container other
+      )
+      {
+         long[] arrResult = m_arrWords.clone();
+         int    iCardinality = 0;
+
+         if (other instanceof BitmapContainer)
+         {
+            long[] arrOther = ((BitmapContainer)other).m_arrWords;
+
+            for (int iIndex = 0; iIndex < BITMAP_CONTAINER_WORDS; iIndex++)
+            {
+               arrResult[iIndex] |= arrOther[iIndex];
+               iCardinality += Long.bitCount(arrResult[iIndex]);
+            }
+         }
+         else
+         {
+            ArrayContainer array = (ArrayContainer)other;
+
+            iCardinality = m_iCardinality;
+            for (int iIndex = 0; iIndex < array.m_iCardinality; iIndex++)
+            {
+               char cValue = array.m_arrValues[iIndex];
+               long lBit = 1L << cValue;
+
+               if ((arrResult[cValue >>> 6] & lBit) == 0)
+               {
+                  arrResult[cValue >>> 6] |= lBit;
+                  iCardinality++;
+               }
+            }
+         }
+
+         return new BitmapContainer(arrResult, iCardinality);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Container andNot(
+         Container other
+      )
+      {
+         long[] arrResult = m_arrWords.clone();
+         int    iCardinality = 0;
+
+         if (other instanceof BitmapContainer)
+         {
+            long[] arrOther = ((BitmapContainer)other).m_arrWords;
+
+            for (int iIndex = 0; iIndex < BITMAP_CONTAINER_WORDS; iIndex++)
+            {
+               arrResult[iIndex] &= ~arrOther[iIndex];
+               iCardinality += Long.bitCount(arrResult[iIndex]);
+            }
+         }
+         else
+         {
+            ArrayContainer array = (ArrayContainer)other;
+
+            iCardinality = m_iCardinality;
+            for (int iIndex = 0; iIndex < array.m_iCardinality; iIndex++)
+            {
+               char cValue = array.m_arrValues[iIndex];
+               long lBit = 1L << cValue;
+
+               if ((arrResult[cValue >>> 6] & lBit) != 0)
+               {
+                  arrResult[cValue >>> 6] &= ~lBit;
+                  iCardinality--;
+               }
+            }
+         }
+
+         return createContainer(arrResult, iCardinality);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public Container copy(
+      )
+      {
+         return new BitmapContainer(m_arrWords.clone(), m_iCardinality);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public void orInto(
+         BitSet result,
+         int    iBase
+      )
+      {
+         for (int iIndex = 0; iIndex < BITMAP_CONTAINER_WORDS; iIndex++)
+         {
+            long lWord = m_arrWords[iIndex];
+
+            while (lWord != 0)
+            {
+               result.set(iBase | (iIndex << 6) 
+                          | Long.numberOfTrailingZeros(lWord));
+               lWord &= lWord - 1;
+            }
+         }
+      }
+
+      /**
+       * Create container of the most suitable type.
+       *
+       * @param arrWords - bits of the values
+       * @param iCardinality - number of bits set
+       * @return Container - array container for sparse bits, bitmap container
+       *                     for dense bits
+       */
+      private static Container createContainer(
+         long[] arrWords,
+         int    iCardinality
+      )
+      {
+         return (iCardinality <= MAX_ARRAY_CONTAINER_SIZE) 
+                ? toArrayContainer(arrWords, iCardinality)
+                : new BitmapContainer(arrWords, iCardinality);
+      }
+
+      /**
+       * Convert bits to array container.
+       *
+       * @param arrWords - bits of the values
+       * @param iCardinality - number of bits set
+       * @return ArrayContainer - container with the same values
+       */
+      private static ArrayContainer toArrayContainer(
+         long[] arrWords,
+         int    iCardinality
+      )
+      {
+         char[] arrValues = new char[Math.max(1, iCardinality)];
+         int    iCount = 0;
+
+         for (int iIndex = 0; iIndex < BITMAP_CONTAINER_WORDS; iIndex++)
+         {
+            long lWord = arrWords[iIndex];
+
+            while (lWord != 0)
+            {
+               arrValues[iCount++] = (char)((iIndex << 6) 
+                                            | Long.numberOfTrailingZeros(lWord));
+               lWord &= lWord - 1;
+            }
+         }
+
+         return new ArrayContainer(arrValues, iCount);
+      }
+   }
+}
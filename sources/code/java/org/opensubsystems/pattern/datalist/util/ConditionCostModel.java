@@ -0,0 +1,398 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.Collections;
+import java.util.Map;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+
+/**
+ * Model estimating cost of evaluation of data conditions in memory and 
+ * fraction of rows satisfying them (selectivity). The costs are relative, 
+ * comparison of two numbers costs 1. Conditions should be evaluated in the 
+ * increasing order of their rank, which is cost / (1 - selectivity), since 
+ * that minimizes the expected cost of evaluation of all conditions which all
+ * have to be satisfied.
+ *
+ * Selectivity is estimated using statistics of the columns if they are 
+ * available, otherwise default selectivities are used.
+ *
+ * @author OpenSubsystems
+ */
+public class ConditionCostModel extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Selectivity of equality used if the statistics of the column are not 
+    * known.
+    */
+   public static final double DEFAULT_EQUALS_SELECTIVITY = 0.1;
+
+   /**
+    * Selectivity of comparison used if the statistics of the column are not
+    * known.
+    */
+   public static final double DEFAULT_RANGE_SELECTIVITY = 1.0 / 3;
+
+   /**
+    * Selectivity of string pattern (contains, starts or ends).
+    */
+   public static final double DEFAULT_PATTERN_SELECTIVITY = 0.25;
+
+   /**
+    * Selectivity of condition, for which nothing better is known.
+    */
+   public static final double DEFAULT_SELECTIVITY = 0.5;
+
+   /**
+    * Minimal value of 1 - selectivity used to compute rank, so that conditions
+    * satisfied by all rows have finite rank.
+    */
+   protected static final double MIN_REJECTION = 0.001;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Statistics of columns keyed by the column code.
+    */
+   protected Map<Integer, ColumnStatistics> m_mpStatistics;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor for model without statistics of columns.
+    */
+   public ConditionCostModel(
+   )
+   {
+      this(Collections.<Integer, ColumnStatistics>emptyMap());
+   }
+
+   /**
+    * Constructor.
+    *
+    * @param mpStatistics - statistics of columns keyed by the column code
+    */
+   public ConditionCostModel(
+      Map<Integer, ColumnStatistics> mpStatistics
+   )
+   {
+      super();
+
+      m_mpStatistics = mpStatistics;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ConditionCostModel[");
+      append(sb, ind + 1, "m_mpStatistics = ", m_mpStatistics);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * Compute rank determining order of evaluation of conditions.
+    *
+    * @param dCost - cost of evaluation of the condition
+    * @param dSelectivity - fraction of rows satisfying the condition
+    * @return double - rank of the condition, conditions with lower rank should
+    *                  be evaluated first
+    */
+   public static double getRank(
+      double dCost,
+      double dSelectivity
+   )
+   {
+      return dCost / Math.max(MIN_REJECTION, 1 - dSelectivity);
+   }
+
+   /**
+    * Estimate cost of evaluation of the condition for single row.
+    *
+    * @param condition - condition to evaluate
+    * @param iValueType - type of the value of the condition
+    * @return double - relative cost of the evaluation
+    */
+   public double getCost(
+      DataCondition condition,
+      int           iValueType
+   )
+   {
+      boolean bString = (iValueType == DataCondition.VALUE_TYPE_STRING);
+      double  dCost;
+
+      switch (condition.getOperation())
+      {
+         case (DataCondition.OPERATION_IN):
+         case (DataCondition.OPERATION_NOT_IN):
+         {
+            int iCount = DataConditionValues.toValues(
+                            condition.getValue()).length;
+
+            if (iCount <= DataConditionCompiler.LINEAR_SEARCH_THRESHOLD)
+            {
+               dCost = 1 + iCount * (bString ? 0.5 : 0.25);
+            }
+            else
+            {
+               dCost = bString ? 4 : 2;
+            }
+            break;
+         }
+         case (DataCondition.OPERATION_EQUALS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_NOT_EQUALS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_STARTS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_STARTS_CASESENSITIVE):
+         case (DataCondition.OPERATION_ENDS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_ENDS_CASESENSITIVE):
+         {
+            dCost = 3;
+            break;
+         }
+         case (DataCondition.OPERATION_STARTS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_NOT_STARTS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_ENDS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_NOT_ENDS_CASEUNSENSITIVE):
+         {
+            dCost = 4;
+            break;
+         }
+         case (DataCondition.OPERATION_CONTAINS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_CONTAINS_CASESENSITIVE):
+         {
+            dCost = 8;
+            break;
+         }
+         case (DataCondition.OPERATION_CONTAINS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_NOT_CONTAINS_CASEUNSENSITIVE):
+         {
+            dCost = 12;
+            break;
+         }
+         default :
+         {
+            // Equality, comparison and test for null
+            dCost = ((bString) && (condition.getValue() != null)) ? 2 : 1;
+         }
+      }
+
+      return dCost;
+   }
+
+   /**
+    * Estimate fraction of rows satisfying the condition.
+    *
+    * @param condition - condition to evaluate
+    * @param iValueType - type of the value of the condition
+    * @return double - estimated fraction of rows between 0 and 1
+    */
+   public double getSelectivity(
+      DataCondition condition,
+      int           iValueType
+   )
+   {
+      ColumnStatistics statistics = m_mpStatistics.get(condition.getAttribute());
+      Object           objValue = condition.getValue();
+      double           dSelectivity;
+
+      switch (condition.getOperation())
+      {
+         case (DataCondition.OPERATION_EQUALS):
+         case (DataCondition.OPERATION_EQUALS_CASESENSITIVE):
+         case (DataCondition.OPERATION_EQUALS_CASEUNSENSITIVE):
+         {
+            if (objValue == null)
+            {
+               dSelectivity = (statistics == null) 
+                              ? DEFAULT_EQUALS_SELECTIVITY
+                              : statistics.getNullFraction();
+            }
+            else
+            {
+               dSelectivity = getEqualsSelectivity(statistics);
+            }
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_EQUALS):
+         case (DataCondition.OPERATION_NOT_EQUALS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_EQUALS_CASEUNSENSITIVE):
+         {
+            dSelectivity = getNotNullFraction(statistics);
+            if (objValue != null)
+            {
+               dSelectivity -= getEqualsSelectivity(statistics);
+            }
+            break;
+         }
+         case (DataCondition.OPERATION_EQUALS_OR_NULL):
+         {
+            dSelectivity = getEqualsSelectivity(statistics);
+            if (statistics != null)
+            {
+               dSelectivity += statistics.getNullFraction();
+            }
+            break;
+         }
+         case (DataCondition.OPERATION_IN):
+         {
+            dSelectivity = getEqualsSelectivity(statistics) 
+                           * DataConditionValues.toValues(objValue).length;
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_IN):
+         {
+            dSelectivity = getNotNullFraction(statistics)
+                           - getEqualsSelectivity(statistics) 
+                             * DataConditionValues.toValues(objValue).length;
+            break;
+         }
+         case (DataCondition.OPERATION_GREATER):
+         case (DataCondition.OPERATION_GREATER_EQUALS):
+         case (DataCondition.OPERATION_LESS):
+         case (DataCondition.OPERATION_LESS_EQUALS):
+         {
+            dSelectivity = getRangeSelectivity(condition, iValueType, 
+                                               statistics);
+            break;
+         }
+         case (DataCondition.OPERATION_CONTAINS_CASESENSITIVE):
+         case (DataCondition.OPERATION_CONTAINS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_STARTS_CASESENSITIVE):
+         case (DataCondition.OPERATION_STARTS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_ENDS_CASESENSITIVE):
+         case (DataCondition.OPERATION_ENDS_CASEUNSENSITIVE):
+         {
+            dSelectivity = DEFAULT_PATTERN_SELECTIVITY 
+                           * getNotNullFraction(statistics);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_CONTAINS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_CONTAINS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_NOT_STARTS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_STARTS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_NOT_ENDS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_ENDS_CASEUNSENSITIVE):
+         {
+            dSelectivity = (1 - DEFAULT_PATTERN_SELECTIVITY) 
+                           * getNotNullFraction(statistics);
+            break;
+         }
+         default :
+         {
+            dSelectivity = DEFAULT_SELECTIVITY;
+         }
+      }
+
+      return Math.max(0, Math.min(1, dSelectivity));
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Estimate fraction of rows with value equal to single value.
+    *
+    * @param statistics - statistics of the column, can be null
+    * @return double - estimated fraction of rows
+    */
+   protected double getEqualsSelectivity(
+      ColumnStatistics statistics
+   )
+   {
+      return (statistics == null) ? DEFAULT_EQUALS_SELECTIVITY
+                                  : statistics.getEqualsSelectivity();
+   }
+
+   /**
+    * Get fraction of rows with value which is not null.
+    *
+    * @param statistics - statistics of the column, can be null
+    * @return double - fraction of rows, 1 if the statistics are not known
+    */
+   protected double getNotNullFraction(
+      ColumnStatistics statistics
+   )
+   {
+      return (statistics == null) ? 1 : 1 - statistics.getNullFraction();
+   }
+
+   /**
+    * Estimate fraction of rows satisfying comparison.
+    *
+    * @param condition - condition with comparison operation
+    * @param iValueType - type of the value of the condition
+    * @param statistics - statistics of the column, can be null
+    * @return double - estimated fraction of rows
+    */
+   protected double getRangeSelectivity(
+      DataCondition    condition,
+      int              iValueType,
+      ColumnStatistics statistics
+   )
+   {
+      double dSelectivity = DEFAULT_RANGE_SELECTIVITY;
+
+      if (condition.getValue() == null)
+      {
+         dSelectivity = 0;
+      }
+      else if ((statistics != null) 
+              && (ColumnStatistics.isNumeric(iValueType)))
+      {
+         try
+         {
+            double dValue = DataConditionValues.toDouble(condition.getValue());
+
+            if ((condition.getOperation() == DataCondition.OPERATION_GREATER)
+               || (condition.getOperation() 
+                     == DataCondition.OPERATION_GREATER_EQUALS))
+            {
+               dSelectivity = statistics.getRangeSelectivity(
+                                 dValue, Double.POSITIVE_INFINITY, 
+                                 DEFAULT_RANGE_SELECTIVITY);
+            }
+            else
+            {
+               dSelectivity = statistics.getRangeSelectivity(
+                                 Double.NEGATIVE_INFINITY, dValue, 
+                                 DEFAULT_RANGE_SELECTIVITY);
+            }
+         }
+         catch (OSSException exc)
+         {
+            // The value will be rejected when the condition is compiled, the
+            // estimate doesn't matter
+         }
+      }
+
+      return dSelectivity;
+   }
+}
@@ -0,0 +1,1421 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.error.OSSInvalidDataException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListColumnDefinition;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+import org.opensubsystems.pattern.datalist.data.ListDataDescriptor;
+import org.opensubsystems.pattern.datalist.data.RowPredicate;
+
+/**
+ * Compiler of data conditions to predicates which can be evaluated for rows
+ * of in memory lists of data objects. The operation and type of the value of 
+ * each condition is examined only once when the condition is compiled and it 
+ * is compiled into a predicate specialized for the operation and the type,  
+ * which compares primitive values returned by ListDataAccessor with values 
+ * of the condition converted to primitive types in advance.
+ * 
+ * List of conditions is compiled into a predicate satisfied only when all 
+ * conditions are satisfied, the same way as the conditions are combined 
+ * when they are used to construct query. Conditions with operation 
+ * OPERATION_SQL_QUERY or value type VALUE_TYPE_SQL_QUERY cannot be evaluated
+ * in memory and they are rejected. Conditions with value type 
+ * VALUE_TYPE_UNKNOWN are evaluated using the data type of the column defined
+ * by the ListDataDescriptor. 
+ * 
+ * List of conditions can be also compiled using ConditionCostModel, in which
+ * case the conditions are evaluated in the order of their estimated cost and
+ * selectivity and the order adapts to the observed fraction of rows 
+ * satisfying each condition.
+ * 
+ * The compiled predicates can be evaluated concurrently.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public class DataConditionCompiler<T> extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Maximal number of values of IN and NOT IN operations which are searched 
+    * sequentially. Scanning of short primitive array is faster than computing
+    * hash or binary search, longer lists are compiled into hash set or into 
+    * sorted array.
+    */
+   public static final int LINEAR_SEARCH_THRESHOLD = 8;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Descriptor of the data in the list.
+    */
+   protected ListDataDescriptor<?> m_descriptor;
+
+   /**
+    * Accessor to the values of the columns of the rows.
+    */
+   protected ListDataAccessor<T> m_accessor;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param descriptor - descriptor of the data in the list
+    * @param accessor - accessor to the values of the columns of the rows
+    */
+   public DataConditionCompiler(
+      ListDataDescriptor<?> descriptor,
+      ListDataAccessor<T>   accessor
+   )
+   {
+      super();
+
+      m_descriptor = descriptor;
+      m_accessor = accessor;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "DataConditionCompiler[");
+      append(sb, ind + 1, "m_descriptor = ", m_descriptor);
+      append(sb, ind + 1, "m_accessor = ", m_accessor);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return ListDataDescriptor<?> - descriptor of the data in the list
+    */
+   public ListDataDescriptor<?> getDescriptor(
+   )
+   {
+      return m_descriptor;
+   }
+
+   /**
+    * @return ListDataAccessor<T> - accessor to the values of the columns
+    */
+   public ListDataAccessor<T> getAccessor(
+   )
+   {
+      return m_accessor;
+   }
+
+   /**
+    * Compile list of conditions into predicate satisfied only if all the 
+    * conditions are satisfied. Several contains, starts with or ends with 
+    * conditions for the same column are compiled together into single 
+    * predicate which evaluates all of them during one pass over the value.
+    *
+    * @param lstConditions - conditions to compile, can be null or empty 
+    * @return RowPredicate<T> - compiled predicate
+    * @throws OSSException - some condition cannot be evaluated in memory
+    */
+   public RowPredicate<T> compile(
+      List<DataCondition> lstConditions
+   ) throws OSSException
+   {
+      return compile(lstConditions, null);
+   }
+
+   /**
+    * Compile list of conditions into predicate satisfied only if all the 
+    * conditions are satisfied. If the cost model is specified, the compiled
+    * predicate evaluates the conditions in the increasing order of their 
+    * rank and it periodically recomputes the order using the fraction of 
+    * rows satisfying each condition observed during the evaluation.
+    *
+    * @param lstConditions - conditions to compile, can be null or empty 
+    * @param costModel - model estimating cost and selectivity of the 
+    *                    conditions, if null the conditions are evaluated in 
+    *                    their original order
+    * @return RowPredicate<T> - compiled predicate
+    * @throws OSSException - some condition cannot be evaluated in memory
+    */
+   @SuppressWarnings("unchecked")
+   public RowPredicate<T> compile(
+      List<DataCondition> lstConditions,
+      ConditionCostModel  costModel
+   ) throws OSSException
+   {
+      List<RowPredicate<T>> lstPredicates = new ArrayList<>();
+      RowPredicate<T>       result = null;
+      double[]              arrCosts = null;
+      double[]              arrSelectivities = null;
+
+      if (lstConditions != null)
+      {
+         Map<String, List<DataCondition>> mpPatternGroups;
+
+         mpPatternGroups = groupPatternConditions(lstConditions);
+         arrCosts = new double[lstConditions.size()];
+         arrSelectivities = new double[lstConditions.size()];
+         for (DataCondition condition : lstConditions)
+         {
+            List<DataCondition> lstGroup;
+            RowPredicate<T>     predicate = null;
+
+            lstGroup = mpPatternGroups.get(getPatternGroupKey(condition));
+            if (lstGroup == null)
+            {
+               predicate = compile(condition);
+               lstGroup = Collections.singletonList(condition);
+            }
+            else if (lstGroup.get(0) == condition)
+            {
+               // The whole group is compiled in place of its first condition
+               predicate = compilePatterns(lstGroup);
+            }
+            // Otherwise the condition was already compiled as part of a group
+            if (predicate != null)
+            {
+               if (LogicalPredicates.isAlwaysFalse(predicate))
+               {
+                  result = predicate;
+                  break;
+               }
+               else if (!LogicalPredicates.isAlwaysTrue(predicate))
+               {
+                  if (costModel != null)
+                  {
+                     estimate(lstGroup, costModel, arrCosts, arrSelectivities,
+                              lstPredicates.size());
+                  }
+                  lstPredicates.add(predicate);
+               }
+            }
+         }
+      }
+      if (result == null)
+      {
+         if ((costModel != null) && (lstPredicates.size() > 1))
+         {
+            result = new LogicalPredicates.AdaptiveAnd<>(
+                            lstPredicates.toArray(
+                               new RowPredicate[lstPredicates.size()]),
+                            Arrays.copyOf(arrCosts, lstPredicates.size()),
+                            Arrays.copyOf(arrSelectivities, 
+                                          lstPredicates.size()),
+                            LogicalPredicates.AdaptiveAnd.DEFAULT_REORDER_INTERVAL,
+                            LogicalPredicates.AdaptiveAnd.DEFAULT_SAMPLE_RATE);
+         }
+         else
+         {
+            result = and(lstPredicates);
+         }
+      }
+
+      return result;
+   }
+
+   /**
+    * Compile single condition into predicate.
+    *
+    * @param condition - condition to compile
+    * @return RowPredicate<T> - compiled predicate
+    * @throws OSSException - the condition cannot be evaluated in memory
+    */
+   public RowPredicate<T> compile(
+      DataCondition condition
+   ) throws OSSException
+   {
+      RowPredicate<T> predicate;
+
+      if (condition.getOperation() == DataCondition.NO_OPERATION)
+      {
+         predicate = LogicalPredicates.alwaysTrue();
+      }
+      else
+      {
+         int iValueType = getValueType(condition);
+
+         switch (iValueType)
+         {
+            case (DataCondition.VALUE_TYPE_ID):
+            case (DataCondition.VALUE_TYPE_INTEGER):
+            case (DataCondition.VALUE_TYPE_TIMESTAMP):
+            {
+               predicate = compileLong(condition, iValueType);
+               break;
+            }
+            case (DataCondition.VALUE_TYPE_DOUBLE):
+            {
+               predicate = compileDouble(condition);
+               break;
+            }
+            case (DataCondition.VALUE_TYPE_BOOLEAN):
+            {
+               predicate = compileBoolean(condition);
+               break;
+            }
+            case (DataCondition.VALUE_TYPE_STRING):
+            {
+               predicate = compileString(condition);
+               break;
+            }
+            default :
+            {
+               throw new OSSInvalidDataException("Data condition with value type " 
+                            + iValueType + " cannot be evaluated in memory.");
+            }
+         }
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Select rows satisfying the predicate.
+    *
+    * @param <T> - type of the rows
+    * @param colRows - rows to filter
+    * @param predicate - predicate the rows have to satisfy
+    * @return List<T> - rows satisfying the predicate in the original order
+    */
+   public static <T> List<T> filter(
+      Collection<T>   colRows,
+      RowPredicate<T> predicate
+   )
+   {
+      List<T> lstResult;
+
+      if (LogicalPredicates.isAlwaysTrue(predicate))
+      {
+         lstResult = new ArrayList<>(colRows);
+      }
+      else
+      {
+         lstResult = new ArrayList<>();
+         if (!LogicalPredicates.isAlwaysFalse(predicate))
+         {
+            for (T row : colRows)
+            {
+               if (predicate.evaluate(row))
+               {
+                  lstResult.add(row);
+               }
+            }
+         }
+      }
+
+      return lstResult;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Get type of the value which determines how the condition is evaluated.
+    *
+    * @param condition - condition to evaluate
+    * @return int - one of the DataCondition.VALUE_TYPE_XXX constants
+    * @throws OSSException - the condition cannot be evaluated in memory
+    */
+   protected int getValueType(
+      DataCondition condition
+   ) throws OSSException
+   {
+      int                  iValueType = condition.getValueType();
+      ListColumnDefinition column = null;
+
+      if ((condition.getOperation() == DataCondition.OPERATION_SQL_QUERY)
+         || (iValueType == DataCondition.VALUE_TYPE_SQL_QUERY))
+      {
+         throw new OSSInvalidDataException("Data condition for attribute " 
+                      + condition.getAttribute() + " is SQL query and it"
+                      + " cannot be evaluated in memory.");
+      }
+      if ((m_descriptor != null) && (m_descriptor.getColumnDefinitions() != null))
+      {
+         Map<Integer, ListColumnDefinition> mpColumns;
+
+         mpColumns = m_descriptor.getColumnDefinitionsMap();
+         column = mpColumns.get(condition.getAttribute());
+         if (column == null)
+         {
+            throw new OSSInvalidDataException("Data condition refers to column " 
+                         + condition.getAttribute() + " which is not defined"
+                         + " for data type " + m_descriptor.getDataType());
+         }
+      }
+      if (iValueType == DataCondition.VALUE_TYPE_UNKNOWN)
+      {
+         if (column == null)
+         {
+            throw new OSSInvalidDataException("Type of value of data condition" 
+                         + " for attribute " + condition.getAttribute() 
+                         + " is not known.");
+         }
+         iValueType = column.getColumnDataType();
+      }
+
+      return iValueType;
+   }
+
+   /**
+    * Compile condition comparing values of type VALUE_TYPE_ID, 
+    * VALUE_TYPE_INTEGER or VALUE_TYPE_TIMESTAMP. 
+    *
+    * @param condition - condition to compile
+    * @param iValueType - type of the value of the condition
+    * @return RowPredicate<T> - compiled predicate
+    * @throws OSSException - the condition cannot be evaluated in memory
+    */
+   protected RowPredicate<T> compileLong(
+      DataCondition condition,
+      int           iValueType
+   ) throws OSSException
+   {
+      int             iColumn = condition.getAttribute();
+      Object          objValue = condition.getValue();
+      RowPredicate<T> predicate;
+
+      switch (condition.getOperation())
+      {
+         case (DataCondition.OPERATION_IN):
+         {
+            predicate = createLongIn(iColumn, 
+                                     DataConditionValues.toLongs(objValue),
+                                     iValueType);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_IN):
+         {
+            predicate = createLongNotIn(iColumn, 
+                                        DataConditionValues.toLongs(objValue),
+                                        iValueType);
+            break;
+         }
+         default :
+         {
+            predicate = compileNullValue(condition);
+            if (predicate == null)
+            {
+               predicate = createLongComparison(condition, 
+                              DataConditionValues.toLong(objValue));
+            }
+         }
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Create predicate comparing column with single long value.
+    *
+    * @param condition - condition to compile
+    * @param lValue - value of the condition
+    * @return RowPredicate<T> - compiled predicate
+    * @throws OSSException - the operation is not supported for the type
+    */
+   protected RowPredicate<T> createLongComparison(
+      DataCondition condition,
+      long          lValue
+   ) throws OSSException
+   {
+      int             iColumn = condition.getAttribute();
+      RowPredicate<T> predicate;
+
+      switch (condition.getOperation())
+      {
+         case (DataCondition.OPERATION_EQUALS):
+         {
+            predicate = new LongPredicates.Equals<>(m_accessor, iColumn, lValue);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_EQUALS):
+         {
+            predicate = new LongPredicates.NotEquals<>(m_accessor, iColumn, 
+                                                       lValue);
+            break;
+         }
+         case (DataCondition.OPERATION_GREATER):
+         {
+            predicate = new LongPredicates.Greater<>(m_accessor, iColumn, lValue);
+            break;
+         }
+         case (DataCondition.OPERATION_GREATER_EQUALS):
+         {
+            predicate = new LongPredicates.GreaterEquals<>(m_accessor, iColumn, 
+                                                           lValue);
+            break;
+         }
+         case (DataCondition.OPERATION_LESS):
+         {
+            predicate = new LongPredicates.Less<>(m_accessor, iColumn, lValue);
+            break;
+         }
+         case (DataCondition.OPERATION_LESS_EQUALS):
+         {
+            predicate = new LongPredicates.LessEquals<>(m_accessor, iColumn, 
+                                                        lValue);
+            break;
+         }
+         case (DataCondition.OPERATION_EQUALS_OR_NULL):
+         {
+            predicate = new LongPredicates.EqualsOrNull<>(m_accessor, iColumn, 
+                                                          lValue);
+            break;
+         }
+         default :
+         {
+            throw createUnsupportedOperation(condition);
+         }
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Create predicate testing if column is equal to any of the values.
+    *
+    * @param iColumn - code of the column
+    * @param arrValues - values to compare to
+    * @param iValueType - type of the values
+    * @return RowPredicate<T> - compiled predicate
+    */
+   protected RowPredicate<T> createLongIn(
+      int    iColumn,
+      long[] arrValues,
+      int    iValueType
+   )
+   {
+      RowPredicate<T> predicate;
+
+      if (arrValues.length == 0)
+      {
+         predicate = LogicalPredicates.alwaysFalse();
+      }
+      else
+      {
+         predicate = createLongMembership(iColumn, arrValues, iValueType);
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Create predicate testing if column is not equal to any of the values.
+    *
+    * @param iColumn - code of the column
+    * @param arrValues - values to compare to
+    * @param iValueType - type of the values
+    * @return RowPredicate<T> - compiled predicate
+    */
+   protected RowPredicate<T> createLongNotIn(
+      int    iColumn,
+      long[] arrValues,
+      int    iValueType
+   )
+   {
+      RowPredicate<T> predicate;
+
+      if (arrValues.length == 0)
+      {
+         predicate = new LogicalPredicates.IsNotNull<>(m_accessor, iColumn);
+      }
+      else if (arrValues.length == 1)
+      {
+         predicate = new LongPredicates.NotEquals<>(m_accessor, iColumn, 
+                                                    arrValues[0]);
+      }
+      else
+      {
+         predicate = new LongPredicates.NotIn<>(
+                        createLongMembership(iColumn, arrValues, iValueType));
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Create predicate testing if column is equal to any of the values using 
+    * the structure most suitable for the number and type of the values. Short
+    * lists are searched sequentially, timestamps are searched in sorted array
+    * and identifiers and integers are searched in hash set.
+    *
+    * @param iColumn - code of the column
+    * @param arrValues - values to compare to, at least one
+    * @param iValueType - type of the values
+    * @return LongPredicate<T> - compiled predicate
+    */
+   protected LongPredicates.LongPredicate<T> createLongMembership(
+      int    iColumn,
+      long[] arrValues,
+      int    iValueType
+   )
+   {
+      LongPredicates.LongPredicate<T> predicate;
+
+      if (arrValues.length == 1)
+      {
+         predicate = new LongPredicates.Equals<>(m_accessor, iColumn, 
+                                                 arrValues[0]);
+      }
+      else if (arrValues.length <= LINEAR_SEARCH_THRESHOLD)
+      {
+         predicate = new LongPredicates.In<>(m_accessor, iColumn, arrValues);
+      }
+      else if (iValueType == DataCondition.VALUE_TYPE_TIMESTAMP)
+      {
+         predicate = new LongPredicates.SortedIn<>(m_accessor, iColumn, 
+                                                   arrValues);
+      }
+      else
+      {
+         predicate = new LongPredicates.HashIn<>(m_accessor, iColumn, 
+                                                 arrValues);
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Compile condition comparing values of type VALUE_TYPE_DOUBLE. 
+    *
+    * @param condition - condition to compile
+    * @return RowPredicate<T> - compiled predicate
+    * @throws OSSException - the condition cannot be evaluated in memory
+    */
+   protected RowPredicate<T> compileDouble(
+      DataCondition condition
+   ) throws OSSException
+   {
+      int             iColumn = condition.getAttribute();
+      Object          objValue = condition.getValue();
+      RowPredicate<T> predicate;
+
+      switch (condition.getOperation())
+      {
+         case (DataCondition.OPERATION_IN):
+         {
+            double[] arrValues = DataConditionValues.toDoubles(objValue);
+
+            if (arrValues.length == 0)
+            {
+               predicate = LogicalPredicates.alwaysFalse();
+            }
+            else
+            {
+               predicate = new DoublePredicates.In<>(m_accessor, iColumn, 
+                                                     arrValues);
+            }
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_IN):
+         {
+            double[] arrValues = DataConditionValues.toDoubles(objValue);
+
+            if (arrValues.length == 0)
+            {
+               predicate = new LogicalPredicates.IsNotNull<>(m_accessor, iColumn);
+            }
+            else
+            {
+               predicate = new DoublePredicates.NotIn<>(m_accessor, iColumn, 
+                                                        arrValues);
+            }
+            break;
+         }
+         default :
+         {
+            predicate = compileNullValue(condition);
+            if (predicate == null)
+            {
+               predicate = createDoubleComparison(condition, 
+                              DataConditionValues.toDouble(objValue));
+            }
+         }
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Create predicate comparing column with single double value.
+    *
+    * @param condition - condition to compile
+    * @param dValue - value of the condition
+    * @return RowPredicate<T> - compiled predicate
+    * @throws OSSException - the operation is not supported for the type
+    */
+   protected RowPredicate<T> createDoubleComparison(
+      DataCondition condition,
+      double        dValue
+   ) throws OSSException
+   {
+      int             iColumn = condition.getAttribute();
+      RowPredicate<T> predicate;
+
+      switch (condition.getOperation())
+      {
+         case (DataCondition.OPERATION_EQUALS):
+         {
+            predicate = new DoublePredicates.Equals<>(m_accessor, iColumn, 
+                                                      dValue);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_EQUALS):
+         {
+            predicate = new DoublePredicates.NotEquals<>(m_accessor, iColumn, 
+                                                         dValue);
+            break;
+         }
+         case (DataCondition.OPERATION_GREATER):
+         {
+            predicate = new DoublePredicates.Greater<>(m_accessor, iColumn, 
+                                                       dValue);
+            break;
+         }
+         case (DataCondition.OPERATION_GREATER_EQUALS):
+         {
+            predicate = new DoublePredicates.GreaterEquals<>(m_accessor, iColumn,
+                                                             dValue);
+            break;
+         }
+         case (DataCondition.OPERATION_LESS):
+         {
+            predicate = new DoublePredicates.Less<>(m_accessor, iColumn, dValue);
+            break;
+         }
+         case (DataCondition.OPERATION_LESS_EQUALS):
+         {
+            predicate = new DoublePredicates.LessEquals<>(m_accessor, iColumn, 
+                                                          dValue);
+            break;
+         }
+         case (DataCondition.OPERATION_EQUALS_OR_NULL):
+         {
+            predicate = new DoublePredicates.EqualsOrNull<>(m_accessor, iColumn, 
+                                                            dValue);
+            break;
+         }
+         default :
+         {
+            throw createUnsupportedOperation(condition);
+         }
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Compile condition comparing values of type VALUE_TYPE_BOOLEAN. Since 
+    * there are only two possible values, all operations are compiled into 
+    * test for one of the values or for not null value.
+    *
+    * @param condition - condition to compile
+    * @return RowPredicate<T> - compiled predicate
+    * @throws OSSException - the condition cannot be evaluated in memory
+    */
+   protected RowPredicate<T> compileBoolean(
+      DataCondition condition
+   ) throws OSSException
+   {
+      int             iColumn = condition.getAttribute();
+      Object          objValue = condition.getValue();
+      RowPredicate<T> predicate;
+
+      switch (condition.getOperation())
+      {
+         case (DataCondition.OPERATION_IN):
+         case (DataCondition.OPERATION_NOT_IN):
+         {
+            boolean bTrue = false;
+            boolean bFalse = false;
+
+            for (Object objElement : DataConditionValues.toValues(objValue))
+            {
+               if (objElement != null)
+               {
+                  if (DataConditionValues.toBoolean(objElement))
+                  {
+                     bTrue = true;
+                  }
+                  else
+                  {
+                     bFalse = true;
+                  }
+               }
+            }
+            if (condition.getOperation() == DataCondition.OPERATION_NOT_IN)
+            {
+               bTrue = !bTrue;
+               bFalse = !bFalse;
+            }
+            if (bTrue && bFalse)
+            {
+               predicate = new LogicalPredicates.IsNotNull<>(m_accessor, iColumn);
+            }
+            else if (bTrue || bFalse)
+            {
+               predicate = new BooleanPredicates.Equals<>(m_accessor, iColumn, 
+                                                          bTrue);
+            }
+            else
+            {
+               predicate = LogicalPredicates.alwaysFalse();
+            }
+            break;
+         }
+         default :
+         {
+            predicate = compileNullValue(condition);
+            if (predicate == null)
+            {
+               boolean bValue = DataConditionValues.toBoolean(objValue);
+
+               switch (condition.getOperation())
+               {
+                  case (DataCondition.OPERATION_EQUALS):
+                  {
+                     predicate = new BooleanPredicates.Equals<>(m_accessor, 
+                                                                iColumn, bValue);
+                     break;
+                  }
+                  case (DataCondition.OPERATION_NOT_EQUALS):
+                  {
+                     predicate = new BooleanPredicates.Equals<>(m_accessor, 
+                                                                iColumn, !bValue);
+                     break;
+                  }
+                  case (DataCondition.OPERATION_EQUALS_OR_NULL):
+                  {
+                     predicate = new BooleanPredicates.EqualsOrNull<>(m_accessor, 
+                                                                      iColumn, 
+                                                                      bValue);
+                     break;
+                  }
+                  default :
+                  {
+                     throw createUnsupportedOperation(condition);
+                  }
+               }
+            }
+         }
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Compile condition comparing values of type VALUE_TYPE_STRING. 
+    *
+    * @param condition - condition to compile
+    * @return RowPredicate<T> - compiled predicate
+    * @throws OSSException - the condition cannot be evaluated in memory
+    */
+   protected RowPredicate<T> compileString(
+      DataCondition condition
+   ) throws OSSException
+   {
+      int             iColumn = condition.getAttribute();
+      Object          objValue = condition.getValue();
+      RowPredicate<T> predicate;
+
+      switch (condition.getOperation())
+      {
+         case (DataCondition.OPERATION_IN):
+         {
+            String[] arrValues = DataConditionValues.toStrings(objValue);
+
+            if (arrValues.length == 0)
+            {
+               predicate = LogicalPredicates.alwaysFalse();
+            }
+            else
+            {
+               predicate = createStringMembership(iColumn, arrValues);
+            }
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_IN):
+         {
+            String[] arrValues = DataConditionValues.toStrings(objValue);
+
+            if (arrValues.length == 0)
+            {
+               predicate = new LogicalPredicates.IsNotNull<>(m_accessor, iColumn);
+            }
+            else
+            {
+               predicate = new StringPredicates.Negated<>(
+                                  createStringMembership(iColumn, arrValues));
+            }
+            break;
+         }
+         default :
+         {
+            predicate = compileNullValue(condition);
+            if (predicate == null)
+            {
+               String strValue = DataConditionValues.toStringValue(objValue);
+
+               if (condition.getOperation() 
+                  == DataCondition.OPERATION_EQUALS_OR_NULL)
+               {
+                  predicate = new StringPredicates.EqualsOrNull<>(m_accessor, 
+                                                                  iColumn, 
+                                                                  strValue);
+               }
+               else
+               {
+                  predicate = createStringComparison(condition, strValue);
+               }
+            }
+         }
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Create predicate comparing column with single string value.
+    *
+    * @param condition - condition to compile
+    * @param strValue - value of the condition
+    * @return RowPredicate<T> - compiled predicate
+    * @throws OSSException - the operation is not supported for the type
+    */
+   protected RowPredicate<T> createStringComparison(
+      DataCondition condition,
+      String        strValue
+   ) throws OSSException
+   {
+      int                                 iColumn = condition.getAttribute();
+      StringPredicates.StringPredicate<T> predicate;
+      boolean                             bNegate = false;
+
+      switch (condition.getOperation())
+      {
+         case (DataCondition.OPERATION_NOT_EQUALS):
+         case (DataCondition.OPERATION_NOT_EQUALS_CASESENSITIVE):
+         {
+            bNegate = true;
+            // Fall through
+         }
+         case (DataCondition.OPERATION_EQUALS):
+         case (DataCondition.OPERATION_EQUALS_CASESENSITIVE):
+         {
+            predicate = new StringPredicates.Equals<>(m_accessor, iColumn, 
+                                                      strValue);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_EQUALS_CASEUNSENSITIVE):
+         {
+            bNegate = true;
+            // Fall through
+         }
+         case (DataCondition.OPERATION_EQUALS_CASEUNSENSITIVE):
+         {
+            predicate = new StringPredicates.EqualsIgnoreCase<>(m_accessor, 
+                                                                iColumn, 
+                                                                strValue);
+            break;
+         }
+         case (DataCondition.OPERATION_GREATER):
+         {
+            predicate = new StringPredicates.Greater<>(m_accessor, iColumn, 
+                                                       strValue);
+            break;
+         }
+         case (DataCondition.OPERATION_GREATER_EQUALS):
+         {
+            predicate = new StringPredicates.GreaterEquals<>(m_accessor, iColumn, 
+                                                             strValue);
+            break;
+         }
+         case (DataCondition.OPERATION_LESS):
+         {
+            predicate = new StringPredicates.Less<>(m_accessor, iColumn, 
+                                                    strValue);
+            break;
+         }
+         case (DataCondition.OPERATION_LESS_EQUALS):
+         {
+            predicate = new StringPredicates.LessEquals<>(m_accessor, iColumn, 
+                                                          strValue);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_CONTAINS_CASESENSITIVE):
+         {
+            bNegate = true;
+            // Fall through
+         }
+         case (DataCondition.OPERATION_CONTAINS_CASESENSITIVE):
+         {
+            predicate = new StringPredicates.Contains<>(m_accessor, iColumn, 
+                                                        strValue);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_CONTAINS_CASEUNSENSITIVE):
+         {
+            bNegate = true;
+            // Fall through
+         }
+         case (DataCondition.OPERATION_CONTAINS_CASEUNSENSITIVE):
+         {
+            predicate = new StringPredicates.ContainsIgnoreCase<>(m_accessor, 
+                                                                  iColumn, 
+                                                                  strValue);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_STARTS_CASESENSITIVE):
+         {
+            bNegate = true;
+            // Fall through
+         }
+         case (DataCondition.OPERATION_STARTS_CASESENSITIVE):
+         {
+            predicate = new StringPredicates.StartsWith<>(m_accessor, iColumn, 
+                                                          strValue);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_STARTS_CASEUNSENSITIVE):
+         {
+            bNegate = true;
+            // Fall through
+         }
+         case (DataCondition.OPERATION_STARTS_CASEUNSENSITIVE):
+         {
+            predicate = new StringPredicates.StartsWithIgnoreCase<>(m_accessor, 
+                                                                    iColumn, 
+                                                                    strValue);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_ENDS_CASESENSITIVE):
+         {
+            bNegate = true;
+            // Fall through
+         }
+         case (DataCondition.OPERATION_ENDS_CASESENSITIVE):
+         {
+            predicate = new StringPredicates.EndsWith<>(m_accessor, iColumn, 
+                                                        strValue);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_ENDS_CASEUNSENSITIVE):
+         {
+            bNegate = true;
+            // Fall through
+         }
+         case (DataCondition.OPERATION_ENDS_CASEUNSENSITIVE):
+         {
+            predicate = new StringPredicates.EndsWithIgnoreCase<>(m_accessor, 
+                                                                  iColumn, 
+                                                                  strValue);
+            break;
+         }
+         default :
+         {
+            throw createUnsupportedOperation(condition);
+         }
+      }
+      if (bNegate)
+      {
+         predicate = new StringPredicates.Negated<>(predicate);
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Create predicate testing if column is equal to any of the values. Short
+    * lists are searched sequentially, longer lists are searched in hash set.
+    *
+    * @param iColumn - code of the column
+    * @param arrValues - values to compare to, at least one
+    * @return StringPredicate<T> - compiled predicate
+    */
+   protected StringPredicates.StringPredicate<T> createStringMembership(
+      int      iColumn,
+      String[] arrValues
+   )
+   {
+      StringPredicates.StringPredicate<T> predicate;
+
+      if (arrValues.length == 1)
+      {
+         predicate = new StringPredicates.Equals<>(m_accessor, iColumn, 
+                                                   arrValues[0]);
+      }
+      else if (arrValues.length <= LINEAR_SEARCH_THRESHOLD)
+      {
+         predicate = new StringPredicates.In<>(m_accessor, iColumn, arrValues);
+      }
+      else
+      {
+         predicate = new StringPredicates.HashIn<>(m_accessor, iColumn, 
+                                                   arrValues);
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Find contains, starts with and ends with conditions which can be 
+    * evaluated together since they test the same column with the same case 
+    * sensitivity. 
+    *
+    * @param lstConditions - conditions to examine
+    * @return Map<String, List<DataCondition>> - groups of at least two and 
+    *                                            at most MAX_PATTERNS conditions
+    *                                            keyed by getPatternGroupKey
+    * @throws OSSException - some condition cannot be evaluated in memory
+    */
+   protected Map<String, List<DataCondition>> groupPatternConditions(
+      List<DataCondition> lstConditions
+   ) throws OSSException
+   {
+      Map<String, List<DataCondition>> mpGroups = new HashMap<>();
+      Iterator<List<DataCondition>>    itrGroups;
+
+      for (DataCondition condition : lstConditions)
+      {
+         String strKey = getPatternGroupKey(condition);
+
+         if ((strKey != null) 
+            && (getValueType(condition) == DataCondition.VALUE_TYPE_STRING))
+         {
+            List<DataCondition> lstGroup = mpGroups.get(strKey);
+
+            if (lstGroup == null)
+            {
+               lstGroup = new ArrayList<>();
+               mpGroups.put(strKey, lstGroup);
+            }
+            lstGroup.add(condition);
+         }
+      }
+      for (itrGroups = mpGroups.values().iterator(); itrGroups.hasNext();)
+      {
+         int iSize = itrGroups.next().size();
+
+         if ((iSize < 2) || (iSize > AhoCorasickAutomaton.MAX_PATTERNS))
+         {
+            itrGroups.remove();
+         }
+      }
+
+      return mpGroups;
+   }
+
+   /**
+    * Get key identifying group of conditions which can be evaluated together
+    * using single automaton.
+    *
+    * @param condition - condition to examine
+    * @return String - key of the group or null if the condition cannot be 
+    *                  evaluated together with other conditions
+    */
+   protected String getPatternGroupKey(
+      DataCondition condition
+   )
+   {
+      String strKey = null;
+
+      if ((condition.getValue() != null)
+         && (!DataConditionValues.toStringValue(condition.getValue()).isEmpty()))
+      {
+         switch (condition.getOperation())
+         {
+            case (DataCondition.OPERATION_CONTAINS_CASESENSITIVE):
+            case (DataCondition.OPERATION_NOT_CONTAINS_CASESENSITIVE):
+            case (DataCondition.OPERATION_STARTS_CASESENSITIVE):
+            case (DataCondition.OPERATION_NOT_STARTS_CASESENSITIVE):
+            case (DataCondition.OPERATION_ENDS_CASESENSITIVE):
+            case (DataCondition.OPERATION_NOT_ENDS_CASESENSITIVE):
+            {
+               strKey = condition.getAttribute() + ":sensitive";
+               break;
+            }
+            case (DataCondition.OPERATION_CONTAINS_CASEUNSENSITIVE):
+            case (DataCondition.OPERATION_NOT_CONTAINS_CASEUNSENSITIVE):
+            case (DataCondition.OPERATION_STARTS_CASEUNSENSITIVE):
+            case (DataCondition.OPERATION_NOT_STARTS_CASEUNSENSITIVE):
+            case (DataCondition.OPERATION_ENDS_CASEUNSENSITIVE):
+            case (DataCondition.OPERATION_NOT_ENDS_CASEUNSENSITIVE):
+            {
+               strKey = condition.getAttribute() + ":unsensitive";
+               break;
+            }
+            default :
+            {
+               // Other operations are evaluated separately
+            }
+         }
+      }
+
+      return strKey;
+   }
+
+   /**
+    * Compile group of contains, starts with and ends with conditions for the
+    * same column into single predicate using Aho-Corasick automaton.
+    *
+    * @param lstGroup - conditions created by groupPatternConditions
+    * @return RowPredicate<T> - compiled predicate
+    */
+   protected RowPredicate<T> compilePatterns(
+      List<DataCondition> lstGroup
+   )
+   {
+      String[] arrPatterns = new String[lstGroup.size()];
+      boolean  bCaseInsensitive = false;
+      long     lContains = 0;
+      long     lNotContains = 0;
+      long     lStarts = 0;
+      long     lNotStarts = 0;
+      long     lEnds = 0;
+      long     lNotEnds = 0;
+
+      for (int iPattern = 0; iPattern < arrPatterns.length; iPattern++)
+      {
+         DataCondition condition = lstGroup.get(iPattern);
+         long          lBit = 1L << iPattern;
+
+         arrPatterns[iPattern] = DataConditionValues.toStringValue(
+                                    condition.getValue());
+         switch (condition.getOperation())
+         {
+            case (DataCondition.OPERATION_CONTAINS_CASEUNSENSITIVE):
+            {
+               bCaseInsensitive = true;
+               // Fall through
+            }
+            case (DataCondition.OPERATION_CONTAINS_CASESENSITIVE):
+            {
+               lContains |= lBit;
+               break;
+            }
+            case (DataCondition.OPERATION_NOT_CONTAINS_CASEUNSENSITIVE):
+            {
+               bCaseInsensitive = true;
+               // Fall through
+            }
+            case (DataCondition.OPERATION_NOT_CONTAINS_CASESENSITIVE):
+            {
+               lNotContains |= lBit;
+               break;
+            }
+            case (DataCondition.OPERATION_STARTS_CASEUNSENSITIVE):
+            {
+               bCaseInsensitive = true;
+               // Fall through
+            }
+            case (DataCondition.OPERATION_STARTS_CASESENSITIVE):
+            {
+               lStarts |= lBit;
+               break;
+            }
+            case (DataCondition.OPERATION_NOT_STARTS_CASEUNSENSITIVE):
+            {
+               bCaseInsensitive = true;
+               // Fall through
+            }
+            case (DataCondition.OPERATION_NOT_STARTS_CASESENSITIVE):
+            {
+               lNotStarts |= lBit;
+               break;
+            }
+            case (DataCondition.OPERATION_ENDS_CASEUNSENSITIVE):
+            {
+               bCaseInsensitive = true;
+               // Fall through
+            }
+            case (DataCondition.OPERATION_ENDS_CASESENSITIVE):
+            {
+               lEnds |= lBit;
+               break;
+            }
+            case (DataCondition.OPERATION_NOT_ENDS_CASEUNSENSITIVE):
+            {
+               bCaseInsensitive = true;
+               // Fall through
+            }
+            case (DataCondition.OPERATION_NOT_ENDS_CASESENSITIVE):
+            {
+               lNotEnds |= lBit;
+               break;
+            }
+            default :
+            {
+               assert false : "Unexpected operation " + condition.getOperation();
+            }
+         }
+      }
+
+      return new StringPredicates.MultiPattern<>(m_accessor, 
+                    lstGroup.get(0).getAttribute(), 
+                    new AhoCorasickAutomaton(arrPatterns, bCaseInsensitive), 
+                    lContains, lNotContains, lStarts, lNotStarts, lEnds, 
+                    lNotEnds);
+   }
+
+   /**
+    * Compile condition which compares column with null value. Equality with 
+    * null is compiled into test for null value, other comparisons with null
+    * value are never satisfied.
+    *
+    * @param condition - condition to compile
+    * @return RowPredicate<T> - compiled predicate or null if the value of the 
+    *                           condition is not null
+    */
+   protected RowPredicate<T> compileNullValue(
+      DataCondition condition
+   )
+   {
+      RowPredicate<T> predicate = null;
+
+      if (condition.getValue() == null)
+      {
+         switch (condition.getOperation())
+         {
+            case (DataCondition.OPERATION_EQUALS):
+            case (DataCondition.OPERATION_EQUALS_CASESENSITIVE):
+            case (DataCondition.OPERATION_EQUALS_OR_NULL):
+            {
+               predicate = new LogicalPredicates.IsNull<>(m_accessor, 
+                                                          condition.getAttribute());
+               break;
+            }
+            case (DataCondition.OPERATION_NOT_EQUALS):
+            case (DataCondition.OPERATION_NOT_EQUALS_CASESENSITIVE):
+            {
+               predicate = new LogicalPredicates.IsNotNull<>(m_accessor, 
+                                                             condition.getAttribute());
+               break;
+            }
+            default :
+            {
+               predicate = LogicalPredicates.alwaysFalse();
+            }
+         }
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Estimate cost and selectivity of predicate compiled from the conditions.
+    * Conditions compiled together into single predicate are evaluated during
+    * single pass over the value, therefore the cost of the predicate is the 
+    * cost of the most expensive condition. 
+    *
+    * @param lstConditions - conditions compiled into the predicate
+    * @param costModel - model estimating cost and selectivity of conditions
+    * @param arrCosts - array to store the cost to
+    * @param arrSelectivities - array to store the selectivity to
+    * @param iIndex - index of the predicate in the arrays
+    * @throws OSSException - type of value of some condition is not known
+    */
+   protected void estimate(
+      List<DataCondition> lstConditions,
+      ConditionCostModel  costModel,
+      double[]            arrCosts,
+      double[]            arrSelectivities,
+      int                 iIndex
+   ) throws OSSException
+   {
+      double dCost = 0;
+      double dSelectivity = 1;
+
+      for (DataCondition condition : lstConditions)
+      {
+         int iValueType = getValueType(condition);
+
+         dCost = Math.max(dCost, costModel.getCost(condition, iValueType));
+         // The conditions are assumed to be independent
+         dSelectivity *= costModel.getSelectivity(condition, iValueType);
+      }
+      arrCosts[iIndex] = dCost;
+      arrSelectivities[iIndex] = dSelectivity;
+   }
+
+   /**
+    * Combine predicates into predicate satisfied only if all of them are 
+    * satisfied.
+    *
+    * @param lstPredicates - predicates to combine
+    * @return RowPredicate<T> - combined predicate
+    */
+   @SuppressWarnings("unchecked")
+   protected RowPredicate<T> and(
+      List<RowPredicate<T>> lstPredicates
+   )
+   {
+      RowPredicate<T> predicate;
+
+      if (lstPredicates.isEmpty())
+      {
+         predicate = LogicalPredicates.alwaysTrue();
+      }
+      else if (lstPredicates.size() == 1)
+      {
+         predicate = lstPredicates.get(0);
+      }
+      else
+      {
+         predicate = new LogicalPredicates.And<>(lstPredicates.toArray(
+                            new RowPredicate[lstPredicates.size()]));
+      }
+
+      return predicate;
+   }
+
+   /**
+    * Create exception reporting operation which is not supported for the type
+    * of the value.
+    *
+    * @param condition - condition with unsupported operation
+    * @return OSSException - exception to throw
+    */
+   protected OSSException createUnsupportedOperation(
+      DataCondition condition
+   )
+   {
+      return new OSSInvalidDataException("Operation " + condition.getOperation() 
+                    + " is not supported for data condition for attribute " 
+                    + condition.getAttribute() + " with value type " 
+                    + condition.getValueType());
+   }
+}
@@ -0,0 +1,942 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListColumnDefinition;
+import org.opensubsystems.pattern.datalist.data.ListDataDescriptor;
+
+/**
+ * Optimizer of lists of data conditions. Conditions comparing the same 
+ * attribute with values of the same type are merged together: ranges of 
+ * numbers and timestamps are intersected, values of IN operations are 
+ * intersected and values excluded by NOT_EQUALS and NOT_IN operations are 
+ * removed from them, and duplicate conditions are removed. If the conditions
+ * contradict each other, the optimizer detects that they can never be 
+ * satisfied so that the query can be short-circuited to an empty result 
+ * without accessing the storage.
+ *
+ * The optimized conditions select the same rows as the original ones using
+ * the same null semantics as DataConditionCompiler and 
+ * DataConditionSQLGenerator, that is comparison of null with any value is 
+ * never satisfied. Conditions which cannot be merged, such as SQL queries or
+ * string patterns, are kept in their original order and only exact 
+ * duplicates are removed.
+ *
+ * @author OpenSubsystems
+ */
+public class DataConditionOptimizer extends OSSObject
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Descriptor of the data the conditions apply to. It is used to determine
+    * types of values of conditions with unknown value type. Can be null.
+    */
+   protected ListDataDescriptor<?> m_descriptor;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param descriptor - descriptor of the data the conditions apply to, 
+    *                     can be null
+    */
+   public DataConditionOptimizer(
+      ListDataDescriptor<?> descriptor
+   )
+   {
+      super();
+
+      m_descriptor = descriptor;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "DataConditionOptimizer[");
+      append(sb, ind + 1, "m_descriptor = ", m_descriptor);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * Optimize list of conditions which all have to be satisfied. Merged 
+    * conditions are placed at the position of the first condition for the
+    * same attribute.
+    *
+    * @param lstConditions - conditions to optimize, can be null or empty
+    * @return OptimizedConditions - optimized conditions
+    * @throws OSSException - value of some condition is not valid
+    */
+   public OptimizedConditions optimize(
+      List<DataCondition> lstConditions
+   ) throws OSSException
+   {
+      List<DataCondition> lstOptimized = new ArrayList<>();
+      boolean             bAlwaysFalse = false;
+      int                 iOriginalCount = 0;
+
+      if (lstConditions != null)
+      {
+         Map<String, AttributeConstraints> mpConstraints = new HashMap<>();
+         Set<String>                       setUnique = new HashSet<>();
+         // Either DataCondition or AttributeConstraints in the original order
+         List<Object>                      lstOrder = new ArrayList<>();
+
+         iOriginalCount = lstConditions.size();
+         for (DataCondition condition : lstConditions)
+         {
+            int iValueType = getValueType(condition);
+
+            if ((isMergeable(condition, iValueType))
+               && (isRepresentable(condition, iValueType)))
+            {
+               String               strKey;
+               AttributeConstraints constraints;
+
+               strKey = condition.getAttribute() + ":" + iValueType;
+               constraints = mpConstraints.get(strKey);
+               if (constraints == null)
+               {
+                  constraints = new AttributeConstraints(
+                                       condition.getAttribute(), iValueType);
+                  mpConstraints.put(strKey, constraints);
+                  lstOrder.add(constraints);
+               }
+               constraints.add(condition);
+            }
+            else if ((condition.getOperation() != DataCondition.NO_OPERATION)
+                    && (setUnique.add(getConditionKey(condition))))
+            {
+               lstOrder.add(condition);
+            }
+            // Otherwise the condition is always satisfied or it is duplicate
+         }
+         for (int iIndex = 0; (iIndex < lstOrder.size()) && (!bAlwaysFalse); 
+              iIndex++)
+         {
+            Object objItem = lstOrder.get(iIndex);
+
+            if (objItem instanceof AttributeConstraints)
+            {
+               bAlwaysFalse = !((AttributeConstraints)objItem).appendConditions(
+                                                                  lstOptimized);
+            }
+            else
+            {
+               lstOptimized.add((DataCondition)objItem);
+            }
+         }
+         if (bAlwaysFalse)
+         {
+            lstOptimized = new ArrayList<>(lstConditions);
+         }
+      }
+
+      return new OptimizedConditions(lstOptimized, bAlwaysFalse, 
+                                     iOriginalCount);
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Get type of the value of the condition.
+    *
+    * @param condition - condition to examine
+    * @return int - one of the DataCondition.VALUE_TYPE_XXX constants, 
+    *               VALUE_TYPE_UNKNOWN if the type cannot be determined
+    */
+   protected int getValueType(
+      DataCondition condition
+   )
+   {
+      int iValueType = condition.getValueType();
+
+      if ((iValueType == DataCondition.VALUE_TYPE_UNKNOWN)
+         && (m_descriptor != null) 
+         && (m_descriptor.getColumnDefinitions() != null))
+      {
+         ListColumnDefinition column;
+
+         column = m_descriptor.getColumnDefinitionsMap().get(
+                                  condition.getAttribute());
+         if (column != null)
+         {
+            iValueType = column.getColumnDataType();
+         }
+      }
+
+      return iValueType;
+   }
+
+   /**
+    * Test if the condition can be merged with other conditions for the same
+    * attribute.
+    *
+    * @param condition - condition to test
+    * @param iValueType - type of the value of the condition
+    * @return boolean - true if the condition can be merged
+    */
+   protected boolean isMergeable(
+      DataCondition condition,
+      int           iValueType
+   )
+   {
+      boolean bMergeable;
+
+      switch (condition.getOperation())
+      {
+         case (DataCondition.OPERATION_EQUALS):
+         case (DataCondition.OPERATION_NOT_EQUALS):
+         case (DataCondition.OPERATION_IN):
+         case (DataCondition.OPERATION_NOT_IN):
+         {
+            bMergeable = (iValueType == DataCondition.VALUE_TYPE_BOOLEAN)
+                         || (iValueType == DataCondition.VALUE_TYPE_STRING)
+                         || (isOrdered(iValueType));
+            break;
+         }
+         case (DataCondition.OPERATION_EQUALS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_EQUALS_CASESENSITIVE):
+         {
+            bMergeable = (iValueType == DataCondition.VALUE_TYPE_STRING);
+            break;
+         }
+         case (DataCondition.OPERATION_GREATER):
+         case (DataCondition.OPERATION_GREATER_EQUALS):
+         case (DataCondition.OPERATION_LESS):
+         case (DataCondition.OPERATION_LESS_EQUALS):
+         {
+            bMergeable = isOrdered(iValueType);
+            break;
+         }
+         default :
+         {
+            bMergeable = false;
+         }
+      }
+
+      return bMergeable;
+   }
+
+   /**
+    * Test if all values of the condition can be represented by values of 
+    * conditions created by merging. Values of conditions of type 
+    * VALUE_TYPE_ID and VALUE_TYPE_INTEGER are Integers, therefore conditions
+    * with values out of range of integer are kept unchanged.
+    *
+    * @param condition - condition to test
+    * @param iValueType - type of the value of the condition
+    * @return boolean - true if the values can be represented
+    * @throws OSSException - some value is not valid
+    */
+   protected boolean isRepresentable(
+      DataCondition condition,
+      int           iValueType
+   ) throws OSSException
+   {
+      boolean bRepresentable = true;
+
+      if ((iValueType == DataCondition.VALUE_TYPE_ID)
+         || (iValueType == DataCondition.VALUE_TYPE_INTEGER))
+      {
+         Object[] arrValues;
+         long     lValue;
+
+         if ((condition.getOperation() == DataCondition.OPERATION_IN)
+            || (condition.getOperation() == DataCondition.OPERATION_NOT_IN))
+         {
+            arrValues = DataConditionValues.toValues(condition.getValue());
+         }
+         else
+         {
+            arrValues = new Object[] {condition.getValue()};
+         }
+         for (int iIndex = 0; (iIndex < arrValues.length) && (bRepresentable);
+              iIndex++)
+         {
+            if ((arrValues[iIndex] != null) 
+               && (!(arrValues[iIndex] instanceof Integer)))
+            {
+               lValue = DataConditionValues.toLong(arrValues[iIndex]);
+               bRepresentable = (lValue >= Integer.MIN_VALUE) 
+                                && (lValue <= Integer.MAX_VALUE);
+            }
+         }
+      }
+
+      return bRepresentable;
+   }
+
+   /**
+    * Test if ranges of values of the specified type can be merged. 
+    *
+    * @param iValueType - type of the value
+    * @return boolean - true for numbers and timestamps
+    */
+   protected static boolean isOrdered(
+      int iValueType
+   )
+   {
+      return (iValueType == DataCondition.VALUE_TYPE_ID)
+             || (iValueType == DataCondition.VALUE_TYPE_INTEGER)
+             || (iValueType == DataCondition.VALUE_TYPE_TIMESTAMP)
+             || (iValueType == DataCondition.VALUE_TYPE_DOUBLE);
+   }
+
+   /**
+    * Get key identifying condition, which is the same for duplicate 
+    * conditions.
+    *
+    * @param condition - condition to identify
+    * @return String - key of the condition
+    */
+   protected static String getConditionKey(
+      DataCondition condition
+   )
+   {
+      StringBuilder sbKey = new StringBuilder();
+      Object        objValue = condition.getValue();
+
+      sbKey.append(condition.getAttribute());
+      sbKey.append(':');
+      sbKey.append(condition.getOperation());
+      sbKey.append(':');
+      sbKey.append(condition.getValueType());
+      sbKey.append(':');
+      if (objValue instanceof Object[])
+      {
+         sbKey.append(Arrays.deepToString((Object[])objValue));
+      }
+      else if (objValue != null)
+      {
+         sbKey.append(objValue.getClass().getName());
+         sbKey.append('=');
+         sbKey.append(objValue);
+      }
+
+      return sbKey.toString();
+   }
+
+   /**
+    * Convert individual value of IN or NOT IN operation to the type used for
+    * values of conditions with single value.
+    *
+    * @param objValue - value to convert, not null
+    * @param iValueType - type of the value
+    * @return Object - converted value
+    * @throws OSSException - the value cannot be converted
+    */
+   protected static Object toConditionValue(
+      Object objValue,
+      int    iValueType
+   ) throws OSSException
+   {
+      Object objConverted = objValue;
+
+      switch (iValueType)
+      {
+         case (DataCondition.VALUE_TYPE_ID):
+         case (DataCondition.VALUE_TYPE_INTEGER):
+         {
+            if (!(objValue instanceof Integer))
+            {
+               long lValue = DataConditionValues.toLong(objValue);
+
+               // Conditions with values out of range are never merged
+               assert (lValue >= Integer.MIN_VALUE) 
+                      && (lValue <= Integer.MAX_VALUE)
+                      : "Value " + lValue + " is out of range of integer";
+               objConverted = Integer.valueOf((int)lValue);
+            }
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_TIMESTAMP):
+         {
+            if (!(objValue instanceof Timestamp))
+            {
+               objConverted = new Timestamp(DataConditionValues.toLong(objValue));
+            }
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_DOUBLE):
+         {
+            if (!(objValue instanceof Double))
+            {
+               objConverted = Double.valueOf(DataConditionValues.toDouble(
+                                                objValue));
+            }
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_BOOLEAN):
+         {
+            objConverted = Boolean.valueOf(DataConditionValues.toBoolean(
+                                              objValue));
+            break;
+         }
+         default :
+         {
+            objConverted = DataConditionValues.toStringValue(objValue);
+         }
+      }
+
+      return objConverted;
+   }
+
+   /**
+    * Compare two keys of the same type.
+    *
+    * @param objFirst - first key
+    * @param objSecond - second key
+    * @return int - negative, zero or positive number if the first key is less
+    *               than, equal to or greater than the second key
+    */
+   @SuppressWarnings("unchecked")
+   protected static int compare(
+      Object objFirst,
+      Object objSecond
+   )
+   {
+      return ((Comparable<Object>)objFirst).compareTo(objSecond);
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Constraints imposed on single attribute by all mergeable conditions 
+    * comparing it with values of the same type.
+    */
+   protected static class AttributeConstraints
+   {
+      /**
+       * Attribute the constraints apply to.
+       */
+      protected int m_iAttribute;
+
+      /**
+       * Type of the values of the conditions.
+       */
+      protected int m_iValueType;
+
+      /**
+       * Number of merged conditions.
+       */
+      protected int m_iConditionCount;
+
+      /**
+       * First merged condition.
+       */
+      protected DataCondition m_firstCondition;
+
+      /**
+       * Condition requiring the value to be null, null if there is none.
+       */
+      protected DataCondition m_isNullCondition;
+
+      /**
+       * Flag signaling that the value has to be not null.
+       */
+      protected boolean m_bNotNull;
+
+      /**
+       * Flag signaling that some condition can never be satisfied.
+       */
+      protected boolean m_bContradiction;
+
+      /**
+       * The only values allowed keyed by their keys, null if all values are
+       * allowed.
+       */
+      protected Map<Object, Object> m_mpAllowed;
+
+      /**
+       * Values which are not allowed keyed by their keys.
+       */
+      protected Map<Object, Object> m_mpExcluded;
+
+      /**
+       * Condition specifying lower bound of the value, null if there is none.
+       */
+      protected DataCondition m_lowerCondition;
+
+      /**
+       * Key of the lower bound of the value.
+       */
+      protected Object m_lowerKey;
+
+      /**
+       * Flag signaling that the lower bound is allowed value.
+       */
+      protected boolean m_bLowerInclusive;
+
+      /**
+       * Condition specifying upper bound of the value, null if there is none.
+       */
+      protected DataCondition m_upperCondition;
+
+      /**
+       * Key of the upper bound of the value.
+       */
+      protected Object m_upperKey;
+
+      /**
+       * Flag signaling that the upper bound is allowed value.
+       */
+      protected boolean m_bUpperInclusive;
+
+      /**
+       * Constructor.
+       *
+       * @param iAttribute - attribute the constraints apply to
+       * @param iValueType - type of the values of the conditions
+       */
+      public AttributeConstraints(
+         int iAttribute,
+         int iValueType
+      )
+      {
+         m_iAttribute = iAttribute;
+         m_iValueType = iValueType;
+         m_mpExcluded = new LinkedHashMap<>();
+      }
+
+      /**
+       * Add constraint imposed by the condition.
+       *
+       * @param condition - mergeable condition for the attribute
+       * @throws OSSException - value of the condition is not valid
+       */
+      public void add(
+         DataCondition condition
+      ) throws OSSException
+      {
+         Object objValue = condition.getValue();
+
+         if (m_iConditionCount == 0)
+         {
+            m_firstCondition = condition;
+         }
+         m_iConditionCount++;
+         switch (condition.getOperation())
+         {
+            case (DataCondition.OPERATION_EQUALS):
+            case (DataCondition.OPERATION_EQUALS_CASESENSITIVE):
+            {
+               if (objValue == null)
+               {
+                  m_isNullCondition = condition;
+               }
+               else
+               {
+                  Map<Object, Object> mpValues = new LinkedHashMap<>();
+
+                  mpValues.put(DataConditionValues.toKey(objValue, 
+                                                         m_iValueType), 
+                               toConditionValue(objValue, m_iValueType));
+                  restrictAllowed(mpValues);
+               }
+               break;
+            }
+            case (DataCondition.OPERATION_NOT_EQUALS):
+            case (DataCondition.OPERATION_NOT_EQUALS_CASESENSITIVE):
+            {
+               if (objValue == null)
+               {
+                  m_bNotNull = true;
+               }
+               else
+               {
+                  m_mpExcluded.put(DataConditionValues.toKey(objValue, 
+                                                             m_iValueType), 
+                                   toConditionValue(objValue, m_iValueType));
+               }
+               break;
+            }
+            case (DataCondition.OPERATION_IN):
+            {
+               restrictAllowed(toValueMap(objValue));
+               break;
+            }
+            case (DataCondition.OPERATION_NOT_IN):
+            {
+               // Null is never in or not in any set of values
+               m_bNotNull = true;
+               m_mpExcluded.putAll(toValueMap(objValue));
+               break;
+            }
+            case (DataCondition.OPERATION_GREATER):
+            case (DataCondition.OPERATION_GREATER_EQUALS):
+            {
+               if (objValue == null)
+               {
+                  m_bContradiction = true;
+               }
+               else
+               {
+                  setLowerBound(condition, 
+                     DataConditionValues.toKey(objValue, m_iValueType),
+                     condition.getOperation() 
+                        == DataCondition.OPERATION_GREATER_EQUALS);
+               }
+               break;
+            }
+            case (DataCondition.OPERATION_LESS):
+            case (DataCondition.OPERATION_LESS_EQUALS):
+            {
+               if (objValue == null)
+               {
+                  m_bContradiction = true;
+               }
+               else
+               {
+                  setUpperBound(condition, 
+                     DataConditionValues.toKey(objValue, m_iValueType),
+                     condition.getOperation() 
+                        == DataCondition.OPERATION_LESS_EQUALS);
+               }
+               break;
+            }
+            default :
+            {
+               assert false : "Unexpected operation " + condition.getOperation();
+            }
+         }
+      }
+
+      /**
+       * Append conditions equivalent to all merged conditions.
+       *
+       * @param lstConditions - list to append the conditions to
+       * @return boolean - false if the merged conditions can never be 
+       *                   satisfied, in which case nothing is appended
+       */
+      public boolean appendConditions(
+         List<DataCondition> lstConditions
+      )
+      {
+         boolean bSatisfiable = !m_bContradiction;
+
+         if ((bSatisfiable) && (m_iConditionCount == 1))
+         {
+            // The empty IN is the only single condition never satisfied
+            bSatisfiable = (m_mpAllowed == null) || (!m_mpAllowed.isEmpty());
+            if (bSatisfiable)
+            {
+               lstConditions.add(m_firstCondition);
+            }
+         }
+         else if (bSatisfiable)
+         {
+            if (m_isNullCondition != null)
+            {
+               bSatisfiable = (!m_bNotNull) && (m_mpAllowed == null) 
+                              && (m_lowerCondition == null) 
+                              && (m_upperCondition == null)
+                              && (m_mpExcluded.isEmpty());
+               if (bSatisfiable)
+               {
+                  lstConditions.add(m_isNullCondition);
+               }
+            }
+            else if (m_mpAllowed != null)
+            {
+               List<Object> lstValues = new ArrayList<>();
+
+               for (Map.Entry<Object, Object> entry : m_mpAllowed.entrySet())
+               {
+                  if ((isInRange(entry.getKey())) 
+                     && (!m_mpExcluded.containsKey(entry.getKey())))
+                  {
+                     lstValues.add(entry.getValue());
+                  }
+               }
+               bSatisfiable = !lstValues.isEmpty();
+               if (bSatisfiable)
+               {
+                  appendMembership(lstConditions, lstValues, false);
+               }
+            }
+            else if (isRangeEmpty())
+            {
+               bSatisfiable = false;
+            }
+            else if ((m_lowerCondition != null) && (m_upperCondition != null)
+                    && (compare(m_lowerKey, m_upperKey) == 0))
+            {
+               // Both bounds are inclusive otherwise the range would be empty
+               bSatisfiable = !m_mpExcluded.containsKey(m_lowerKey);
+               if (bSatisfiable)
+               {
+                  lstConditions.add(new DataCondition(m_iAttribute, 
+                                       DataCondition.OPERATION_EQUALS, 
+                                       m_lowerCondition.getValue(),
+                                       m_iValueType));
+               }
+            }
+            else
+            {
+               List<Object> lstValues = new ArrayList<>();
+               int          iSize = lstConditions.size();
+
+               if (m_lowerCondition != null)
+               {
+                  lstConditions.add(m_lowerCondition);
+               }
+               if (m_upperCondition != null)
+               {
+                  lstConditions.add(m_upperCondition);
+               }
+               for (Map.Entry<Object, Object> entry : m_mpExcluded.entrySet())
+               {
+                  // Values outside of the range are already excluded
+                  if (isInRange(entry.getKey()))
+                  {
+                     lstValues.add(entry.getValue());
+                  }
+               }
+               appendMembership(lstConditions, lstValues, true);
+               if ((lstConditions.size() == iSize) && (m_bNotNull))
+               {
+                  lstConditions.add(new DataCondition(m_iAttribute, 
+                                       DataCondition.OPERATION_NOT_EQUALS, 
+                                       null, m_iValueType));
+               }
+            }
+         }
+
+         return bSatisfiable;
+      }
+
+      /**
+       * Allow only values which are allowed by already merged conditions and
+       * which are also among the specified values.
+       *
+       * @param mpValues - allowed values keyed by their keys
+       */
+      protected void restrictAllowed(
+         Map<Object, Object> mpValues
+      )
+      {
+         if (m_mpAllowed == null)
+         {
+            m_mpAllowed = mpValues;
+         }
+         else
+         {
+            m_mpAllowed.keySet().retainAll(mpValues.keySet());
+         }
+      }
+
+      /**
+       * Restrict the lower bound of the value.
+       *
+       * @param condition - condition specifying the bound
+       * @param objKey - key of the bound
+       * @param bInclusive - true if the bound is allowed value
+       */
+      protected void setLowerBound(
+         DataCondition condition,
+         Object        objKey,
+         boolean       bInclusive
+      )
+      {
+         int iCompare = (m_lowerKey == null) ? 1 : compare(objKey, m_lowerKey);
+
+         if ((iCompare > 0) || ((iCompare == 0) && (!bInclusive)))
+         {
+            m_lowerCondition = condition;
+            m_lowerKey = objKey;
+            m_bLowerInclusive = bInclusive;
+         }
+      }
+
+      /**
+       * Restrict the upper bound of the value.
+       *
+       * @param condition - condition specifying the bound
+       * @param objKey - key of the bound
+       * @param bInclusive - true if the bound is allowed value
+       */
+      protected void setUpperBound(
+         DataCondition condition,
+         Object        objKey,
+         boolean       bInclusive
+      )
+      {
+         int iCompare = (m_upperKey == null) ? -1 : compare(objKey, m_upperKey);
+
+         if ((iCompare < 0) || ((iCompare == 0) && (!bInclusive)))
+         {
+            m_upperCondition = condition;
+            m_upperKey = objKey;
+            m_bUpperInclusive = bInclusive;
+         }
+      }
+
+      /**
+       * Test if the value satisfies both bounds.
+       *
+       * @param objKey - key of the value
+       * @return boolean - true if the value is within the range
+       */
+      protected boolean isInRange(
+         Object objKey
+      )
+      {
+         boolean bInRange = true;
+
+         if (m_lowerKey != null)
+         {
+            int iCompare = compare(objKey, m_lowerKey);
+
+            bInRange = (iCompare > 0) || ((iCompare == 0) && (m_bLowerInclusive));
+         }
+         if ((bInRange) && (m_upperKey != null))
+         {
+            int iCompare = compare(objKey, m_upperKey);
+
+            bInRange = (iCompare < 0) || ((iCompare == 0) && (m_bUpperInclusive));
+         }
+
+         return bInRange;
+      }
+
+      /**
+       * Test if there is no value satisfying both bounds. For integral 
+       * values exclusive bounds are first converted to inclusive ones so 
+       * that for example range greater than 5 and less than 6 is empty.
+       *
+       * @return boolean - true if the range is empty
+       */
+      protected boolean isRangeEmpty(
+      )
+      {
+         boolean bEmpty = false;
+
+         if (m_iValueType != DataCondition.VALUE_TYPE_DOUBLE)
+         {
+            bEmpty = ((m_lowerKey != null) && (!m_bLowerInclusive)
+                        && ((Long)m_lowerKey == Long.MAX_VALUE))
+                     || ((m_upperKey != null) && (!m_bUpperInclusive)
+                        && ((Long)m_upperKey == Long.MIN_VALUE));
+            if ((!bEmpty) && (m_lowerKey != null) && (m_upperKey != null))
+            {
+               long lLower = (Long)m_lowerKey + (m_bLowerInclusive ? 0 : 1);
+               long lUpper = (Long)m_upperKey - (m_bUpperInclusive ? 0 : 1);
+
+               bEmpty = lLower > lUpper;
+            }
+         }
+         else if ((m_lowerKey != null) && (m_upperKey != null))
+         {
+            int iCompare = compare(m_lowerKey, m_upperKey);
+
+            bEmpty = (iCompare > 0) 
+                     || ((iCompare == 0) 
+                        && ((!m_bLowerInclusive) || (!m_bUpperInclusive)));
+         }
+
+         return bEmpty;
+      }
+
+      /**
+       * Append condition testing if the value is (or is not) one of the 
+       * specified values.
+       *
+       * @param lstConditions - list to append the condition to
+       * @param lstValues - values to test, nothing is appended if empty
+       * @param bNot - true if the value must not be any of the values
+       */
+      protected void appendMembership(
+         List<DataCondition> lstConditions,
+         List<Object>        lstValues,
+         boolean             bNot
+      )
+      {
+         if (lstValues.size() == 1)
+         {
+            lstConditions.add(new DataCondition(m_iAttribute, 
+                                 bNot ? DataCondition.OPERATION_NOT_EQUALS
+                                      : DataCondition.OPERATION_EQUALS,
+                                 lstValues.get(0), m_iValueType));
+         }
+         else if (lstValues.size() > 1)
+         {
+            lstConditions.add(new DataCondition(m_iAttribute, 
+                                 bNot ? DataCondition.OPERATION_NOT_IN
+                                      : DataCondition.OPERATION_IN,
+                                 lstValues.toArray(), m_iValueType));
+         }
+      }
+
+      /**
+       * Convert values of IN or NOT IN operation to map keyed by keys of the
+       * values. Null values are skipped since they never match any row.
+       *
+       * @param objValue - value of the condition
+       * @return Map<Object, Object> - values keyed by their keys
+       * @throws OSSException - some value is not valid
+       */
+      protected Map<Object, Object> toValueMap(
+         Object objValue
+      ) throws OSSException
+      {
+         Map<Object, Object> mpValues = new LinkedHashMap<>();
+
+         for (Object objElement : DataConditionValues.toValues(objValue))
+         {
+            if (objElement != null)
+            {
+               Object objKey = DataConditionValues.toKey(objElement, 
+                                                         m_iValueType);
+
+               if (!mpValues.containsKey(objKey))
+               {
+                  mpValues.put(objKey, toConditionValue(objElement, 
+                                                        m_iValueType));
+               }
+            }
+         }
+
+         return mpValues;
+      }
+   }
+}
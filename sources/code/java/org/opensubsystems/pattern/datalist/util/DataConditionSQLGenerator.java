@@ -0,0 +1,755 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.error.OSSInvalidDataException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListColumnDefinition;
+import org.opensubsystems.pattern.datalist.data.ListDataDescriptor;
+
+/**
+ * Generator of parametrized SQL conditions from lists of data conditions. 
+ * All values of the conditions are passed as parameters of the statement, 
+ * so the generated SQL depends only on the shape of the conditions, that is
+ * on their attributes, operations and types of values. Each list of 
+ * conditions is assigned a shape key and the SQL generated for each shape is
+ * cached, so that the same SQL string is returned for the same shape and the
+ * prepared statements can be reused by the statement cache of the driver.
+ *
+ * The number of placeholders generated for IN and NOT IN operations is 
+ * rounded up to the nearest power of two and the extra placeholders repeat 
+ * the last value, so that lists of various lengths share few shapes. 
+ *
+ * The descriptor of the data identifies the columns only by their codes, 
+ * therefore the names of the database columns corresponding to the codes
+ * have to be specified when the generator is created. The generated SQL 
+ * evaluates the conditions the same way as DataConditionCompiler evaluates 
+ * them in memory. 
+ *
+ * @author OpenSubsystems
+ */
+public class DataConditionSQLGenerator extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Character used to escape wildcards in values of LIKE conditions. It is 
+    * not backslash since some databases treat backslash in string literals 
+    * specially.
+    */
+   public static final char LIKE_ESCAPE_CHAR = '!';
+
+   /**
+    * Maximal number of shapes for which the generated SQL is cached. The 
+    * number of shapes is usually small, this is just a safeguard against
+    * dynamically constructed conditions.
+    */
+   public static final int MAX_CACHED_SHAPES = 1024;
+
+   /**
+    * Separator of conditions in the shape key.
+    */
+   protected static final char SHAPE_SEPARATOR = ';';
+
+   /**
+    * Separator of parts of single condition in the shape key.
+    */
+   protected static final char SHAPE_PART_SEPARATOR = ':';
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Descriptor of the data the conditions apply to.
+    */
+   protected ListDataDescriptor<?> m_descriptor;
+
+   /**
+    * Names of database columns keyed by the codes of the columns.
+    */
+   protected Map<Integer, String> m_mpColumnNames;
+
+   /**
+    * Generated SQL keyed by the shape key.
+    */
+   protected ConcurrentMap<String, String> m_mpCachedSQL;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param descriptor - descriptor of the data the conditions apply to
+    * @param mpColumnNames - names of database columns (or SQL expressions) 
+    *                        keyed by the codes of the columns
+    */
+   public DataConditionSQLGenerator(
+      ListDataDescriptor<?> descriptor,
+      Map<Integer, String>  mpColumnNames
+   )
+   {
+      super();
+
+      m_descriptor = descriptor;
+      m_mpColumnNames = mpColumnNames;
+      m_mpCachedSQL = new ConcurrentHashMap<>();
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "DataConditionSQLGenerator[");
+      append(sb, ind + 1, "m_descriptor = ", m_descriptor);
+      append(sb, ind + 1, "m_mpColumnNames = ", m_mpColumnNames);
+      append(sb, ind + 1, "m_mpCachedSQL.size() = ", m_mpCachedSQL.size());
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * Generate SQL condition satisfied only if all conditions are satisfied.
+    *
+    * @param lstConditions - conditions to convert, can be null or empty
+    * @return SQLWhereClause - generated SQL and its parameters
+    * @throws OSSException - some condition cannot be converted to SQL
+    */
+   public SQLWhereClause generate(
+      List<DataCondition> lstConditions
+   ) throws OSSException
+   {
+      StringBuilder sbShapeKey = new StringBuilder();
+      List<Object>  lstParameters = new ArrayList<>();
+      String        strShapeKey;
+      String        strSQL;
+
+      if (lstConditions != null)
+      {
+         for (DataCondition condition : lstConditions)
+         {
+            appendShape(sbShapeKey, lstParameters, condition);
+         }
+      }
+      strShapeKey = sbShapeKey.toString();
+      strSQL = m_mpCachedSQL.get(strShapeKey);
+      if (strSQL == null)
+      {
+         strSQL = generateSQL(lstConditions);
+         if (m_mpCachedSQL.size() < MAX_CACHED_SHAPES)
+         {
+            String strExisting = m_mpCachedSQL.putIfAbsent(strShapeKey, strSQL);
+
+            if (strExisting != null)
+            {
+               strSQL = strExisting;
+            }
+         }
+      }
+
+      return new SQLWhereClause(strShapeKey, strSQL, lstParameters);
+   }
+
+   /**
+    * @return int - number of shapes for which the SQL is cached
+    */
+   public int getCachedShapeCount(
+   )
+   {
+      return m_mpCachedSQL.size();
+   }
+
+   /**
+    * Get number of placeholders generated for IN or NOT IN operation with 
+    * the specified number of values.
+    *
+    * @param iValueCount - number of values
+    * @return int - the smallest power of two which is not smaller than the 
+    *               number of values, 0 for no values
+    */
+   public static int getBucketSize(
+      int iValueCount
+   )
+   {
+      return (iValueCount <= 1) ? iValueCount 
+                                : Integer.highestOneBit(iValueCount - 1) << 1;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Append shape of the condition to the shape key and its values to the 
+    * parameters.
+    *
+    * @param sbShapeKey - shape key to append to
+    * @param lstParameters - parameters to append to
+    * @param condition - condition to process
+    * @throws OSSException - the condition cannot be converted to SQL
+    */
+   protected void appendShape(
+      StringBuilder sbShapeKey,
+      List<Object>  lstParameters,
+      DataCondition condition
+   ) throws OSSException
+   {
+      int    iValueType = getValueType(condition);
+      int    iOperation = condition.getOperation();
+      Object objValue = condition.getValue();
+
+      if (sbShapeKey.length() > 0)
+      {
+         sbShapeKey.append(SHAPE_SEPARATOR);
+      }
+      sbShapeKey.append(condition.getAttribute());
+      sbShapeKey.append(SHAPE_PART_SEPARATOR);
+      sbShapeKey.append(iOperation);
+      sbShapeKey.append(SHAPE_PART_SEPARATOR);
+      sbShapeKey.append(iValueType);
+      sbShapeKey.append(SHAPE_PART_SEPARATOR);
+      if ((iOperation == DataCondition.OPERATION_SQL_QUERY)
+         || (iValueType == DataCondition.VALUE_TYPE_SQL_QUERY))
+      {
+         String strQuery = objValue.toString();
+
+         // The query is part of the SQL so it has to be part of the shape,
+         // it is prefixed by its length so that separators inside of it 
+         // cannot be confused with separators of the shape
+         sbShapeKey.append(strQuery.length());
+         sbShapeKey.append(SHAPE_PART_SEPARATOR);
+         sbShapeKey.append(strQuery);
+      }
+      else if ((iOperation == DataCondition.OPERATION_IN)
+              || (iOperation == DataCondition.OPERATION_NOT_IN))
+      {
+         List<Object> lstValues = new ArrayList<>();
+         int          iBucketSize;
+
+         for (Object objElement : DataConditionValues.toValues(objValue))
+         {
+            if (objElement != null)
+            {
+               lstValues.add(convertValue(objElement, iValueType));
+            }
+         }
+         iBucketSize = getBucketSize(lstValues.size());
+         sbShapeKey.append(iBucketSize);
+         lstParameters.addAll(lstValues);
+         for (int iIndex = lstValues.size(); iIndex < iBucketSize; iIndex++)
+         {
+            lstParameters.add(lstValues.get(lstValues.size() - 1));
+         }
+      }
+      else if (objValue == null)
+      {
+         sbShapeKey.append("null");
+      }
+      else if (iOperation != DataCondition.NO_OPERATION)
+      {
+         lstParameters.add(convertParameter(condition, iValueType));
+      }
+   }
+
+   /**
+    * Generate SQL for the conditions. The conditions must be already 
+    * validated by appendShape.
+    *
+    * @param lstConditions - conditions to convert, can be null or empty
+    * @return String - generated SQL
+    */
+   protected String generateSQL(
+      List<DataCondition> lstConditions
+   )
+   {
+      StringBuilder sbSQL = new StringBuilder();
+
+      if (lstConditions != null)
+      {
+         for (DataCondition condition : lstConditions)
+         {
+            if (condition.getOperation() != DataCondition.NO_OPERATION)
+            {
+               if (sbSQL.length() > 0)
+               {
+                  sbSQL.append(" AND ");
+               }
+               appendSQL(sbSQL, condition);
+            }
+         }
+      }
+
+      return sbSQL.toString();
+   }
+
+   /**
+    * Append SQL for single condition.
+    *
+    * @param sbSQL - SQL to append to
+    * @param condition - condition to convert
+    */
+   protected void appendSQL(
+      StringBuilder sbSQL,
+      DataCondition condition
+   )
+   {
+      String strColumn = m_mpColumnNames.get(condition.getAttribute());
+      Object objValue = condition.getValue();
+
+      switch (condition.getOperation())
+      {
+         case (DataCondition.OPERATION_SQL_QUERY):
+         {
+            sbSQL.append("(").append(objValue).append(")");
+            break;
+         }
+         case (DataCondition.OPERATION_IN):
+         case (DataCondition.OPERATION_NOT_IN):
+         {
+            appendInSQL(sbSQL, strColumn, condition);
+            break;
+         }
+         case (DataCondition.OPERATION_EQUALS):
+         case (DataCondition.OPERATION_EQUALS_CASESENSITIVE):
+         {
+            if (objValue == null)
+            {
+               sbSQL.append(strColumn).append(" IS NULL");
+            }
+            else
+            {
+               sbSQL.append(strColumn).append(" = ?");
+            }
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_EQUALS):
+         case (DataCondition.OPERATION_NOT_EQUALS_CASESENSITIVE):
+         {
+            if (objValue == null)
+            {
+               sbSQL.append(strColumn).append(" IS NOT NULL");
+            }
+            else
+            {
+               sbSQL.append(strColumn).append(" <> ?");
+            }
+            break;
+         }
+         case (DataCondition.OPERATION_EQUALS_OR_NULL):
+         {
+            if (objValue == null)
+            {
+               sbSQL.append(strColumn).append(" IS NULL");
+            }
+            else
+            {
+               sbSQL.append("(").append(strColumn).append(" = ? OR ")
+                    .append(strColumn).append(" IS NULL)");
+            }
+            break;
+         }
+         case (DataCondition.OPERATION_GREATER):
+         {
+            appendComparisonSQL(sbSQL, strColumn, " > ?", objValue);
+            break;
+         }
+         case (DataCondition.OPERATION_GREATER_EQUALS):
+         {
+            appendComparisonSQL(sbSQL, strColumn, " >= ?", objValue);
+            break;
+         }
+         case (DataCondition.OPERATION_LESS):
+         {
+            appendComparisonSQL(sbSQL, strColumn, " < ?", objValue);
+            break;
+         }
+         case (DataCondition.OPERATION_LESS_EQUALS):
+         {
+            appendComparisonSQL(sbSQL, strColumn, " <= ?", objValue);
+            break;
+         }
+         case (DataCondition.OPERATION_EQUALS_CASEUNSENSITIVE):
+         {
+            appendComparisonSQL(sbSQL, "UPPER(" + strColumn + ")", " = ?", 
+                                objValue);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_EQUALS_CASEUNSENSITIVE):
+         {
+            appendComparisonSQL(sbSQL, "UPPER(" + strColumn + ")", " <> ?", 
+                                objValue);
+            break;
+         }
+         case (DataCondition.OPERATION_CONTAINS_CASESENSITIVE):
+         case (DataCondition.OPERATION_STARTS_CASESENSITIVE):
+         case (DataCondition.OPERATION_ENDS_CASESENSITIVE):
+         {
+            appendComparisonSQL(sbSQL, strColumn, 
+                                " LIKE ? ESCAPE '" + LIKE_ESCAPE_CHAR + "'",
+                                objValue);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_CONTAINS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_STARTS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_ENDS_CASESENSITIVE):
+         {
+            appendComparisonSQL(sbSQL, strColumn, 
+                                " NOT LIKE ? ESCAPE '" + LIKE_ESCAPE_CHAR + "'",
+                                objValue);
+            break;
+         }
+         case (DataCondition.OPERATION_CONTAINS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_STARTS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_ENDS_CASEUNSENSITIVE):
+         {
+            appendComparisonSQL(sbSQL, "UPPER(" + strColumn + ")", 
+                                " LIKE ? ESCAPE '" + LIKE_ESCAPE_CHAR + "'",
+                                objValue);
+            break;
+         }
+         case (DataCondition.OPERATION_NOT_CONTAINS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_NOT_STARTS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_NOT_ENDS_CASEUNSENSITIVE):
+         {
+            appendComparisonSQL(sbSQL, "UPPER(" + strColumn + ")", 
+                                " NOT LIKE ? ESCAPE '" + LIKE_ESCAPE_CHAR + "'",
+                                objValue);
+            break;
+         }
+         default :
+         {
+            assert false : "Unexpected operation " + condition.getOperation();
+         }
+      }
+   }
+
+   /**
+    * Append SQL for IN or NOT IN condition.
+    *
+    * @param sbSQL - SQL to append to
+    * @param strColumn - name of the column
+    * @param condition - condition to convert
+    */
+   protected void appendInSQL(
+      StringBuilder sbSQL,
+      String        strColumn,
+      DataCondition condition
+   )
+   {
+      boolean bNot = (condition.getOperation() == DataCondition.OPERATION_NOT_IN);
+
+      if (condition.getValueType() == DataCondition.VALUE_TYPE_SQL_QUERY)
+      {
+         sbSQL.append(strColumn).append(bNot ? " NOT IN (" : " IN (")
+              .append(condition.getValue()).append(")");
+      }
+      else
+      {
+         int iCount = 0;
+
+         for (Object objElement : DataConditionValues.toValues(
+                                     condition.getValue()))
+         {
+            if (objElement != null)
+            {
+               iCount++;
+            }
+         }
+         if (iCount == 0)
+         {
+            // Consistent with evaluation in memory, no value is never equal
+            // to null and all values which are not null are not in empty set
+            sbSQL.append(bNot ? strColumn + " IS NOT NULL" : "1 = 0");
+         }
+         else
+         {
+            int iBucketSize = getBucketSize(iCount);
+
+            sbSQL.append(strColumn).append(bNot ? " NOT IN (?" : " IN (?");
+            for (int iIndex = 1; iIndex < iBucketSize; iIndex++)
+            {
+               sbSQL.append(", ?");
+            }
+            sbSQL.append(")");
+         }
+      }
+   }
+
+   /**
+    * Append SQL comparing column with single value. Comparisons with null 
+    * value are never satisfied.
+    *
+    * @param sbSQL - SQL to append to
+    * @param strColumn - name of the column or expression to compare
+    * @param strComparison - comparison operator with placeholder
+    * @param objValue - value of the condition
+    */
+   protected void appendComparisonSQL(
+      StringBuilder sbSQL,
+      String        strColumn,
+      String        strComparison,
+      Object        objValue
+   )
+   {
+      if (objValue == null)
+      {
+         sbSQL.append("1 = 0");
+      }
+      else
+      {
+         sbSQL.append(strColumn).append(strComparison);
+      }
+   }
+
+   /**
+    * Get type of the value of the condition and verify that the condition 
+    * can be converted to SQL.
+    *
+    * @param condition - condition to examine
+    * @return int - one of the DataCondition.VALUE_TYPE_XXX constants
+    * @throws OSSException - the condition cannot be converted to SQL
+    */
+   protected int getValueType(
+      DataCondition condition
+   ) throws OSSException
+   {
+      int iValueType = condition.getValueType();
+
+      if (condition.getOperation() != DataCondition.OPERATION_SQL_QUERY)
+      {
+         if (!m_mpColumnNames.containsKey(condition.getAttribute()))
+         {
+            throw new OSSInvalidDataException("Data condition refers to column " 
+                         + condition.getAttribute() + " which is not mapped"
+                         + " to any database column.");
+         }
+         if (iValueType == DataCondition.VALUE_TYPE_UNKNOWN)
+         {
+            ListColumnDefinition column = null;
+
+            if ((m_descriptor != null) 
+               && (m_descriptor.getColumnDefinitions() != null))
+            {
+               column = m_descriptor.getColumnDefinitionsMap().get(
+                                        condition.getAttribute());
+            }
+            if (column == null)
+            {
+               throw new OSSInvalidDataException("Type of value of data" 
+                            + " condition for attribute " 
+                            + condition.getAttribute() + " is not known.");
+            }
+            iValueType = column.getColumnDataType();
+         }
+      }
+      else if (condition.getValue() == null)
+      {
+         throw new OSSInvalidDataException("Data condition with SQL query" 
+                      + " operation doesn't specify the query.");
+      }
+      if ((iValueType == DataCondition.VALUE_TYPE_SQL_QUERY)
+         && (condition.getOperation() != DataCondition.OPERATION_SQL_QUERY))
+      {
+         // Subquery can only provide the set of values of IN and NOT IN, 
+         // other operations would generate placeholder without parameter
+         if ((condition.getOperation() != DataCondition.OPERATION_IN)
+            && (condition.getOperation() != DataCondition.OPERATION_NOT_IN))
+         {
+            throw new OSSInvalidDataException("Data condition for attribute " 
+                         + condition.getAttribute() + " with SQL query value" 
+                         + " supports only IN and NOT IN operations.");
+         }
+         if (condition.getValue() == null)
+         {
+            throw new OSSInvalidDataException("Data condition for attribute " 
+                         + condition.getAttribute() 
+                         + " doesn't specify the SQL query.");
+         }
+      }
+
+      return iValueType;
+   }
+
+   /**
+    * Convert value of the condition to parameter of the statement. Values of 
+    * LIKE conditions are escaped and wildcards are added and values of case 
+    * insensitive conditions are converted to upper case.
+    *
+    * @param condition - condition to convert
+    * @param iValueType - type of the value
+    * @return Object - value of the parameter
+    * @throws OSSException - the value cannot be converted
+    */
+   protected Object convertParameter(
+      DataCondition condition,
+      int           iValueType
+   ) throws OSSException
+   {
+      Object objParameter = convertValue(condition.getValue(), iValueType);
+
+      switch (condition.getOperation())
+      {
+         case (DataCondition.OPERATION_EQUALS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_NOT_EQUALS_CASEUNSENSITIVE):
+         {
+            objParameter = objParameter.toString().toUpperCase(Locale.ROOT);
+            break;
+         }
+         case (DataCondition.OPERATION_CONTAINS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_CONTAINS_CASESENSITIVE):
+         {
+            objParameter = "%" + escapeLike(objParameter.toString()) + "%";
+            break;
+         }
+         case (DataCondition.OPERATION_CONTAINS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_NOT_CONTAINS_CASEUNSENSITIVE):
+         {
+            objParameter = "%" + escapeLike(objParameter.toString().toUpperCase(
+                                               Locale.ROOT)) + "%";
+            break;
+         }
+         case (DataCondition.OPERATION_STARTS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_STARTS_CASESENSITIVE):
+         {
+            objParameter = escapeLike(objParameter.toString()) + "%";
+            break;
+         }
+         case (DataCondition.OPERATION_STARTS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_NOT_STARTS_CASEUNSENSITIVE):
+         {
+            objParameter = escapeLike(objParameter.toString().toUpperCase(
+                                         Locale.ROOT)) + "%";
+            break;
+         }
+         case (DataCondition.OPERATION_ENDS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_ENDS_CASESENSITIVE):
+         {
+            objParameter = "%" + escapeLike(objParameter.toString());
+            break;
+         }
+         case (DataCondition.OPERATION_ENDS_CASEUNSENSITIVE):
+         case (DataCondition.OPERATION_NOT_ENDS_CASEUNSENSITIVE):
+         {
+            objParameter = "%" + escapeLike(objParameter.toString().toUpperCase(
+                                               Locale.ROOT));
+            break;
+         }
+         default :
+         {
+            // The value is used as it is
+         }
+      }
+
+      return objParameter;
+   }
+
+   /**
+    * Convert value to the type which is passed to the statement.
+    *
+    * @param objValue - value to convert, not null
+    * @param iValueType - type of the value
+    * @return Object - converted value
+    * @throws OSSException - the value cannot be converted
+    */
+   protected Object convertValue(
+      Object objValue,
+      int    iValueType
+   ) throws OSSException
+   {
+      Object objConverted;
+
+      switch (iValueType)
+      {
+         case (DataCondition.VALUE_TYPE_ID):
+         case (DataCondition.VALUE_TYPE_INTEGER):
+         {
+            objConverted = DataConditionValues.toLong(objValue);
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_TIMESTAMP):
+         {
+            objConverted = (objValue instanceof Timestamp) 
+                           ? objValue 
+                           : new Timestamp(DataConditionValues.toLong(objValue));
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_DOUBLE):
+         {
+            objConverted = DataConditionValues.toDouble(objValue);
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_BOOLEAN):
+         {
+            objConverted = DataConditionValues.toBoolean(objValue);
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_STRING):
+         {
+            objConverted = DataConditionValues.toStringValue(objValue);
+            break;
+         }
+         default :
+         {
+            throw new OSSInvalidDataException("Data condition with value type " 
+                         + iValueType + " cannot be converted to SQL parameter.");
+         }
+      }
+
+      return objConverted;
+   }
+
+   /**
+    * Escape wildcards of LIKE condition in the value.
+    *
+    * @param strValue - value to escape
+    * @return String - escaped value
+    */
+   protected static String escapeLike(
+      String strValue
+   )
+   {
+      StringBuilder sbEscaped = new StringBuilder(strValue.length() + 8);
+
+      for (int iIndex = 0; iIndex < strValue.length(); iIndex++)
+      {
+         char cChar = strValue.charAt(iIndex);
+
+         if ((cChar == '%') || (cChar == '_') || (cChar == LIKE_ESCAPE_CHAR))
+         {
+            sbEscaped.append(LIKE_ESCAPE_CHAR);
+         }
+         sbEscaped.append(cChar);
+      }
+
+      return sbEscaped.toString();
+   }
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import org.opensubsystems.core.error.OSSInvalidDataException;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+
+/**
+ * Conversion of values of data conditions and columns to the primitive types
+ * used to evaluate the conditions. The values are accepted in all forms 
+ * allowed by the VALUE_TYPE_XXX constants of DataCondition.
+ *
+ * @author OpenSubsystems
+ */
+public final class DataConditionValues
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Separator of values of IN and NOT IN operations specified as string.
+    */
+   public static final String VALUE_SEPARATOR = ",";
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /** 
+    * Private constructor since this class cannot be instantiated
+    */
+   private DataConditionValues(
+   )
+   {
+      // Do nothing
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Convert value to long. Timestamps and dates are converted to number of 
+    * milliseconds since the epoch, booleans to 1 or 0.
+    *
+    * @param objValue - value to convert, cannot be null
+    * @return long - converted value
+    * @throws OSSInvalidDataException - the value cannot be converted
+    */
+   public static long toLong(
+      Object objValue
+   ) throws OSSInvalidDataException
+   {
+      long lValue;
+
+      if (objValue instanceof Number)
+      {
+         lValue = ((Number)objValue).longValue();
+      }
+      else if (objValue instanceof Date)
+      {
+         lValue = ((Date)objValue).getTime();
+      }
+      else if (objValue instanceof Boolean)
+      {
+         lValue = ((Boolean)objValue).booleanValue() ? 1 : 0;
+      }
+      else
+      {
+         String strValue = toStringValue(objValue).trim();
+
+         try
+         {
+            lValue = Long.parseLong(strValue);
+         }
+         catch (NumberFormatException nfeExc)
+         {
+            try
+            {
+               lValue = Timestamp.valueOf(strValue).getTime();
+            }
+            catch (IllegalArgumentException iaeExc)
+            {
+               throw new OSSInvalidDataException("Value " + strValue 
+                            + " cannot be converted to number or timestamp.",
+                            iaeExc);
+            }
+         }
+      }
+
+      return lValue;
+   }
+
+   /**
+    * Convert value to double.
+    *
+    * @param objValue - value to convert, cannot be null
+    * @return double - converted value
+    * @throws OSSInvalidDataException - the value cannot be converted
+    */
+   public static double toDouble(
+      Object objValue
+   ) throws OSSInvalidDataException
+   {
+      double dValue;
+
+      if (objValue instanceof Number)
+      {
+         dValue = ((Number)objValue).doubleValue();
+      }
+      else if (objValue instanceof Date)
+      {
+         dValue = ((Date)objValue).getTime();
+      }
+      else
+      {
+         String strValue = toStringValue(objValue).trim();
+
+         try
+         {
+            dValue = Double.parseDouble(strValue);
+         }
+         catch (NumberFormatException nfeExc)
+         {
+            throw new OSSInvalidDataException("Value " + strValue 
+                         + " cannot be converted to double.", nfeExc);
+         }
+      }
+
+      return dValue;
+   }
+
+   /**
+    * Convert value to boolean. Numbers are true if they are not 0, strings 
+    * can be true, false, 1 or 0.
+    *
+    * @param objValue - value to convert, cannot be null
+    * @return boolean - converted value
+    * @throws OSSInvalidDataException - the value cannot be converted
+    */
+   public static boolean toBoolean(
+      Object objValue
+   ) throws OSSInvalidDataException
+   {
+      boolean bValue;
+
+      if (objValue instanceof Boolean)
+      {
+         bValue = ((Boolean)objValue).booleanValue();
+      }
+      else if (objValue instanceof Number)
+      {
+         bValue = ((Number)objValue).longValue() != 0;
+      }
+      else
+      {
+         String strValue = toStringValue(objValue).trim();
+
+         if ((Boolean.TRUE.toString().equalsIgnoreCase(strValue))
+            || (String.valueOf(DataCondition.DATA_CODE_FLAG_YES).equals(strValue)))
+         {
+            bValue = true;
+         }
+         else if ((Boolean.FALSE.toString().equalsIgnoreCase(strValue))
+                 || (String.valueOf(DataCondition.DATA_CODE_FLAG_NO).equals(strValue)))
+         {
+            bValue = false;
+         }
+         else
+         {
+            throw new OSSInvalidDataException("Value " + strValue 
+                         + " cannot be converted to boolean.");
+         }
+      }
+
+      return bValue;
+   }
+
+   /**
+    * Convert value to string.
+    *
+    * @param objValue - value to convert, cannot be null
+    * @return String - converted value
+    */
+   public static String toStringValue(
+      Object objValue
+   )
+   {
+      return (objValue instanceof String) ? (String)objValue 
+                                          : objValue.toString();
+   }
+
+   /**
+    * Convert value to key representing it in maps and comparisons. Keys of 
+    * two values of the same type are equal if the values are equal when 
+    * compared as the type and keys of numbers and timestamps are ordered 
+    * the same way as the values.
+    *
+    * @param objValue - value to convert, cannot be null
+    * @param iValueType - one of the DataCondition.VALUE_TYPE_XXX constants
+    * @return Object - Long for integral types and timestamps, Double, 
+    *                  Boolean or String key
+    * @throws OSSInvalidDataException - the value cannot be converted
+    */
+   public static Object toKey(
+      Object objValue,
+      int    iValueType
+   ) throws OSSInvalidDataException
+   {
+      Object objKey;
+
+      switch (iValueType)
+      {
+         case (DataCondition.VALUE_TYPE_DOUBLE):
+         {
+            double dValue = toDouble(objValue);
+
+            // Negative zero is equal to zero when compared as number
+            objKey = (dValue == 0) ? Double.valueOf(0) : Double.valueOf(dValue);
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_BOOLEAN):
+         {
+            objKey = Boolean.valueOf(toBoolean(objValue));
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_STRING):
+         {
+            objKey = toStringValue(objValue);
+            break;
+         }
+         default :
+         {
+            objKey = Long.valueOf(toLong(objValue));
+         }
+      }
+
+      return objKey;
+   }
+
+   /**
+    * Get individual values of IN and NOT IN operation. The value can be an 
+    * array, a collection or a comma delimited string.
+    *
+    * @param objValue - value of the condition, can be null
+    * @return Object[] - individual values, never null
+    */
+   public static Object[] toValues(
+      Object objValue
+   )
+   {
+      Object[] arrValues;
+
+      if (objValue == null)
+      {
+         arrValues = new Object[0];
+      }
+      else if (objValue instanceof Object[])
+      {
+         arrValues = (Object[])objValue;
+      }
+      else if (objValue instanceof Collection)
+      {
+         arrValues = ((Collection<?>)objValue).toArray();
+      }
+      else if (objValue instanceof String)
+      {
+         String[] arrParts = ((String)objValue).split(VALUE_SEPARATOR);
+
+         for (int iIndex = 0; iIndex < arrParts.length; iIndex++)
+         {
+            arrParts[iIndex] = arrParts[iIndex].trim();
+         }
+         arrValues = arrParts;
+      }
+      else
+      {
+         arrValues = new Object[] {objValue};
+      }
+
+      return arrValues;
+   }
+
+   /**
+    * Get individual values of IN and NOT IN operation converted to long.
+    * Null values are skipped since they never match any row.
+    *
+    * @param objValue - value of the condition, can be null
+    * @return long[] - converted values
+    * @throws OSSInvalidDataException - some value cannot be converted
+    */
+   public static long[] toLongs(
+      Object objValue
+   ) throws OSSInvalidDataException
+   {
+      Object[] arrValues = toValues(objValue);
+      long[]   arrLongs = new long[arrValues.length];
+      int      iCount = 0;
+
+      for (Object objElement : arrValues)
+      {
+         if (objElement != null)
+         {
+            arrLongs[iCount++] = toLong(objElement);
+         }
+      }
+
+      return (iCount == arrLongs.length) ? arrLongs 
+                                         : Arrays.copyOf(arrLongs, iCount);
+   }
+
+   /**
+    * Get individual values of IN and NOT IN operation converted to double.
+    * Null values are skipped since they never match any row.
+    *
+    * @param objValue - value of the condition, can be null
+    * @return double[] - converted values
+    * @throws OSSInvalidDataException - some value cannot be converted
+    */
+   public static double[] toDoubles(
+      Object objValue
+   ) throws OSSInvalidDataException
+   {
+      Object[] arrValues = toValues(objValue);
+      double[] arrDoubles = new double[arrValues.length];
+      int      iCount = 0;
+
+      for (Object objElement : arrValues)
+      {
+         if (objElement != null)
+         {
+            arrDoubles[iCount++] = toDouble(objElement);
+         }
+      }
+
+      return (iCount == arrDoubles.length) ? arrDoubles 
+                                           : Arrays.copyOf(arrDoubles, iCount);
+   }
+
+   /**
+    * Get individual values of IN and NOT IN operation converted to string.
+    * Null values are skipped since they never match any row.
+    *
+    * @param objValue - value of the condition, can be null
+    * @return String[] - converted values
+    */
+   public static String[] toStrings(
+      Object objValue
+   )
+   {
+      Object[] arrValues = toValues(objValue);
+      String[] arrStrings = new String[arrValues.length];
+      int      iCount = 0;
+
+      for (Object objElement : arrValues)
+      {
+         if (objElement != null)
+         {
+            arrStrings[iCount++] = toStringValue(objElement);
+         }
+      }
+
+      return (iCount == arrStrings.length) ? arrStrings 
+                                           : Arrays.copyOf(arrStrings, iCount);
+   }
+}
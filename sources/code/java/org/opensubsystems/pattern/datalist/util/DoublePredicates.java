@@ -0,0 +1,485 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights
+ * reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+
+/**
+ * Predicates comparing floating point values of columns. Each operation is
+ * implemented
+ * by its own class so that the comparison doesn't have to be selected again
+ * for every row. Rows with null value don't satisfy any of the predicates 
+ * except EqualsOrNull, the same way as in SQL.
+ *
+ * @author OpenSubsystems
+ */
+public final class DoublePredicates
+{
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /** 
+    * Private constructor since this class cannot be instantiated
+    */
+   private DoublePredicates(
+   )
+   {
+      // Do nothing
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Base class for predicates comparing floating point value of a column
+    * which is not null.
+    *
+    * @param <T> - type of the rows
+    */
+   public abstract static class DoublePredicate<T> extends ColumnPredicate<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      protected DoublePredicate(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         return (!m_accessor.isNull(row, m_iColumnCode))
+                && (matches(m_accessor.getDouble(row, m_iColumnCode)));
+      }
+
+      /**
+       * Test if the value satisfies the predicate.
+       *
+       * @param dValue - value of the column
+       * @return boolean - true if the value satisfies the predicate
+       */
+      public abstract boolean matches(
+         double dValue
+      );
+   }
+
+   /**
+    * Predicate satisfied if the value is equal to the specified value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Equals<T> extends DoublePredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final double m_dValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param dValue - value to compare to
+       */
+      public Equals(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         double              dValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_dValue = dValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         double dValue
+      )
+      {
+         return dValue == m_dValue;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is not equal to the specified value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class NotEquals<T> extends DoublePredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final double m_dValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param dValue - value to compare to
+       */
+      public NotEquals(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         double              dValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_dValue = dValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         double dValue
+      )
+      {
+         return dValue != m_dValue;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is greater than the specified value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Greater<T> extends DoublePredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final double m_dValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param dValue - value to compare to
+       */
+      public Greater(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         double              dValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_dValue = dValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         double dValue
+      )
+      {
+         return dValue > m_dValue;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is greater than or equal to the
+    * specified value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class GreaterEquals<T> extends DoublePredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final double m_dValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param dValue - value to compare to
+       */
+      public GreaterEquals(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         double              dValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_dValue = dValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         double dValue
+      )
+      {
+         return dValue >= m_dValue;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is less than the specified value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Less<T> extends DoublePredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final double m_dValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param dValue - value to compare to
+       */
+      public Less(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         double              dValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_dValue = dValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         double dValue
+      )
+      {
+         return dValue < m_dValue;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is less than or equal to the specified
+    * value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class LessEquals<T> extends DoublePredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final double m_dValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param dValue - value to compare to
+       */
+      public LessEquals(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         double              dValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_dValue = dValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         double dValue
+      )
+      {
+         return dValue <= m_dValue;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is null or it is equal to the specified
+    * value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class EqualsOrNull<T> extends ColumnPredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final double m_dValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param dValue - value to compare to
+       */
+      public EqualsOrNull(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         double              dValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_dValue = dValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         return (m_accessor.isNull(row, m_iColumnCode))
+                || (m_accessor.getDouble(row, m_iColumnCode) == m_dValue);
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is equal to any of the specified 
+    * values.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class In<T> extends DoublePredicate<T>
+   {
+      /**
+       * Values to compare to.
+       */
+      private final double[] m_arrValues;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param arrValues - values to compare to
+       */
+      public In(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         double[]            arrValues
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_arrValues = arrValues;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         double dValue
+      )
+      {
+         boolean bResult = false;
+
+         for (int iIndex = 0; (!bResult) && (iIndex < m_arrValues.length); 
+              iIndex++)
+         {
+            bResult = (m_arrValues[iIndex] == dValue);
+         }
+
+         return bResult;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is not equal to any of the specified 
+    * values.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class NotIn<T> extends DoublePredicate<T>
+   {
+      /**
+       * Predicate testing if the value is equal to any of the values.
+       */
+      private final In<T> m_in;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param arrValues - values to compare to
+       */
+      public NotIn(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         double[]            arrValues
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_in = new In<>(accessor, iColumnCode, arrValues);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         double dValue
+      )
+      {
+         return !m_in.matches(dValue);
+      }
+   }
+}
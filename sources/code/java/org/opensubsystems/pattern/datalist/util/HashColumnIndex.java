@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+
+/**
+ * Index mapping each distinct value of the column to the sorted list of ids 
+ * of rows with that value. It is suitable for columns with many distinct 
+ * values which are searched by equality.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public class HashColumnIndex<T> extends ColumnIndex<T>
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Ids of rows keyed by the key of the value of the column.
+    */
+   protected Map<Object, RowIdList> m_mpRowIds;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param accessor - accessor to the values of the column
+    * @param iColumnCode - code of the indexed column
+    * @param iValueType - type of the values of the column
+    */
+   public HashColumnIndex(
+      ListDataAccessor<T> accessor,
+      int                 iColumnCode,
+      int                 iValueType
+   )
+   {
+      this(accessor, iColumnCode, iValueType, new HashMap<Object, RowIdList>());
+   }
+
+   /**
+    * Constructor.
+    *
+    * @param accessor - accessor to the values of the column
+    * @param iColumnCode - code of the indexed column
+    * @param iValueType - type of the values of the column
+    * @param mpRowIds - empty map to store the ids of rows in
+    */
+   protected HashColumnIndex(
+      ListDataAccessor<T>    accessor,
+      int                    iColumnCode,
+      int                    iValueType,
+      Map<Object, RowIdList> mpRowIds
+   )
+   {
+      super(accessor, iColumnCode, iValueType);
+
+      m_mpRowIds = mpRowIds;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int getDistinctCount(
+   )
+   {
+      return m_mpRowIds.size();
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void addKey(
+      Object objKey,
+      int    iRowId
+   )
+   {
+      RowIdList lstRowIds = m_mpRowIds.get(objKey);
+
+      if (lstRowIds == null)
+      {
+         lstRowIds = new RowIdList();
+         m_mpRowIds.put(objKey, lstRowIds);
+      }
+      lstRowIds.add(iRowId);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void removeKey(
+      Object objKey,
+      int    iRowId
+   )
+   {
+      RowIdList lstRowIds = m_mpRowIds.get(objKey);
+
+      if ((lstRowIds != null) && (lstRowIds.remove(iRowId))
+         && (lstRowIds.isEmpty()))
+      {
+         m_mpRowIds.remove(objKey);
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void orRowIds(
+      Object objKey,
+      BitSet result
+   )
+   {
+      RowIdList lstRowIds = m_mpRowIds.get(objKey);
+
+      if (lstRowIds != null)
+      {
+         lstRowIds.orInto(result);
+      }
+   }
+}
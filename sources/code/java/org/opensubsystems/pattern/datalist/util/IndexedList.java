@@ -0,0 +1,922 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.error.OSSInvalidDataException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListColumnDefinition;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+import org.opensubsystems.pattern.datalist.data.ListDataDescriptor;
+import org.opensubsystems.pattern.datalist.data.RowPredicate;
+
+/**
+ * In memory list of rows with secondary indexes of columns. Each row is 
+ * assigned an id when it is added, which doesn't change until the row is 
+ * removed. Ids of removed rows are not reused.
+ *
+ * When the rows are filtered, conditions supported by the index of their 
+ * column are evaluated using the index and only the remaining conditions are
+ * evaluated for rows found by the indexes. If no condition can use an index,
+ * all rows are scanned. Conditions supported by bitmap indexes are first
+ * combined using compressed bitmaps, so that rows satisfying only such 
+ * conditions can be counted without touching any row. Indexes are created 
+ * explicitly for the specified columns or automatically for all filterable 
+ * columns, in which case the type of the index is chosen based on the data 
+ * type of the column and number of its distinct values.
+ *
+ * Any number of threads can read and filter the rows concurrently. Threads 
+ * modifying the rows wait until the readers finish and readers wait while 
+ * the rows and the indexes are modified.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public class IndexedList<T> extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Index mapping values to lists of ids of rows.
+    */
+   public static final int INDEX_TYPE_HASH = 1;
+
+   /**
+    * Index with sorted values supporting ranges and prefixes.
+    */
+   public static final int INDEX_TYPE_SORTED = 2;
+
+   /**
+    * Index mapping values to bitmaps of rows.
+    */
+   public static final int INDEX_TYPE_BITMAP = 3;
+
+   /**
+    * Maximal number of distinct values of column for which bitmap index is 
+    * created automatically.
+    */
+   public static final int LOW_CARDINALITY_THRESHOLD = 64;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Descriptor of the rows.
+    */
+   protected ListDataDescriptor<?> m_descriptor;
+
+   /**
+    * Accessor to the values of the rows.
+    */
+   protected ListDataAccessor<T> m_accessor;
+
+   /**
+    * Rows indexed by their ids, removed rows are null.
+    */
+   protected List<T> m_lstRows;
+
+   /**
+    * Ids of rows which were not removed.
+    */
+   protected BitSet m_liveRows;
+
+   /**
+    * Indexes keyed by the code of the indexed column.
+    */
+   protected Map<Integer, ColumnIndex<T>> m_mpIndexes;
+
+   /**
+    * Lock protecting the rows and the indexes.
+    */
+   protected ReadWriteLock m_lock;
+
+   /**
+    * Compiler of conditions which cannot be evaluated using indexes.
+    */
+   protected DataConditionCompiler<T> m_compiler;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param descriptor - descriptor of the rows
+    * @param accessor - accessor to the values of the rows
+    */
+   public IndexedList(
+      ListDataDescriptor<?> descriptor,
+      ListDataAccessor<T>   accessor
+   )
+   {
+      super();
+
+      m_descriptor = descriptor;
+      m_accessor = accessor;
+      m_lstRows = new ArrayList<>();
+      m_liveRows = new BitSet();
+      m_mpIndexes = new HashMap<>();
+      m_lock = new ReentrantReadWriteLock();
+      m_compiler = new DataConditionCompiler<>(descriptor, accessor);
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      m_lock.readLock().lock();
+      try
+      {
+         append(sb, ind + 0, "IndexedList[");
+         append(sb, ind + 1, "m_descriptor = ", m_descriptor);
+         append(sb, ind + 1, "m_lstRows.size() = ", m_lstRows.size());
+         append(sb, ind + 1, "m_liveRows.cardinality() = ", 
+                m_liveRows.cardinality());
+         append(sb, ind + 1, "m_mpIndexes = ", m_mpIndexes);
+         super.toString(sb, ind + 1);
+         append(sb, ind + 0, "]");
+      }
+      finally
+      {
+         m_lock.readLock().unlock();
+      }
+   }
+
+   /**
+    * Add row to the list and to all indexes.
+    *
+    * @param row - row to add
+    * @return int - id assigned to the row
+    */
+   public int add(
+      T row
+   )
+   {
+      int iRowId;
+
+      m_lock.writeLock().lock();
+      try
+      {
+         iRowId = m_lstRows.size();
+         m_lstRows.add(row);
+         m_liveRows.set(iRowId);
+         for (ColumnIndex<T> index : m_mpIndexes.values())
+         {
+            index.add(iRowId, row);
+         }
+      }
+      finally
+      {
+         m_lock.writeLock().unlock();
+      }
+
+      return iRowId;
+   }
+
+   /**
+    * Replace row with the specified id. 
+    *
+    * @param iRowId - id of the row to replace
+    * @param row - new row
+    * @throws OSSException - there is no row with the specified id
+    */
+   public void update(
+      int iRowId,
+      T   row
+   ) throws OSSException
+   {
+      m_lock.writeLock().lock();
+      try
+      {
+         T oldRow = getLiveRow(iRowId);
+
+         for (ColumnIndex<T> index : m_mpIndexes.values())
+         {
+            index.remove(iRowId, oldRow);
+            index.add(iRowId, row);
+         }
+         m_lstRows.set(iRowId, row);
+      }
+      finally
+      {
+         m_lock.writeLock().unlock();
+      }
+   }
+
+   /**
+    * Remove row with the specified id.
+    *
+    * @param iRowId - id of the row to remove
+    * @throws OSSException - there is no row with the specified id
+    */
+   public void remove(
+      int iRowId
+   ) throws OSSException
+   {
+      m_lock.writeLock().lock();
+      try
+      {
+         T oldRow = getLiveRow(iRowId);
+
+         for (ColumnIndex<T> index : m_mpIndexes.values())
+         {
+            index.remove(iRowId, oldRow);
+         }
+         m_lstRows.set(iRowId, null);
+         m_liveRows.clear(iRowId);
+      }
+      finally
+      {
+         m_lock.writeLock().unlock();
+      }
+   }
+
+   /**
+    * Get row with the specified id.
+    *
+    * @param iRowId - id of the row
+    * @return T - the row or null if there is no row with the id
+    */
+   public T get(
+      int iRowId
+   )
+   {
+      T row = null;
+
+      m_lock.readLock().lock();
+      try
+      {
+         if ((iRowId >= 0) && (iRowId < m_lstRows.size()))
+         {
+            row = m_lstRows.get(iRowId);
+         }
+      }
+      finally
+      {
+         m_lock.readLock().unlock();
+      }
+
+      return row;
+   }
+
+   /**
+    * @return int - number of rows in the list
+    */
+   public int size(
+   )
+   {
+      int iSize;
+
+      m_lock.readLock().lock();
+      try
+      {
+         iSize = m_liveRows.cardinality();
+      }
+      finally
+      {
+         m_lock.readLock().unlock();
+      }
+
+      return iSize;
+   }
+
+   /**
+    * Create index of the column and populate it with all rows. Existing index
+    * of the column is replaced.
+    *
+    * @param iColumnCode - code of the column to index
+    * @param iIndexType - one of the INDEX_TYPE_XXX constants
+    * @throws OSSException - the column or the type of the index is not valid
+    */
+   public void createIndex(
+      int iColumnCode,
+      int iIndexType
+   ) throws OSSException
+   {
+      m_lock.writeLock().lock();
+      try
+      {
+         ColumnIndex<T> index;
+
+         index = createIndex(iIndexType, iColumnCode, 
+                             getColumnDefinition(iColumnCode).getColumnDataType());
+         for (int iRowId = m_liveRows.nextSetBit(0); iRowId >= 0; 
+              iRowId = m_liveRows.nextSetBit(iRowId + 1))
+         {
+            index.add(iRowId, m_lstRows.get(iRowId));
+         }
+         m_mpIndexes.put(iColumnCode, index);
+      }
+      finally
+      {
+         m_lock.writeLock().unlock();
+      }
+   }
+
+   /**
+    * Create indexes of all filterable columns of the descriptor, or of all 
+    * columns if the descriptor doesn't specify filterable columns. Boolean
+    * columns, including columns displayed using BOOLEAN_TEXTS_XXX, and 
+    * columns with at most LOW_CARDINALITY_THRESHOLD distinct values in the 
+    * current rows get bitmap index, strings, numbers and timestamps sorted 
+    * index and ids hash index.
+    *
+    * @throws OSSException - the descriptor doesn't define the columns
+    */
+   public void createIndexes(
+   ) throws OSSException
+   {
+      int[] arrColumnCodes = m_descriptor.getFilterableColumnCodes();
+
+      if (arrColumnCodes == null)
+      {
+         List<ListColumnDefinition> lstColumns;
+
+         lstColumns = m_descriptor.getColumnDefinitions();
+         if (lstColumns == null)
+         {
+            throw new OSSInvalidDataException("Descriptor of data type " 
+                         + m_descriptor.getDataType() 
+                         + " doesn't define any columns to index.");
+         }
+         arrColumnCodes = new int[lstColumns.size()];
+         for (int iIndex = 0; iIndex < arrColumnCodes.length; iIndex++)
+         {
+            arrColumnCodes[iIndex] = lstColumns.get(iIndex).getColumnCode();
+         }
+      }
+      for (int iColumnCode : arrColumnCodes)
+      {
+         createIndex(iColumnCode, chooseIndexType(iColumnCode));
+      }
+   }
+
+   /**
+    * Remove index of the column.
+    *
+    * @param iColumnCode - code of the indexed column
+    */
+   public void dropIndex(
+      int iColumnCode
+   )
+   {
+      m_lock.writeLock().lock();
+      try
+      {
+         m_mpIndexes.remove(iColumnCode);
+      }
+      finally
+      {
+         m_lock.writeLock().unlock();
+      }
+   }
+
+   /**
+    * Test if the column is indexed.
+    *
+    * @param iColumnCode - code of the column
+    * @return boolean - true if there is index of the column
+    */
+   public boolean hasIndex(
+      int iColumnCode
+   )
+   {
+      boolean bIndexed;
+
+      m_lock.readLock().lock();
+      try
+      {
+         bIndexed = m_mpIndexes.containsKey(iColumnCode);
+      }
+      finally
+      {
+         m_lock.readLock().unlock();
+      }
+
+      return bIndexed;
+   }
+
+   /**
+    * Get rows satisfying all conditions in the order of their ids.
+    *
+    * @param lstConditions - conditions to satisfy, can be null or empty
+    * @return List<T> - rows satisfying the conditions
+    * @throws OSSException - some condition cannot be evaluated in memory
+    */
+   public List<T> filter(
+      List<DataCondition> lstConditions
+   ) throws OSSException
+   {
+      List<T> lstResult = new ArrayList<>();
+
+      m_lock.readLock().lock();
+      try
+      {
+         BitSet          candidates;
+         RowPredicate<T> predicate;
+
+         candidates = filterRowIds(lstConditions);
+         predicate = m_compiler.compile(getUnindexedConditions(lstConditions));
+         for (int iRowId = candidates.nextSetBit(0); iRowId >= 0; 
+              iRowId = candidates.nextSetBit(iRowId + 1))
+         {
+            T row = m_lstRows.get(iRowId);
+
+            if (predicate.evaluate(row))
+            {
+               lstResult.add(row);
+            }
+         }
+      }
+      finally
+      {
+         m_lock.readLock().unlock();
+      }
+
+      return lstResult;
+   }
+
+   /**
+    * Get the first rows satisfying all conditions in the specified order. 
+    * The rows are selected using bounded heap while they are filtered, so
+    * neither the filtered rows nor their copy have to be sorted.
+    *
+    * @param lstConditions - conditions to satisfy, can be null or empty
+    * @param comparator - comparator defining the order of the rows, for 
+    *                     example compiled by ListOrderCompiler
+    * @param iMaxCount - maximal number of rows to return
+    * @return List<T> - the first rows satisfying the conditions
+    * @throws OSSException - some condition cannot be evaluated in memory
+    */
+   public List<T> filter(
+      List<DataCondition>   lstConditions,
+      Comparator<? super T> comparator,
+      int                   iMaxCount
+   ) throws OSSException
+   {
+      TopKSelector.BoundedHeap<T> heap;
+
+      heap = new TopKSelector.BoundedHeap<>(comparator, iMaxCount);
+      m_lock.readLock().lock();
+      try
+      {
+         BitSet          candidates;
+         RowPredicate<T> predicate;
+
+         candidates = filterRowIds(lstConditions);
+         predicate = m_compiler.compile(getUnindexedConditions(lstConditions));
+         for (int iRowId = candidates.nextSetBit(0); iRowId >= 0; 
+              iRowId = candidates.nextSetBit(iRowId + 1))
+         {
+            T row = m_lstRows.get(iRowId);
+
+            if (predicate.evaluate(row))
+            {
+               heap.offer(row);
+            }
+         }
+      }
+      finally
+      {
+         m_lock.readLock().unlock();
+      }
+
+      return heap.toSortedList();
+   }
+
+   /**
+    * Count rows satisfying all conditions. If all conditions are supported 
+    * by bitmap indexes, the rows are counted using only the compressed 
+    * bitmaps without accessing any row.
+    *
+    * @param lstConditions - conditions to satisfy, can be null or empty
+    * @return int - number of rows satisfying the conditions
+    * @throws OSSException - some condition cannot be evaluated in memory
+    */
+   public int count(
+      List<DataCondition> lstConditions
+   ) throws OSSException
+   {
+      int iCount = 0;
+
+      m_lock.readLock().lock();
+      try
+      {
+         List<DataCondition> lstUnindexed;
+         CompressedBitmap    bitmap;
+
+         lstUnindexed = getUnindexedConditions(lstConditions);
+         bitmap = combineBitmapIndexes(lstConditions);
+         if ((bitmap != null) && (isBitmapIndexed(lstConditions)))
+         {
+            iCount = bitmap.getCardinality();
+         }
+         else
+         {
+            BitSet          candidates;
+            RowPredicate<T> predicate;
+
+            candidates = filterRowIds(bitmap, lstConditions);
+            if (lstUnindexed.isEmpty())
+            {
+               iCount = candidates.cardinality();
+            }
+            else
+            {
+               predicate = m_compiler.compile(lstUnindexed);
+               for (int iRowId = candidates.nextSetBit(0); iRowId >= 0; 
+                    iRowId = candidates.nextSetBit(iRowId + 1))
+               {
+                  if (predicate.evaluate(m_lstRows.get(iRowId)))
+                  {
+                     iCount++;
+                  }
+               }
+            }
+         }
+      }
+      finally
+      {
+         m_lock.readLock().unlock();
+      }
+
+      return iCount;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Find rows satisfying all conditions which can be evaluated using indexes.
+    * The caller has to hold the read lock.
+    *
+    * @param lstConditions - conditions to evaluate, can be null or empty
+    * @return BitSet - ids of rows satisfying the conditions supported by the 
+    *                  indexes, all rows if no condition is supported
+    * @throws OSSException - value of some condition is not valid
+    */
+   protected BitSet filterRowIds(
+      List<DataCondition> lstConditions
+   ) throws OSSException
+   {
+      return filterRowIds(combineBitmapIndexes(lstConditions), lstConditions);
+   }
+
+   /**
+    * Find rows satisfying all conditions which can be evaluated using indexes.
+    * The caller has to hold the read lock.
+    *
+    * @param bitmap - rows satisfying conditions supported by bitmap indexes
+    *                 as returned by combineBitmapIndexes
+    * @param lstConditions - conditions to evaluate, can be null or empty
+    * @return BitSet - ids of rows satisfying the conditions supported by the 
+    *                  indexes, all rows if no condition is supported
+    * @throws OSSException - value of some condition is not valid
+    */
+   protected BitSet filterRowIds(
+      CompressedBitmap    bitmap,
+      List<DataCondition> lstConditions
+   ) throws OSSException
+   {
+      BitSet result;
+
+      if (bitmap == null)
+      {
+         result = (BitSet)m_liveRows.clone();
+      }
+      else
+      {
+         // Bitmap indexes contain only rows which were not removed
+         result = bitmap.toBitSet();
+      }
+      if (lstConditions != null)
+      {
+         for (int iIndex = 0; (iIndex < lstConditions.size()) 
+                              && (!result.isEmpty()); iIndex++)
+         {
+            DataCondition  condition = lstConditions.get(iIndex);
+            ColumnIndex<T> index = getSupportingIndex(condition);
+
+            if ((index != null) && (!(index instanceof BitmapColumnIndex)))
+            {
+               result.and(index.lookup(condition));
+            }
+         }
+      }
+
+      return result;
+   }
+
+   /**
+    * Find rows satisfying all conditions which can be evaluated using bitmap
+    * indexes. The bitmaps of the conditions are intersected in compressed 
+    * form. The caller has to hold the read lock.
+    *
+    * @param lstConditions - conditions to evaluate, can be null or empty
+    * @return CompressedBitmap - ids of rows satisfying the conditions 
+    *                            supported by bitmap indexes, the caller must
+    *                            not modify it, null if no condition is 
+    *                            supported by bitmap index
+    * @throws OSSException - value of some condition is not valid
+    */
+   protected CompressedBitmap combineBitmapIndexes(
+      List<DataCondition> lstConditions
+   ) throws OSSException
+   {
+      CompressedBitmap result = null;
+
+      if (lstConditions != null)
+      {
+         for (int iIndex = 0; (iIndex < lstConditions.size()) 
+                              && ((result == null) || (!result.isEmpty())); 
+              iIndex++)
+         {
+            DataCondition  condition = lstConditions.get(iIndex);
+            ColumnIndex<T> index = getSupportingIndex(condition);
+
+            if (index instanceof BitmapColumnIndex)
+            {
+               CompressedBitmap bitmap;
+
+               bitmap = ((BitmapColumnIndex<T>)index).lookupBitmap(condition);
+               result = (result == null) ? bitmap : result.and(bitmap);
+            }
+         }
+      }
+
+      return result;
+   }
+
+   /**
+    * Test if all conditions are supported by bitmap indexes. The caller has 
+    * to hold the read lock.
+    *
+    * @param lstConditions - conditions to examine, can be null or empty
+    * @return boolean - true if all conditions are supported by bitmap indexes
+    */
+   protected boolean isBitmapIndexed(
+      List<DataCondition> lstConditions
+   )
+   {
+      boolean bIndexed = true;
+
+      if (lstConditions != null)
+      {
+         for (int iIndex = 0; (iIndex < lstConditions.size()) && (bIndexed); 
+              iIndex++)
+         {
+            bIndexed = (getSupportingIndex(lstConditions.get(iIndex)) 
+                          instanceof BitmapColumnIndex);
+         }
+      }
+
+      return bIndexed;
+   }
+
+   /**
+    * Get conditions which cannot be evaluated using indexes. The caller has 
+    * to hold the read lock.
+    *
+    * @param lstConditions - conditions to examine, can be null or empty
+    * @return List<DataCondition> - conditions without supporting index
+    */
+   protected List<DataCondition> getUnindexedConditions(
+      List<DataCondition> lstConditions
+   )
+   {
+      List<DataCondition> lstUnindexed;
+
+      if ((lstConditions == null) || (m_mpIndexes.isEmpty()))
+      {
+         lstUnindexed = (lstConditions == null) 
+                        ? Collections.<DataCondition>emptyList()
+                        : lstConditions;
+      }
+      else
+      {
+         lstUnindexed = new ArrayList<>();
+         for (DataCondition condition : lstConditions)
+         {
+            if (getSupportingIndex(condition) == null)
+            {
+               lstUnindexed.add(condition);
+            }
+         }
+      }
+
+      return lstUnindexed;
+   }
+
+   /**
+    * Get index which can find rows satisfying the condition.
+    *
+    * @param condition - condition to evaluate
+    * @return ColumnIndex<T> - index supporting the condition or null if there
+    *                          is no such index
+    */
+   protected ColumnIndex<T> getSupportingIndex(
+      DataCondition condition
+   )
+   {
+      ColumnIndex<T> index = null;
+
+      if (condition.getOperation() != DataCondition.OPERATION_SQL_QUERY)
+      {
+         index = m_mpIndexes.get(condition.getAttribute());
+         if (index != null)
+         {
+            int iValueType = condition.getValueType();
+
+            if (iValueType == DataCondition.VALUE_TYPE_UNKNOWN)
+            {
+               iValueType = index.getValueType();
+            }
+            if (!index.supports(condition, iValueType))
+            {
+               index = null;
+            }
+         }
+      }
+
+      return index;
+   }
+
+   /**
+    * Choose type of index for the column based on its data type and number 
+    * of distinct values in the current rows. 
+    *
+    * @param iColumnCode - code of the column
+    * @return int - one of the INDEX_TYPE_XXX constants
+    * @throws OSSException - the column is not defined
+    */
+   protected int chooseIndexType(
+      int iColumnCode
+   ) throws OSSException
+   {
+      int iValueType = getColumnDefinition(iColumnCode).getColumnDataType();
+      int iIndexType;
+
+      if (iValueType == DataCondition.VALUE_TYPE_BOOLEAN)
+      {
+         iIndexType = INDEX_TYPE_BITMAP;
+      }
+      else
+      {
+         List<T> lstRows = new ArrayList<>();
+
+         m_lock.readLock().lock();
+         try
+         {
+            for (int iRowId = m_liveRows.nextSetBit(0); iRowId >= 0; 
+                 iRowId = m_liveRows.nextSetBit(iRowId + 1))
+            {
+               lstRows.add(m_lstRows.get(iRowId));
+            }
+         }
+         finally
+         {
+            m_lock.readLock().unlock();
+         }
+         if ((!lstRows.isEmpty())
+            && (ColumnStatistics.collect(lstRows, m_accessor, iColumnCode, 
+                                         iValueType).getDistinctCount() 
+                <= LOW_CARDINALITY_THRESHOLD))
+         {
+            iIndexType = INDEX_TYPE_BITMAP;
+         }
+         else if (iValueType == DataCondition.VALUE_TYPE_ID)
+         {
+            iIndexType = INDEX_TYPE_HASH;
+         }
+         else
+         {
+            iIndexType = INDEX_TYPE_SORTED;
+         }
+      }
+
+      return iIndexType;
+   }
+
+   /**
+    * Create empty index.
+    *
+    * @param iIndexType - one of the INDEX_TYPE_XXX constants
+    * @param iColumnCode - code of the column to index
+    * @param iValueType - type of the values of the column
+    * @return ColumnIndex<T> - created index
+    * @throws OSSException - the type of the index is not valid
+    */
+   protected ColumnIndex<T> createIndex(
+      int iIndexType,
+      int iColumnCode,
+      int iValueType
+   ) throws OSSException
+   {
+      ColumnIndex<T> index;
+
+      switch (iIndexType)
+      {
+         case (INDEX_TYPE_HASH):
+         {
+            index = new HashColumnIndex<>(m_accessor, iColumnCode, iValueType);
+            break;
+         }
+         case (INDEX_TYPE_SORTED):
+         {
+            index = new SortedColumnIndex<>(m_accessor, iColumnCode, 
+                                            iValueType);
+            break;
+         }
+         case (INDEX_TYPE_BITMAP):
+         {
+            index = new BitmapColumnIndex<>(m_accessor, iColumnCode, 
+                                            iValueType);
+            break;
+         }
+         default :
+         {
+            throw new OSSInvalidDataException("Unknown type of index " 
+                                              + iIndexType);
+         }
+      }
+
+      return index;
+   }
+
+   /**
+    * Get definition of the column.
+    *
+    * @param iColumnCode - code of the column
+    * @return ListColumnDefinition - definition of the column
+    * @throws OSSException - the column is not defined
+    */
+   protected ListColumnDefinition getColumnDefinition(
+      int iColumnCode
+   ) throws OSSException
+   {
+      ListColumnDefinition column = null;
+
+      if (m_descriptor.getColumnDefinitions() != null)
+      {
+         column = m_descriptor.getColumnDefinitionsMap().get(iColumnCode);
+      }
+      if (column == null)
+      {
+         throw new OSSInvalidDataException("Column " + iColumnCode 
+                      + " is not defined for data type " 
+                      + m_descriptor.getDataType());
+      }
+
+      return column;
+   }
+
+   /**
+    * Get row which was not removed. The caller has to hold the lock.
+    *
+    * @param iRowId - id of the row
+    * @return T - the row
+    * @throws OSSException - there is no row with the specified id
+    */
+   protected T getLiveRow(
+      int iRowId
+   ) throws OSSException
+   {
+      if ((iRowId < 0) || (!m_liveRows.get(iRowId)))
+      {
+         throw new OSSInvalidDataException("There is no row with id " + iRowId);
+      }
+
+      return m_lstRows.get(iRowId);
+   }
+}
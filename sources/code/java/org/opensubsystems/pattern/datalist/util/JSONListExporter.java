@@ -0,0 +1,308 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+import org.opensubsystems.pattern.datalist.data.ListDataDescriptor;
+
+/**
+ * Exporter streaming lists of data objects as JSON array of objects, one 
+ * object per row on separate line. Names of the properties are the names of
+ * the columns. Numbers and booleans without text representation are written
+ * as JSON numbers and booleans, double values which are not finite and null
+ * values are written as null.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public class JSONListExporter<T> extends ListExporter<T>
+{
+   // Cached values ////////////////////////////////////////////////////////////
+
+   /**
+    * Escaped and quoted names of the columns followed by colon, so that they
+    * don't have to be escaped for every row.
+    */
+   protected String[] m_arrPropertyNames;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor exporting all columns defined by the descriptor.
+    *
+    * @param descriptor - descriptor of the data in the list
+    * @param accessor - accessor to the values of the rows
+    */
+   public JSONListExporter(
+      ListDataDescriptor<?> descriptor,
+      ListDataAccessor<T>   accessor
+   )
+   {
+      super(descriptor, accessor);
+
+      m_arrPropertyNames = getPropertyNames();
+   }
+
+   /**
+    * Constructor exporting only specified columns.
+    *
+    * @param descriptor - descriptor of the data in the list
+    * @param accessor - accessor to the values of the rows
+    * @param arrColumnCodes - codes of the columns to export in the order in 
+    *                         which they should be written
+    * @param iBufferSize - size of the buffer in characters
+    * @throws OSSException - some column is not defined by the descriptor
+    */
+   public JSONListExporter(
+      ListDataDescriptor<?> descriptor,
+      ListDataAccessor<T>   accessor,
+      int[]                 arrColumnCodes,
+      int                   iBufferSize
+   ) throws OSSException
+   {
+      super(descriptor, accessor, arrColumnCodes, iBufferSize);
+
+      m_arrPropertyNames = getPropertyNames();
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "JSONListExporter[");
+      append(sb, ind + 1, "m_arrPropertyNames = ", 
+             Arrays.toString(m_arrPropertyNames));
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void writeHeader(
+      ExportBuffer buffer
+   ) throws IOException
+   {
+      buffer.append('[');
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void writeRow(
+      ExportBuffer buffer,
+      T            row,
+      long         lIndex
+   ) throws IOException
+   {
+      buffer.append((lIndex == 0) ? "\n{" : ",\n{");
+      for (int iIndex = 0; iIndex < m_arrColumns.length; iIndex++)
+      {
+         if (iIndex > 0)
+         {
+            buffer.append(',');
+         }
+         buffer.append(m_arrPropertyNames[iIndex]);
+         writeValue(buffer, row, m_arrColumns[iIndex]);
+      }
+      buffer.append('}');
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void writeFooter(
+      ExportBuffer buffer,
+      long         lCount
+   ) throws IOException
+   {
+      buffer.append((lCount == 0) ? "]\n" : "\n]\n");
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void writeText(
+      ExportBuffer buffer,
+      String       strValue
+   ) throws IOException
+   {
+      int    iStart = 0;
+      String strEscape;
+
+      buffer.append('"');
+      for (int iIndex = 0; iIndex < strValue.length(); iIndex++)
+      {
+         strEscape = getEscapeSequence(strValue.charAt(iIndex));
+         if (strEscape != null)
+         {
+            buffer.append(strValue, iStart, iIndex);
+            buffer.append(strEscape);
+            iStart = iIndex + 1;
+         }
+      }
+      buffer.append(strValue, iStart, strValue.length());
+      buffer.append('"');
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void writeNull(
+      ExportBuffer buffer
+   ) throws IOException
+   {
+      buffer.append("null");
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected void writeDouble(
+      ExportBuffer buffer,
+      double       dValue
+   ) throws IOException
+   {
+      // JSON cannot represent NaN and infinity
+      if ((Double.isNaN(dValue)) || (Double.isInfinite(dValue)))
+      {
+         writeNull(buffer);
+      }
+      else
+      {
+         buffer.append(dValue);
+      }
+   }
+
+   /**
+    * Get escaped and quoted names of the exported columns followed by colon.
+    *
+    * @return String[] - property names for the exported columns
+    */
+   protected String[] getPropertyNames(
+   )
+   {
+      String[]      arrNames = new String[m_arrColumns.length];
+      StringBuilder sbName = new StringBuilder();
+      String        strName;
+      String        strEscape;
+
+      for (int iIndex = 0; iIndex < m_arrColumns.length; iIndex++)
+      {
+         strName = m_arrColumns[iIndex].getColumnName();
+         sbName.setLength(0);
+         sbName.append('"');
+         for (int iChar = 0; iChar < strName.length(); iChar++)
+         {
+            strEscape = getEscapeSequence(strName.charAt(iChar));
+            if (strEscape == null)
+            {
+               sbName.append(strName.charAt(iChar));
+            }
+            else
+            {
+               sbName.append(strEscape);
+            }
+         }
+         sbName.append("\":");
+         arrNames[iIndex] = sbName.toString();
+      }
+
+      return arrNames;
+   }
+
+   /**
+    * Get escape sequence representing character inside of JSON string.
+    *
+    * @param cValue - character to escape
+    * @return String - escape sequence or null if the character doesn't have 
+    *                  to be escaped
+    */
+   protected static String getEscapeSequence(
+      char cValue
+   )
+   {
+      String strEscape = null;
+
+      switch (cValue)
+      {
+         case '"' :
+         {
+            strEscape = "\\\"";
+            break;
+         }
+         case '\\' :
+         {
+            strEscape = "\\\\";
+            break;
+         }
+         case '\n' :
+         {
+            strEscape = "\\n";
+            break;
+         }
+         case '\r' :
+         {
+            strEscape = "\\r";
+            break;
+         }
+         case '\t' :
+         {
+            strEscape = "\\t";
+            break;
+         }
+         case '\u2028' :
+         case '\u2029' :
+         {
+            // Allowed by JSON but not by JavaScript string literals
+            strEscape = String.format("\\u%04x", (int)cValue);
+            break;
+         }
+         default :
+         {
+            if (cValue < 0x20)
+            {
+               strEscape = String.format("\\u%04x", (int)cValue);
+            }
+            break;
+         }
+      }
+
+      return strEscape;
+   }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.error.OSSInvalidDataException;
+import org.opensubsystems.core.util.OSSObject;
+
+/**
+ * Position in ordered list of data objects identified by the values of the 
+ * order columns of the last row of a page. The cursor is passed to clients
+ * as an opaque string, which can be safely used as parameter of URL without
+ * any further encoding, and the next page starts right after the row with 
+ * these values regardless of how many rows precede it. The encoded cursor 
+ * consists only of letters, digits and characters -, _ and ~, which are not 
+ * reserved in URLs, since strings are encoded using URL safe base64 without 
+ * padding.
+ *
+ * The cursor contains signature of the ordering it was created for, so that
+ * cursor created for one ordering is rejected when it is used with another.
+ * The values are Long for ids, integers and timestamps, Double, Boolean and 
+ * String or null.
+ *
+ * @author OpenSubsystems
+ */
+public class KeysetCursor extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Version of the format of encoded cursor.
+    */
+   public static final String FORMAT_VERSION = "2";
+
+   /**
+    * Separator of parts of encoded cursor. Base64 used for strings never 
+    * produces it.
+    */
+   protected static final char PART_SEPARATOR = '~';
+
+   /**
+    * Encoding of strings before they are encoded using base64.
+    */
+   protected static final Charset STRING_ENCODING = StandardCharsets.UTF_8;
+
+   /**
+    * Characters of URL safe base64 encoding indexed by the value they encode.
+    */
+   protected static final char[] BASE64_CHARS 
+      = ("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+        ).toCharArray();
+
+   /**
+    * Values encoded by characters of URL safe base64 encoding indexed by the 
+    * character or -1 if the character is not used by the encoding.
+    */
+   protected static final int[] BASE64_VALUES = createBase64Values();
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Signature of the ordering the cursor was created for.
+    */
+   protected int m_iSignature;
+
+   /**
+    * Values of the order columns of the last row in the order of the columns.
+    */
+   protected Object[] m_arrValues;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param iSignature - signature of the ordering the cursor is created for
+    * @param arrValues - values of the order columns of the last row
+    */
+   public KeysetCursor(
+      int      iSignature,
+      Object[] arrValues
+   )
+   {
+      super();
+
+      m_iSignature = iSignature;
+      m_arrValues = arrValues;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "KeysetCursor[");
+      append(sb, ind + 1, "m_iSignature = ", m_iSignature);
+      append(sb, ind + 1, "m_arrValues = ", Arrays.toString(m_arrValues));
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return int - signature of the ordering the cursor was created for
+    */
+   public int getSignature(
+   )
+   {
+      return m_iSignature;
+   }
+
+   /**
+    * @return Object[] - values of the order columns of the last row, the 
+    *                    caller must not modify them
+    */
+   public Object[] getValues(
+   )
+   {
+      return m_arrValues;
+   }
+
+   /**
+    * Encode the cursor to string, which can be decoded using decode method.
+    *
+    * @return String - encoded cursor
+    */
+   public String encode(
+   )
+   {
+      StringBuilder sbCursor = new StringBuilder();
+
+      sbCursor.append(FORMAT_VERSION);
+      sbCursor.append(PART_SEPARATOR);
+      sbCursor.append(Integer.toString(m_iSignature, Character.MAX_RADIX));
+      for (Object objValue : m_arrValues)
+      {
+         sbCursor.append(PART_SEPARATOR);
+         if (objValue == null)
+         {
+            sbCursor.append('n');
+         }
+         else if (objValue instanceof Long)
+         {
+            sbCursor.append('l');
+            sbCursor.append(Long.toString((Long)objValue, Character.MAX_RADIX));
+         }
+         else if (objValue instanceof Double)
+         {
+            // Bits of the double are stored to preserve the value exactly
+            sbCursor.append('d');
+            sbCursor.append(Long.toString(Double.doubleToLongBits(
+                               (Double)objValue), Character.MAX_RADIX));
+         }
+         else if (objValue instanceof Boolean)
+         {
+            sbCursor.append(((Boolean)objValue).booleanValue() ? 't' : 'f');
+         }
+         else
+         {
+            sbCursor.append('s');
+            appendBase64(sbCursor, 
+                         objValue.toString().getBytes(STRING_ENCODING));
+         }
+      }
+
+      return sbCursor.toString();
+   }
+
+   /**
+    * Decode cursor encoded using encode method.
+    *
+    * @param strCursor - encoded cursor
+    * @return KeysetCursor - decoded cursor
+    * @throws OSSException - the string is not valid encoded cursor
+    */
+   public static KeysetCursor decode(
+      String strCursor
+   ) throws OSSException
+   {
+      KeysetCursor cursor;
+
+      try
+      {
+         String[] arrParts = strCursor.split(String.valueOf(PART_SEPARATOR), 
+                                             -1);
+         Object[] arrValues;
+
+         if ((arrParts.length < 2) || (!FORMAT_VERSION.equals(arrParts[0])))
+         {
+            throw new OSSInvalidDataException("Unsupported format of cursor " 
+                                              + strCursor);
+         }
+         arrValues = new Object[arrParts.length - 2];
+         for (int iIndex = 0; iIndex < arrValues.length; iIndex++)
+         {
+            arrValues[iIndex] = decodeValue(arrParts[iIndex + 2]);
+         }
+         cursor = new KeysetCursor(Integer.parseInt(arrParts[1], 
+                                                    Character.MAX_RADIX), 
+                                   arrValues);
+      }
+      catch (IllegalArgumentException exc)
+      {
+         throw new OSSInvalidDataException("Invalid cursor " + strCursor, exc);
+      }
+
+      return cursor;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Decode single value of the cursor.
+    *
+    * @param strValue - encoded value
+    * @return Object - decoded value
+    */
+   protected static Object decodeValue(
+      String strValue
+   )
+   {
+      Object objValue;
+
+      if (strValue.isEmpty())
+      {
+         throw new IllegalArgumentException("Missing value of cursor");
+      }
+      switch (strValue.charAt(0))
+      {
+         case 'n':
+         {
+            objValue = null;
+            break;
+         }
+         case 'l':
+         {
+            objValue = Long.valueOf(Long.parseLong(strValue.substring(1), 
+                                                   Character.MAX_RADIX));
+            break;
+         }
+         case 'd':
+         {
+            objValue = Double.valueOf(Double.longBitsToDouble(
+                          Long.parseLong(strValue.substring(1), 
+                                         Character.MAX_RADIX)));
+            break;
+         }
+         case 't':
+         {
+            objValue = Boolean.TRUE;
+            break;
+         }
+         case 'f':
+         {
+            objValue = Boolean.FALSE;
+            break;
+         }
+         case 's':
+         {
+            objValue = new String(decodeBase64(strValue, 1), STRING_ENCODING);
+            break;
+         }
+         default :
+         {
+            throw new IllegalArgumentException("Unknown type of value " 
+                                               + strValue);
+         }
+      }
+
+      return objValue;
+   }
+
+   /**
+    * Append bytes encoded using URL safe base64 without padding.
+    *
+    * @param sbOutput - buffer where to append the encoded bytes
+    * @param arrBytes - bytes to encode
+    */
+   protected static void appendBase64(
+      StringBuilder sbOutput,
+      byte[]        arrBytes
+   )
+   {
+      int iIndex = 0;
+      int iBits;
+
+      // Every 3 bytes are encoded as 4 characters
+      while (iIndex + 3 <= arrBytes.length)
+      {
+         iBits = ((arrBytes[iIndex] & 0xFF) << 16) 
+                 | ((arrBytes[iIndex + 1] & 0xFF) << 8) 
+                 | (arrBytes[iIndex + 2] & 0xFF);
+         sbOutput.append(BASE64_CHARS[iBits >>> 18]);
+         sbOutput.append(BASE64_CHARS[(iBits >>> 12) & 0x3F]);
+         sbOutput.append(BASE64_CHARS[(iBits >>> 6) & 0x3F]);
+         sbOutput.append(BASE64_CHARS[iBits & 0x3F]);
+         iIndex += 3;
+      }
+      // The remaining 1 or 2 bytes are encoded as 2 or 3 characters
+      if (iIndex < arrBytes.length)
+      {
+         iBits = (arrBytes[iIndex] & 0xFF) << 16;
+         if (iIndex + 1 < arrBytes.length)
+         {
+            iBits |= (arrBytes[iIndex + 1] & 0xFF) << 8;
+         }
+         sbOutput.append(BASE64_CHARS[iBits >>> 18]);
+         sbOutput.append(BASE64_CHARS[(iBits >>> 12) & 0x3F]);
+         if (iIndex + 1 < arrBytes.length)
+         {
+            sbOutput.append(BASE64_CHARS[(iBits >>> 6) & 0x3F]);
+         }
+      }
+   }
+
+   /**
+    * Decode text encoded using URL safe base64 without padding.
+    *
+    * @param strText - text containing the encoded bytes
+    * @param iFrom - index where the encoded bytes start
+    * @return byte[] - decoded bytes
+    * @throws IllegalArgumentException - the text is not valid base64
+    */
+   protected static byte[] decodeBase64(
+      String strText,
+      int    iFrom
+   )
+   {
+      int    iLength = strText.length() - iFrom;
+      byte[] arrBytes;
+      int    iBits = 0;
+      int    iBitCount = 0;
+      int    iOutput = 0;
+
+      if (iLength % 4 == 1)
+      {
+         throw new IllegalArgumentException("Invalid length of base64 text " 
+                                            + strText);
+      }
+      arrBytes = new byte[iLength * 3 / 4];
+      for (int iIndex = iFrom; iIndex < strText.length(); iIndex++)
+      {
+         char cChar = strText.charAt(iIndex);
+         int  iValue = (cChar < BASE64_VALUES.length) 
+                       ? BASE64_VALUES[cChar] : -1;
+
+         if (iValue == -1)
+         {
+            throw new IllegalArgumentException("Invalid base64 character " 
+                                               + cChar);
+         }
+         iBits = (iBits << 6) | iValue;
+         iBitCount += 6;
+         if (iBitCount >= 8)
+         {
+            iBitCount -= 8;
+            arrBytes[iOutput++] = (byte)(iBits >>> iBitCount);
+            iBits &= (1 << iBitCount) - 1;
+         }
+      }
+
+      return arrBytes;
+   }
+
+   /**
+    * @return int[] - values encoded by characters of URL safe base64 encoding
+    *                 indexed by the character
+    */
+   private static int[] createBase64Values(
+   )
+   {
+      int[] arrValues = new int[128];
+
+      Arrays.fill(arrValues, -1);
+      for (int iIndex = 0; iIndex < BASE64_CHARS.length; iIndex++)
+      {
+         arrValues[BASE64_CHARS[iIndex]] = iIndex;
+      }
+
+      return arrValues;
+   }
+}
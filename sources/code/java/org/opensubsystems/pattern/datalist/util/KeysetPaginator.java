@@ -0,0 +1,876 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.error.OSSInvalidDataException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListColumnDefinition;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+import org.opensubsystems.pattern.datalist.data.ListDataDescriptor;
+import org.opensubsystems.pattern.datalist.data.ListOrder;
+import org.opensubsystems.pattern.datalist.data.RowPredicate;
+
+/**
+ * Keyset (seek) pagination of lists of data objects. Instead of skipping 
+ * the rows of the preceding pages, each page starts right after the last row
+ * of the previous page identified by a cursor containing the values of the 
+ * order columns of that row. Retrieving any page therefore costs the same as 
+ * retrieving the first one, both in memory, where the start of the page is 
+ * found using binary search, and in the database, where the seek condition
+ * can use index of the order columns.
+ *
+ * The ordering is by default the ordering defined by the descriptor of the 
+ * data and it can mix ascending and descending columns. The ordering has to 
+ * be unique, otherwise rows with the same values of all order columns could 
+ * be skipped. Therefore column with unique values, such as id, can be 
+ * specified as tie breaker, which is appended to the ordering in ascending 
+ * order unless it is already part of it. 
+ *
+ * Null values are ordered before all other values in ascending order and 
+ * after them in descending order, both in memory and in the generated SQL.
+ * The tie breaker column is expected never to be null. Strings are compared 
+ * using String.compareTo, so pages retrieved from the database match pages
+ * retrieved from memory only if the database uses binary collation.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public class KeysetPaginator<T> extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Code used when the ordering doesn't need any tie breaker column.
+    */
+   public static final int NO_TIE_BREAKER = -1;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Accessor to the values of the rows.
+    */
+   protected ListDataAccessor<T> m_accessor;
+
+   /**
+    * Codes of the order columns.
+    */
+   protected int[] m_arrColumnCodes;
+
+   /**
+    * Types of the values of the order columns, one of the 
+    * DataCondition.VALUE_TYPE_XXX constants.
+    */
+   protected int[] m_arrValueTypes;
+
+   /**
+    * Flags if the order columns are ordered in descending order.
+    */
+   protected boolean[] m_arrDescending;
+
+   /**
+    * Flags if the order columns can contain null values.
+    */
+   protected boolean[] m_arrNullable;
+
+   /**
+    * Signature of the ordering stored in the cursors.
+    */
+   protected int m_iSignature;
+
+   // Cached values ////////////////////////////////////////////////////////////
+
+   /**
+    * Comparator of rows according to the ordering.
+    */
+   protected Comparator<T> m_comparator;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor of paginator using the default ordering of the descriptor.
+    *
+    * @param descriptor - descriptor of the data defining the columns and the
+    *                     default ordering
+    * @param accessor - accessor to the values of the rows
+    * @param iTieBreakerColumnCode - code of column with unique values or 
+    *                                NO_TIE_BREAKER if the default ordering is 
+    *                                unique
+    * @throws OSSException - the ordering is not defined or it uses undefined
+    *                        columns
+    */
+   public KeysetPaginator(
+      ListDataDescriptor<?> descriptor,
+      ListDataAccessor<T>   accessor,
+      int                   iTieBreakerColumnCode
+   ) throws OSSException
+   {
+      this(descriptor, accessor, descriptor.getDefaultListOrderColumnCodes(),
+           descriptor.getDefaultListOrderDirections(), iTieBreakerColumnCode);
+   }
+
+   /**
+    * Constructor of paginator using the specified ordering.
+    *
+    * @param descriptor - descriptor of the data defining the columns
+    * @param accessor - accessor to the values of the rows
+    * @param arrColumnCodes - codes of the order columns, can be null 
+    * @param arrDirections - directions of the order columns, see 
+    *                        ListOrder.ORDER_XXX constants, null means 
+    *                        ascending order of all columns
+    * @param iTieBreakerColumnCode - code of column with unique values or 
+    *                                NO_TIE_BREAKER if the ordering is unique
+    * @throws OSSException - the ordering is empty or it uses undefined 
+    *                        columns
+    */
+   public KeysetPaginator(
+      ListDataDescriptor<?> descriptor,
+      ListDataAccessor<T>   accessor,
+      int[]                 arrColumnCodes,
+      String[]              arrDirections,
+      int                   iTieBreakerColumnCode
+   ) throws OSSException
+   {
+      super();
+
+      ListOrderCompiler<T> compiler = new ListOrderCompiler<>(descriptor, 
+                                                              accessor);
+      int[]                arrCodes = (arrColumnCodes == null) 
+                                      ? new int[0] : arrColumnCodes;
+      int                  iCount = arrCodes.length;
+      String[]             arrAllDirections;
+
+      if ((iTieBreakerColumnCode != NO_TIE_BREAKER)
+         && (indexOf(arrCodes, iTieBreakerColumnCode) == -1))
+      {
+         iCount++;
+      }
+      if (iCount == 0)
+      {
+         throw new OSSInvalidDataException("Ordering of data type " 
+                      + descriptor.getDataType() + " is not defined.");
+      }
+      if ((arrDirections != null) && (arrDirections.length < arrCodes.length))
+      {
+         throw new OSSInvalidDataException("Direction is not defined for all" 
+                      + " order columns of data type " 
+                      + descriptor.getDataType());
+      }
+
+      m_accessor = accessor;
+      m_arrColumnCodes = Arrays.copyOf(arrCodes, iCount);
+      m_arrValueTypes = new int[iCount];
+      m_arrDescending = new boolean[iCount];
+      m_arrNullable = new boolean[iCount];
+      if (iCount > arrCodes.length)
+      {
+         m_arrColumnCodes[iCount - 1] = iTieBreakerColumnCode;
+      }
+      arrAllDirections = new String[iCount];
+      m_iSignature = 1;
+      for (int iIndex = 0; iIndex < iCount; iIndex++)
+      {
+         ListColumnDefinition column;
+
+         column = compiler.getColumnDefinition(m_arrColumnCodes[iIndex]);
+         m_arrValueTypes[iIndex] = column.getColumnDataType();
+         m_arrDescending[iIndex] = (iIndex < arrCodes.length) 
+                                   && (arrDirections != null)
+                                   && (ListOrderCompiler.isDescending(
+                                          arrDirections[iIndex]));
+         arrAllDirections[iIndex] = m_arrDescending[iIndex] 
+                                    ? ListOrder.ORDER_DESCENDING 
+                                    : ListOrder.ORDER_ASCENDING;
+         m_arrNullable[iIndex] = (m_arrColumnCodes[iIndex] 
+                                    != iTieBreakerColumnCode);
+         m_iSignature = 31 * m_iSignature + m_arrColumnCodes[iIndex];
+         m_iSignature = 31 * m_iSignature + m_arrValueTypes[iIndex];
+         m_iSignature = 31 * m_iSignature + (m_arrDescending[iIndex] ? 1 : 0);
+      }
+      m_comparator = compiler.compile(m_arrColumnCodes, arrAllDirections);
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "KeysetPaginator[");
+      append(sb, ind + 1, "m_arrColumnCodes = ", 
+             Arrays.toString(m_arrColumnCodes));
+      append(sb, ind + 1, "m_arrDescending = ", 
+             Arrays.toString(m_arrDescending));
+      append(sb, ind + 1, "m_iSignature = ", m_iSignature);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return int[] - codes of the order columns including the tie breaker, 
+    *                 the caller must not modify them
+    */
+   public int[] getColumnCodes(
+   )
+   {
+      return m_arrColumnCodes;
+   }
+
+   /**
+    * @return Comparator<T> - comparator compiled by ListOrderCompiler 
+    *                         ordering rows according to the ordering of 
+    *                         the paginator
+    */
+   public Comparator<T> getComparator(
+   )
+   {
+      return m_comparator;
+   }
+
+   /**
+    * Create cursor pointing right after the specified row.
+    *
+    * @param row - last row of the page
+    * @return KeysetCursor - cursor identifying the next page
+    */
+   public KeysetCursor createCursor(
+      T row
+   )
+   {
+      Object[] arrValues = new Object[m_arrColumnCodes.length];
+
+      for (int iIndex = 0; iIndex < arrValues.length; iIndex++)
+      {
+         arrValues[iIndex] = getValue(row, iIndex);
+      }
+
+      return new KeysetCursor(m_iSignature, arrValues);
+   }
+
+   /**
+    * Decode cursor received from client and verify that it was created for 
+    * the ordering of this paginator.
+    *
+    * @param strCursor - encoded cursor, null or empty for the first page
+    * @return KeysetCursor - decoded cursor or null for the first page
+    * @throws OSSException - the cursor is not valid for this ordering
+    */
+   public KeysetCursor decodeCursor(
+      String strCursor
+   ) throws OSSException
+   {
+      KeysetCursor cursor = null;
+
+      if ((strCursor != null) && (!strCursor.isEmpty()))
+      {
+         cursor = KeysetCursor.decode(strCursor);
+         checkCursor(cursor);
+      }
+
+      return cursor;
+   }
+
+   /**
+    * Get predicate satisfied by rows following the cursor.
+    *
+    * @param cursor - cursor identifying the last row of the previous page
+    * @return RowPredicate<T> - predicate satisfied only by rows which follow 
+    *                           the cursor
+    * @throws OSSException - the cursor is not valid for this ordering
+    */
+   public RowPredicate<T> getSeekPredicate(
+      KeysetCursor cursor
+   ) throws OSSException
+   {
+      checkCursor(cursor);
+
+      return new SeekPredicate(cursor.getValues());
+   }
+
+   /**
+    * Get page of rows following the cursor from list of rows ordered by the
+    * comparator of this paginator. The start of the page is found using 
+    * binary search, so the list should support fast random access.
+    *
+    * @param lstSortedRows - rows ordered by the comparator of the paginator
+    * @param cursor - cursor identifying the last row of the previous page or
+    *                 null for the first page
+    * @param iPageSize - maximal number of rows of the page
+    * @return List<T> - rows of the page
+    * @throws OSSException - the cursor is not valid for this ordering
+    */
+   public List<T> getPage(
+      List<T>      lstSortedRows,
+      KeysetCursor cursor,
+      int          iPageSize
+   ) throws OSSException
+   {
+      int iStart = 0;
+
+      if (cursor != null)
+      {
+         Object[] arrValues = cursor.getValues();
+         int      iEnd = lstSortedRows.size();
+
+         checkCursor(cursor);
+         // Find the first row which follows the cursor
+         while (iStart < iEnd)
+         {
+            int iMiddle = (iStart + iEnd) >>> 1;
+
+            if (compareToCursor(lstSortedRows.get(iMiddle), arrValues) <= 0)
+            {
+               iStart = iMiddle + 1;
+            }
+            else
+            {
+               iEnd = iMiddle;
+            }
+         }
+      }
+
+      return new ArrayList<>(lstSortedRows.subList(iStart, 
+                                Math.min(lstSortedRows.size(), 
+                                         iStart + Math.max(0, iPageSize))));
+   }
+
+   /**
+    * Get page of rows following the cursor from rows in any order. The rows
+    * of the page are selected using bounded heap, so the rows don't have to
+    * be sorted and the cost depends only on the number of the rows and the 
+    * size of the page.
+    *
+    * @param rows - rows in any order
+    * @param cursor - cursor identifying the last row of the previous page or
+    *                 null for the first page
+    * @param iPageSize - maximal number of rows of the page
+    * @return List<T> - rows of the page
+    * @throws OSSException - the cursor is not valid for this ordering
+    */
+   public List<T> selectPage(
+      Iterable<? extends T> rows,
+      KeysetCursor          cursor,
+      int                   iPageSize
+   ) throws OSSException
+   {
+      TopKSelector.BoundedHeap<T> heap;
+      RowPredicate<T>             predicate = null;
+
+      if (cursor != null)
+      {
+         predicate = getSeekPredicate(cursor);
+      }
+      heap = new TopKSelector.BoundedHeap<>(m_comparator, iPageSize);
+      for (T row : rows)
+      {
+         if ((predicate == null) || (predicate.evaluate(row)))
+         {
+            heap.offer(row);
+         }
+      }
+
+      return heap.toSortedList();
+   }
+
+   /**
+    * Generate SQL ORDER BY list corresponding to the ordering.
+    *
+    * @param mpColumnNames - names of database columns keyed by the codes of 
+    *                        the columns
+    * @return String - list of order expressions without the ORDER BY keyword
+    * @throws OSSException - some order column is not mapped
+    */
+   public String getOrderBySQL(
+      Map<Integer, String> mpColumnNames
+   ) throws OSSException
+   {
+      StringBuilder sbSQL = new StringBuilder();
+
+      for (int iIndex = 0; iIndex < m_arrColumnCodes.length; iIndex++)
+      {
+         String strColumn = getColumnName(mpColumnNames, iIndex);
+         String strDirection = m_arrDescending[iIndex] 
+                               ? ListOrder.ORDER_DESCENDING 
+                               : ListOrder.ORDER_ASCENDING;
+
+         if (iIndex > 0)
+         {
+            sbSQL.append(", ");
+         }
+         if (m_arrNullable[iIndex])
+         {
+            // Order nulls the same way in all databases
+            sbSQL.append("CASE WHEN ").append(strColumn);
+            sbSQL.append(" IS NULL THEN 0 ELSE 1 END").append(strDirection);
+            sbSQL.append(", ");
+         }
+         sbSQL.append(strColumn).append(strDirection);
+      }
+
+      return sbSQL.toString();
+   }
+
+   /**
+    * Generate SQL condition satisfied by rows following the cursor. The 
+    * generated SQL depends only on which values of the cursor are null, so 
+    * the statement can be prepared once and reused for all pages.
+    *
+    * @param cursor - cursor identifying the last row of the previous page or
+    *                 null for the first page
+    * @param mpColumnNames - names of database columns keyed by the codes of 
+    *                        the columns
+    * @return SQLWhereClause - generated SQL and its parameters, empty for the
+    *                          first page
+    * @throws OSSException - the cursor is not valid for this ordering or 
+    *                        some order column is not mapped
+    */
+   public SQLWhereClause getSeekClause(
+      KeysetCursor         cursor,
+      Map<Integer, String> mpColumnNames
+   ) throws OSSException
+   {
+      StringBuilder sbSQL = new StringBuilder();
+      StringBuilder sbShapeKey = new StringBuilder();
+      List<Object>  lstParameters = new ArrayList<>();
+
+      if (cursor != null)
+      {
+         Object[] arrValues = cursor.getValues();
+         int      iOpen = 0;
+
+         checkCursor(cursor);
+         sbShapeKey.append("keyset:").append(m_iSignature).append(':');
+         for (int iIndex = 0; iIndex < arrValues.length; iIndex++)
+         {
+            String  strColumn = getColumnName(mpColumnNames, iIndex);
+            Object  objParameter = toParameter(arrValues[iIndex], iIndex);
+            boolean bLast = (iIndex == arrValues.length - 1);
+            boolean bFollowing;
+
+            sbShapeKey.append((objParameter == null) ? 'n' : 'v');
+            // Condition satisfied if this column alone follows the cursor
+            bFollowing = (objParameter != null) || (!m_arrDescending[iIndex]);
+            if ((bFollowing) && (!bLast))
+            {
+               sbSQL.append('(');
+               iOpen++;
+            }
+            if (bFollowing)
+            {
+               appendFollowingSQL(sbSQL, lstParameters, strColumn, 
+                                  objParameter, iIndex);
+            }
+            else if (bLast)
+            {
+               sbSQL.append("1 = 0");
+            }
+            if (!bLast)
+            {
+               if (bFollowing)
+               {
+                  sbSQL.append(" OR (");
+                  iOpen++;
+               }
+               // Or this column is equal and the next columns follow
+               if (objParameter == null)
+               {
+                  sbSQL.append(strColumn).append(" IS NULL");
+               }
+               else
+               {
+                  sbSQL.append(strColumn).append(" = ?");
+                  lstParameters.add(objParameter);
+               }
+               sbSQL.append(" AND ");
+            }
+         }
+         for (; iOpen > 0; iOpen--)
+         {
+            sbSQL.append(')');
+         }
+      }
+
+      return new SQLWhereClause(sbShapeKey.toString(), sbSQL.toString(), 
+                                lstParameters);
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Append SQL satisfied by rows where the column follows the value of the 
+    * cursor.
+    *
+    * @param sbSQL - SQL to append to
+    * @param lstParameters - parameters to append to
+    * @param strColumn - name of the column
+    * @param objParameter - value of the cursor converted to parameter
+    * @param iIndex - index of the order column
+    */
+   protected void appendFollowingSQL(
+      StringBuilder sbSQL,
+      List<Object>  lstParameters,
+      String        strColumn,
+      Object        objParameter,
+      int           iIndex
+   )
+   {
+      if (objParameter == null)
+      {
+         // Only ascending order, nulls are first
+         sbSQL.append(strColumn).append(" IS NOT NULL");
+      }
+      else if (!m_arrDescending[iIndex])
+      {
+         sbSQL.append(strColumn).append(" > ?");
+         lstParameters.add(objParameter);
+      }
+      else if (m_arrNullable[iIndex])
+      {
+         // Nulls are last in descending order
+         sbSQL.append('(').append(strColumn).append(" < ? OR ");
+         sbSQL.append(strColumn).append(" IS NULL)");
+         lstParameters.add(objParameter);
+      }
+      else
+      {
+         sbSQL.append(strColumn).append(" < ?");
+         lstParameters.add(objParameter);
+      }
+   }
+
+   /**
+    * Compare row with values of cursor according to the ordering.
+    *
+    * @param row - row to compare
+    * @param arrValues - values of the cursor
+    * @return int - negative if the row precedes the cursor, 0 if it is the 
+    *               row of the cursor and positive if it follows the cursor
+    */
+   protected int compareToCursor(
+      T        row,
+      Object[] arrValues
+   )
+   {
+      int iResult = 0;
+
+      for (int iIndex = 0; (iIndex < arrValues.length) && (iResult == 0); 
+           iIndex++)
+      {
+         iResult = compareToValue(row, iIndex, arrValues[iIndex]);
+         if (m_arrDescending[iIndex])
+         {
+            iResult = -iResult;
+         }
+      }
+
+      return iResult;
+   }
+
+   /**
+    * Compare value of order column of the row with value of cursor in 
+    * ascending order.
+    *
+    * @param row - row to compare
+    * @param iIndex - index of the order column
+    * @param objValue - value of the cursor
+    * @return int - result of the comparison, nulls are first
+    */
+   protected int compareToValue(
+      T      row,
+      int    iIndex,
+      Object objValue
+   )
+   {
+      int iColumnCode = m_arrColumnCodes[iIndex];
+      int iResult;
+
+      if (m_arrValueTypes[iIndex] == DataCondition.VALUE_TYPE_STRING)
+      {
+         String strValue = m_accessor.getString(row, iColumnCode);
+
+         iResult = (strValue == null) 
+                   ? ((objValue == null) ? 0 : -1)
+                   : ((objValue == null) ? 1 
+                                         : strValue.compareTo((String)objValue));
+      }
+      else if (m_accessor.isNull(row, iColumnCode))
+      {
+         iResult = (objValue == null) ? 0 : -1;
+      }
+      else if (objValue == null)
+      {
+         iResult = 1;
+      }
+      else
+      {
+         switch (m_arrValueTypes[iIndex])
+         {
+            case (DataCondition.VALUE_TYPE_DOUBLE):
+            {
+               iResult = Double.compare(m_accessor.getDouble(row, iColumnCode),
+                                        (Double)objValue);
+               break;
+            }
+            case (DataCondition.VALUE_TYPE_BOOLEAN):
+            {
+               iResult = Boolean.compare(m_accessor.getBoolean(row, iColumnCode),
+                                         (Boolean)objValue);
+               break;
+            }
+            default :
+            {
+               iResult = Long.compare(m_accessor.getLong(row, iColumnCode),
+                                      (Long)objValue);
+            }
+         }
+      }
+
+      return iResult;
+   }
+
+   /**
+    * Get value of order column of the row as stored in the cursor.
+    *
+    * @param row - row to get the value from
+    * @param iIndex - index of the order column
+    * @return Object - value of the column or null
+    */
+   protected Object getValue(
+      T   row,
+      int iIndex
+   )
+   {
+      int    iColumnCode = m_arrColumnCodes[iIndex];
+      Object objValue;
+
+      if (m_arrValueTypes[iIndex] == DataCondition.VALUE_TYPE_STRING)
+      {
+         objValue = m_accessor.getString(row, iColumnCode);
+      }
+      else if (m_accessor.isNull(row, iColumnCode))
+      {
+         objValue = null;
+      }
+      else
+      {
+         switch (m_arrValueTypes[iIndex])
+         {
+            case (DataCondition.VALUE_TYPE_DOUBLE):
+            {
+               objValue = Double.valueOf(m_accessor.getDouble(row, iColumnCode));
+               break;
+            }
+            case (DataCondition.VALUE_TYPE_BOOLEAN):
+            {
+               objValue = Boolean.valueOf(m_accessor.getBoolean(row, 
+                                                                iColumnCode));
+               break;
+            }
+            default :
+            {
+               objValue = Long.valueOf(m_accessor.getLong(row, iColumnCode));
+            }
+         }
+      }
+
+      return objValue;
+   }
+
+   /**
+    * Convert value of the cursor to parameter of statement.
+    *
+    * @param objValue - value of the cursor
+    * @param iIndex - index of the order column
+    * @return Object - value of the parameter or null
+    */
+   protected Object toParameter(
+      Object objValue,
+      int    iIndex
+   )
+   {
+      Object objParameter = objValue;
+
+      if ((objValue != null) 
+         && (m_arrValueTypes[iIndex] == DataCondition.VALUE_TYPE_TIMESTAMP))
+      {
+         objParameter = new Timestamp((Long)objValue);
+      }
+
+      return objParameter;
+   }
+
+   /**
+    * Verify that the cursor was created for the ordering of this paginator.
+    *
+    * @param cursor - cursor to verify
+    * @throws OSSException - the cursor is not valid for this ordering
+    */
+   protected void checkCursor(
+      KeysetCursor cursor
+   ) throws OSSException
+   {
+      Object[] arrValues = cursor.getValues();
+      boolean  bValid;
+
+      bValid = (cursor.getSignature() == m_iSignature)
+               && (arrValues.length == m_arrColumnCodes.length);
+      for (int iIndex = 0; (iIndex < m_arrColumnCodes.length) && (bValid); 
+           iIndex++)
+      {
+         Object objValue = arrValues[iIndex];
+
+         if (objValue == null)
+         {
+            bValid = m_arrNullable[iIndex];
+         }
+         else
+         {
+            switch (m_arrValueTypes[iIndex])
+            {
+               case (DataCondition.VALUE_TYPE_STRING):
+               {
+                  bValid = (objValue instanceof String);
+                  break;
+               }
+               case (DataCondition.VALUE_TYPE_DOUBLE):
+               {
+                  bValid = (objValue instanceof Double);
+                  break;
+               }
+               case (DataCondition.VALUE_TYPE_BOOLEAN):
+               {
+                  bValid = (objValue instanceof Boolean);
+                  break;
+               }
+               default :
+               {
+                  bValid = (objValue instanceof Long);
+               }
+            }
+         }
+      }
+      if (!bValid)
+      {
+         throw new OSSInvalidDataException("Cursor " + cursor.encode() 
+                      + " was not created for ordering by columns " 
+                      + Arrays.toString(m_arrColumnCodes));
+      }
+   }
+
+   /**
+    * Get name of database column corresponding to order column.
+    *
+    * @param mpColumnNames - names of database columns keyed by the codes of 
+    *                        the columns
+    * @param iIndex - index of the order column
+    * @return String - name of the database column
+    * @throws OSSException - the column is not mapped
+    */
+   protected String getColumnName(
+      Map<Integer, String> mpColumnNames,
+      int                  iIndex
+   ) throws OSSException
+   {
+      String strColumn = mpColumnNames.get(m_arrColumnCodes[iIndex]);
+
+      if (strColumn == null)
+      {
+         throw new OSSInvalidDataException("Order column " 
+                      + m_arrColumnCodes[iIndex] 
+                      + " is not mapped to any database column.");
+      }
+
+      return strColumn;
+   }
+
+   /**
+    * Find position of value in array.
+    *
+    * @param arrValues - array to search
+    * @param iValue - value to find
+    * @return int - index of the value or -1 if it is not in the array
+    */
+   protected static int indexOf(
+      int[] arrValues,
+      int   iValue
+   )
+   {
+      int iPosition = -1;
+
+      for (int iIndex = 0; (iIndex < arrValues.length) && (iPosition == -1); 
+           iIndex++)
+      {
+         if (arrValues[iIndex] == iValue)
+         {
+            iPosition = iIndex;
+         }
+      }
+
+      return iPosition;
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Predicate satisfied by rows following the cursor.
+    */
+   protected class SeekPredicate implements RowPredicate<T>
+   {
+      /**
+       * Values of the cursor.
+       */
+      private final Object[] m_arrValues;
+
+      /**
+       * Constructor.
+       *
+       * @param arrValues - values of the cursor
+       */
+      public SeekPredicate(
+         Object[] arrValues
+      )
+      {
+         m_arrValues = arrValues;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         return compareToCursor(row, m_arrValues) > 0;
+      }
+   }
+}
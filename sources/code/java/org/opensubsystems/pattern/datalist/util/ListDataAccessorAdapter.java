@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.Date;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+
+/**
+ * Base class for accessors which can provide values of columns only as 
+ * objects. The typed methods convert the value returned by getValue. Derived 
+ * classes should override the typed methods for the most frequently filtered 
+ * columns so that the values don't have to be boxed.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public abstract class ListDataAccessorAdapter<T> implements ListDataAccessor<T>
+{
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public boolean isNull(
+      T   row,
+      int iColumnCode
+   )
+   {
+      return getValue(row, iColumnCode) == null;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public long getLong(
+      T   row,
+      int iColumnCode
+   )
+   {
+      Object objValue = getValue(row, iColumnCode);
+      long   lValue;
+
+      if (objValue instanceof Date)
+      {
+         lValue = ((Date)objValue).getTime();
+      }
+      else
+      {
+         lValue = ((Number)objValue).longValue();
+      }
+
+      return lValue;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public double getDouble(
+      T   row,
+      int iColumnCode
+   )
+   {
+      return ((Number)getValue(row, iColumnCode)).doubleValue();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public boolean getBoolean(
+      T   row,
+      int iColumnCode
+   )
+   {
+      Object  objValue = getValue(row, iColumnCode);
+      boolean bValue;
+
+      if (objValue instanceof Number)
+      {
+         bValue = ((Number)objValue).intValue() != 0;
+      }
+      else
+      {
+         bValue = ((Boolean)objValue).booleanValue();
+      }
+
+      return bValue;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public String getString(
+      T   row,
+      int iColumnCode
+   )
+   {
+      Object objValue = getValue(row, iColumnCode);
+
+      return (objValue == null) ? null 
+                                : DataConditionValues.toStringValue(objValue);
+   }
+}
@@ -0,0 +1,566 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.error.OSSInvalidDataException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListColumnDefinition;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+import org.opensubsystems.pattern.datalist.data.ListDataDescriptor;
+
+/**
+ * Base class for exporters streaming lists of data objects in text formats.
+ * The exported columns are described by the column definitions of the list 
+ * descriptor. Rows are pulled one at a time from the iterable and the typed 
+ * values of their columns are written directly to a fixed size buffer, 
+ * which is written to the output whenever it fills up. The next row is 
+ * pulled only after the output accepted the data which didn't fit to the 
+ * buffer, so slow consumer slows down the export and memory used by the 
+ * export doesn't depend on the number of rows. To export large lists the 
+ * iterable should produce the rows lazily, e.g. from database cursor.
+ *
+ * Values of columns of type VALUE_TYPE_ID, VALUE_TYPE_INTEGER and 
+ * VALUE_TYPE_TIMESTAMP are written as numbers, timestamps as number of 
+ * milliseconds since the epoch. Values of boolean columns are written using
+ * the column boolean values if the column defines them.
+ *
+ * The exporter doesn't keep any state of the export and it can be used by
+ * multiple threads concurrently if the accessor can.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public abstract class ListExporter<T> extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Default size of the buffer in characters.
+    */
+   public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Accessor to the values of the rows.
+    */
+   protected ListDataAccessor<T> m_accessor;
+
+   /**
+    * Exported columns in the order in which they are written.
+    */
+   protected ListColumnDefinition[] m_arrColumns;
+
+   /**
+    * Size of the buffer in characters.
+    */
+   protected int m_iBufferSize;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor exporting all columns defined by the descriptor.
+    *
+    * @param descriptor - descriptor of the data in the list
+    * @param accessor - accessor to the values of the rows
+    */
+   public ListExporter(
+      ListDataDescriptor<?> descriptor,
+      ListDataAccessor<T>   accessor
+   )
+   {
+      super();
+
+      List<ListColumnDefinition> lstColumns = descriptor.getColumnDefinitions();
+
+      m_accessor = accessor;
+      m_arrColumns = lstColumns.toArray(
+                        new ListColumnDefinition[lstColumns.size()]);
+      m_iBufferSize = DEFAULT_BUFFER_SIZE;
+   }
+
+   /**
+    * Constructor exporting only specified columns.
+    *
+    * @param descriptor - descriptor of the data in the list
+    * @param accessor - accessor to the values of the rows
+    * @param arrColumnCodes - codes of the columns to export in the order in 
+    *                         which they should be written
+    * @param iBufferSize - size of the buffer in characters
+    * @throws OSSException - some column is not defined by the descriptor
+    */
+   public ListExporter(
+      ListDataDescriptor<?> descriptor,
+      ListDataAccessor<T>   accessor,
+      int[]                 arrColumnCodes,
+      int                   iBufferSize
+   ) throws OSSException
+   {
+      super();
+
+      Map<Integer, ListColumnDefinition> mpColumns;
+
+      mpColumns = descriptor.getColumnDefinitionsMap();
+      m_accessor = accessor;
+      m_arrColumns = new ListColumnDefinition[arrColumnCodes.length];
+      for (int iIndex = 0; iIndex < arrColumnCodes.length; iIndex++)
+      {
+         m_arrColumns[iIndex] = mpColumns.get(arrColumnCodes[iIndex]);
+         if (m_arrColumns[iIndex] == null)
+         {
+            throw new OSSInvalidDataException("Column " 
+                         + arrColumnCodes[iIndex] + " is not defined for "
+                         + descriptor.getDataTypeName());
+         }
+      }
+      m_iBufferSize = Math.max(iBufferSize, 64);
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ListExporter[");
+      append(sb, ind + 1, "m_arrColumns = ", Arrays.toString(m_arrColumns));
+      append(sb, ind + 1, "m_iBufferSize = ", m_iBufferSize);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return ListColumnDefinition[] - exported columns
+    */
+   public ListColumnDefinition[] getColumns(
+   )
+   {
+      return m_arrColumns;
+   }
+
+   /**
+    * Export rows to writer. The writer is flushed but not closed.
+    *
+    * @param rows - rows to export
+    * @param writer - writer to write the rows to
+    * @return long - number of exported rows
+    * @throws IOException - an error has occurred while writing the rows
+    */
+   public long export(
+      Iterable<? extends T> rows,
+      Writer                writer
+   ) throws IOException
+   {
+      ExportBuffer buffer = new ExportBuffer(writer, m_iBufferSize);
+      long         lCount = 0;
+
+      writeHeader(buffer);
+      for (T row : rows)
+      {
+         writeRow(buffer, row, lCount++);
+      }
+      writeFooter(buffer, lCount);
+      buffer.flush();
+      writer.flush();
+
+      return lCount;
+   }
+
+   /**
+    * Export rows to channel. The channel should be in blocking mode and it 
+    * is not closed.
+    *
+    * @param rows - rows to export
+    * @param channel - channel to write the rows to
+    * @param charset - charset to encode the characters with
+    * @return long - number of exported rows
+    * @throws IOException - an error has occurred while writing the rows
+    */
+   public long export(
+      Iterable<? extends T> rows,
+      WritableByteChannel   channel,
+      Charset               charset
+   ) throws IOException
+   {
+      // The writer encodes the characters using its own reused byte buffer
+      return export(rows, Channels.newWriter(channel, charset.newEncoder(), 
+                                             m_iBufferSize));
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Write data preceding the first row.
+    *
+    * @param buffer - buffer to write to
+    * @throws IOException - an error has occurred while writing
+    */
+   protected abstract void writeHeader(
+      ExportBuffer buffer
+   ) throws IOException;
+
+   /**
+    * Write single row.
+    *
+    * @param buffer - buffer to write to
+    * @param row - row to write
+    * @param lIndex - index of the row, starting at 0
+    * @throws IOException - an error has occurred while writing
+    */
+   protected abstract void writeRow(
+      ExportBuffer buffer,
+      T            row,
+      long         lIndex
+   ) throws IOException;
+
+   /**
+    * Write data following the last row.
+    *
+    * @param buffer - buffer to write to
+    * @param lCount - number of written rows
+    * @throws IOException - an error has occurred while writing
+    */
+   protected abstract void writeFooter(
+      ExportBuffer buffer,
+      long         lCount
+   ) throws IOException;
+
+   /**
+    * Write text value, escaped as required by the format.
+    *
+    * @param buffer - buffer to write to
+    * @param strValue - value to write, not null
+    * @throws IOException - an error has occurred while writing
+    */
+   protected abstract void writeText(
+      ExportBuffer buffer,
+      String       strValue
+   ) throws IOException;
+
+   /**
+    * Write null value.
+    *
+    * @param buffer - buffer to write to
+    * @throws IOException - an error has occurred while writing
+    */
+   protected abstract void writeNull(
+      ExportBuffer buffer
+   ) throws IOException;
+
+   /**
+    * Write double value. 
+    *
+    * @param buffer - buffer to write to
+    * @param dValue - value to write
+    * @throws IOException - an error has occurred while writing
+    */
+   protected void writeDouble(
+      ExportBuffer buffer,
+      double       dValue
+   ) throws IOException
+   {
+      buffer.append(dValue);
+   }
+
+   /**
+    * Write boolean value which doesn't have any text representation defined 
+    * by the column.
+    *
+    * @param buffer - buffer to write to
+    * @param bValue - value to write
+    * @throws IOException - an error has occurred while writing
+    */
+   protected void writeBoolean(
+      ExportBuffer buffer,
+      boolean      bValue
+   ) throws IOException
+   {
+      buffer.append(bValue ? "true" : "false");
+   }
+
+   /**
+    * Write value of the column of the row using the typed methods of the 
+    * accessor.
+    *
+    * @param buffer - buffer to write to
+    * @param row - row to get the value from
+    * @param column - column to write
+    * @throws IOException - an error has occurred while writing
+    */
+   protected void writeValue(
+      ExportBuffer         buffer,
+      T                    row,
+      ListColumnDefinition column
+   ) throws IOException
+   {
+      int iColumnCode = column.getColumnCode();
+
+      if (column.getColumnDataType() == DataCondition.VALUE_TYPE_STRING)
+      {
+         String strValue = m_accessor.getString(row, iColumnCode);
+
+         if (strValue == null)
+         {
+            writeNull(buffer);
+         }
+         else
+         {
+            writeText(buffer, strValue);
+         }
+      }
+      else if (m_accessor.isNull(row, iColumnCode))
+      {
+         writeNull(buffer);
+      }
+      else
+      {
+         switch (column.getColumnDataType())
+         {
+            case (DataCondition.VALUE_TYPE_ID) :
+            case (DataCondition.VALUE_TYPE_INTEGER) :
+            case (DataCondition.VALUE_TYPE_TIMESTAMP) :
+            {
+               buffer.append(m_accessor.getLong(row, iColumnCode));
+               break;
+            }
+            case (DataCondition.VALUE_TYPE_DOUBLE) :
+            {
+               writeDouble(buffer, m_accessor.getDouble(row, iColumnCode));
+               break;
+            }
+            case (DataCondition.VALUE_TYPE_BOOLEAN) :
+            {
+               boolean  bValue = m_accessor.getBoolean(row, iColumnCode);
+               String[] arrTexts = column.getColumnBooleanValues();
+
+               if ((arrTexts != null) && (arrTexts.length > 1))
+               {
+                  writeText(buffer, arrTexts[bValue ? 1 : 0]);
+               }
+               else
+               {
+                  writeBoolean(buffer, bValue);
+               }
+               break;
+            }
+            default :
+            {
+               Object objValue = m_accessor.getValue(row, iColumnCode);
+
+               writeText(buffer, objValue.toString());
+               break;
+            }
+         }
+      }
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Fixed size buffer of characters written to writer whenever it fills up. 
+    * Numbers are formatted directly to the buffer so that exporting rows 
+    * doesn't create any temporary strings except for double values.
+    */
+   protected static class ExportBuffer
+   {
+      /**
+       * Writer to write the buffered characters to.
+       */
+      private final Writer m_writer;
+
+      /**
+       * Buffered characters.
+       */
+      private final char[] m_arrBuffer;
+
+      /**
+       * Number of buffered characters.
+       */
+      private int m_iLength;
+
+      /**
+       * Constructor.
+       *
+       * @param writer - writer to write the buffered characters to
+       * @param iSize - size of the buffer in characters
+       */
+      protected ExportBuffer(
+         Writer writer,
+         int    iSize
+      )
+      {
+         m_writer = writer;
+         m_arrBuffer = new char[iSize];
+         m_iLength = 0;
+      }
+
+      /**
+       * Append character.
+       *
+       * @param cValue - character to append
+       * @throws IOException - an error has occurred while writing
+       */
+      public void append(
+         char cValue
+      ) throws IOException
+      {
+         if (m_iLength == m_arrBuffer.length)
+         {
+            flush();
+         }
+         m_arrBuffer[m_iLength++] = cValue;
+      }
+
+      /**
+       * Append characters of the string.
+       *
+       * @param strValue - string to append
+       * @throws IOException - an error has occurred while writing
+       */
+      public void append(
+         String strValue
+      ) throws IOException
+      {
+         append(strValue, 0, strValue.length());
+      }
+
+      /**
+       * Append part of the string.
+       *
+       * @param strValue - string to append
+       * @param iStart - index of the first character to append
+       * @param iEnd - index following the last character to append
+       * @throws IOException - an error has occurred while writing
+       */
+      public void append(
+         String strValue,
+         int    iStart,
+         int    iEnd
+      ) throws IOException
+      {
+         int iPosition = iStart;
+         int iCount;
+
+         while (iPosition < iEnd)
+         {
+            if (m_iLength == m_arrBuffer.length)
+            {
+               flush();
+            }
+            iCount = Math.min(iEnd - iPosition, m_arrBuffer.length - m_iLength);
+            strValue.getChars(iPosition, iPosition + iCount, m_arrBuffer, 
+                              m_iLength);
+            m_iLength += iCount;
+            iPosition += iCount;
+         }
+      }
+
+      /**
+       * Append decimal representation of the number.
+       *
+       * @param lValue - number to append
+       * @throws IOException - an error has occurred while writing
+       */
+      public void append(
+         long lValue
+      ) throws IOException
+      {
+         // 20 characters are enough for sign and 19 digits
+         if (m_arrBuffer.length - m_iLength < 20)
+         {
+            flush();
+         }
+         if (lValue == Long.MIN_VALUE)
+         {
+            append("-9223372036854775808");
+         }
+         else
+         {
+            long lRemaining = lValue;
+            int  iStart;
+            int  iEnd;
+
+            if (lRemaining < 0)
+            {
+               m_arrBuffer[m_iLength++] = '-';
+               lRemaining = -lRemaining;
+            }
+            iStart = m_iLength;
+            do
+            {
+               m_arrBuffer[m_iLength++] = (char)('0' + (lRemaining % 10));
+               lRemaining /= 10;
+            }
+            while (lRemaining > 0);
+            // Digits were written from the least significant one
+            for (iEnd = m_iLength - 1; iStart < iEnd; iStart++, iEnd--)
+            {
+               char cDigit = m_arrBuffer[iStart];
+
+               m_arrBuffer[iStart] = m_arrBuffer[iEnd];
+               m_arrBuffer[iEnd] = cDigit;
+            }
+         }
+      }
+
+      /**
+       * Append representation of the number produced by Double.toString.
+       *
+       * @param dValue - number to append
+       * @throws IOException - an error has occurred while writing
+       */
+      public void append(
+         double dValue
+      ) throws IOException
+      {
+         append(Double.toString(dValue));
+      }
+
+      /**
+       * Write all buffered characters to the writer.
+       *
+       * @throws IOException - an error has occurred while writing
+       */
+      public void flush(
+      ) throws IOException
+      {
+         if (m_iLength > 0)
+         {
+            m_writer.write(m_arrBuffer, 0, m_iLength);
+            m_iLength = 0;
+         }
+      }
+   }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.Comparator;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.error.OSSInvalidDataException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListColumnDefinition;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+import org.opensubsystems.pattern.datalist.data.ListDataDescriptor;
+import org.opensubsystems.pattern.datalist.data.ListOrder;
+
+/**
+ * Compiler of orderings of lists of data objects to comparators of rows. 
+ * The type of each order column and its direction is examined only once 
+ * when the ordering is compiled and each column is compiled into comparator
+ * specialized for the type and direction, which compares primitive values 
+ * returned by ListDataAccessor. Null values are ordered before all other 
+ * values in ascending order and after them in descending order.
+ *
+ * The compiled comparators are stateless and can be used concurrently.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public class ListOrderCompiler<T> extends OSSObject
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Descriptor of the data in the list.
+    */
+   protected ListDataDescriptor<?> m_descriptor;
+
+   /**
+    * Accessor to the values of the columns of the rows.
+    */
+   protected ListDataAccessor<T> m_accessor;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param descriptor - descriptor of the data in the list
+    * @param accessor - accessor to the values of the columns of the rows
+    */
+   public ListOrderCompiler(
+      ListDataDescriptor<?> descriptor,
+      ListDataAccessor<T>   accessor
+   )
+   {
+      super();
+
+      m_descriptor = descriptor;
+      m_accessor = accessor;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ListOrderCompiler[");
+      append(sb, ind + 1, "m_descriptor = ", m_descriptor);
+      append(sb, ind + 1, "m_accessor = ", m_accessor);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * Compile the default ordering defined by the descriptor.
+    *
+    * @return Comparator<T> - compiled comparator
+    * @throws OSSException - the descriptor doesn't define the ordering or it 
+    *                        uses undefined columns
+    */
+   public Comparator<T> compile(
+   ) throws OSSException
+   {
+      if (m_descriptor.getDefaultListOrderColumnCodes() == null)
+      {
+         throw new OSSInvalidDataException("Descriptor of data type " 
+                      + m_descriptor.getDataType() 
+                      + " doesn't define default ordering.");
+      }
+
+      return compile(m_descriptor.getDefaultListOrderColumnCodes(),
+                     m_descriptor.getDefaultListOrderDirections());
+   }
+
+   /**
+    * Compile ordering by the specified columns.
+    *
+    * @param arrColumnCodes - codes of the order columns in the order of their
+    *                         priority
+    * @param arrDirections - directions of the order columns, see 
+    *                        ListOrder.ORDER_XXX constants, null means 
+    *                        ascending order of all columns
+    * @return Comparator<T> - compiled comparator
+    * @throws OSSException - the ordering is empty or it uses undefined 
+    *                        columns
+    */
+   @SuppressWarnings("unchecked")
+   public Comparator<T> compile(
+      int[]    arrColumnCodes,
+      String[] arrDirections
+   ) throws OSSException
+   {
+      Comparator<T>[] arrComparators;
+      Comparator<T>   result;
+
+      if ((arrColumnCodes == null) || (arrColumnCodes.length == 0))
+      {
+         throw new OSSInvalidDataException("Ordering of data type " 
+                      + m_descriptor.getDataType() + " is empty.");
+      }
+      if ((arrDirections != null) 
+         && (arrDirections.length < arrColumnCodes.length))
+      {
+         throw new OSSInvalidDataException("Direction is not defined for all" 
+                      + " order columns of data type " 
+                      + m_descriptor.getDataType());
+      }
+      arrComparators = new Comparator[arrColumnCodes.length];
+      for (int iIndex = 0; iIndex < arrColumnCodes.length; iIndex++)
+      {
+         arrComparators[iIndex] = compile(arrColumnCodes[iIndex], 
+                                     (arrDirections != null) 
+                                     && (isDescending(arrDirections[iIndex])));
+      }
+      if (arrComparators.length == 1)
+      {
+         result = arrComparators[0];
+      }
+      else
+      {
+         result = new ColumnComparators.Chain<>(arrComparators);
+      }
+
+      return result;
+   }
+
+   /**
+    * Compile ordering by single column.
+    *
+    * @param iColumnCode - code of the order column
+    * @param bDescending - true for descending order
+    * @return ColumnComparators.ColumnComparator<T> - compiled comparator
+    * @throws OSSException - the column is not defined
+    */
+   public ColumnComparators.ColumnComparator<T> compile(
+      int     iColumnCode,
+      boolean bDescending
+   ) throws OSSException
+   {
+      ColumnComparators.ColumnComparator<T> comparator;
+
+      switch (getColumnDefinition(iColumnCode).getColumnDataType())
+      {
+         case (DataCondition.VALUE_TYPE_ID):
+         case (DataCondition.VALUE_TYPE_INTEGER):
+         case (DataCondition.VALUE_TYPE_TIMESTAMP):
+         {
+            comparator = bDescending 
+               ? new ColumnComparators.LongDescending<>(m_accessor, iColumnCode)
+               : new ColumnComparators.LongAscending<>(m_accessor, iColumnCode);
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_DOUBLE):
+         {
+            comparator = bDescending 
+               ? new ColumnComparators.DoubleDescending<>(m_accessor, 
+                                                          iColumnCode)
+               : new ColumnComparators.DoubleAscending<>(m_accessor, 
+                                                         iColumnCode);
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_BOOLEAN):
+         {
+            comparator = bDescending 
+               ? new ColumnComparators.BooleanDescending<>(m_accessor, 
+                                                           iColumnCode)
+               : new ColumnComparators.BooleanAscending<>(m_accessor, 
+                                                          iColumnCode);
+            break;
+         }
+         case (DataCondition.VALUE_TYPE_STRING):
+         {
+            comparator = bDescending 
+               ? new ColumnComparators.StringDescending<>(m_accessor, 
+                                                          iColumnCode)
+               : new ColumnComparators.StringAscending<>(m_accessor, 
+                                                         iColumnCode);
+            break;
+         }
+         default :
+         {
+            throw new OSSInvalidDataException("Column " + iColumnCode 
+                         + " of data type " + m_descriptor.getDataType() 
+                         + " cannot be used to order rows in memory.");
+         }
+      }
+
+      return comparator;
+   }
+
+   /**
+    * Test if the direction is descending.
+    *
+    * @param strDirection - one of the ListOrder.ORDER_XXX constants
+    * @return boolean - true for descending direction
+    */
+   public static boolean isDescending(
+      String strDirection
+   )
+   {
+      return (strDirection != null) 
+             && (ListOrder.ORDER_DESCENDING.trim().equalsIgnoreCase(
+                    strDirection.trim()));
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Get definition of the column.
+    *
+    * @param iColumnCode - code of the column
+    * @return ListColumnDefinition - definition of the column
+    * @throws OSSException - the column is not defined
+    */
+   protected ListColumnDefinition getColumnDefinition(
+      int iColumnCode
+   ) throws OSSException
+   {
+      ListColumnDefinition column = null;
+
+      if (m_descriptor.getColumnDefinitions() != null)
+      {
+         column = m_descriptor.getColumnDefinitionsMap().get(iColumnCode);
+      }
+      if (column == null)
+      {
+         throw new OSSInvalidDataException("Order column " + iColumnCode 
+                      + " is not defined for data type " 
+                      + m_descriptor.getDataType());
+      }
+
+      return column;
+   }
+}
@@ -0,0 +1,591 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListColumnDefinition;
+import org.opensubsystems.pattern.datalist.data.ListDataDescriptor;
+
+/**
+ * Cache of results of list queries, so that lists opened repeatedly with the 
+ * same conditions, ordering and page window cost only a hash lookup. 
+ * Results are identified by keys created by createKey, which normalizes the 
+ * query: conditions are sorted, duplicate conditions and values of IN and 
+ * NOT IN operations are removed and values are converted to the type of the
+ * condition, missing ordering is replaced by the default ordering of the 
+ * data type. SQL queries used as values of conditions are kept unchanged.
+ *
+ * The number of cached results is bounded and the least recently used 
+ * results are evicted first. When the data of some data type change, the 
+ * data type has to be invalidated, which removes all its results. Results 
+ * computed using keys created before the invalidation are not stored, so 
+ * that results read concurrently with the modification of the data don't 
+ * remain in the cache.
+ *
+ * All methods are synchronized, the cache is expected to hold results of 
+ * limited number of list screens so that the lock is held only shortly.
+ *
+ * @param <V> - type of the cached results
+ * @author OpenSubsystems
+ */
+public class ListQueryCache<V> extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Default maximal number of cached results.
+    */
+   public static final int DEFAULT_MAX_SIZE = 1000;
+
+   /**
+    * Separator of parts of the canonical form of the query.
+    */
+   protected static final char PART_SEPARATOR = '|';
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Maximal number of cached results.
+    */
+   protected int m_iMaxSize;
+
+   /**
+    * Cached results in the order of their last access.
+    */
+   protected Map<ListQueryKey, V> m_mpResults;
+
+   /**
+    * Generation of the cache, it is incremented by every invalidation.
+    */
+   protected long m_lGeneration;
+
+   /**
+    * Generation at which each data type was last invalidated keyed by the 
+    * data type.
+    */
+   protected Map<Integer, Long> m_mpInvalidatedGenerations;
+
+   /**
+    * Generation at which the whole cache was last invalidated.
+    */
+   protected long m_lClearedGeneration;
+
+   /**
+    * Number of requests which found the result in the cache.
+    */
+   protected long m_lHits;
+
+   /**
+    * Number of requests which didn't find the result in the cache.
+    */
+   protected long m_lMisses;
+
+   /**
+    * Number of results stored in the cache.
+    */
+   protected long m_lPuts;
+
+   /**
+    * Number of results which were not stored since they were computed before 
+    * their data type was invalidated.
+    */
+   protected long m_lRejectedPuts;
+
+   /**
+    * Number of results removed to keep the size of the cache bounded.
+    */
+   protected long m_lEvictions;
+
+   /**
+    * Number of results removed since their data type was invalidated.
+    */
+   protected long m_lInvalidations;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor using default maximal size.
+    */
+   public ListQueryCache(
+   )
+   {
+      this(DEFAULT_MAX_SIZE);
+   }
+
+   /**
+    * Constructor.
+    *
+    * @param iMaxSize - maximal number of cached results
+    */
+   public ListQueryCache(
+      int iMaxSize
+   )
+   {
+      super();
+
+      m_iMaxSize = iMaxSize;
+      m_mpResults = new ResultMap();
+      m_mpInvalidatedGenerations = new HashMap<>();
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ListQueryCache[");
+      append(sb, ind + 1, "m_iMaxSize = ", m_iMaxSize);
+      append(sb, ind + 1, "m_lGeneration = ", m_lGeneration);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * Create key identifying result of the query.
+    *
+    * @param descriptor - descriptor of the listed data
+    * @param lstConditions - conditions all of which the rows have to 
+    *                        satisfy, can be null or empty
+    * @param arrOrderColumnCodes - codes of the order columns, if null the 
+    *                              default ordering of the data type is used
+    * @param arrOrderDirections - directions of the order columns, can be 
+    *                             null if the default ordering is used
+    * @param iStart - index of the first row of the page
+    * @param iSize - maximal number of rows of the page
+    * @return ListQueryKey - key of the query
+    * @throws OSSException - value of some condition cannot be converted to 
+    *                        the type of the condition
+    */
+   public ListQueryKey createKey(
+      ListDataDescriptor<?> descriptor,
+      List<DataCondition>   lstConditions,
+      int[]                 arrOrderColumnCodes,
+      String[]              arrOrderDirections,
+      int                   iStart,
+      int                   iSize
+   ) throws OSSException
+   {
+      StringBuilder sbQuery = new StringBuilder();
+      int[]         arrCodes = arrOrderColumnCodes;
+      String[]      arrDirections = arrOrderDirections;
+
+      if (arrCodes == null)
+      {
+         arrCodes = descriptor.getDefaultListOrderColumnCodes();
+         arrDirections = descriptor.getDefaultListOrderDirections();
+      }
+      appendConditions(sbQuery, descriptor, lstConditions);
+      sbQuery.append(PART_SEPARATOR);
+      if (arrCodes != null)
+      {
+         for (int iIndex = 0; iIndex < arrCodes.length; iIndex++)
+         {
+            sbQuery.append(arrCodes[iIndex]);
+            sbQuery.append(((arrDirections != null) 
+                            && (ListOrderCompiler.isDescending(
+                                   arrDirections[iIndex]))) ? 'd' : 'a');
+         }
+      }
+      sbQuery.append(PART_SEPARATOR);
+      sbQuery.append(iStart);
+      sbQuery.append(',');
+      sbQuery.append(iSize);
+
+      return new ListQueryKey(descriptor.getDataType(), sbQuery.toString(),
+                              getGeneration());
+   }
+
+   /**
+    * Get cached result of the query.
+    *
+    * @param key - key of the query
+    * @return V - cached result or null if the result is not cached
+    */
+   public synchronized V get(
+      ListQueryKey key
+   )
+   {
+      V result = m_mpResults.get(key);
+
+      if (result == null)
+      {
+         m_lMisses++;
+      }
+      else
+      {
+         m_lHits++;
+      }
+
+      return result;
+   }
+
+   /**
+    * Store result of the query in the cache. The result is not stored if its
+    * data type was invalidated after the key was created, since the result 
+    * may not reflect the latest modifications of the data.
+    *
+    * @param key - key of the query created before the result was computed
+    * @param result - result of the query
+    * @return boolean - true if the result was stored
+    */
+   public synchronized boolean put(
+      ListQueryKey key,
+      V            result
+   )
+   {
+      Long    lInvalidated = m_mpInvalidatedGenerations.get(key.getDataType());
+      boolean bStored;
+
+      bStored = (key.getGeneration() >= m_lClearedGeneration)
+                && ((lInvalidated == null) 
+                   || (key.getGeneration() >= lInvalidated.longValue()));
+      if (bStored)
+      {
+         m_mpResults.put(key, result);
+         m_lPuts++;
+      }
+      else
+      {
+         m_lRejectedPuts++;
+      }
+
+      return bStored;
+   }
+
+   /**
+    * Remove all results of the data type since its data were modified.
+    *
+    * @param iDataType - data type which was modified
+    */
+   public synchronized void invalidate(
+      int iDataType
+   )
+   {
+      Iterator<ListQueryKey> itrKeys = m_mpResults.keySet().iterator();
+
+      m_mpInvalidatedGenerations.put(iDataType, ++m_lGeneration);
+      while (itrKeys.hasNext())
+      {
+         if (itrKeys.next().getDataType() == iDataType)
+         {
+            itrKeys.remove();
+            m_lInvalidations++;
+         }
+      }
+   }
+
+   /**
+    * Remove all results.
+    */
+   public synchronized void invalidateAll(
+   )
+   {
+      m_lClearedGeneration = ++m_lGeneration;
+      // Generations of individual data types are older now
+      m_mpInvalidatedGenerations.clear();
+      m_lInvalidations += m_mpResults.size();
+      m_mpResults.clear();
+   }
+
+   /**
+    * @return int - number of cached results
+    */
+   public synchronized int size(
+   )
+   {
+      return m_mpResults.size();
+   }
+
+   /**
+    * @return ListQueryCacheStatistics - statistics collected so far
+    */
+   public synchronized ListQueryCacheStatistics getStatistics(
+   )
+   {
+      return new ListQueryCacheStatistics(m_lHits, m_lMisses, m_lPuts, 
+                                          m_lRejectedPuts, m_lEvictions, 
+                                          m_lInvalidations, m_mpResults.size(),
+                                          m_iMaxSize);
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * @return long - current generation of the cache
+    */
+   protected synchronized long getGeneration(
+   )
+   {
+      return m_lGeneration;
+   }
+
+   /**
+    * Append canonical form of the conditions. Conditions are sorted by their
+    * canonical form and duplicate conditions are removed.
+    *
+    * @param sbQuery - buffer to append to
+    * @param descriptor - descriptor of the listed data
+    * @param lstConditions - conditions to append, can be null
+    * @throws OSSException - value of some condition cannot be converted
+    */
+   protected void appendConditions(
+      StringBuilder         sbQuery,
+      ListDataDescriptor<?> descriptor,
+      List<DataCondition>   lstConditions
+   ) throws OSSException
+   {
+      if (lstConditions != null)
+      {
+         Set<String>   setConditions = new TreeSet<>();
+         StringBuilder sbCondition = new StringBuilder();
+
+         for (DataCondition condition : lstConditions)
+         {
+            sbCondition.setLength(0);
+            appendCondition(sbCondition, descriptor, condition);
+            setConditions.add(sbCondition.toString());
+         }
+         for (String strCondition : setConditions)
+         {
+            sbQuery.append(strCondition);
+            sbQuery.append(';');
+         }
+      }
+   }
+
+   /**
+    * Append canonical form of the condition.
+    *
+    * @param sbQuery - buffer to append to
+    * @param descriptor - descriptor of the listed data
+    * @param condition - condition to append
+    * @throws OSSException - value of the condition cannot be converted
+    */
+   protected void appendCondition(
+      StringBuilder         sbQuery,
+      ListDataDescriptor<?> descriptor,
+      DataCondition         condition
+   ) throws OSSException
+   {
+      int iValueType = getValueType(descriptor, condition);
+
+      sbQuery.append(condition.getAttribute());
+      sbQuery.append(':');
+      sbQuery.append(condition.getOperation());
+      sbQuery.append(':');
+      sbQuery.append(iValueType);
+      sbQuery.append(':');
+      if ((condition.getOperation() == DataCondition.OPERATION_SQL_QUERY)
+         || (iValueType == DataCondition.VALUE_TYPE_SQL_QUERY))
+      {
+         // Query is opaque, splitting or converting it would change it
+         appendKey(sbQuery, (condition.getValue() == null) 
+                            ? null : condition.getValue().toString());
+      }
+      else if ((condition.getOperation() == DataCondition.OPERATION_IN)
+              || (condition.getOperation() == DataCondition.OPERATION_NOT_IN))
+      {
+         Set<Object> setValues = new TreeSet<>();
+         boolean     bNull = false;
+
+         // Order and duplicates of the values don't change the result
+         for (Object objValue : DataConditionValues.toValues(
+                                   condition.getValue()))
+         {
+            if (objValue == null)
+            {
+               bNull = true;
+            }
+            else
+            {
+               setValues.add(getKey(objValue, iValueType));
+            }
+         }
+         sbQuery.append('[');
+         if (bNull)
+         {
+            appendKey(sbQuery, null);
+         }
+         for (Object objKey : setValues)
+         {
+            appendKey(sbQuery, objKey);
+         }
+         sbQuery.append(']');
+      }
+      else if (condition.getValue() == null)
+      {
+         appendKey(sbQuery, null);
+      }
+      else
+      {
+         appendKey(sbQuery, getKey(condition.getValue(), iValueType));
+      }
+   }
+
+   /**
+    * Get type of the value of the condition. If the condition doesn't 
+    * specify it, the type of the column is used.
+    *
+    * @param descriptor - descriptor of the listed data
+    * @param condition - condition to get the type of
+    * @return int - one of the DataCondition.VALUE_TYPE_XXX constants
+    */
+   protected int getValueType(
+      ListDataDescriptor<?> descriptor,
+      DataCondition         condition
+   )
+   {
+      int iValueType = condition.getValueType();
+
+      if ((iValueType == DataCondition.VALUE_TYPE_UNKNOWN)
+         && (descriptor.getColumnDefinitions() != null))
+      {
+         ListColumnDefinition column;
+
+         column = descriptor.getColumnDefinitionsMap().get(
+                     condition.getAttribute());
+         if (column != null)
+         {
+            iValueType = column.getColumnDataType();
+         }
+      }
+
+      return iValueType;
+   }
+
+   /**
+    * Get key representing the value in the canonical form.
+    *
+    * @param objValue - value to convert, cannot be null
+    * @param iValueType - one of the DataCondition.VALUE_TYPE_XXX constants
+    * @return Object - Long, Double, Boolean or String key
+    * @throws OSSException - the value cannot be converted
+    */
+   protected Object getKey(
+      Object objValue,
+      int    iValueType
+   ) throws OSSException
+   {
+      Object objKey;
+
+      if ((iValueType == DataCondition.VALUE_TYPE_UNKNOWN)
+         || (iValueType == DataCondition.VALUE_TYPE_SQL_QUERY))
+      {
+         objKey = DataConditionValues.toStringValue(objValue);
+      }
+      else
+      {
+         objKey = DataConditionValues.toKey(objValue, iValueType);
+      }
+
+      return objKey;
+   }
+
+   /**
+    * Append key of the value. Strings are prefixed with their length, so 
+    * that no character of the value can be confused with the separators.
+    *
+    * @param sbQuery - buffer to append to
+    * @param objKey - key to append, can be null
+    */
+   protected void appendKey(
+      StringBuilder sbQuery,
+      Object        objKey
+   )
+   {
+      if (objKey == null)
+      {
+         sbQuery.append('n');
+      }
+      else if (objKey instanceof String)
+      {
+         sbQuery.append('s');
+         sbQuery.append(((String)objKey).length());
+         sbQuery.append(':');
+         sbQuery.append((String)objKey);
+      }
+      else if (objKey instanceof Boolean)
+      {
+         sbQuery.append(((Boolean)objKey).booleanValue() ? 't' : 'f');
+      }
+      else
+      {
+         sbQuery.append((objKey instanceof Double) ? 'd' : 'l');
+         sbQuery.append(objKey);
+         sbQuery.append(',');
+      }
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Map of the cached results ordered by their last access, which removes 
+    * the least recently used result when the cache exceeds its size.
+    */
+   protected class ResultMap extends LinkedHashMap<ListQueryKey, V>
+   {
+      /**
+       * Serial version id.
+       */
+      private static final long serialVersionUID = 1L;
+
+      /**
+       * Constructor.
+       */
+      protected ResultMap(
+      )
+      {
+         super(16, 0.75f, true);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      protected boolean removeEldestEntry(
+         Map.Entry<ListQueryKey, V> eldest
+      )
+      {
+         boolean bRemove = size() > m_iMaxSize;
+
+         if (bRemove)
+         {
+            m_lEvictions++;
+         }
+
+         return bRemove;
+      }
+   }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import org.opensubsystems.core.util.OSSObject;
+
+/**
+ * Snapshot of statistics of ListQueryCache.
+ *
+ * @author OpenSubsystems
+ */
+public class ListQueryCacheStatistics extends OSSObject
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Number of requests which found the result in the cache.
+    */
+   protected long m_lHits;
+
+   /**
+    * Number of requests which didn't find the result in the cache.
+    */
+   protected long m_lMisses;
+
+   /**
+    * Number of results stored in the cache.
+    */
+   protected long m_lPuts;
+
+   /**
+    * Number of results which were not stored since they were computed before
+    * their data type was invalidated.
+    */
+   protected long m_lRejectedPuts;
+
+   /**
+    * Number of results removed to keep the size of the cache bounded.
+    */
+   protected long m_lEvictions;
+
+   /**
+    * Number of results removed since their data type was invalidated.
+    */
+   protected long m_lInvalidations;
+
+   /**
+    * Number of results in the cache.
+    */
+   protected int m_iSize;
+
+   /**
+    * Maximal number of results in the cache.
+    */
+   protected int m_iMaxSize;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param lHits - number of requests which found the result in the cache
+    * @param lMisses - number of requests which didn't find the result
+    * @param lPuts - number of results stored in the cache
+    * @param lRejectedPuts - number of results which were not stored since 
+    *                        they were computed before invalidation
+    * @param lEvictions - number of results removed to keep the size bounded
+    * @param lInvalidations - number of results removed by invalidation
+    * @param iSize - number of results in the cache
+    * @param iMaxSize - maximal number of results in the cache
+    */
+   public ListQueryCacheStatistics(
+      long lHits,
+      long lMisses,
+      long lPuts,
+      long lRejectedPuts,
+      long lEvictions,
+      long lInvalidations,
+      int  iSize,
+      int  iMaxSize
+   )
+   {
+      super();
+
+      m_lHits = lHits;
+      m_lMisses = lMisses;
+      m_lPuts = lPuts;
+      m_lRejectedPuts = lRejectedPuts;
+      m_lEvictions = lEvictions;
+      m_lInvalidations = lInvalidations;
+      m_iSize = iSize;
+      m_iMaxSize = iMaxSize;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ListQueryCacheStatistics[");
+      append(sb, ind + 1, "m_lHits = ", m_lHits);
+      append(sb, ind + 1, "m_lMisses = ", m_lMisses);
+      append(sb, ind + 1, "m_lPuts = ", m_lPuts);
+      append(sb, ind + 1, "m_lRejectedPuts = ", m_lRejectedPuts);
+      append(sb, ind + 1, "m_lEvictions = ", m_lEvictions);
+      append(sb, ind + 1, "m_lInvalidations = ", m_lInvalidations);
+      append(sb, ind + 1, "m_iSize = ", m_iSize);
+      append(sb, ind + 1, "m_iMaxSize = ", m_iMaxSize);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return long - number of requests which found the result in the cache
+    */
+   public long getHits()
+   {
+      return m_lHits;
+   }
+
+   /**
+    * @return long - number of requests which didn't find the result in the 
+    *                cache
+    */
+   public long getMisses()
+   {
+      return m_lMisses;
+   }
+
+   /**
+    * @return double - ratio of requests which found the result in the cache,
+    *                  0 if there were no requests
+    */
+   public double getHitRatio()
+   {
+      long lRequests = m_lHits + m_lMisses;
+
+      return (lRequests == 0) ? 0 : (double)m_lHits / lRequests;
+   }
+
+   /**
+    * @return long - number of results stored in the cache
+    */
+   public long getPuts()
+   {
+      return m_lPuts;
+   }
+
+   /**
+    * @return long - number of results which were not stored since they were 
+    *                computed before their data type was invalidated
+    */
+   public long getRejectedPuts()
+   {
+      return m_lRejectedPuts;
+   }
+
+   /**
+    * @return long - number of results removed to keep the size of the cache 
+    *                bounded
+    */
+   public long getEvictions()
+   {
+      return m_lEvictions;
+   }
+
+   /**
+    * @return long - number of results removed since their data type was 
+    *                invalidated
+    */
+   public long getInvalidations()
+   {
+      return m_lInvalidations;
+   }
+
+   /**
+    * @return int - number of results in the cache
+    */
+   public int getSize()
+   {
+      return m_iSize;
+   }
+
+   /**
+    * @return int - maximal number of results in the cache
+    */
+   public int getMaxSize()
+   {
+      return m_iMaxSize;
+   }
+}
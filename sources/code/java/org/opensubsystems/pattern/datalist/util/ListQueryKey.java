@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import org.opensubsystems.core.util.OSSObject;
+
+/**
+ * Key identifying result of list query in ListQueryCache. The key consists
+ * of the data type of the listed data and of canonical form of the 
+ * conditions, ordering and page window of the query created by 
+ * ListQueryCache.createKey. Keys of queries selecting the same page of the
+ * same rows are equal even if their conditions are specified in different 
+ * order or with values of different types.
+ *
+ * The key also remembers generation of the cache at the time it was created, 
+ * so that result computed before the data type was invalidated is not 
+ * stored in the cache afterwards. The generation doesn't take part in 
+ * comparison of the keys.
+ *
+ * @author OpenSubsystems
+ */
+public class ListQueryKey extends OSSObject
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Data type of the listed data.
+    */
+   protected int m_iDataType;
+
+   /**
+    * Canonical form of the query.
+    */
+   protected String m_strCanonicalForm;
+
+   /**
+    * Generation of the cache when the key was created.
+    */
+   protected long m_lGeneration;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param iDataType - data type of the listed data
+    * @param strCanonicalForm - canonical form of the query
+    * @param lGeneration - generation of the cache when the key was created
+    */
+   public ListQueryKey(
+      int    iDataType,
+      String strCanonicalForm,
+      long   lGeneration
+   )
+   {
+      super();
+
+      m_iDataType = iDataType;
+      m_strCanonicalForm = strCanonicalForm;
+      m_lGeneration = lGeneration;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ListQueryKey[");
+      append(sb, ind + 1, "m_iDataType = ", m_iDataType);
+      append(sb, ind + 1, "m_strCanonicalForm = ", m_strCanonicalForm);
+      append(sb, ind + 1, "m_lGeneration = ", m_lGeneration);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public boolean equals(
+      Object oObject
+   )
+   {
+      boolean      bReturn = false;
+      ListQueryKey helper;
+
+      if (oObject == this)
+      {
+         bReturn = true;
+      }
+      else if ((oObject != null) && (oObject instanceof ListQueryKey))
+      {
+         helper = (ListQueryKey)oObject;
+         bReturn = (m_iDataType == helper.getDataType())
+                   && (m_strCanonicalForm.equals(helper.getCanonicalForm()));
+      }
+
+      return bReturn;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int hashCode(
+   )
+   {
+      // String caches its hash code so the key can be hashed repeatedly
+      return 31 * m_iDataType + m_strCanonicalForm.hashCode();
+   }
+
+   /**
+    * @return int - data type of the listed data
+    */
+   public int getDataType(
+   )
+   {
+      return m_iDataType;
+   }
+
+   /**
+    * @return String - canonical form of the query
+    */
+   public String getCanonicalForm(
+   )
+   {
+      return m_strCanonicalForm;
+   }
+
+   /**
+    * @return long - generation of the cache when the key was created
+    */
+   public long getGeneration(
+   )
+   {
+      return m_lGeneration;
+   }
+}
@@ -0,0 +1,567 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+import org.opensubsystems.pattern.datalist.data.RowPredicate;
+
+/**
+ * Predicates combining other predicates and constant predicates.
+ *
+ * @author OpenSubsystems
+ */
+public final class LogicalPredicates
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Predicate satisfied by all rows.
+    */
+   @SuppressWarnings("rawtypes")
+   public static final RowPredicate TRUE = new Constant(true);
+
+   /**
+    * Predicate satisfied by no row.
+    */
+   @SuppressWarnings("rawtypes")
+   public static final RowPredicate FALSE = new Constant(false);
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /** 
+    * Private constructor since this class cannot be instantiated
+    */
+   private LogicalPredicates(
+   )
+   {
+      // Do nothing
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * @param <T> - type of the rows
+    * @return RowPredicate<T> - predicate satisfied by all rows
+    */
+   @SuppressWarnings("unchecked")
+   public static <T> RowPredicate<T> alwaysTrue(
+   )
+   {
+      return TRUE;
+   }
+
+   /**
+    * @param <T> - type of the rows
+    * @return RowPredicate<T> - predicate satisfied by no row
+    */
+   @SuppressWarnings("unchecked")
+   public static <T> RowPredicate<T> alwaysFalse(
+   )
+   {
+      return FALSE;
+   }
+
+   /**
+    * Test if the predicate is satisfied by all rows.
+    *
+    * @param predicate - predicate to test
+    * @return boolean - true if the predicate is the constant TRUE
+    */
+   public static boolean isAlwaysTrue(
+      RowPredicate<?> predicate
+   )
+   {
+      return predicate == TRUE;
+   }
+
+   /**
+    * Test if the predicate is satisfied by no row.
+    *
+    * @param predicate - predicate to test
+    * @return boolean - true if the predicate is the constant FALSE
+    */
+   public static boolean isAlwaysFalse(
+      RowPredicate<?> predicate
+   )
+   {
+      return predicate == FALSE;
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Predicate with constant result.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Constant<T> implements RowPredicate<T>
+   {
+      /**
+       * Result of the predicate.
+       */
+      private final boolean m_bResult;
+
+      /**
+       * Constructor.
+       *
+       * @param bResult - result of the predicate
+       */
+      private Constant(
+         boolean bResult
+      )
+      {
+         m_bResult = bResult;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         return m_bResult;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public String toString(
+      )
+      {
+         return String.valueOf(m_bResult);
+      }
+   }
+
+   /**
+    * Predicate satisfied if all predicates are satisfied. The predicates are 
+    * evaluated in order and the evaluation stops at the first predicate which
+    * is not satisfied.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class And<T> implements RowPredicate<T>
+   {
+      /**
+       * Predicates which all have to be satisfied.
+       */
+      private final RowPredicate<T>[] m_arrPredicates;
+
+      /**
+       * Constructor.
+       *
+       * @param arrPredicates - predicates which all have to be satisfied
+       */
+      public And(
+         RowPredicate<T>[] arrPredicates
+      )
+      {
+         m_arrPredicates = arrPredicates;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         boolean bResult = true;
+
+         for (int iIndex = 0; (bResult) && (iIndex < m_arrPredicates.length); 
+              iIndex++)
+         {
+            bResult = m_arrPredicates[iIndex].evaluate(row);
+         }
+
+         return bResult;
+      }
+
+      /**
+       * @return RowPredicate<T>[] - predicates which all have to be satisfied
+       */
+      public RowPredicate<T>[] getPredicates(
+      )
+      {
+         return m_arrPredicates;
+      }
+   }
+
+   /**
+    * Predicate satisfied if at least one of the predicates is satisfied. The 
+    * predicates are evaluated in order and the evaluation stops at the first
+    * predicate which is satisfied.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Or<T> implements RowPredicate<T>
+   {
+      /**
+       * Predicates out of which at least one has to be satisfied.
+       */
+      private final RowPredicate<T>[] m_arrPredicates;
+
+      /**
+       * Constructor.
+       *
+       * @param arrPredicates - predicates out of which at least one has to be 
+       *                        satisfied
+       */
+      public Or(
+         RowPredicate<T>[] arrPredicates
+      )
+      {
+         m_arrPredicates = arrPredicates;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         boolean bResult = false;
+
+         for (int iIndex = 0; (!bResult) && (iIndex < m_arrPredicates.length); 
+              iIndex++)
+         {
+            bResult = m_arrPredicates[iIndex].evaluate(row);
+         }
+
+         return bResult;
+      }
+
+      /**
+       * @return RowPredicate<T>[] - predicates out of which at least one has 
+       *                             to be satisfied
+       */
+      public RowPredicate<T>[] getPredicates(
+      )
+      {
+         return m_arrPredicates;
+      }
+   }
+
+   /**
+    * Predicate satisfied if all predicates are satisfied, which evaluates the
+    * predicates in the increasing order of their rank computed from their 
+    * estimated cost and from the observed fraction of rows satisfying them
+    * (see ConditionCostModel.getRank). The order is recomputed periodically
+    * and older observations gradually lose their weight, so that the order 
+    * adapts when the data change. 
+    *
+    * The predicate can be evaluated concurrently. Only a random sample of the 
+    * evaluations is observed, so that threads evaluating the predicate don't 
+    * contend for the shared counters on every row, and the observed 
+    * evaluations update the counters atomically.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class AdaptiveAnd<T> implements RowPredicate<T>
+   {
+      /**
+       * Default number of observed evaluations after which the order is 
+       * recomputed.
+       */
+      public static final int DEFAULT_REORDER_INTERVAL = 64;
+
+      /**
+       * Default number of evaluations per one observed evaluation.
+       */
+      public static final int DEFAULT_SAMPLE_RATE = 16;
+
+      /**
+       * Number of observed evaluations the estimated selectivity is worth.
+       */
+      public static final int ESTIMATE_WEIGHT = 64;
+
+      /**
+       * Predicates which all have to be satisfied.
+       */
+      private final RowPredicate<T>[] m_arrPredicates;
+
+      /**
+       * Estimated costs of evaluation of the predicates.
+       */
+      private final double[] m_arrCosts;
+
+      /**
+       * Estimated fractions of rows satisfying the predicates.
+       */
+      private final double[] m_arrSelectivities;
+
+      /**
+       * Number of observed evaluations after which the order is recomputed.
+       */
+      private final int m_iReorderInterval;
+
+      /**
+       * Number of evaluations per one observed evaluation.
+       */
+      private final int m_iSampleRate;
+
+      /**
+       * Number of observed rows evaluated by each predicate.
+       */
+      private final AtomicIntegerArray m_arrEvaluated;
+
+      /**
+       * Number of observed rows satisfying each predicate.
+       */
+      private final AtomicIntegerArray m_arrPassed;
+
+      /**
+       * Number of observed evaluations since the order was recomputed.
+       */
+      private final AtomicInteger m_iObservations;
+
+      /**
+       * Indexes of the predicates in the order in which they are evaluated.
+       */
+      private volatile int[] m_arrOrder;
+
+      /**
+       * Constructor.
+       *
+       * @param arrPredicates - predicates which all have to be satisfied
+       * @param arrCosts - estimated costs of evaluation of the predicates
+       * @param arrSelectivities - estimated fractions of rows satisfying the 
+       *                           predicates
+       * @param iReorderInterval - number of observed evaluations after which
+       *                           the order is recomputed
+       * @param iSampleRate - number of evaluations per one observed 
+       *                      evaluation, 1 to observe every evaluation
+       */
+      public AdaptiveAnd(
+         RowPredicate<T>[] arrPredicates,
+         double[]          arrCosts,
+         double[]          arrSelectivities,
+         int               iReorderInterval,
+         int               iSampleRate
+      )
+      {
+         m_arrPredicates = arrPredicates;
+         m_arrCosts = arrCosts;
+         m_arrSelectivities = arrSelectivities;
+         m_iReorderInterval = iReorderInterval;
+         m_iSampleRate = iSampleRate;
+         m_arrEvaluated = new AtomicIntegerArray(arrPredicates.length);
+         m_arrPassed = new AtomicIntegerArray(arrPredicates.length);
+         m_iObservations = new AtomicInteger();
+         reorder();
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         int[]   arrOrder = m_arrOrder;
+         boolean bResult = true;
+
+         if ((m_iSampleRate <= 1) 
+            || (ThreadLocalRandom.current().nextInt(m_iSampleRate) == 0))
+         {
+            for (int iIndex = 0; (bResult) && (iIndex < arrOrder.length); 
+                 iIndex++)
+            {
+               int iPredicate = arrOrder[iIndex];
+
+               m_arrEvaluated.incrementAndGet(iPredicate);
+               bResult = m_arrPredicates[iPredicate].evaluate(row);
+               if (bResult)
+               {
+                  m_arrPassed.incrementAndGet(iPredicate);
+               }
+            }
+            if (m_iObservations.incrementAndGet() >= m_iReorderInterval)
+            {
+               reorder();
+            }
+         }
+         else
+         {
+            for (int iIndex = 0; (bResult) && (iIndex < arrOrder.length); 
+                 iIndex++)
+            {
+               bResult = m_arrPredicates[arrOrder[iIndex]].evaluate(row);
+            }
+         }
+
+         return bResult;
+      }
+
+      /**
+       * @return RowPredicate<T>[] - predicates which all have to be satisfied
+       *                             in their original order
+       */
+      public RowPredicate<T>[] getPredicates(
+      )
+      {
+         return m_arrPredicates;
+      }
+
+      /**
+       * @return int[] - indexes of the predicates in the order in which they 
+       *                 are currently evaluated
+       */
+      public int[] getOrder(
+      )
+      {
+         return m_arrOrder.clone();
+      }
+
+      /**
+       * Get fraction of rows satisfying the predicate combining the estimate 
+       * with the recent observations.
+       *
+       * @param iPredicate - index of the predicate in the original order
+       * @return double - fraction of rows satisfying the predicate
+       */
+      public double getPassRate(
+         int iPredicate
+      )
+      {
+         return (m_arrPassed.get(iPredicate) 
+                 + ESTIMATE_WEIGHT * m_arrSelectivities[iPredicate])
+                / (m_arrEvaluated.get(iPredicate) + ESTIMATE_WEIGHT);
+      }
+
+      /**
+       * Recompute the order of evaluation of the predicates and halve the 
+       * observed counts so that older observations lose their weight. If 
+       * another thread already recomputed the order since the interval was 
+       * reached, nothing is done.
+       */
+      private synchronized void reorder(
+      )
+      {
+         if ((m_arrOrder == null) 
+            || (m_iObservations.get() >= m_iReorderInterval))
+         {
+            int[]    arrOrder = new int[m_arrPredicates.length];
+            double[] arrRanks = new double[m_arrPredicates.length];
+
+            for (int iPredicate = 0; iPredicate < arrOrder.length; 
+                 iPredicate++)
+            {
+               double dRank = ConditionCostModel.getRank(
+                                 m_arrCosts[iPredicate], 
+                                 getPassRate(iPredicate));
+               int    iIndex = iPredicate;
+
+               // Insertion sort, there are only few predicates
+               while ((iIndex > 0) && (arrRanks[iIndex - 1] > dRank))
+               {
+                  arrOrder[iIndex] = arrOrder[iIndex - 1];
+                  arrRanks[iIndex] = arrRanks[iIndex - 1];
+                  iIndex--;
+               }
+               arrOrder[iIndex] = iPredicate;
+               arrRanks[iIndex] = dRank;
+               // Observations made concurrently with halving may be lost, 
+               // which only makes the counts less precise
+               m_arrEvaluated.set(iPredicate, 
+                                  m_arrEvaluated.get(iPredicate) >> 1);
+               m_arrPassed.set(iPredicate, m_arrPassed.get(iPredicate) >> 1);
+            }
+            m_iObservations.set(0);
+            m_arrOrder = arrOrder;
+         }
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value of the column is null.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class IsNull<T> extends ColumnPredicate<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      public IsNull(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         return m_accessor.isNull(row, m_iColumnCode);
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value of the column is not null.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class IsNotNull<T> extends ColumnPredicate<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      public IsNotNull(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         return !m_accessor.isNull(row, m_iColumnCode);
+      }
+   }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+/**
+ * Set of primitive long values using open addressing with linear probing. 
+ * The values are stored directly in an array without boxing, so testing if
+ * a value is in the set doesn't allocate any memory and usually touches only 
+ * a single cache line. The set is populated when it is created and it is not
+ * modified afterwards, so it can be used concurrently from multiple threads.
+ *
+ * @author OpenSubsystems
+ */
+public class LongHashSet
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Value used to mark empty slots. Whether the value itself is member of 
+    * the set is tracked separately.
+    */
+   protected static final long EMPTY_SLOT = 0L;
+
+   /**
+    * Multiplier used to spread the bits of the values, 2^64 divided by the 
+    * golden ratio.
+    */
+   protected static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Slots of the hash table, length is always power of two.
+    */
+   protected long[] m_arrSlots;
+
+   /**
+    * Mask used to select slot.
+    */
+   protected int m_iMask;
+
+   /**
+    * Number of bits the hash is shifted to get index of the slot.
+    */
+   protected int m_iShift;
+
+   /**
+    * Flag signaling that EMPTY_SLOT value is member of the set.
+    */
+   protected boolean m_bContainsEmpty;
+
+   /**
+    * Number of distinct values in the set.
+    */
+   protected int m_iSize;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor. The table is sized so that it is at most half full.
+    *
+    * @param arrValues - values of the set, duplicates are allowed
+    */
+   public LongHashSet(
+      long[] arrValues
+   )
+   {
+      int iCapacity = 2;
+      int iBits = 1;
+
+      while (iCapacity < arrValues.length * 2)
+      {
+         iCapacity <<= 1;
+         iBits++;
+      }
+      m_arrSlots = new long[iCapacity];
+      m_iMask = iCapacity - 1;
+      m_iShift = Long.SIZE - iBits;
+      for (long lValue : arrValues)
+      {
+         add(lValue);
+      }
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Test if the value is member of the set.
+    *
+    * @param lValue - value to test
+    * @return boolean - true if the value is member of the set
+    */
+   public boolean contains(
+      long lValue
+   )
+   {
+      boolean bResult;
+
+      if (lValue == EMPTY_SLOT)
+      {
+         bResult = m_bContainsEmpty;
+      }
+      else
+      {
+         int  iIndex = slot(lValue);
+         long lSlot;
+
+         while (((lSlot = m_arrSlots[iIndex]) != lValue) && (lSlot != EMPTY_SLOT))
+         {
+            iIndex = (iIndex + 1) & m_iMask;
+         }
+         bResult = (lSlot == lValue);
+      }
+
+      return bResult;
+   }
+
+   /**
+    * @return int - number of distinct values in the set
+    */
+   public int size(
+   )
+   {
+      return m_iSize;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Add value to the set.
+    *
+    * @param lValue - value to add
+    */
+   protected void add(
+      long lValue
+   )
+   {
+      if (lValue == EMPTY_SLOT)
+      {
+         if (!m_bContainsEmpty)
+         {
+            m_bContainsEmpty = true;
+            m_iSize++;
+         }
+      }
+      else
+      {
+         int  iIndex = slot(lValue);
+         long lSlot;
+
+         while (((lSlot = m_arrSlots[iIndex]) != lValue) && (lSlot != EMPTY_SLOT))
+         {
+            iIndex = (iIndex + 1) & m_iMask;
+         }
+         if (lSlot == EMPTY_SLOT)
+         {
+            m_arrSlots[iIndex] = lValue;
+            m_iSize++;
+         }
+      }
+   }
+
+   /**
+    * Get index of the first slot where the value may be stored. The high bits
+    * of the multiplied value are used since they depend on all bits of the 
+    * value, so that sequential ids don't end up in neighboring slots.
+    *
+    * @param lValue - value to find slot for
+    * @return int - index of the slot
+    */
+   protected int slot(
+      long lValue
+   )
+   {
+      return (int)((lValue * HASH_MULTIPLIER) >>> m_iShift) & m_iMask;
+   }
+}
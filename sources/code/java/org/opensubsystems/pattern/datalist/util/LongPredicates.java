@@ -0,0 +1,575 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights
+ * reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.Arrays;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+
+/**
+ * Predicates comparing numeric, identifier and timestamp values of columns.
+ * Each operation is implemented
+ * by its own class so that the comparison doesn't have to be selected again
+ * for every row. Rows with null value don't satisfy any of the predicates 
+ * except EqualsOrNull, the same way as in SQL.
+ *
+ * @author OpenSubsystems
+ */
+public final class LongPredicates
+{
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /** 
+    * Private constructor since this class cannot be instantiated
+    */
+   private LongPredicates(
+   )
+   {
+      // Do nothing
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Base class for predicates comparing numeric, identifier and timestamp
+    * value of a column which is not null.
+    *
+    * @param <T> - type of the rows
+    */
+   public abstract static class LongPredicate<T> extends ColumnPredicate<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      protected LongPredicate(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         return (!m_accessor.isNull(row, m_iColumnCode))
+                && (matches(m_accessor.getLong(row, m_iColumnCode)));
+      }
+
+      /**
+       * Test if the value satisfies the predicate.
+       *
+       * @param lValue - value of the column
+       * @return boolean - true if the value satisfies the predicate
+       */
+      public abstract boolean matches(
+         long lValue
+      );
+   }
+
+   /**
+    * Predicate satisfied if the value is equal to the specified value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Equals<T> extends LongPredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final long m_lValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param lValue - value to compare to
+       */
+      public Equals(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         long                lValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_lValue = lValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         long lValue
+      )
+      {
+         return lValue == m_lValue;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is not equal to the specified value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class NotEquals<T> extends LongPredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final long m_lValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param lValue - value to compare to
+       */
+      public NotEquals(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         long                lValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_lValue = lValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         long lValue
+      )
+      {
+         return lValue != m_lValue;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is greater than the specified value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Greater<T> extends LongPredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final long m_lValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param lValue - value to compare to
+       */
+      public Greater(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         long                lValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_lValue = lValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         long lValue
+      )
+      {
+         return lValue > m_lValue;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is greater than or equal to the
+    * specified value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class GreaterEquals<T> extends LongPredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final long m_lValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param lValue - value to compare to
+       */
+      public GreaterEquals(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         long                lValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_lValue = lValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         long lValue
+      )
+      {
+         return lValue >= m_lValue;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is less than the specified value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Less<T> extends LongPredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final long m_lValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param lValue - value to compare to
+       */
+      public Less(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         long                lValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_lValue = lValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         long lValue
+      )
+      {
+         return lValue < m_lValue;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is less than or equal to the specified
+    * value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class LessEquals<T> extends LongPredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final long m_lValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param lValue - value to compare to
+       */
+      public LessEquals(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         long                lValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_lValue = lValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         long lValue
+      )
+      {
+         return lValue <= m_lValue;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is null or it is equal to the specified
+    * value.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class EqualsOrNull<T> extends ColumnPredicate<T>
+   {
+      /**
+       * Value to compare to.
+       */
+      private final long m_lValue;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param lValue - value to compare to
+       */
+      public EqualsOrNull(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         long                lValue
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_lValue = lValue;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         return (m_accessor.isNull(row, m_iColumnCode))
+                || (m_accessor.getLong(row, m_iColumnCode) == m_lValue);
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is equal to any of the specified 
+    * values.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class In<T> extends LongPredicate<T>
+   {
+      /**
+       * Values to compare to.
+       */
+      private final long[] m_arrValues;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param arrValues - values to compare to
+       */
+      public In(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         long[]              arrValues
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_arrValues = arrValues;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         long lValue
+      )
+      {
+         boolean bResult = false;
+
+         for (int iIndex = 0; (!bResult) && (iIndex < m_arrValues.length); 
+              iIndex++)
+         {
+            bResult = (m_arrValues[iIndex] == lValue);
+         }
+
+         return bResult;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is equal to any of the specified 
+    * values. The values are kept in hash set so the test takes constant time
+    * regardless of number of the values.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class HashIn<T> extends LongPredicate<T>
+   {
+      /**
+       * Values to compare to.
+       */
+      private final LongHashSet m_setValues;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param arrValues - values to compare to
+       */
+      public HashIn(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         long[]              arrValues
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_setValues = new LongHashSet(arrValues);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         long lValue
+      )
+      {
+         return m_setValues.contains(lValue);
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is equal to any of the specified 
+    * values. The values are kept in sorted array and the value is searched 
+    * using binary search. This is suitable for timestamps which usually 
+    * don't repeat and which are often clustered.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class SortedIn<T> extends LongPredicate<T>
+   {
+      /**
+       * Sorted values to compare to.
+       */
+      private final long[] m_arrSortedValues;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param arrValues - values to compare to, the array is not modified
+       */
+      public SortedIn(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         long[]              arrValues
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_arrSortedValues = arrValues.clone();
+         Arrays.sort(m_arrSortedValues);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         long lValue
+      )
+      {
+         return (lValue >= m_arrSortedValues[0])
+                && (lValue <= m_arrSortedValues[m_arrSortedValues.length - 1])
+                && (Arrays.binarySearch(m_arrSortedValues, lValue) >= 0);
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is not null and it doesn't satisfy 
+    * another predicate, usually one of the In predicates.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class NotIn<T> extends LongPredicate<T>
+   {
+      /**
+       * Predicate testing if the value is equal to any of the values.
+       */
+      private final LongPredicate<T> m_in;
+
+      /**
+       * Constructor.
+       *
+       * @param in - predicate testing if the value is equal to any of the 
+       *             values
+       */
+      public NotIn(
+         LongPredicate<T> in
+      )
+      {
+         super(in.m_accessor, in.m_iColumnCode);
+
+         m_in = in;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         long lValue
+      )
+      {
+         return !m_in.matches(lValue);
+      }
+   }
+}
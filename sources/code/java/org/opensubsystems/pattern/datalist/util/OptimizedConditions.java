@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.Collections;
+import java.util.List;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+
+/**
+ * Result of optimization of list of data conditions. 
+ *
+ * @author OpenSubsystems
+ */
+public class OptimizedConditions extends OSSObject
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Conditions equivalent to the original ones. 
+    */
+   protected List<DataCondition> m_lstConditions;
+
+   /**
+    * Flag signaling that the conditions can never be satisfied.
+    */
+   protected boolean m_bAlwaysFalse;
+
+   /**
+    * Number of the original conditions.
+    */
+   protected int m_iOriginalCount;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param lstConditions - conditions equivalent to the original ones
+    * @param bAlwaysFalse - true if the conditions can never be satisfied
+    * @param iOriginalCount - number of the original conditions
+    */
+   public OptimizedConditions(
+      List<DataCondition> lstConditions,
+      boolean             bAlwaysFalse,
+      int                 iOriginalCount
+   )
+   {
+      super();
+
+      m_lstConditions = Collections.unmodifiableList(lstConditions);
+      m_bAlwaysFalse = bAlwaysFalse;
+      m_iOriginalCount = iOriginalCount;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "OptimizedConditions[");
+      append(sb, ind + 1, "m_lstConditions = ", m_lstConditions);
+      append(sb, ind + 1, "m_bAlwaysFalse = ", m_bAlwaysFalse);
+      append(sb, ind + 1, "m_iOriginalCount = ", m_iOriginalCount);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * Get conditions equivalent to the original ones. If the conditions can 
+    * never be satisfied, the original conditions are returned so that the 
+    * result is correct even if the caller doesn't short-circuit the query.
+    *
+    * @return List<DataCondition> - read only list of conditions
+    */
+   public List<DataCondition> getConditions(
+   )
+   {
+      return m_lstConditions;
+   }
+
+   /**
+    * @return boolean - true if the conditions can never be satisfied and 
+    *                   the result of the query is always empty
+    */
+   public boolean isAlwaysFalse(
+   )
+   {
+      return m_bAlwaysFalse;
+   }
+
+   /**
+    * @return int - number of the original conditions
+    */
+   public int getOriginalCount(
+   )
+   {
+      return m_iOriginalCount;
+   }
+}
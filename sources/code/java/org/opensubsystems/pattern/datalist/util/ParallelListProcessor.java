@@ -0,0 +1,783 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+import org.opensubsystems.pattern.datalist.data.ListDataDescriptor;
+import org.opensubsystems.pattern.datalist.data.RowPredicate;
+
+/**
+ * Parallel filtering and sorting of large in memory lists of data objects
+ * described by ListDataDescriptor. The list is split into partitions which 
+ * are processed by tasks of ForkJoinPool. Data conditions are compiled once
+ * by DataConditionCompiler and the compiled predicate is evaluated for each 
+ * partition, the orderings are compiled by ListOrderCompiler and the rows 
+ * are sorted using parallel merge sort, which merges the sorted partitions
+ * in parallel as well.
+ *
+ * The result is deterministic and it doesn't depend on the number of 
+ * threads. Filtered rows keep their original order and the sort is stable, 
+ * so the result is always the same as when the list is filtered and sorted
+ * using Collections.sort by a single thread. Lists smaller than 
+ * MIN_PARTITION_SIZE are processed by the calling thread.
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public class ParallelListProcessor<T> extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Minimal number of rows processed by single task. Splitting the work 
+    * further costs more than it can save.
+    */
+   public static final int MIN_PARTITION_SIZE = 8192;
+
+   /**
+    * Number of partitions created for each thread of the pool so that the 
+    * threads finishing early can help with the remaining partitions.
+    */
+   public static final int PARTITIONS_PER_THREAD = 4;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Compiler of the data conditions.
+    */
+   protected DataConditionCompiler<T> m_conditionCompiler;
+
+   /**
+    * Compiler of the orderings.
+    */
+   protected ListOrderCompiler<T> m_orderCompiler;
+
+   /**
+    * Pool executing the tasks.
+    */
+   protected ForkJoinPool m_pool;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param descriptor - descriptor of the data in the list
+    * @param accessor - accessor to the values of the columns of the rows
+    * @param pool - pool executing the tasks
+    */
+   public ParallelListProcessor(
+      ListDataDescriptor<?> descriptor,
+      ListDataAccessor<T>   accessor,
+      ForkJoinPool          pool
+   )
+   {
+      super();
+
+      m_conditionCompiler = new DataConditionCompiler<>(descriptor, accessor);
+      m_orderCompiler = new ListOrderCompiler<>(descriptor, accessor);
+      m_pool = pool;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ParallelListProcessor[");
+      append(sb, ind + 1, "m_conditionCompiler = ", m_conditionCompiler);
+      append(sb, ind + 1, "m_pool = ", m_pool);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * Select rows satisfying all conditions and sort them using the default 
+    * ordering of the descriptor.
+    *
+    * @param lstRows - rows to process, the list should support fast random 
+    *                  access
+    * @param lstConditions - conditions to satisfy, can be null or empty
+    * @return List<T> - sorted rows satisfying the conditions
+    * @throws OSSException - some condition cannot be evaluated in memory or 
+    *                        the descriptor doesn't define valid ordering
+    */
+   public List<T> process(
+      List<? extends T>   lstRows,
+      List<DataCondition> lstConditions
+   ) throws OSSException
+   {
+      return process(lstRows, lstConditions, m_orderCompiler.compile());
+   }
+
+   /**
+    * Select rows satisfying all conditions and sort them.
+    *
+    * @param lstRows - rows to process, the list should support fast random 
+    *                  access
+    * @param lstConditions - conditions to satisfy, can be null or empty
+    * @param comparator - comparator defining the order of the rows, it has 
+    *                     to be usable concurrently
+    * @return List<T> - sorted rows satisfying the conditions
+    * @throws OSSException - some condition cannot be evaluated in memory
+    */
+   public List<T> process(
+      List<? extends T>     lstRows,
+      List<DataCondition>   lstConditions,
+      Comparator<? super T> comparator
+   ) throws OSSException
+   {
+      return sort(filter(lstRows, lstConditions), comparator);
+   }
+
+   /**
+    * Select rows satisfying all conditions.
+    *
+    * @param lstRows - rows to filter, the list should support fast random 
+    *                  access
+    * @param lstConditions - conditions to satisfy, can be null or empty
+    * @return List<T> - rows satisfying the conditions in the original order
+    * @throws OSSException - some condition cannot be evaluated in memory
+    */
+   @SuppressWarnings("unchecked")
+   public List<T> filter(
+      List<? extends T>   lstRows,
+      List<DataCondition> lstConditions
+   ) throws OSSException
+   {
+      RowPredicate<T> predicate = m_conditionCompiler.compile(lstConditions);
+      int             iPartitionSize = getPartitionSize(lstRows.size());
+      List<T>         lstResult;
+
+      if (lstRows.size() <= iPartitionSize)
+      {
+         lstResult = new ArrayList<>();
+         filter(lstRows, predicate, lstResult);
+      }
+      else
+      {
+         List<T>[] arrResults;
+
+         arrResults = new List[(lstRows.size() + iPartitionSize - 1) 
+                               / iPartitionSize];
+         m_pool.invoke(new FilterTask(lstRows, predicate, iPartitionSize,
+                                      arrResults, 0, arrResults.length));
+         lstResult = new ArrayList<>(getSize(arrResults));
+         for (List<T> lstPartition : arrResults)
+         {
+            lstResult.addAll(lstPartition);
+         }
+      }
+
+      return lstResult;
+   }
+
+   /**
+    * Sort rows using the default ordering of the descriptor.
+    *
+    * @param lstRows - rows to sort
+    * @return List<T> - new list of sorted rows
+    * @throws OSSException - the descriptor doesn't define valid ordering
+    */
+   public List<T> sort(
+      List<? extends T> lstRows
+   ) throws OSSException
+   {
+      return sort(lstRows, m_orderCompiler.compile());
+   }
+
+   /**
+    * Sort rows using stable parallel merge sort.
+    *
+    * @param lstRows - rows to sort
+    * @param comparator - comparator defining the order of the rows, it has 
+    *                     to be usable concurrently
+    * @return List<T> - new list of sorted rows
+    */
+   @SuppressWarnings("unchecked")
+   public List<T> sort(
+      List<? extends T>     lstRows,
+      Comparator<? super T> comparator
+   )
+   {
+      Object[] arrRows = lstRows.toArray();
+      int      iPartitionSize = getPartitionSize(arrRows.length);
+
+      if (arrRows.length <= iPartitionSize)
+      {
+         Arrays.sort((T[])arrRows, comparator);
+      }
+      else
+      {
+         m_pool.invoke(new SortTask(arrRows, new Object[arrRows.length], 
+                                    0, arrRows.length, false, 
+                                    (Comparator<Object>)comparator, 
+                                    iPartitionSize));
+      }
+
+      return new ArrayList<>(Arrays.asList((T[])arrRows));
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Get number of rows processed by single task.
+    *
+    * @param iSize - number of rows to process
+    * @return int - number of rows of single partition
+    */
+   protected int getPartitionSize(
+      int iSize
+   )
+   {
+      int iPartitionSize = MIN_PARTITION_SIZE;
+
+      if (m_pool.getParallelism() > 1)
+      {
+         iPartitionSize = Math.max(MIN_PARTITION_SIZE, 
+                             iSize / (m_pool.getParallelism() 
+                                      * PARTITIONS_PER_THREAD) + 1);
+      }
+      else
+      {
+         // Single thread doesn't need any partitions
+         iPartitionSize = Math.max(iPartitionSize, iSize);
+      }
+
+      return iPartitionSize;
+   }
+
+   /**
+    * Select rows satisfying the predicate.
+    *
+    * @param lstRows - rows to filter
+    * @param predicate - predicate the rows have to satisfy
+    * @param lstResult - list to add the rows satisfying the predicate to
+    */
+   protected static <T> void filter(
+      List<? extends T> lstRows,
+      RowPredicate<T>   predicate,
+      List<T>           lstResult
+   )
+   {
+      if (!LogicalPredicates.isAlwaysFalse(predicate))
+      {
+         for (T row : lstRows)
+         {
+            if (predicate.evaluate(row))
+            {
+               lstResult.add(row);
+            }
+         }
+      }
+   }
+
+   /**
+    * Get total size of lists.
+    *
+    * @param arrLists - lists to examine
+    * @return int - total number of elements of the lists
+    */
+   protected static int getSize(
+      List<?>[] arrLists
+   )
+   {
+      int iSize = 0;
+
+      for (List<?> lstElements : arrLists)
+      {
+         iSize += lstElements.size();
+      }
+
+      return iSize;
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Task filtering range of partitions of the list. The range is split into
+    * halves until it contains single partition.
+    */
+   protected class FilterTask extends RecursiveAction
+   {
+      /**
+       * Serial version id.
+       */
+      private static final long serialVersionUID = 1L;
+
+      /**
+       * Rows to filter.
+       */
+      private final List<? extends T> m_lstRows;
+
+      /**
+       * Predicate the rows have to satisfy.
+       */
+      private final RowPredicate<T> m_predicate;
+
+      /**
+       * Number of rows of single partition.
+       */
+      private final int m_iPartitionSize;
+
+      /**
+       * Rows satisfying the predicate for each partition.
+       */
+      private final List<T>[] m_arrResults;
+
+      /**
+       * Index of the first partition of the range.
+       */
+      private final int m_iFirst;
+
+      /**
+       * Index following the last partition of the range.
+       */
+      private final int m_iEnd;
+
+      /**
+       * Constructor.
+       *
+       * @param lstRows - rows to filter
+       * @param predicate - predicate the rows have to satisfy
+       * @param iPartitionSize - number of rows of single partition
+       * @param arrResults - rows satisfying the predicate for each partition
+       * @param iFirst - index of the first partition of the range
+       * @param iEnd - index following the last partition of the range
+       */
+      protected FilterTask(
+         List<? extends T> lstRows,
+         RowPredicate<T>   predicate,
+         int               iPartitionSize,
+         List<T>[]         arrResults,
+         int               iFirst,
+         int               iEnd
+      )
+      {
+         m_lstRows = lstRows;
+         m_predicate = predicate;
+         m_iPartitionSize = iPartitionSize;
+         m_arrResults = arrResults;
+         m_iFirst = iFirst;
+         m_iEnd = iEnd;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      protected void compute(
+      )
+      {
+         if (m_iEnd - m_iFirst == 1)
+         {
+            int iStart = m_iFirst * m_iPartitionSize;
+            int iEnd = Math.min(m_lstRows.size(), iStart + m_iPartitionSize);
+
+            m_arrResults[m_iFirst] = new ArrayList<>();
+            filter(m_lstRows.subList(iStart, iEnd), m_predicate, 
+                   m_arrResults[m_iFirst]);
+         }
+         else
+         {
+            int iMiddle = (m_iFirst + m_iEnd) >>> 1;
+
+            invokeAll(new FilterTask(m_lstRows, m_predicate, m_iPartitionSize,
+                                     m_arrResults, m_iFirst, iMiddle),
+                      new FilterTask(m_lstRows, m_predicate, m_iPartitionSize,
+                                     m_arrResults, iMiddle, m_iEnd));
+         }
+      }
+   }
+
+   /**
+    * Task sorting range of the array. Small ranges are sorted directly, 
+    * larger ranges are split into halves which are sorted in parallel into 
+    * the other array and then merged back in parallel. The arrays alternate 
+    * at each level so that the rows don't have to be copied back after 
+    * merging.
+    */
+   protected static class SortTask extends RecursiveAction
+   {
+      /**
+       * Serial version id.
+       */
+      private static final long serialVersionUID = 1L;
+
+      /**
+       * Array with the rows to sort.
+       */
+      private final Object[] m_arrRows;
+
+      /**
+       * Buffer of the same length as the array of rows.
+       */
+      private final Object[] m_arrBuffer;
+
+      /**
+       * Index of the first row of the range.
+       */
+      private final int m_iStart;
+
+      /**
+       * Index following the last row of the range.
+       */
+      private final int m_iEnd;
+
+      /**
+       * If true the sorted range is stored to the buffer, otherwise to the
+       * array of rows.
+       */
+      private final boolean m_bToBuffer;
+
+      /**
+       * Comparator defining the order of the rows.
+       */
+      private final Comparator<Object> m_comparator;
+
+      /**
+       * Maximal number of rows sorted or merged without splitting.
+       */
+      private final int m_iPartitionSize;
+
+      /**
+       * Constructor.
+       *
+       * @param arrRows - array with the rows to sort
+       * @param arrBuffer - buffer of the same length as the array of rows
+       * @param iStart - index of the first row of the range
+       * @param iEnd - index following the last row of the range
+       * @param bToBuffer - if true the sorted range is stored to the buffer
+       * @param comparator - comparator defining the order of the rows
+       * @param iPartitionSize - maximal number of rows sorted or merged 
+       *                         without splitting
+       */
+      protected SortTask(
+         Object[]           arrRows,
+         Object[]           arrBuffer,
+         int                iStart,
+         int                iEnd,
+         boolean            bToBuffer,
+         Comparator<Object> comparator,
+         int                iPartitionSize
+      )
+      {
+         m_arrRows = arrRows;
+         m_arrBuffer = arrBuffer;
+         m_iStart = iStart;
+         m_iEnd = iEnd;
+         m_bToBuffer = bToBuffer;
+         m_comparator = comparator;
+         m_iPartitionSize = iPartitionSize;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      protected void compute(
+      )
+      {
+         if (m_iEnd - m_iStart <= m_iPartitionSize)
+         {
+            // Leaves always sort the original rows, TimSort is stable
+            Arrays.sort(m_arrRows, m_iStart, m_iEnd, m_comparator);
+            if (m_bToBuffer)
+            {
+               System.arraycopy(m_arrRows, m_iStart, m_arrBuffer, m_iStart, 
+                                m_iEnd - m_iStart);
+            }
+         }
+         else
+         {
+            int      iMiddle = (m_iStart + m_iEnd) >>> 1;
+            Object[] arrSource = m_bToBuffer ? m_arrRows : m_arrBuffer;
+            Object[] arrTarget = m_bToBuffer ? m_arrBuffer : m_arrRows;
+
+            invokeAll(new SortTask(m_arrRows, m_arrBuffer, m_iStart, iMiddle, 
+                                   !m_bToBuffer, m_comparator, 
+                                   m_iPartitionSize),
+                      new SortTask(m_arrRows, m_arrBuffer, iMiddle, m_iEnd, 
+                                   !m_bToBuffer, m_comparator, 
+                                   m_iPartitionSize));
+            new MergeTask(arrSource, arrTarget, m_iStart, iMiddle, iMiddle, 
+                          m_iEnd, m_iStart, m_comparator, 
+                          m_iPartitionSize).compute();
+         }
+      }
+   }
+
+   /**
+    * Task merging two sorted ranges of array into another array. Large 
+    * ranges are split by the middle row of the larger range, which is placed
+    * directly to its final position, and the rows preceding and following it
+    * are merged in parallel. Rows of the first range precede equal rows of 
+    * the second range, so the merge is stable.
+    */
+   protected static class MergeTask extends RecursiveAction
+   {
+      /**
+       * Serial version id.
+       */
+      private static final long serialVersionUID = 1L;
+
+      /**
+       * Array containing both sorted ranges.
+       */
+      private final Object[] m_arrSource;
+
+      /**
+       * Array to store the merged rows to.
+       */
+      private final Object[] m_arrTarget;
+
+      /**
+       * Index of the first row of the first range.
+       */
+      private final int m_iFirstStart;
+
+      /**
+       * Index following the last row of the first range.
+       */
+      private final int m_iFirstEnd;
+
+      /**
+       * Index of the first row of the second range.
+       */
+      private final int m_iSecondStart;
+
+      /**
+       * Index following the last row of the second range.
+       */
+      private final int m_iSecondEnd;
+
+      /**
+       * Index of the target array where to store the first merged row.
+       */
+      private final int m_iTargetStart;
+
+      /**
+       * Comparator defining the order of the rows.
+       */
+      private final Comparator<Object> m_comparator;
+
+      /**
+       * Maximal number of rows merged without splitting.
+       */
+      private final int m_iPartitionSize;
+
+      /**
+       * Constructor.
+       *
+       * @param arrSource - array containing both sorted ranges
+       * @param arrTarget - array to store the merged rows to
+       * @param iFirstStart - index of the first row of the first range
+       * @param iFirstEnd - index following the last row of the first range
+       * @param iSecondStart - index of the first row of the second range
+       * @param iSecondEnd - index following the last row of the second range
+       * @param iTargetStart - index where to store the first merged row
+       * @param comparator - comparator defining the order of the rows
+       * @param iPartitionSize - maximal number of rows merged without 
+       *                         splitting
+       */
+      protected MergeTask(
+         Object[]           arrSource,
+         Object[]           arrTarget,
+         int                iFirstStart,
+         int                iFirstEnd,
+         int                iSecondStart,
+         int                iSecondEnd,
+         int                iTargetStart,
+         Comparator<Object> comparator,
+         int                iPartitionSize
+      )
+      {
+         m_arrSource = arrSource;
+         m_arrTarget = arrTarget;
+         m_iFirstStart = iFirstStart;
+         m_iFirstEnd = iFirstEnd;
+         m_iSecondStart = iSecondStart;
+         m_iSecondEnd = iSecondEnd;
+         m_iTargetStart = iTargetStart;
+         m_comparator = comparator;
+         m_iPartitionSize = iPartitionSize;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      protected void compute(
+      )
+      {
+         int iFirstSize = m_iFirstEnd - m_iFirstStart;
+         int iSecondSize = m_iSecondEnd - m_iSecondStart;
+
+         if (iFirstSize + iSecondSize <= m_iPartitionSize)
+         {
+            merge();
+         }
+         else
+         {
+            int iFirstSplit;
+            int iSecondSplit;
+            int iTarget;
+
+            if (iFirstSize >= iSecondSize)
+            {
+               iFirstSplit = (m_iFirstStart + m_iFirstEnd) >>> 1;
+               // Equal rows of the second range follow the split row
+               iSecondSplit = search(m_arrSource[iFirstSplit], m_iSecondStart,
+                                     m_iSecondEnd, false);
+               iTarget = m_iTargetStart + (iFirstSplit - m_iFirstStart)
+                         + (iSecondSplit - m_iSecondStart);
+               m_arrTarget[iTarget] = m_arrSource[iFirstSplit];
+               invokeAll(createMergeTask(m_iFirstStart, iFirstSplit, 
+                                         m_iSecondStart, iSecondSplit, 
+                                         m_iTargetStart),
+                         createMergeTask(iFirstSplit + 1, m_iFirstEnd, 
+                                         iSecondSplit, m_iSecondEnd, 
+                                         iTarget + 1));
+            }
+            else
+            {
+               iSecondSplit = (m_iSecondStart + m_iSecondEnd) >>> 1;
+               // Equal rows of the first range precede the split row
+               iFirstSplit = search(m_arrSource[iSecondSplit], m_iFirstStart,
+                                    m_iFirstEnd, true);
+               iTarget = m_iTargetStart + (iFirstSplit - m_iFirstStart)
+                         + (iSecondSplit - m_iSecondStart);
+               m_arrTarget[iTarget] = m_arrSource[iSecondSplit];
+               invokeAll(createMergeTask(m_iFirstStart, iFirstSplit, 
+                                         m_iSecondStart, iSecondSplit, 
+                                         m_iTargetStart),
+                         createMergeTask(iFirstSplit, m_iFirstEnd, 
+                                         iSecondSplit + 1, m_iSecondEnd, 
+                                         iTarget + 1));
+            }
+         }
+      }
+
+      /**
+       * Merge the ranges sequentially.
+       */
+      private void merge(
+      )
+      {
+         int iFirst = m_iFirstStart;
+         int iSecond = m_iSecondStart;
+         int iTarget = m_iTargetStart;
+
+         while ((iFirst < m_iFirstEnd) && (iSecond < m_iSecondEnd))
+         {
+            if (m_comparator.compare(m_arrSource[iFirst], 
+                                     m_arrSource[iSecond]) <= 0)
+            {
+               m_arrTarget[iTarget++] = m_arrSource[iFirst++];
+            }
+            else
+            {
+               m_arrTarget[iTarget++] = m_arrSource[iSecond++];
+            }
+         }
+         System.arraycopy(m_arrSource, iFirst, m_arrTarget, iTarget, 
+                          m_iFirstEnd - iFirst);
+         System.arraycopy(m_arrSource, iSecond, m_arrTarget, 
+                          iTarget + m_iFirstEnd - iFirst, 
+                          m_iSecondEnd - iSecond);
+      }
+
+      /**
+       * Find position of row in sorted range.
+       *
+       * @param row - row to find
+       * @param iStart - index of the first row of the range
+       * @param iEnd - index following the last row of the range
+       * @param bAfterEqual - if true return position following all rows equal
+       *                      to the row, otherwise position preceding them
+       * @return int - the position
+       */
+      private int search(
+         Object  row,
+         int     iStart,
+         int     iEnd,
+         boolean bAfterEqual
+      )
+      {
+         int iLow = iStart;
+         int iHigh = iEnd;
+
+         while (iLow < iHigh)
+         {
+            int iMiddle = (iLow + iHigh) >>> 1;
+            int iResult = m_comparator.compare(m_arrSource[iMiddle], row);
+
+            if ((iResult < 0) || ((bAfterEqual) && (iResult == 0)))
+            {
+               iLow = iMiddle + 1;
+            }
+            else
+            {
+               iHigh = iMiddle;
+            }
+         }
+
+         return iLow;
+      }
+
+      /**
+       * Create task merging parts of the ranges.
+       *
+       * @param iFirstStart - index of the first row of the first range
+       * @param iFirstEnd - index following the last row of the first range
+       * @param iSecondStart - index of the first row of the second range
+       * @param iSecondEnd - index following the last row of the second range
+       * @param iTargetStart - index where to store the first merged row
+       * @return MergeTask - created task
+       */
+      private MergeTask createMergeTask(
+         int iFirstStart,
+         int iFirstEnd,
+         int iSecondStart,
+         int iSecondEnd,
+         int iTargetStart
+      )
+      {
+         return new MergeTask(m_arrSource, m_arrTarget, iFirstStart, iFirstEnd,
+                              iSecondStart, iSecondEnd, iTargetStart, 
+                              m_comparator, m_iPartitionSize);
+      }
+   }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Sorted set of ids of rows stored in an array of primitive ints. It is used
+ * by indexes to store rows having the same value of the indexed column. Rows
+ * are usually added with increasing ids, in which case adding a row just 
+ * appends it to the end of the array.
+ *
+ * @author OpenSubsystems
+ */
+public class RowIdList
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Initial capacity of the list.
+    */
+   protected static final int INITIAL_CAPACITY = 4;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Ids of the rows in increasing order, only the first m_iSize elements are
+    * used.
+    */
+   protected int[] m_arrRowIds;
+
+   /**
+    * Number of rows in the list.
+    */
+   protected int m_iSize;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor of empty list.
+    */
+   public RowIdList(
+   )
+   {
+      m_arrRowIds = new int[INITIAL_CAPACITY];
+      m_iSize = 0;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Add row to the list.
+    *
+    * @param iRowId - id of the row to add
+    * @return boolean - true if the row was added, false if it was already
+    *                   in the list
+    */
+   public boolean add(
+      int iRowId
+   )
+   {
+      boolean bAdded = true;
+
+      if ((m_iSize == 0) || (m_arrRowIds[m_iSize - 1] < iRowId))
+      {
+         ensureCapacity();
+         m_arrRowIds[m_iSize++] = iRowId;
+      }
+      else
+      {
+         int iIndex = Arrays.binarySearch(m_arrRowIds, 0, m_iSize, iRowId);
+
+         if (iIndex >= 0)
+         {
+            bAdded = false;
+         }
+         else
+         {
+            iIndex = -iIndex - 1;
+            ensureCapacity();
+            System.arraycopy(m_arrRowIds, iIndex, m_arrRowIds, iIndex + 1, 
+                             m_iSize - iIndex);
+            m_arrRowIds[iIndex] = iRowId;
+            m_iSize++;
+         }
+      }
+
+      return bAdded;
+   }
+
+   /**
+    * Remove row from the list.
+    *
+    * @param iRowId - id of the row to remove
+    * @return boolean - true if the row was removed, false if it wasn't in 
+    *                   the list
+    */
+   public boolean remove(
+      int iRowId
+   )
+   {
+      int iIndex = Arrays.binarySearch(m_arrRowIds, 0, m_iSize, iRowId);
+
+      if (iIndex >= 0)
+      {
+         System.arraycopy(m_arrRowIds, iIndex + 1, m_arrRowIds, iIndex, 
+                          m_iSize - iIndex - 1);
+         m_iSize--;
+      }
+
+      return iIndex >= 0;
+   }
+
+   /**
+    * Test if the row is in the list.
+    *
+    * @param iRowId - id of the row to test
+    * @return boolean - true if the row is in the list
+    */
+   public boolean contains(
+      int iRowId
+   )
+   {
+      return Arrays.binarySearch(m_arrRowIds, 0, m_iSize, iRowId) >= 0;
+   }
+
+   /**
+    * @return int - number of rows in the list
+    */
+   public int size(
+   )
+   {
+      return m_iSize;
+   }
+
+   /**
+    * @return boolean - true if there are no rows in the list
+    */
+   public boolean isEmpty(
+   )
+   {
+      return m_iSize == 0;
+   }
+
+   /**
+    * Get id of the row at the specified position.
+    *
+    * @param iIndex - position of the row in the list
+    * @return int - id of the row
+    */
+   public int get(
+      int iIndex
+   )
+   {
+      return m_arrRowIds[iIndex];
+   }
+
+   /**
+    * Set bits corresponding to all rows in the list.
+    *
+    * @param result - bit set to set the bits in
+    */
+   public void orInto(
+      BitSet result
+   )
+   {
+      for (int iIndex = 0; iIndex < m_iSize; iIndex++)
+      {
+         result.set(m_arrRowIds[iIndex]);
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public String toString(
+   )
+   {
+      return Arrays.toString(Arrays.copyOf(m_arrRowIds, m_iSize));
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Make sure there is space for at least one more row.
+    */
+   protected void ensureCapacity(
+   )
+   {
+      if (m_iSize == m_arrRowIds.length)
+      {
+         m_arrRowIds = Arrays.copyOf(m_arrRowIds, m_iSize * 2);
+      }
+   }
+}
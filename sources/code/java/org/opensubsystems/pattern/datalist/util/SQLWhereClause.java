@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import org.opensubsystems.core.util.OSSObject;
+
+/**
+ * Parametrized SQL condition generated from list of data conditions together
+ * with values of its parameters. The SQL is identical for all lists of 
+ * conditions with the same shape key, so that the statement can be prepared
+ * once and reused with different parameters.
+ *
+ * @author OpenSubsystems
+ */
+public class SQLWhereClause extends OSSObject
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Key identifying the shape of the conditions the SQL was generated for.
+    */
+   protected String m_strShapeKey;
+
+   /**
+    * SQL condition with ? placeholders for the parameters, without the WHERE
+    * keyword. Empty if there are no conditions.
+    */
+   protected String m_strSQL;
+
+   /**
+    * Values of the parameters in the order of the placeholders.
+    */
+   protected List<Object> m_lstParameters;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param strShapeKey - key identifying the shape of the conditions
+    * @param strSQL - SQL condition with ? placeholders for the parameters
+    * @param lstParameters - values of the parameters
+    */
+   public SQLWhereClause(
+      String       strShapeKey,
+      String       strSQL,
+      List<Object> lstParameters
+   )
+   {
+      super();
+
+      m_strShapeKey = strShapeKey;
+      m_strSQL = strSQL;
+      m_lstParameters = Collections.unmodifiableList(lstParameters);
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "SQLWhereClause[");
+      append(sb, ind + 1, "m_strShapeKey = ", m_strShapeKey);
+      append(sb, ind + 1, "m_strSQL = ", m_strSQL);
+      append(sb, ind + 1, "m_lstParameters = ", m_lstParameters);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return String - key identifying the shape of the conditions
+    */
+   public String getShapeKey(
+   )
+   {
+      return m_strShapeKey;
+   }
+
+   /**
+    * @return String - SQL condition with ? placeholders for the parameters,
+    *                  without the WHERE keyword, empty if there are no 
+    *                  conditions
+    */
+   public String getSQL(
+   )
+   {
+      return m_strSQL;
+   }
+
+   /**
+    * @return boolean - true if there are no conditions
+    */
+   public boolean isEmpty(
+   )
+   {
+      return m_strSQL.isEmpty();
+   }
+
+   /**
+    * @return List<Object> - read only list of values of the parameters in 
+    *                        the order of the placeholders
+    */
+   public List<Object> getParameters(
+   )
+   {
+      return m_lstParameters;
+   }
+
+   /**
+    * Set values of the parameters to the statement.
+    *
+    * @param statement - statement prepared using SQL containing this 
+    *                    condition
+    * @param iFirstIndex - index of the placeholder corresponding to the first
+    *                      parameter of this condition
+    * @return int - index of the placeholder following the parameters of this
+    *               condition
+    * @throws SQLException - an error has occurred
+    */
+   public int setParameters(
+      PreparedStatement statement,
+      int               iFirstIndex
+   ) throws SQLException
+   {
+      int iIndex = iFirstIndex;
+
+      for (Object objParameter : m_lstParameters)
+      {
+         statement.setObject(iIndex++, objParameter);
+      }
+
+      return iIndex;
+   }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.pattern.datalist.data.DataCondition;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+
+/**
+ * Index keeping distinct values of the column sorted, so that in addition 
+ * to equality it can find rows with values within a range and rows with 
+ * string values starting with a prefix (case sensitive). 
+ *
+ * @param <T> - type of the rows
+ * @author OpenSubsystems
+ */
+public class SortedColumnIndex<T> extends HashColumnIndex<T>
+{
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param accessor - accessor to the values of the column
+    * @param iColumnCode - code of the indexed column
+    * @param iValueType - type of the values of the column
+    */
+   public SortedColumnIndex(
+      ListDataAccessor<T> accessor,
+      int                 iColumnCode,
+      int                 iValueType
+   )
+   {
+      super(accessor, iColumnCode, iValueType, new TreeMap<Object, RowIdList>());
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected boolean supportsOperation(
+      int iOperation
+   )
+   {
+      boolean bSupported;
+
+      switch (iOperation)
+      {
+         case (DataCondition.OPERATION_GREATER):
+         case (DataCondition.OPERATION_GREATER_EQUALS):
+         case (DataCondition.OPERATION_LESS):
+         case (DataCondition.OPERATION_LESS_EQUALS):
+         {
+            bSupported = (m_iValueType != DataCondition.VALUE_TYPE_BOOLEAN);
+            break;
+         }
+         case (DataCondition.OPERATION_STARTS_CASESENSITIVE):
+         case (DataCondition.OPERATION_NOT_STARTS_CASESENSITIVE):
+         {
+            bSupported = (m_iValueType == DataCondition.VALUE_TYPE_STRING);
+            break;
+         }
+         default :
+         {
+            bSupported = super.supportsOperation(iOperation);
+         }
+      }
+
+      return bSupported;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected BitSet lookupOperation(
+      DataCondition condition,
+      Object        objKey
+   ) throws OSSException
+   {
+      NavigableMap<Object, RowIdList> mpRowIds;
+      BitSet                          result = new BitSet();
+
+      mpRowIds = (NavigableMap<Object, RowIdList>)m_mpRowIds;
+      if ((objKey instanceof Double) && (((Double)objKey).isNaN()))
+      {
+         // No value is greater or less than value which is not a number
+         mpRowIds = null;
+      }
+      else
+      {
+         switch (condition.getOperation())
+         {
+            case (DataCondition.OPERATION_GREATER):
+            {
+               mpRowIds = mpRowIds.tailMap(objKey, false);
+               break;
+            }
+            case (DataCondition.OPERATION_GREATER_EQUALS):
+            {
+               mpRowIds = mpRowIds.tailMap(objKey, true);
+               break;
+            }
+            case (DataCondition.OPERATION_LESS):
+            {
+               mpRowIds = mpRowIds.headMap(objKey, false);
+               break;
+            }
+            case (DataCondition.OPERATION_LESS_EQUALS):
+            {
+               mpRowIds = mpRowIds.headMap(objKey, true);
+               break;
+            }
+            case (DataCondition.OPERATION_STARTS_CASESENSITIVE):
+            case (DataCondition.OPERATION_NOT_STARTS_CASESENSITIVE):
+            {
+               String                                 strPrefix;
+               Iterator<Map.Entry<Object, RowIdList>> itrEntries;
+               boolean                                bPrefix = true;
+
+               // All strings with the prefix follow the prefix itself
+               strPrefix = (String)objKey;
+               itrEntries = mpRowIds.tailMap(strPrefix, true).entrySet()
+                                    .iterator();
+               while ((bPrefix) && (itrEntries.hasNext()))
+               {
+                  Map.Entry<Object, RowIdList> entry = itrEntries.next();
+
+                  bPrefix = ((String)entry.getKey()).startsWith(strPrefix);
+                  if (bPrefix)
+                  {
+                     entry.getValue().orInto(result);
+                  }
+               }
+               if (condition.getOperation() 
+                   == DataCondition.OPERATION_NOT_STARTS_CASESENSITIVE)
+               {
+                  result = andNotValueRows(result);
+               }
+               mpRowIds = null;
+               break;
+            }
+            default :
+            {
+               result = super.lookupOperation(condition, objKey);
+               mpRowIds = null;
+            }
+         }
+      }
+      if (mpRowIds != null)
+      {
+         for (RowIdList lstRowIds : mpRowIds.values())
+         {
+            lstRowIds.orInto(result);
+         }
+      }
+
+      return result;
+   }
+}
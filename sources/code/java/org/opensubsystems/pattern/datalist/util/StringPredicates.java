@@ -0,0 +1,956 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.opensubsystems.pattern.datalist.data.ListDataAccessor;
+
+/**
+ * Predicates comparing string values of columns. Each operation is 
+ * implemented by its own class so that the comparison doesn't have to be 
+ * selected again for every row. Case insensitive comparisons compare the 
+ * characters in place without creating lower case copies of the values. Rows 
+ * with null value don't satisfy any of the predicates except EqualsOrNull, 
+ * including the negated ones, the same way as in SQL.
+ *
+ * @author OpenSubsystems
+ */
+public final class StringPredicates
+{
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /** 
+    * Private constructor since this class cannot be instantiated
+    */
+   private StringPredicates(
+   )
+   {
+      // Do nothing
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Base class for predicates comparing string value of a column which is 
+    * not null.
+    *
+    * @param <T> - type of the rows
+    */
+   public abstract static class StringPredicate<T> extends ColumnPredicate<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       */
+      protected StringPredicate(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode
+      )
+      {
+         super(accessor, iColumnCode);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         String strValue = m_accessor.getString(row, m_iColumnCode);
+
+         return (strValue != null) && (matches(strValue));
+      }
+
+      /**
+       * Test if the value satisfies the predicate.
+       *
+       * @param strValue - value of the column, never null
+       * @return boolean - true if the value satisfies the predicate
+       */
+      public abstract boolean matches(
+         String strValue
+      );
+   }
+
+   /**
+    * Base class for predicates comparing string value of a column with a 
+    * single pattern.
+    *
+    * @param <T> - type of the rows
+    */
+   public abstract static class PatternPredicate<T> extends StringPredicate<T>
+   {
+      /**
+       * Pattern to compare to.
+       */
+      protected final String m_strPattern;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      protected PatternPredicate(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_strPattern = strPattern;
+      }
+
+      /**
+       * @return String - pattern to compare to
+       */
+      public String getPattern(
+      )
+      {
+         return m_strPattern;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value doesn't satisfy another predicate. 
+    * Null values don't satisfy neither of the predicates.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Negated<T> extends StringPredicate<T>
+   {
+      /**
+       * Predicate which must not be satisfied.
+       */
+      private final StringPredicate<T> m_predicate;
+
+      /**
+       * Constructor.
+       *
+       * @param predicate - predicate which must not be satisfied
+       */
+      public Negated(
+         StringPredicate<T> predicate
+      )
+      {
+         super(predicate.m_accessor, predicate.m_iColumnCode);
+
+         m_predicate = predicate;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return !m_predicate.matches(strValue);
+      }
+
+      /**
+       * @return StringPredicate<T> - predicate which must not be satisfied
+       */
+      public StringPredicate<T> getPredicate(
+      )
+      {
+         return m_predicate;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is equal to the pattern.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Equals<T> extends PatternPredicate<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      public Equals(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode, strPattern);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return strValue.equals(m_strPattern);
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is equal to the pattern ignoring case.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class EqualsIgnoreCase<T> extends PatternPredicate<T>
+   {
+      /**
+       * Matcher of the case folded pattern.
+       */
+      private final CaseFoldingMatcher m_matcher;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      public EqualsIgnoreCase(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode, strPattern);
+
+         m_matcher = new CaseFoldingMatcher(strPattern);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return m_matcher.matchesEqual(strValue);
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is greater than the pattern.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Greater<T> extends PatternPredicate<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      public Greater(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode, strPattern);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return strValue.compareTo(m_strPattern) > 0;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is greater than or equal to the pattern.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class GreaterEquals<T> extends PatternPredicate<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      public GreaterEquals(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode, strPattern);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return strValue.compareTo(m_strPattern) >= 0;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is less than the pattern.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Less<T> extends PatternPredicate<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      public Less(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode, strPattern);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return strValue.compareTo(m_strPattern) < 0;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is less than or equal to the pattern.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class LessEquals<T> extends PatternPredicate<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      public LessEquals(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode, strPattern);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return strValue.compareTo(m_strPattern) <= 0;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value contains the pattern.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class Contains<T> extends PatternPredicate<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      public Contains(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode, strPattern);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return strValue.contains(m_strPattern);
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value starts with the pattern.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class StartsWith<T> extends PatternPredicate<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      public StartsWith(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode, strPattern);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return strValue.startsWith(m_strPattern);
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value starts with the pattern ignoring case.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class StartsWithIgnoreCase<T> extends PatternPredicate<T>
+   {
+      /**
+       * Matcher of the case folded pattern.
+       */
+      private final CaseFoldingMatcher m_matcher;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      public StartsWithIgnoreCase(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode, strPattern);
+
+         m_matcher = new CaseFoldingMatcher(strPattern);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return m_matcher.matchesStart(strValue);
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value ends with the pattern.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class EndsWith<T> extends PatternPredicate<T>
+   {
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      public EndsWith(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode, strPattern);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return strValue.endsWith(m_strPattern);
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value ends with the pattern ignoring case.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class EndsWithIgnoreCase<T> extends PatternPredicate<T>
+   {
+      /**
+       * Matcher of the case folded pattern.
+       */
+      private final CaseFoldingMatcher m_matcher;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      public EndsWithIgnoreCase(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode, strPattern);
+
+         m_matcher = new CaseFoldingMatcher(strPattern);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return m_matcher.matchesEnd(strValue);
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value contains the pattern ignoring case.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class ContainsIgnoreCase<T> extends PatternPredicate<T>
+   {
+      /**
+       * Matcher of the case folded pattern.
+       */
+      private final CaseFoldingMatcher m_matcher;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      public ContainsIgnoreCase(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode, strPattern);
+
+         m_matcher = new CaseFoldingMatcher(strPattern);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return m_matcher.matchesContain(strValue);
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is null or it is equal to the pattern.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class EqualsOrNull<T> extends ColumnPredicate<T>
+   {
+      /**
+       * Pattern to compare to.
+       */
+      private final String m_strPattern;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param strPattern - pattern to compare to
+       */
+      public EqualsOrNull(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String              strPattern
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_strPattern = strPattern;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean evaluate(
+         T row
+      )
+      {
+         String strValue = m_accessor.getString(row, m_iColumnCode);
+
+         return (strValue == null) || (strValue.equals(m_strPattern));
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is equal to any of the specified 
+    * values.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class In<T> extends StringPredicate<T>
+   {
+      /**
+       * Values to compare to.
+       */
+      private final String[] m_arrValues;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param arrValues - values to compare to
+       */
+      public In(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String[]            arrValues
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_arrValues = arrValues;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         boolean bResult = false;
+
+         for (int iIndex = 0; (!bResult) && (iIndex < m_arrValues.length); 
+              iIndex++)
+         {
+            bResult = m_arrValues[iIndex].equals(strValue);
+         }
+
+         return bResult;
+      }
+   }
+
+   /**
+    * Predicate satisfied if the value is equal to any of the specified 
+    * values. The values are kept in hash set so the test takes constant time
+    * regardless of number of the values.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class HashIn<T> extends StringPredicate<T>
+   {
+      /**
+       * Values to compare to.
+       */
+      private final Set<String> m_setValues;
+
+      /**
+       * Constructor.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param arrValues - values to compare to
+       */
+      public HashIn(
+         ListDataAccessor<T> accessor,
+         int                 iColumnCode,
+         String[]            arrValues
+      )
+      {
+         super(accessor, iColumnCode);
+
+         m_setValues = new HashSet<>(Arrays.asList(arrValues));
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         return m_setValues.contains(strValue);
+      }
+   }
+
+   /**
+    * Predicate evaluating several contains, starts with and ends with 
+    * conditions for the same column during single pass over the value using 
+    * Aho-Corasick automaton. Each pattern of the automaton is required or
+    * forbidden to be contained in the value, to start it or to end it and the
+    * predicate is satisfied only if all these requirements are met. 
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class MultiPattern<T> extends StringPredicate<T>
+   {
+      /**
+       * Automaton finding all the patterns.
+       */
+      private final AhoCorasickAutomaton m_automaton;
+
+      /**
+       * Patterns which have to be contained in the value.
+       */
+      private final long m_lContains;
+
+      /**
+       * Patterns which must not be contained in the value.
+       */
+      private final long m_lNotContains;
+
+      /**
+       * Patterns the value has to start with.
+       */
+      private final long m_lStarts;
+
+      /**
+       * Patterns the value must not start with.
+       */
+      private final long m_lNotStarts;
+
+      /**
+       * Patterns the value has to end with.
+       */
+      private final long m_lEnds;
+
+      /**
+       * Patterns the value must not end with.
+       */
+      private final long m_lNotEnds;
+
+      /**
+       * Length of the longest pattern tested at the start of the value.
+       */
+      private final int m_iMaxStartLength;
+
+      /**
+       * Constructor. Each argument specifying the requirements is a bit mask 
+       * where bit i represents pattern i of the automaton.
+       *
+       * @param accessor - accessor to the values of the column
+       * @param iColumnCode - code of the column
+       * @param automaton - automaton finding all the patterns
+       * @param lContains - patterns which have to be contained in the value
+       * @param lNotContains - patterns which must not be contained in the value
+       * @param lStarts - patterns the value has to start with
+       * @param lNotStarts - patterns the value must not start with
+       * @param lEnds - patterns the value has to end with
+       * @param lNotEnds - patterns the value must not end with
+       */
+      public MultiPattern(
+         ListDataAccessor<T>  accessor,
+         int                  iColumnCode,
+         AhoCorasickAutomaton automaton,
+         long                 lContains,
+         long                 lNotContains,
+         long                 lStarts,
+         long                 lNotStarts,
+         long                 lEnds,
+         long                 lNotEnds
+      )
+      {
+         super(accessor, iColumnCode);
+
+         int iMaxStartLength = 0;
+
+         m_automaton = automaton;
+         m_lContains = lContains;
+         m_lNotContains = lNotContains;
+         m_lStarts = lStarts;
+         m_lNotStarts = lNotStarts;
+         m_lEnds = lEnds;
+         m_lNotEnds = lNotEnds;
+         for (int iPattern = 0; iPattern < automaton.getPatternCount(); 
+              iPattern++)
+         {
+            if (((lStarts | lNotStarts) & (1L << iPattern)) != 0)
+            {
+               iMaxStartLength = Math.max(iMaxStartLength, 
+                                          automaton.getPatternLength(iPattern));
+            }
+         }
+         m_iMaxStartLength = iMaxStartLength;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean matches(
+         String strValue
+      )
+      {
+         boolean bCaseInsensitive = m_automaton.isCaseInsensitive();
+         long    lStartPatterns = m_lStarts | m_lNotStarts;
+         long    lFound = 0;
+         long    lFoundAtStart = 0;
+         long    lFoundAtEnd = 0;
+         int     iState = AhoCorasickAutomaton.INITIAL_STATE;
+         int     iLength = strValue.length();
+         int     iIndex;
+
+         for (iIndex = 0; iIndex < iLength; iIndex++)
+         {
+            char cChar = strValue.charAt(iIndex);
+            long lOutput;
+
+            iState = m_automaton.next(iState, bCaseInsensitive 
+                                      ? CaseFoldingMatcher.fold(cChar) : cChar);
+            lOutput = m_automaton.getOutput(iState);
+            if (lOutput != 0)
+            {
+               if ((lOutput & m_lNotContains) != 0)
+               {
+                  // The value contains forbidden pattern, no need to continue
+                  break;
+               }
+               lFound |= lOutput;
+               if (iIndex < m_iMaxStartLength)
+               {
+                  lFoundAtStart |= getStartingPatterns(lOutput & lStartPatterns, 
+                                                       iIndex + 1);
+               }
+            }
+         }
+         if (iIndex == iLength)
+         {
+            lFoundAtEnd = m_automaton.getOutput(iState);
+         }
+
+         return (iIndex == iLength)
+                && ((lFound & m_lContains) == m_lContains)
+                && ((lFoundAtStart & m_lStarts) == m_lStarts)
+                && ((lFoundAtStart & m_lNotStarts) == 0)
+                && ((lFoundAtEnd & m_lEnds) == m_lEnds)
+                && ((lFoundAtEnd & m_lNotEnds) == 0);
+      }
+
+      /**
+       * Select patterns which are exactly as long as the scanned part of the 
+       * value and therefore they start at the beginning of the value.
+       *
+       * @param lPatterns - patterns ending at the current position
+       * @param iScanned - number of characters scanned so far
+       * @return long - patterns starting at the beginning of the value
+       */
+      private long getStartingPatterns(
+         long lPatterns,
+         int  iScanned
+      )
+      {
+         long lStarting = 0;
+
+         while (lPatterns != 0)
+         {
+            int iPattern = Long.numberOfTrailingZeros(lPatterns);
+
+            if (m_automaton.getPatternLength(iPattern) == iScanned)
+            {
+               lStarting |= (1L << iPattern);
+            }
+            lPatterns &= (lPatterns - 1);
+         }
+
+         return lStarting;
+      }
+   }
+}
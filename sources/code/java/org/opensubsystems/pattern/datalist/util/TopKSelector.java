@@ -0,0 +1,572 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.datalist.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Selection of the first rows of ordered list without sorting the whole 
+ * list. The rows are passed through a heap bounded to the number of 
+ * requested rows, which always contains the first rows of the rows seen so 
+ * far, so selecting K rows out of N costs O(N log K) and neither the list 
+ * nor its copy has to be sorted.
+ *
+ * Large lists can be processed in parallel, in which case each partition 
+ * of the list is processed by its own heap and the selected rows of the 
+ * partitions are merged. The selection is stable, rows which are equal 
+ * according to the comparator are returned in the order in which they were
+ * passed to the selector, so the result is always the same as the 
+ * beginning of the list sorted using stable sort.
+ *
+ * @author OpenSubsystems
+ */
+public final class TopKSelector
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Minimal number of rows processed by single task of parallel selection.
+    * Smaller lists are processed sequentially.
+    */
+   public static final int MIN_PARTITION_SIZE = 16384;
+
+   /**
+    * Number of partitions created for each thread of the pool so that the 
+    * threads finishing early can help with the remaining partitions.
+    */
+   public static final int PARTITIONS_PER_THREAD = 4;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /** 
+    * Private constructor since this class cannot be instantiated
+    */
+   private TopKSelector(
+   )
+   {
+      // Do nothing
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Select the first rows according to the comparator.
+    *
+    * @param <T> - type of the rows
+    * @param rows - rows to select from
+    * @param comparator - comparator defining the order of the rows
+    * @param iCount - maximal number of rows to select
+    * @return List<T> - the first rows in the order defined by the comparator
+    */
+   public static <T> List<T> select(
+      Iterable<? extends T> rows,
+      Comparator<? super T> comparator,
+      int                   iCount
+   )
+   {
+      BoundedHeap<T> heap = new BoundedHeap<>(comparator, iCount);
+
+      for (T row : rows)
+      {
+         heap.offer(row);
+      }
+
+      return heap.toSortedList();
+   }
+
+   /**
+    * Select the first rows according to the comparator processing 
+    * partitions of the list in parallel. 
+    *
+    * @param <T> - type of the rows
+    * @param lstRows - rows to select from, the list should support fast 
+    *                  random access
+    * @param comparator - comparator defining the order of the rows, it has 
+    *                     to be usable concurrently
+    * @param iCount - maximal number of rows to select
+    * @param pool - pool executing the partitions
+    * @return List<T> - the first rows in the order defined by the comparator
+    */
+   public static <T> List<T> select(
+      List<? extends T>     lstRows,
+      Comparator<? super T> comparator,
+      int                   iCount,
+      ForkJoinPool          pool
+   )
+   {
+      int     iPartitionSize;
+      List<T> lstResult;
+
+      iPartitionSize = Math.max(MIN_PARTITION_SIZE, 
+                          lstRows.size() / (pool.getParallelism() 
+                                            * PARTITIONS_PER_THREAD) + 1);
+      if ((lstRows.size() <= iPartitionSize) || (pool.getParallelism() <= 1))
+      {
+         lstResult = select(lstRows, comparator, iCount);
+      }
+      else
+      {
+         lstResult = pool.invoke(new SelectTask<T>(lstRows, comparator, iCount,
+                                                   0, lstRows.size(), 
+                                                   iPartitionSize));
+      }
+
+      return lstResult;
+   }
+
+   /**
+    * Merge two lists ordered by the comparator keeping only the first rows.
+    * Rows of the first list precede equal rows of the second list.
+    *
+    * @param <T> - type of the rows
+    * @param lstFirst - first ordered list
+    * @param lstSecond - second ordered list
+    * @param comparator - comparator defining the order of the rows
+    * @param iCount - maximal number of rows to keep
+    * @return List<T> - the first rows of both lists in the order defined by
+    *                   the comparator
+    */
+   public static <T> List<T> merge(
+      List<? extends T>     lstFirst,
+      List<? extends T>     lstSecond,
+      Comparator<? super T> comparator,
+      int                   iCount
+   )
+   {
+      int     iSize = Math.min(iCount, lstFirst.size() + lstSecond.size());
+      List<T> lstResult = new ArrayList<>(Math.max(0, iSize));
+      int     iFirst = 0;
+      int     iSecond = 0;
+
+      while (lstResult.size() < iSize)
+      {
+         if ((iSecond == lstSecond.size())
+            || ((iFirst < lstFirst.size()) 
+               && (comparator.compare(lstFirst.get(iFirst), 
+                                      lstSecond.get(iSecond)) <= 0)))
+         {
+            lstResult.add(lstFirst.get(iFirst++));
+         }
+         else
+         {
+            lstResult.add(lstSecond.get(iSecond++));
+         }
+      }
+
+      return lstResult;
+   }
+
+   // Inner classes ////////////////////////////////////////////////////////////
+
+   /**
+    * Heap keeping the first rows of the rows offered to it. The root of the 
+    * heap is the last of the kept rows, so new row has to be compared only 
+    * with the root to find out if it should be kept. Rows which are equal 
+    * according to the comparator are ordered by the order in which they 
+    * were offered. The heap is not synchronized.
+    *
+    * @param <T> - type of the rows
+    */
+   public static final class BoundedHeap<T>
+   {
+      /**
+       * Comparator defining the order of the rows.
+       */
+      private final Comparator<? super T> m_comparator;
+
+      /**
+       * Maximal number of kept rows.
+       */
+      private final int m_iCapacity;
+
+      /**
+       * Kept rows organized as binary heap with the last row in the root.
+       */
+      private Object[] m_arrRows;
+
+      /**
+       * Order in which the kept rows were offered.
+       */
+      private long[] m_arrSequences;
+
+      /**
+       * Number of kept rows.
+       */
+      private int m_iSize;
+
+      /**
+       * Number of offered rows.
+       */
+      private long m_lOffered;
+
+      /**
+       * Constructor.
+       *
+       * @param comparator - comparator defining the order of the rows
+       * @param iCapacity - maximal number of rows to keep
+       */
+      public BoundedHeap(
+         Comparator<? super T> comparator,
+         int                   iCapacity
+      )
+      {
+         m_comparator = comparator;
+         m_iCapacity = Math.max(0, iCapacity);
+         // Don't preallocate huge arrays for unbounded requests
+         m_arrRows = new Object[Math.min(m_iCapacity, 1024)];
+         m_arrSequences = new long[m_arrRows.length];
+         m_iSize = 0;
+         m_lOffered = 0;
+      }
+
+      /**
+       * Offer row to the heap.
+       *
+       * @param row - offered row
+       * @return boolean - true if the row is kept, false if there are already
+       *                   enough rows preceding it
+       */
+      public boolean offer(
+         T row
+      )
+      {
+         long    lSequence = m_lOffered++;
+         boolean bKept;
+
+         if (m_iSize < m_iCapacity)
+         {
+            ensureCapacity();
+            m_arrRows[m_iSize] = row;
+            m_arrSequences[m_iSize] = lSequence;
+            siftUp(m_iSize++);
+            bKept = true;
+         }
+         else
+         {
+            // Later offered row never precedes equal row already in the heap
+            bKept = (m_iSize > 0) && (compare(row, 0) < 0);
+            if (bKept)
+            {
+               m_arrRows[0] = row;
+               m_arrSequences[0] = lSequence;
+               siftDown(m_arrRows, m_arrSequences, 0, m_iSize);
+            }
+         }
+
+         return bKept;
+      }
+
+      /**
+       * @return int - number of kept rows
+       */
+      public int size(
+      )
+      {
+         return m_iSize;
+      }
+
+      /**
+       * @return long - number of rows offered to the heap
+       */
+      public long getOfferedCount(
+      )
+      {
+         return m_lOffered;
+      }
+
+      /**
+       * Get the kept rows in the order defined by the comparator. The heap
+       * is not modified.
+       *
+       * @return List<T> - the kept rows
+       */
+      @SuppressWarnings("unchecked")
+      public List<T> toSortedList(
+      )
+      {
+         Object[] arrRows = Arrays.copyOf(m_arrRows, m_iSize);
+         long[]   arrSequences = Arrays.copyOf(m_arrSequences, m_iSize);
+         List<T>  lstResult = new ArrayList<>(m_iSize);
+
+         // Heap sort, the last row is moved from the root to the end
+         for (int iEnd = m_iSize - 1; iEnd > 0; iEnd--)
+         {
+            swap(arrRows, arrSequences, 0, iEnd);
+            siftDown(arrRows, arrSequences, 0, iEnd);
+         }
+         for (Object row : arrRows)
+         {
+            lstResult.add((T)row);
+         }
+
+         return lstResult;
+      }
+
+      /**
+       * Compare row with kept row.
+       *
+       * @param row - row offered after all kept rows
+       * @param iIndex - position of the kept row
+       * @return int - negative if the row precedes the kept row
+       */
+      @SuppressWarnings("unchecked")
+      private int compare(
+         T   row,
+         int iIndex
+      )
+      {
+         return m_comparator.compare(row, (T)m_arrRows[iIndex]);
+      }
+
+      /**
+       * Test if one row follows another one.
+       *
+       * @param arrRows - rows
+       * @param arrSequences - order in which the rows were offered
+       * @param iFirst - position of the first row
+       * @param iSecond - position of the second row
+       * @return boolean - true if the first row follows the second one
+       */
+      @SuppressWarnings("unchecked")
+      private boolean follows(
+         Object[] arrRows,
+         long[]   arrSequences,
+         int      iFirst,
+         int      iSecond
+      )
+      {
+         int iResult = m_comparator.compare((T)arrRows[iFirst], 
+                                            (T)arrRows[iSecond]);
+
+         return (iResult > 0) 
+                || ((iResult == 0) 
+                   && (arrSequences[iFirst] > arrSequences[iSecond]));
+      }
+
+      /**
+       * Move row up the heap until its parent follows it.
+       *
+       * @param iIndex - position of the row
+       */
+      private void siftUp(
+         int iIndex
+      )
+      {
+         int     iCurrent = iIndex;
+         boolean bMoved = true;
+
+         while ((iCurrent > 0) && (bMoved))
+         {
+            int iParent = (iCurrent - 1) >>> 1;
+
+            bMoved = follows(m_arrRows, m_arrSequences, iCurrent, iParent);
+            if (bMoved)
+            {
+               swap(m_arrRows, m_arrSequences, iCurrent, iParent);
+               iCurrent = iParent;
+            }
+         }
+      }
+
+      /**
+       * Move row down the heap until it follows both its children.
+       *
+       * @param arrRows - rows organized as heap
+       * @param arrSequences - order in which the rows were offered
+       * @param iIndex - position of the row
+       * @param iSize - number of rows in the heap
+       */
+      private void siftDown(
+         Object[] arrRows,
+         long[]   arrSequences,
+         int      iIndex,
+         int      iSize
+      )
+      {
+         int     iCurrent = iIndex;
+         boolean bMoved = true;
+
+         while ((2 * iCurrent + 1 < iSize) && (bMoved))
+         {
+            int iChild = 2 * iCurrent + 1;
+
+            if ((iChild + 1 < iSize) 
+               && (follows(arrRows, arrSequences, iChild + 1, iChild)))
+            {
+               iChild++;
+            }
+            bMoved = follows(arrRows, arrSequences, iChild, iCurrent);
+            if (bMoved)
+            {
+               swap(arrRows, arrSequences, iCurrent, iChild);
+               iCurrent = iChild;
+            }
+         }
+      }
+
+      /**
+       * Swap two rows.
+       *
+       * @param arrRows - rows
+       * @param arrSequences - order in which the rows were offered
+       * @param iFirst - position of the first row
+       * @param iSecond - position of the second row
+       */
+      private static void swap(
+         Object[] arrRows,
+         long[]   arrSequences,
+         int      iFirst,
+         int      iSecond
+      )
+      {
+         Object row = arrRows[iFirst];
+         long   lSequence = arrSequences[iFirst];
+
+         arrRows[iFirst] = arrRows[iSecond];
+         arrSequences[iFirst] = arrSequences[iSecond];
+         arrRows[iSecond] = row;
+         arrSequences[iSecond] = lSequence;
+      }
+
+      /**
+       * Make sure there is space for one more row.
+       */
+      private void ensureCapacity(
+      )
+      {
+         if (m_iSize == m_arrRows.length)
+         {
+            int iLength = (int)Math.min(m_iCapacity, 2L * m_arrRows.length);
+
+            m_arrRows = Arrays.copyOf(m_arrRows, iLength);
+            m_arrSequences = Arrays.copyOf(m_arrSequences, iLength);
+         }
+      }
+   }
+
+   /**
+    * Task selecting the first rows of part of the list. Large parts are
+    * split into halves, which are processed in parallel and merged.
+    *
+    * @param <T> - type of the rows
+    */
+   private static final class SelectTask<T> extends RecursiveTask<List<T>>
+   {
+      /**
+       * Serial version id.
+       */
+      private static final long serialVersionUID = 1L;
+
+      /**
+       * Rows to select from.
+       */
+      private final List<? extends T> m_lstRows;
+
+      /**
+       * Comparator defining the order of the rows.
+       */
+      private final Comparator<? super T> m_comparator;
+
+      /**
+       * Maximal number of rows to select.
+       */
+      private final int m_iCount;
+
+      /**
+       * Position of the first row of the part.
+       */
+      private final int m_iStart;
+
+      /**
+       * Position following the last row of the part.
+       */
+      private final int m_iEnd;
+
+      /**
+       * Maximal number of rows processed without splitting.
+       */
+      private final int m_iPartitionSize;
+
+      /**
+       * Constructor.
+       *
+       * @param lstRows - rows to select from
+       * @param comparator - comparator defining the order of the rows
+       * @param iCount - maximal number of rows to select
+       * @param iStart - position of the first row of the part
+       * @param iEnd - position following the last row of the part
+       * @param iPartitionSize - maximal number of rows processed without 
+       *                         splitting
+       */
+      SelectTask(
+         List<? extends T>     lstRows,
+         Comparator<? super T> comparator,
+         int                   iCount,
+         int                   iStart,
+         int                   iEnd,
+         int                   iPartitionSize
+      )
+      {
+         m_lstRows = lstRows;
+         m_comparator = comparator;
+         m_iCount = iCount;
+         m_iStart = iStart;
+         m_iEnd = iEnd;
+         m_iPartitionSize = iPartitionSize;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      protected List<T> compute(
+      )
+      {
+         List<T> lstResult;
+
+         if (m_iEnd - m_iStart <= m_iPartitionSize)
+         {
+            lstResult = select(m_lstRows.subList(m_iStart, m_iEnd), 
+                               m_comparator, m_iCount);
+         }
+         else
+         {
+            int           iMiddle = (m_iStart + m_iEnd) >>> 1;
+            SelectTask<T> first;
+            SelectTask<T> second;
+
+            first = new SelectTask<>(m_lstRows, m_comparator, m_iCount, 
+                                     m_iStart, iMiddle, m_iPartitionSize);
+            second = new SelectTask<>(m_lstRows, m_comparator, m_iCount, 
+                                      iMiddle, m_iEnd, m_iPartitionSize);
+            first.fork();
+            lstResult = second.compute();
+            lstResult = merge(first.join(), lstResult, m_comparator, m_iCount);
+         }
+
+         return lstResult;
+      }
+   }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.data;
+
+import org.opensubsystems.core.error.OSSException;
+
+/**
+ * Interface representing source of values of variables used in values of 
+ * configuration parameters, such as system properties or environment 
+ * variables. Configuration consults its variable sources in the order in 
+ * which they were added when the variable is not defined by the configuration
+ * itself.
+ *
+ * @author OpenSubsystems
+ */
+public interface VariableSource
+{
+   /**
+    * Get value of the specified variable.
+    * 
+    * @param strName - name of the variable
+    * @return String - value of the variable or null if this source doesn't 
+    *                  define the variable
+    * @throws OSSException - an error has occurred
+    */
+   String getVariable(
+      String strName
+   ) throws OSSException;
+}
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.opensubsystems.core.data.DataDescriptor;
@@ -33,6 +34,7 @@ import org.opensubsystems.core.util.HashCodeUtils;
 import org.opensubsystems.core.util.Log;
 import org.opensubsystems.pattern.parameter.data.Configuration;
 import org.opensubsystems.pattern.parameter.data.Parameter;
+import org.opensubsystems.pattern.parameter.data.VariableSource;
 
 /**
  * Class representing configuration data. The configuration is defined as set of 
@@ -43,6 +45,12 @@ import org.opensubsystems.pattern.parameter.data.Parameter;
  * This class assumes that each parameter of configuration has only a single 
  * value.
  * 
+ * Variables used in values of parameters are resolved first to parameters and
+ * default values of this configuration and if the variable is not defined by
+ * the configuration, the variable sources are consulted in the order in which 
+ * they were added. Each variable is resolved only once while resolving values
+ * within the same pass, e.g. all values of a list.
+ * 
  * @author bastafidli
  */
 public class ConfigurationImpl extends    ParametrizedObjectImpl
@@ -69,7 +77,14 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
     * List of all defined configuration parameters where the key is the name of 
     * the configuration parameter and the value is the default value.
     */
-   protected final Map<String, String> m_mpDefaultValuesByName = new HashMap<>();
+   protected final Map<String, String> m_mpDefaultValuesByName;
+   
+   /**
+    * Sources used to resolve variables not defined by this configuration in 
+    * the order in which they are consulted.
+    */
+   protected final List<VariableSource> m_lstVariableSources 
+                                           = new CopyOnWriteArrayList<>();
    
    // Cached values ////////////////////////////////////////////////////////////
 
@@ -85,10 +100,24 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
     */
    public ConfigurationImpl(
    )
+   {
+      this(new HashMap<String, String>());
+   }
+
+   /**
+    * Constructor for subclasses, which need to store default values in a 
+    * different kind of map, e.g. one which can be read concurrently with 
+    * adding of the default values.
+    * 
+    * @param mpDefaultValuesByName - empty map where to store default values
+    */
+   protected ConfigurationImpl(
+      Map<String, String> mpDefaultValuesByName
+   )
    {
       super();
       
-      // Do nothing
+      m_mpDefaultValuesByName = mpDefaultValuesByName;
    }
 
    /**
@@ -101,12 +130,13 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
       ConfigurationImpl config
    )
    {
-      super();
+      this(new HashMap<String, String>());
       
       if (config != null)
       {
          m_mpDefaultValuesByName.putAll(config.m_mpDefaultValuesByName);
          m_mpParamsByName.putAll(config.m_mpParamsByName);
+         m_lstVariableSources.addAll(config.m_lstVariableSources);
       }
    }
    
@@ -124,6 +154,7 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
    {
       append(sb, ind + 0, "ConfigurationImpl[");
       append(sb, ind + 1, "m_mpDefaultValuesByName = ", m_mpDefaultValuesByName);
+      append(sb, ind + 1, "m_lstVariableSources = ", m_lstVariableSources);
       super.toString(sb, ind + 1);
       append(sb, ind + 0, "]");
    }
@@ -142,6 +173,41 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
       return iResult;
    }
 
+   /**
+    * Get default values of the configuration parameters.
+    *
+    * @return Map<String, String> - key is the parameter name, value is the
+    *                               default value of the parameter.
+    */
+   public Map<String, String> getDefaultValuesByName()
+   {
+      return m_mpDefaultValuesByName;
+   }
+
+   /**
+    * Add source used to resolve variables not defined by this configuration. 
+    * The source is consulted after all previously added sources.
+    *
+    * @param source - source of values of variables
+    */
+   public void addVariableSource(
+      VariableSource source
+   )
+   {
+      m_lstVariableSources.add(source);
+   }
+
+   /**
+    * Get sources used to resolve variables not defined by this configuration.
+    *
+    * @return List<VariableSource> - sources in the order in which they are 
+    *                                consulted, the list can be modified
+    */
+   public List<VariableSource> getVariableSources()
+   {
+      return m_lstVariableSources;
+   }
+
    /**
     * {@inheritDoc}
     */
@@ -161,9 +227,26 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
       }
    }
 
+   /**
+    * Remove parameter from the configuration. Default value of the parameter
+    * is not affected. Derived classes, which do not keep the parameters in
+    * the map returned by getParametersByName, override this method together
+    * with addParam.
+    *
+    * @param strName - name of the parameter to remove
+    * @return boolean - true if the parameter was removed, false if it was not
+    *                   defined
+    */
+   public boolean removeParam(
+      String strName
+   )
+   {
+      return (m_mpParamsByName.remove(strName) != null);
+   }
+
    /**
     * {@inheritDoc}
-    * 
+    *
     * NOTE: Every method accessing parameters has to call this method in order 
     * to correctly process the replacement variables.
     */
@@ -245,7 +328,7 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
       List<String> lstValues = null;
       String       strValue = null;
          
-      temp = m_mpParamsByName.get(strName);
+      temp = findParam(strName);
       if (temp != null)
       {
          lstValues = temp.getValues();
@@ -293,6 +376,32 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
       return temp;
    }
    
+   /**
+    * Test if the parameter is explicitly defined in this configuration with
+    * some value, that is if getParamWithoutVariableResolution would return 
+    * the parameter rather than its default value.
+    * 
+    * @param strName - name of the configuration parameter
+    * @return boolean - true if the parameter is defined and has some value
+    * @throws OSSException - an error has occurred
+    */
+   public boolean hasParam(
+      String strName
+   ) throws OSSException
+   {
+      Parameter    temp;
+      List<String> lstValues = null;
+      
+      temp = findParam(strName);
+      if (temp != null)
+      {
+         lstValues = temp.getValues();
+      }
+      
+      return ((lstValues != null) && (!lstValues.isEmpty()) 
+             && (!lstValues.get(0).isEmpty()));
+   }
+   
    /**
     * {@inheritDoc}
     */
@@ -321,21 +430,22 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
       List<String> lstValues
    ) throws OSSException
    {
-      List<String> lstReturn;
+      List<String> lstReturn = null;
       
       if (lstValues != null)
       {
-         String strNewValue;
+         Map<String, String> mpResolved = new HashMap<>();
+         String              strNewValue;
          
          lstReturn = new ArrayList<>(lstValues.size());
          for (String strValue : lstValues)
          {
-            strNewValue = replaceVariables(strValue);
+            strNewValue = replaceVariables(strValue, mpResolved);
             lstReturn.add(strNewValue);
          }
       }
       
-      return lstValues;
+      return lstReturn;
    }
    
    /**
@@ -345,6 +455,28 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
    public String replaceVariables(
       String strValue
    ) throws OSSException
+   {
+      return replaceVariables(strValue, null);
+   }
+   
+   /**
+    * Replace variables for the specified value reusing variables already 
+    * resolved during the current pass. Use this method when resolving many 
+    * values at once so that each distinct variable is looked up only once.
+    * 
+    * @param strValue - value which may contain variables
+    * @param mpResolved - values of variables resolved so far during the current
+    *                     pass keyed by the variable name, newly resolved 
+    *                     variables are added to it. If null, the variables are
+    *                     cached only while resolving this value.
+    * @return String - new value with all variables replaced or the same 
+    *                  instance if the value doesn't contain any variables
+    * @throws OSSException - an error has occurred
+    */
+   public String replaceVariables(
+      String              strValue,
+      Map<String, String> mpResolved
+   ) throws OSSException
    {
       int iIndexStart;
       
@@ -370,21 +502,26 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
             String strVariable = strValue.substring(
                                     iIndexStart + VARIABLE_START.length(),
                                     iIndexEnd);
-            Parameter<String> replacement = getParamWithoutVariableResolution(
-                                               strVariable);
+            String strReplacementValue = null;
             
-            String strReplacementValue = replacement.getValue();
-            
-            if (replacement.hasAnyValue())
+            if (mpResolved == null)
             {
-               strReplacementValue = replacement.getValues().get(0);
+               mpResolved = new HashMap<>();
             }
-            
-            if ((replacement == null) || (strReplacementValue == null))
+            else
             {
-               throw new OSSConfigException("Variable " + strVariable 
-                                            + " used in value " + strValue 
-                                            + " is not defined.");
+               strReplacementValue = mpResolved.get(strVariable);
+            }
+            if (strReplacementValue == null)
+            {
+               strReplacementValue = resolveVariable(strVariable);
+               if (strReplacementValue == null)
+               {
+                  throw new OSSConfigException("Variable " + strVariable 
+                                               + " used in value " + strValue 
+                                               + " is not defined.");
+               }
+               mpResolved.put(strVariable, strReplacementValue);
             }
             
             strValue = strValue.replace(strFullVariable, strReplacementValue);
@@ -397,6 +534,84 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
    
    // Helper methods ///////////////////////////////////////////////////////////
    
+   /**
+    * Resolve value of the variable without resolving any variables the value 
+    * may contain. The variable is looked up first in this configuration and 
+    * then in the variable sources in the order in which they were added.
+    * 
+    * @param strVariable - name of the variable
+    * @return String - value of the variable or null if it is not defined
+    * @throws OSSException - an error has occurred
+    */
+   protected String resolveVariable(
+      String strVariable
+   ) throws OSSException
+   {
+      Parameter<?> replacement;
+      Object       value;
+      String       strReplacementValue = null;
+      
+      replacement = getParamWithoutVariableResolution(strVariable);
+      if (replacement != null)
+      {
+         value = replacement.getFirstValue();
+         if (value != null)
+         {
+            strReplacementValue = value.toString();
+         }
+      }
+      if (strReplacementValue == null)
+      {
+         for (VariableSource source : m_lstVariableSources)
+         {
+            strReplacementValue = source.getVariable(strVariable);
+            if (strReplacementValue != null)
+            {
+               break;
+            }
+         }
+      }
+      
+      return strReplacementValue;
+   }
+   
+   /**
+    * Inherit variable sources of the source configuration which are not used
+    * by this configuration yet. Inherited sources are consulted after the 
+    * sources of this configuration.
+    * 
+    * @param source - configuration from which to inherit the variable sources
+    */
+   protected void inheritVariableSources(
+      ConfigurationImpl source
+   )
+   {
+      for (VariableSource variableSource : source.m_lstVariableSources)
+      {
+         if (!m_lstVariableSources.contains(variableSource))
+         {
+            m_lstVariableSources.add(variableSource);
+         }
+      }
+   }
+   
+   /**
+    * Find parameter with specified name among the parameters defined for this
+    * configuration without considering any default values. This is the single 
+    * place where the parameters are looked up so that derived classes can 
+    * store the parameters differently.
+    * 
+    * @param strName - name of the parameter to find
+    * @return Parameter - parameter or null if it is not defined
+    * @throws OSSException - an error has occurred
+    */
+   protected Parameter findParam(
+      String strName
+   ) throws OSSException
+   {
+      return m_mpParamsByName.get(strName);
+   }
+   
    /**
     * Inherit all the elements from the parent object and override any elements
     * that are also defined in this object.
@@ -409,7 +624,7 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
     * @param strSourceName - name of object that contains the sources
     * @throws OSSException - an error has occurred
     */
-   protected void inheritAndOverride(
+   public void inheritAndOverride(
       String             strLogPrefix,
       String             strOverrideName,
       ConfigurationImpl source,
@@ -418,10 +633,13 @@ public class ConfigurationImpl extends    ParametrizedObjectImpl
    {
       inheritAndOverride(strLogPrefix, "Parameter Default Values",
                          m_mpDefaultValuesByName, strOverrideName,
-                         source.m_mpDefaultValuesByName, strSourceName);
+                         source.getDefaultValuesByName(), strSourceName);
+      // Use accessor since derived classes may not keep all parameters in
+      // the map until they are requested
       inheritAndOverride(strLogPrefix, "Parameters",
                          m_mpParamsByName, strOverrideName,
-                         source.m_mpParamsByName, strSourceName);
+                         source.getParametersByName(), strSourceName);
+      inheritVariableSources(source);
    }
 
    /**
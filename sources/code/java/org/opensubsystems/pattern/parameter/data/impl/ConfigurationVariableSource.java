@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.data.impl;
+
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.parameter.data.Configuration;
+import org.opensubsystems.pattern.parameter.data.Parameter;
+import org.opensubsystems.pattern.parameter.data.VariableSource;
+
+/**
+ * Variable source resolving variables to values of parameters of another 
+ * configuration. Variables used in values of that configuration are resolved
+ * within that configuration.
+ *
+ * @author OpenSubsystems
+ */
+public class ConfigurationVariableSource extends    OSSObject
+                                         implements VariableSource
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+   
+   /**
+    * Configuration used to resolve the variables.
+    */
+   protected Configuration m_config;
+   
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    * 
+    * @param config - configuration used to resolve the variables
+    */
+   public ConfigurationVariableSource(
+      Configuration config
+   )
+   {
+      super();
+      
+      m_config = config;
+   }
+   
+   // Logic ////////////////////////////////////////////////////////////////////
+   
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ConfigurationVariableSource[");
+      append(sb, ind + 1, "m_config = ", m_config);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public String getVariable(
+      String strName
+   ) throws OSSException
+   {
+      Parameter<?> param;
+      Object       value;
+      String       strValue = null;
+      
+      param = m_config.getParamWithoutVariableResolution(strName);
+      if (param != null)
+      {
+         value = param.getFirstValue();
+         if (value != null)
+         {
+            strValue = m_config.replaceVariables(value.toString());
+         }
+      }
+      
+      return strValue;
+   }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.data.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.util.HashCodeUtils;
+import org.opensubsystems.pattern.parameter.data.Parameter;
+import org.opensubsystems.pattern.parameter.data.VariableSource;
+
+/**
+ * Configuration of a single domain which shares all parameters and default
+ * values with a base configuration and which stores only parameters which are
+ * different for the domain. Variables used in values of parameters are
+ * resolved within the context of the domain, so that shared values can
+ * refer to parameters overridden by the domain. Variables not defined by the
+ * domain are resolved using variable sources of the domain and then using
+ * variable sources of the base configuration.
+ *
+ * The overrides and default values added to the domain can be modified 
+ * concurrently with reading the configuration, therefore default values
+ * cannot be null. The base configuration is expected not to be modified once
+ * it is shared.
+ *
+ * @author OpenSubsystems
+ */
+public class DomainConfigurationImpl extends ConfigurationImpl
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Domain this configuration belongs to.
+    */
+   protected long m_lDomainId;
+
+   /**
+    * Configuration shared by all domains.
+    */
+   protected ConfigurationImpl m_base;
+
+   /**
+    * Parameters specific for this domain keyed by the parameter name.
+    */
+   protected ConcurrentMap<String, Parameter> m_mpOverridesByName;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param lDomainId - domain this configuration belongs to
+    * @param base - configuration shared by all domains
+    */
+   public DomainConfigurationImpl(
+      long              lDomainId,
+      ConfigurationImpl base
+   )
+   {
+      // Default values added to the domain can be read concurrently with 
+      // adding of other default values
+      super(new ConcurrentHashMap<String, String>());
+
+      m_lDomainId = lDomainId;
+      m_base = base;
+      m_mpOverridesByName = new ConcurrentHashMap<>();
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "DomainConfigurationImpl[");
+      append(sb, ind + 1, "m_lDomainId = ", m_lDomainId);
+      append(sb, ind + 1, "m_mpOverridesByName = ", m_mpOverridesByName);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int hashCode()
+   {
+      int iResult = HashCodeUtils.SEED;
+
+      iResult = HashCodeUtils.hash(iResult, m_lDomainId);
+      iResult = HashCodeUtils.hash(iResult, m_mpOverridesByName);
+      iResult = HashCodeUtils.hash(iResult, m_base.hashCode());
+
+      return iResult;
+   }
+
+   /**
+    * @return long - domain this configuration belongs to
+    */
+   public long getDomainId()
+   {
+      return m_lDomainId;
+   }
+
+   /**
+    * @return ConfigurationImpl - configuration shared by all domains
+    */
+   public ConfigurationImpl getBaseConfiguration()
+   {
+      return m_base;
+   }
+
+   /**
+    * Get parameters specific for this domain. The returned map can be modified
+    * concurrently with reading of the configuration.
+    *
+    * @return Map<String, Parameter> - parameters specific for this domain
+    *                                  keyed by the parameter name
+    */
+   public Map<String, Parameter> getOverridesByName()
+   {
+      return m_mpOverridesByName;
+   }
+
+   /**
+    * {@inheritDoc}
+    *
+    * The map is a read only copy which merges base parameters and parameters 
+    * specific for this domain and it is not backed by this configuration.
+    */
+   @Override
+   public Map<String, Parameter> getParametersByName()
+   {
+      Map<String, Parameter> mpParams;
+
+      mpParams = new HashMap<>(m_base.getParametersByName());
+      mpParams.putAll(m_mpOverridesByName);
+
+      return Collections.unmodifiableMap(mpParams);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public Collection<Parameter> getParameters()
+   {
+      return Collections.unmodifiableCollection(getParametersByName().values());
+   }
+
+   /**
+    * {@inheritDoc}
+    *
+    * The parameter is added only to this domain.
+    */
+   @Override
+   public void addParam(
+      Parameter param
+   )
+   {
+      m_mpOverridesByName.put(param.getName(), param);
+   }
+
+   /**
+    * {@inheritDoc}
+    *
+    * The parameter is removed only from this domain and parameters of the 
+    * base configuration are never removed.
+    */
+   @Override
+   public boolean removeParam(
+      String strName
+   )
+   {
+      return (m_mpOverridesByName.remove(strName) != null);
+   }
+
+   /**
+    * {@inheritDoc}
+    *
+    * Parameter specific for the domain is used if it has any value, otherwise
+    * the parameter or the default value from the base configuration is used.
+    * Default values added to this domain are used only when the base 
+    * configuration doesn't define the parameter at all.
+    */
+   @Override
+   public Parameter getParamWithoutVariableResolution(
+      String strName
+   ) throws OSSException
+   {
+      Parameter<?> temp;
+      Object       firstValue = null;
+
+      temp = m_mpOverridesByName.get(strName);
+      if (temp != null)
+      {
+         firstValue = temp.getFirstValue();
+      }
+      if ((firstValue == null) || (firstValue.toString().isEmpty()))
+      {
+         temp = m_base.getParamWithoutVariableResolution(strName);
+         if (temp == null)
+         {
+            // Use default values added directly to this domain
+            temp = super.getParamWithoutVariableResolution(strName);
+         }
+      }
+
+      return temp;
+   }
+
+   /**
+    * {@inheritDoc}
+    *
+    * Parameters of the base configuration are considered to be defined by 
+    * this domain, therefore only parameters defined neither by this domain nor
+    * by the base configuration are inherited and they are added only to this
+    * domain.
+    */
+   @Override
+   public void inheritAndOverride(
+      String            strLogPrefix,
+      String            strOverrideName,
+      ConfigurationImpl source,
+      String            strSourceName
+   ) throws OSSException
+   {
+      inheritAndOverride(strLogPrefix, "Parameter Default Values",
+                         m_mpDefaultValuesByName, strOverrideName,
+                         source.getDefaultValuesByName(), strSourceName);
+      for (Parameter param : source.getParametersByName().values())
+      {
+         if (findParam(param.getName()) == null)
+         {
+            addParam(param);
+         }
+      }
+      inheritVariableSources(source);
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    * 
+    * Variable sources of the base configuration are consulted after variable
+    * sources added to this domain.
+    */
+   @Override
+   protected String resolveVariable(
+      String strVariable
+   ) throws OSSException
+   {
+      String strReplacementValue;
+
+      strReplacementValue = super.resolveVariable(strVariable);
+      if (strReplacementValue == null)
+      {
+         for (VariableSource source : m_base.getVariableSources())
+         {
+            strReplacementValue = source.getVariable(strVariable);
+            if (strReplacementValue != null)
+            {
+               break;
+            }
+         }
+      }
+
+      return strReplacementValue;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected Parameter findParam(
+      String strName
+   ) throws OSSException
+   {
+      Parameter param;
+
+      param = m_mpOverridesByName.get(strName);
+      if (param == null)
+      {
+         param = m_base.findParam(strName);
+      }
+
+      return param;
+   }
+}
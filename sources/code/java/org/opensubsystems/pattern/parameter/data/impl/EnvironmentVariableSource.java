@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.data.impl;
+
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.parameter.data.VariableSource;
+
+/**
+ * Variable source resolving variables to values of environment variables of 
+ * the process.
+ *
+ * @author OpenSubsystems
+ */
+public class EnvironmentVariableSource extends    OSSObject
+                                       implements VariableSource
+{
+   // Logic ////////////////////////////////////////////////////////////////////
+   
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "EnvironmentVariableSource[");
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public String getVariable(
+      String strName
+   )
+   {
+      return System.getenv(strName);
+   }
+}
@@ -0,0 +1,787 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.data.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.opensubsystems.core.data.DataDescriptor;
+import org.opensubsystems.core.data.DataObject;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.util.HashCodeUtils;
+import org.opensubsystems.core.util.Log;
+import org.opensubsystems.pattern.parameter.data.Parameter;
+
+/**
+ * Configuration storing its parameters outside of the Java heap. Names and
+ * values of all parameters are encoded into a single direct buffer and they
+ * are located using open addressing hash index, which is also stored in a
+ * direct buffer. Parameter objects are created only when a parameter is
+ * requested, therefore the memory occupied on the heap doesn't depend on the
+ * number of parameters and large number of configurations doesn't increase
+ * the garbage collection overhead.
+ *
+ * Only name, domain and values of each parameter are preserved and all values
+ * are stored as strings. Default values are still kept on heap since they are
+ * typically defined in code and there are only few of them.
+ *
+ * Map returned by getParametersByName is a read only copy. Use addParam to add
+ * or replace parameters and removeParam to remove them. Same
+ * as ConfigurationImpl this class is not synchronized, although concurrent
+ * reads are safe when there are no concurrent modifications.
+ *
+ * @author OpenSubsystems
+ */
+public class OffHeapConfigurationImpl extends ConfigurationImpl
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Default initial size of the data buffer in bytes.
+    */
+   public static final int DEFAULT_INITIAL_DATA_SIZE = 4096;
+
+   /**
+    * Default initial number of slots in the hash index.
+    */
+   public static final int DEFAULT_INITIAL_INDEX_SLOTS = 64;
+
+   /**
+    * Size of a single slot of the hash index in bytes. Each slot consists
+    * of the hash of the name and of the offset of the record increased by one
+    * so that 0 represents an empty slot.
+    */
+   protected static final int INDEX_SLOT_SIZE = 8;
+
+   /**
+    * Length stored instead of the actual length to represent null value.
+    */
+   protected static final int NULL_LENGTH = -1;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Buffer with records representing all parameters. Each record consists of
+    * domain id (long), length of the name (int), UTF-8 encoded name, number of
+    * values (int) and for each value its length (int) and UTF-8 encoded value.
+    */
+   protected ByteBuffer m_bufData;
+
+   /**
+    * Position in the data buffer where the next record will be written.
+    */
+   protected int m_iDataEnd;
+
+   /**
+    * Number of bytes in the data buffer occupied by replaced records.
+    */
+   protected int m_iGarbage;
+
+   /**
+    * Hash index of the records in the data buffer.
+    */
+   protected ByteBuffer m_bufIndex;
+
+   /**
+    * Number of slots in the hash index, always power of 2.
+    */
+   protected int m_iIndexSlots;
+
+   /**
+    * Number of parameters stored in this configuration.
+    */
+   protected int m_iParamCount;
+
+   // Cached values ////////////////////////////////////////////////////////////
+
+   /**
+    * Commons logger variable used to log runtime information.
+    */
+   private static Logger s_logger = Log.getInstance(OffHeapConfigurationImpl.class);
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Default constructor.
+    */
+   public OffHeapConfigurationImpl(
+   )
+   {
+      this(DEFAULT_INITIAL_DATA_SIZE, DEFAULT_INITIAL_INDEX_SLOTS);
+   }
+
+   /**
+    * Constructor.
+    *
+    * @param iInitialDataSize - initial size of the data buffer in bytes
+    * @param iInitialIndexSlots - initial number of slots of the hash index,
+    *                             it will be rounded up to power of 2
+    */
+   public OffHeapConfigurationImpl(
+      int iInitialDataSize,
+      int iInitialIndexSlots
+   )
+   {
+      super();
+
+      m_iIndexSlots = Integer.highestOneBit(Math.max(iInitialIndexSlots, 2) - 1)
+                      << 1;
+      m_bufData = allocate(Math.max(iInitialDataSize, 64));
+      m_bufIndex = allocate(m_iIndexSlots * INDEX_SLOT_SIZE);
+      m_iDataEnd = 0;
+      m_iGarbage = 0;
+      m_iParamCount = 0;
+   }
+
+   /**
+    * Constructor creating off heap copy of another configuration.
+    *
+    * @param config - configuration to copy
+    * @throws OSSException - an error has occurred
+    */
+   public OffHeapConfigurationImpl(
+      ConfigurationImpl config
+   ) throws OSSException
+   {
+      this();
+
+      m_mpDefaultValuesByName.putAll(config.getDefaultValuesByName());
+      m_lstVariableSources.addAll(config.getVariableSources());
+      for (Parameter param : config.getParametersByName().values())
+      {
+         addParam(param);
+      }
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "OffHeapConfigurationImpl[");
+      append(sb, ind + 1, "m_iParamCount = ", m_iParamCount);
+      append(sb, ind + 1, "m_iDataEnd = ", m_iDataEnd);
+      append(sb, ind + 1, "m_iGarbage = ", m_iGarbage);
+      append(sb, ind + 1, "m_iIndexSlots = ", m_iIndexSlots);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int hashCode()
+   {
+      int iResult = HashCodeUtils.SEED;
+
+      iResult = HashCodeUtils.hash(iResult, m_mpDefaultValuesByName);
+      iResult = HashCodeUtils.hash(iResult, m_iParamCount);
+      iResult = HashCodeUtils.hash(iResult, m_iDataEnd - m_iGarbage);
+
+      return iResult;
+   }
+
+   /**
+    * Get number of parameters stored in this configuration.
+    *
+    * @return int
+    */
+   public int getParamCount(
+   )
+   {
+      return m_iParamCount;
+   }
+
+   /**
+    * Get number of bytes occupied by this configuration outside of the heap.
+    *
+    * @return long
+    */
+   public long getOffHeapSize(
+   )
+   {
+      return (long)m_bufData.capacity() + m_bufIndex.capacity();
+   }
+
+   /**
+    * {@inheritDoc}
+    *
+    * The map is created on every call, it is not backed by this
+    * configuration and it cannot be modified.
+    */
+   @Override
+   public Map<String, Parameter> getParametersByName()
+   {
+      Map<String, Parameter> mpParams = new HashMap<>(m_iParamCount * 2);
+
+      try
+      {
+         for (int iSlot = 0; iSlot < m_iIndexSlots; iSlot++)
+         {
+            int iOffset = m_bufIndex.getInt(iSlot * INDEX_SLOT_SIZE + 4) - 1;
+
+            if (iOffset >= 0)
+            {
+               Parameter param = readParam(iOffset);
+
+               mpParams.put(param.getName(), param);
+            }
+         }
+      }
+      catch (OSSException exc)
+      {
+         // ParameterImpl doesn't actually throw when created without id
+         throw new IllegalStateException(exc);
+      }
+
+      return Collections.unmodifiableMap(mpParams);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public Collection<Parameter> getParameters()
+   {
+      return Collections.unmodifiableCollection(getParametersByName().values());
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void addParam(
+      Parameter param
+   )
+   {
+      byte[]       arrName;
+      List<byte[]> lstValues = null;
+      List         lstSourceValues;
+      int          iRecordSize;
+      int          iOffset;
+      int          iHash;
+      int          iSlot;
+
+      arrName = param.getName().getBytes(StandardCharsets.UTF_8);
+      iRecordSize = 8 + 4 + arrName.length + 4;
+      lstSourceValues = param.getValues();
+      if (lstSourceValues != null)
+      {
+         lstValues = new ArrayList<>(lstSourceValues.size());
+         for (Object value : lstSourceValues)
+         {
+            byte[] arrValue = (value == null)
+                              ? null
+                              : value.toString().getBytes(StandardCharsets.UTF_8);
+
+            lstValues.add(arrValue);
+            iRecordSize += 4 + ((arrValue == null) ? 0 : arrValue.length);
+         }
+      }
+
+      ensureDataCapacity(iRecordSize);
+      iOffset = m_iDataEnd;
+      m_bufData.putLong(iOffset, param.getDomainId());
+      m_bufData.putInt(iOffset + 8, arrName.length);
+      putBytes(iOffset + 12, arrName);
+      int iPosition = iOffset + 12 + arrName.length;
+      if (lstValues == null)
+      {
+         m_bufData.putInt(iPosition, NULL_LENGTH);
+         iPosition += 4;
+      }
+      else
+      {
+         m_bufData.putInt(iPosition, lstValues.size());
+         iPosition += 4;
+         for (byte[] arrValue : lstValues)
+         {
+            if (arrValue == null)
+            {
+               m_bufData.putInt(iPosition, NULL_LENGTH);
+               iPosition += 4;
+            }
+            else
+            {
+               m_bufData.putInt(iPosition, arrValue.length);
+               putBytes(iPosition + 4, arrValue);
+               iPosition += 4 + arrValue.length;
+            }
+         }
+      }
+      m_iDataEnd = iPosition;
+
+      iHash = hash(param.getName());
+      iSlot = findSlot(iHash, arrName);
+      if (m_bufIndex.getInt(iSlot * INDEX_SLOT_SIZE + 4) != 0)
+      {
+         int iOldOffset = m_bufIndex.getInt(iSlot * INDEX_SLOT_SIZE + 4) - 1;
+
+         m_iGarbage += recordSize(m_bufData, iOldOffset);
+         s_logger.log(Level.WARNING, "Parameter with name {0} overwrote already"
+                      + " existing parameter", param.getName());
+      }
+      else
+      {
+         m_iParamCount++;
+      }
+      m_bufIndex.putInt(iSlot * INDEX_SLOT_SIZE, iHash);
+      m_bufIndex.putInt(iSlot * INDEX_SLOT_SIZE + 4, iOffset + 1);
+
+      if (m_iParamCount * 4 > m_iIndexSlots * 3)
+      {
+         rebuildIndex(m_iIndexSlots * 2);
+      }
+      if ((m_iGarbage > 4096) && (m_iGarbage * 2 > m_iDataEnd))
+      {
+         compact();
+      }
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public boolean removeParam(
+      String strName
+   )
+   {
+      byte[]  arrName;
+      int     iSlot;
+      int     iOffset;
+      boolean bRemoved = false;
+
+      arrName = strName.getBytes(StandardCharsets.UTF_8);
+      iSlot = findSlot(hash(strName), arrName);
+      iOffset = m_bufIndex.getInt(iSlot * INDEX_SLOT_SIZE + 4) - 1;
+      if (iOffset >= 0)
+      {
+         m_iGarbage += recordSize(m_bufData, iOffset);
+         m_iParamCount--;
+         clearSlot(iSlot);
+         bRemoved = true;
+         if ((m_iGarbage > 4096) && (m_iGarbage * 2 > m_iDataEnd))
+         {
+            compact();
+         }
+      }
+
+      return bRemoved;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void inheritAndOverride(
+      String            strLogPrefix,
+      String            strOverrideName,
+      ConfigurationImpl source,
+      String            strSourceName
+   ) throws OSSException
+   {
+      inheritAndOverride(strLogPrefix, "Parameter Default Values",
+                         m_mpDefaultValuesByName, strOverrideName,
+                         source.getDefaultValuesByName(), strSourceName);
+      for (Parameter param : source.getParametersByName().values())
+      {
+         if (findParam(param.getName()) == null)
+         {
+            addParam(param);
+         }
+      }
+      inheritVariableSources(source);
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected Parameter findParam(
+      String strName
+   ) throws OSSException
+   {
+      Parameter param = null;
+      byte[]    arrName;
+      int       iSlot;
+      int       iOffset;
+
+      arrName = strName.getBytes(StandardCharsets.UTF_8);
+      iSlot = findSlot(hash(strName), arrName);
+      iOffset = m_bufIndex.getInt(iSlot * INDEX_SLOT_SIZE + 4) - 1;
+      if (iOffset >= 0)
+      {
+         param = readParam(iOffset);
+      }
+
+      return param;
+   }
+
+   /**
+    * Allocate new buffer. Derived classes can override this method to use
+    * for example memory mapped files instead of direct memory.
+    *
+    * @param iSize - size of the buffer in bytes
+    * @return ByteBuffer - new buffer
+    */
+   protected ByteBuffer allocate(
+      int iSize
+   )
+   {
+      return ByteBuffer.allocateDirect(iSize);
+   }
+
+   /**
+    * Spread bits of the hash code of the name so that the lower bits used to
+    * determine the slot are well distributed.
+    *
+    * @param strName - name of the parameter
+    * @return int - hash of the name
+    */
+   protected static int hash(
+      String strName
+   )
+   {
+      int iHash = strName.hashCode();
+
+      iHash ^= (iHash >>> 16);
+      iHash *= 0x85ebca6b;
+      iHash ^= (iHash >>> 13);
+
+      return iHash;
+   }
+
+   /**
+    * Find slot containing record with specified name or first empty slot where
+    * such record should be stored.
+    *
+    * @param iHash - hash of the name
+    * @param arrName - UTF-8 encoded name
+    * @return int - index of the slot
+    */
+   protected int findSlot(
+      int    iHash,
+      byte[] arrName
+   )
+   {
+      int iMask = m_iIndexSlots - 1;
+      int iSlot = iHash & iMask;
+      int iOffset;
+
+      while ((iOffset = m_bufIndex.getInt(iSlot * INDEX_SLOT_SIZE + 4)) != 0)
+      {
+         if ((m_bufIndex.getInt(iSlot * INDEX_SLOT_SIZE) == iHash)
+            && (nameEquals(iOffset - 1, arrName)))
+         {
+            break;
+         }
+         iSlot = (iSlot + 1) & iMask;
+      }
+
+      return iSlot;
+   }
+
+   /**
+    * Empty the slot of the hash index. Records following the slot within the
+    * same cluster are moved back when necessary so that all of them can still
+    * be found by findSlot without marking the removed slots.
+    *
+    * @param iSlot - index of the slot to empty
+    */
+   protected void clearSlot(
+      int iSlot
+   )
+   {
+      int iMask = m_iIndexSlots - 1;
+      int iEmpty = iSlot;
+      int iNext = (iSlot + 1) & iMask;
+      int iOffset;
+
+      while ((iOffset = m_bufIndex.getInt(iNext * INDEX_SLOT_SIZE + 4)) != 0)
+      {
+         int iHash = m_bufIndex.getInt(iNext * INDEX_SLOT_SIZE);
+         int iHome = iHash & iMask;
+
+         // The record can be moved to the empty slot only if its home slot is
+         // not located between the empty slot and its current slot
+         if (((iNext - iHome) & iMask) >= ((iNext - iEmpty) & iMask))
+         {
+            m_bufIndex.putInt(iEmpty * INDEX_SLOT_SIZE, iHash);
+            m_bufIndex.putInt(iEmpty * INDEX_SLOT_SIZE + 4, iOffset);
+            iEmpty = iNext;
+         }
+         iNext = (iNext + 1) & iMask;
+      }
+      m_bufIndex.putInt(iEmpty * INDEX_SLOT_SIZE, 0);
+      m_bufIndex.putInt(iEmpty * INDEX_SLOT_SIZE + 4, 0);
+   }
+
+   /**
+    * Compare name stored in record at specified offset with specified name.
+    *
+    * @param iOffset - offset of the record
+    * @param arrName - UTF-8 encoded name
+    * @return boolean - true if the names are the same
+    */
+   protected boolean nameEquals(
+      int    iOffset,
+      byte[] arrName
+   )
+   {
+      boolean bEquals;
+
+      bEquals = (m_bufData.getInt(iOffset + 8) == arrName.length);
+      for (int iIndex = 0; (bEquals) && (iIndex < arrName.length); iIndex++)
+      {
+         bEquals = (m_bufData.get(iOffset + 12 + iIndex) == arrName[iIndex]);
+      }
+
+      return bEquals;
+   }
+
+   /**
+    * Create parameter from the record at specified offset.
+    *
+    * @param iOffset - offset of the record
+    * @return Parameter - new parameter
+    * @throws OSSException - an error has occurred
+    */
+   protected Parameter readParam(
+      int iOffset
+   ) throws OSSException
+   {
+      long         lDomainId;
+      String       strName;
+      List<String> lstValues = null;
+      int          iLength;
+      int          iCount;
+      int          iPosition;
+
+      lDomainId = m_bufData.getLong(iOffset);
+      iLength = m_bufData.getInt(iOffset + 8);
+      strName = getString(iOffset + 12, iLength);
+      iPosition = iOffset + 12 + iLength;
+      iCount = m_bufData.getInt(iPosition);
+      iPosition += 4;
+      if (iCount != NULL_LENGTH)
+      {
+         lstValues = new ArrayList<>(iCount);
+         for (int iIndex = 0; iIndex < iCount; iIndex++)
+         {
+            iLength = m_bufData.getInt(iPosition);
+            iPosition += 4;
+            if (iLength == NULL_LENGTH)
+            {
+               lstValues.add(null);
+            }
+            else
+            {
+               lstValues.add(getString(iPosition, iLength));
+               iPosition += iLength;
+            }
+         }
+      }
+
+      return new ParameterImpl<String>(DataDescriptor.NO_DATA_DESCRIPTOR_CLASS,
+                                       lDomainId, strName, null, lstValues);
+   }
+
+   /**
+    * Compute size of the record at specified offset.
+    *
+    * @param bufData - buffer containing the record
+    * @param iOffset - offset of the record
+    * @return int - size of the record in bytes
+    */
+   protected static int recordSize(
+      ByteBuffer bufData,
+      int        iOffset
+   )
+   {
+      int iPosition;
+      int iCount;
+
+      iPosition = iOffset + 12 + bufData.getInt(iOffset + 8);
+      iCount = bufData.getInt(iPosition);
+      iPosition += 4;
+      for (int iIndex = 0; iIndex < iCount; iIndex++)
+      {
+         int iLength = bufData.getInt(iPosition);
+
+         iPosition += 4 + ((iLength == NULL_LENGTH) ? 0 : iLength);
+      }
+
+      return iPosition - iOffset;
+   }
+
+   /**
+    * Decode UTF-8 encoded string from the data buffer.
+    *
+    * @param iOffset - offset where the string starts
+    * @param iLength - number of bytes occupied by the string
+    * @return String - decoded string
+    */
+   protected String getString(
+      int iOffset,
+      int iLength
+   )
+   {
+      byte[]     arrBytes = new byte[iLength];
+      // Duplicate so that concurrent readers don't share position
+      ByteBuffer view = m_bufData.duplicate();
+
+      view.position(iOffset);
+      view.get(arrBytes);
+
+      return new String(arrBytes, StandardCharsets.UTF_8);
+   }
+
+   /**
+    * Copy bytes to the data buffer.
+    *
+    * @param iOffset - offset where to copy the bytes
+    * @param arrBytes - bytes to copy
+    */
+   protected void putBytes(
+      int    iOffset,
+      byte[] arrBytes
+   )
+   {
+      ByteBuffer view = m_bufData.duplicate();
+
+      view.position(iOffset);
+      view.put(arrBytes);
+   }
+
+   /**
+    * Make sure there is enough space in the data buffer for additional bytes.
+    *
+    * @param iAdditional - number of bytes that will be written
+    */
+   protected void ensureDataCapacity(
+      int iAdditional
+   )
+   {
+      long lRequired = (long)m_iDataEnd + iAdditional;
+
+      if (lRequired > m_bufData.capacity())
+      {
+         long       lNewSize = Math.max(lRequired,
+                                        (long)m_bufData.capacity() * 2);
+         ByteBuffer newBuffer;
+         ByteBuffer view;
+
+         if (lRequired > Integer.MAX_VALUE)
+         {
+            throw new IllegalStateException("Configuration cannot exceed "
+                                            + Integer.MAX_VALUE + " bytes");
+         }
+         newBuffer = allocate((int)Math.min(lNewSize, Integer.MAX_VALUE));
+         view = m_bufData.duplicate();
+         view.position(0);
+         view.limit(m_iDataEnd);
+         newBuffer.put(view);
+         m_bufData = newBuffer;
+      }
+   }
+
+   /**
+    * Rebuild the hash index with the specified number of slots.
+    *
+    * @param iNewSlots - new number of slots, has to be power of 2
+    */
+   protected void rebuildIndex(
+      int iNewSlots
+   )
+   {
+      ByteBuffer oldIndex = m_bufIndex;
+      int        iOldSlots = m_iIndexSlots;
+      int        iMask = iNewSlots - 1;
+
+      m_bufIndex = allocate(iNewSlots * INDEX_SLOT_SIZE);
+      m_iIndexSlots = iNewSlots;
+      for (int iOld = 0; iOld < iOldSlots; iOld++)
+      {
+         int iOffset = oldIndex.getInt(iOld * INDEX_SLOT_SIZE + 4);
+
+         if (iOffset != 0)
+         {
+            int iHash = oldIndex.getInt(iOld * INDEX_SLOT_SIZE);
+            int iSlot = iHash & iMask;
+
+            while (m_bufIndex.getInt(iSlot * INDEX_SLOT_SIZE + 4) != 0)
+            {
+               iSlot = (iSlot + 1) & iMask;
+            }
+            m_bufIndex.putInt(iSlot * INDEX_SLOT_SIZE, iHash);
+            m_bufIndex.putInt(iSlot * INDEX_SLOT_SIZE + 4, iOffset);
+         }
+      }
+   }
+
+   /**
+    * Remove replaced records from the data buffer.
+    */
+   protected void compact(
+   )
+   {
+      ByteBuffer oldData = m_bufData;
+      int        iNewEnd = 0;
+
+      m_bufData = allocate(Math.max(m_iDataEnd - m_iGarbage, 64) * 2);
+      for (int iSlot = 0; iSlot < m_iIndexSlots; iSlot++)
+      {
+         int iOffset = m_bufIndex.getInt(iSlot * INDEX_SLOT_SIZE + 4) - 1;
+
+         if (iOffset >= 0)
+         {
+            ByteBuffer record = oldData.duplicate();
+            ByteBuffer target = m_bufData.duplicate();
+            int        iSize;
+
+            iSize = recordSize(oldData, iOffset);
+            record.position(iOffset);
+            record.limit(iOffset + iSize);
+            target.position(iNewEnd);
+            target.put(record);
+            m_bufIndex.putInt(iSlot * INDEX_SLOT_SIZE + 4, iNewEnd + 1);
+            iNewEnd += iSize;
+         }
+      }
+      m_iDataEnd = iNewEnd;
+      m_iGarbage = 0;
+   }
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.opensubsystems.core.data.DataDescriptor;
+import org.opensubsystems.core.data.DataObject;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+import org.opensubsystems.pattern.parameter.data.impl.ParameterImpl;
+
+/**
+ * Set of changes that transform configuration published with one version to
+ * the configuration published with another version. The delta can also
+ * represent full snapshot of the configuration, in which case it describes
+ * all parameters and default values and it is applied to an empty
+ * configuration.
+ *
+ * The delta is serializable so that it can be transferred between nodes by
+ * any ConfigurationTransport.
+ *
+ * @author OpenSubsystems
+ */
+public class ConfigurationDelta extends    OSSObject
+                                implements Serializable
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Generated serial version uid
+    */
+   private static final long serialVersionUID = -3954150786457712096L;
+
+   /**
+    * Version of the configuration to which this delta has to be applied.
+    */
+   protected long m_lBaseVersion;
+
+   /**
+    * Version of the configuration created by applying this delta.
+    */
+   protected long m_lVersion;
+
+   /**
+    * Flag signaling if this delta is full snapshot of the configuration and
+    * not just set of changes.
+    */
+   protected boolean m_bFullSnapshot;
+
+   /**
+    * Parameters that were added or modified keyed by the parameter name. The
+    * value is the new list of values of the parameter.
+    */
+   protected Map<String, List<String>> m_mpChangedParams;
+
+   /**
+    * Names of parameters that were removed.
+    */
+   protected Set<String> m_setRemovedParams;
+
+   /**
+    * Default values that were added or modified keyed by the parameter name.
+    */
+   protected Map<String, String> m_mpChangedDefaults;
+
+   /**
+    * Names of parameters default values of which were removed.
+    */
+   protected Set<String> m_setRemovedDefaults;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor of an empty delta.
+    *
+    * @param lBaseVersion - version of the configuration to which this delta has
+    *                       to be applied
+    * @param lVersion - version of the configuration created by applying this
+    *                   delta
+    * @param bFullSnapshot - if true then the delta represents full snapshot of
+    *                        the configuration
+    */
+   public ConfigurationDelta(
+      long    lBaseVersion,
+      long    lVersion,
+      boolean bFullSnapshot
+   )
+   {
+      m_lBaseVersion = lBaseVersion;
+      m_lVersion = lVersion;
+      m_bFullSnapshot = bFullSnapshot;
+      m_mpChangedParams = new HashMap<>();
+      m_setRemovedParams = new HashSet<>();
+      m_mpChangedDefaults = new HashMap<>();
+      m_setRemovedDefaults = new HashSet<>();
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ConfigurationDelta[");
+      append(sb, ind + 1, "m_lBaseVersion = ", m_lBaseVersion);
+      append(sb, ind + 1, "m_lVersion = ", m_lVersion);
+      append(sb, ind + 1, "m_bFullSnapshot = ", m_bFullSnapshot);
+      append(sb, ind + 1, "m_mpChangedParams = ", m_mpChangedParams);
+      append(sb, ind + 1, "m_setRemovedParams = ", m_setRemovedParams);
+      append(sb, ind + 1, "m_mpChangedDefaults = ", m_mpChangedDefaults);
+      append(sb, ind + 1, "m_setRemovedDefaults = ", m_setRemovedDefaults);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return long - version of the configuration to which this delta has to be
+    *                applied
+    */
+   public long getBaseVersion()
+   {
+      return m_lBaseVersion;
+   }
+
+   /**
+    * @return long - version of the configuration created by applying this delta
+    */
+   public long getVersion()
+   {
+      return m_lVersion;
+   }
+
+   /**
+    * @return boolean - true if the delta represents full snapshot of the
+    *                   configuration
+    */
+   public boolean isFullSnapshot()
+   {
+      return m_bFullSnapshot;
+   }
+
+   /**
+    * @return Map<String, List<String>> - parameters that were added or modified
+    *                                     keyed by the parameter name
+    */
+   public Map<String, List<String>> getChangedParams()
+   {
+      return m_mpChangedParams;
+   }
+
+   /**
+    * @return Set<String> - names of parameters that were removed
+    */
+   public Set<String> getRemovedParams()
+   {
+      return m_setRemovedParams;
+   }
+
+   /**
+    * @return Map<String, String> - default values that were added or modified
+    *                               keyed by the parameter name
+    */
+   public Map<String, String> getChangedDefaults()
+   {
+      return m_mpChangedDefaults;
+   }
+
+   /**
+    * @return Set<String> - names of parameters default values of which were
+    *                       removed
+    */
+   public Set<String> getRemovedDefaults()
+   {
+      return m_setRemovedDefaults;
+   }
+
+   /**
+    * Test if the delta doesn't contain any changes.
+    *
+    * @return boolean - true if there are no changes in this delta
+    */
+   public boolean isEmpty(
+   )
+   {
+      return m_mpChangedParams.isEmpty() && m_setRemovedParams.isEmpty()
+             && m_mpChangedDefaults.isEmpty() && m_setRemovedDefaults.isEmpty();
+   }
+
+   /**
+    * Record that parameter was added or modified.
+    *
+    * @param strName - name of the parameter
+    * @param lstValues - new values of the parameter
+    */
+   public void changeParam(
+      String       strName,
+      List<String> lstValues
+   )
+   {
+      m_setRemovedParams.remove(strName);
+      m_mpChangedParams.put(strName, (lstValues == null)
+                                     ? null : new ArrayList<>(lstValues));
+   }
+
+   /**
+    * Record that parameter was removed.
+    *
+    * @param strName - name of the parameter
+    */
+   public void removeParam(
+      String strName
+   )
+   {
+      m_mpChangedParams.remove(strName);
+      m_setRemovedParams.add(strName);
+   }
+
+   /**
+    * Record that default value was added or modified.
+    *
+    * @param strName - name of the parameter
+    * @param strDefaultValue - new default value of the parameter
+    */
+   public void changeDefault(
+      String strName,
+      String strDefaultValue
+   )
+   {
+      m_setRemovedDefaults.remove(strName);
+      m_mpChangedDefaults.put(strName, strDefaultValue);
+   }
+
+   /**
+    * Record that default value was removed.
+    *
+    * @param strName - name of the parameter
+    */
+   public void removeDefault(
+      String strName
+   )
+   {
+      m_mpChangedDefaults.remove(strName);
+      m_setRemovedDefaults.add(strName);
+   }
+
+   /**
+    * Create delta which has the same effect as applying this delta followed
+    * by the specified one.
+    *
+    * @param next - delta that follows this delta, its base version has to be
+    *               the same as version of this delta
+    * @return ConfigurationDelta - new delta combining both deltas
+    */
+   public ConfigurationDelta combine(
+      ConfigurationDelta next
+   )
+   {
+      assert next.getBaseVersion() == m_lVersion
+             : "Combined deltas have to follow each other.";
+
+      ConfigurationDelta combined;
+
+      combined = new ConfigurationDelta(m_lBaseVersion, next.getVersion(),
+                                        m_bFullSnapshot);
+      combined.m_mpChangedParams.putAll(m_mpChangedParams);
+      combined.m_setRemovedParams.addAll(m_setRemovedParams);
+      combined.m_mpChangedDefaults.putAll(m_mpChangedDefaults);
+      combined.m_setRemovedDefaults.addAll(m_setRemovedDefaults);
+      for (Map.Entry<String, List<String>> entry
+          : next.m_mpChangedParams.entrySet())
+      {
+         combined.changeParam(entry.getKey(), entry.getValue());
+      }
+      for (String strName : next.m_setRemovedParams)
+      {
+         if (m_bFullSnapshot)
+         {
+            // Full snapshot doesn't need to track what is not there
+            combined.m_mpChangedParams.remove(strName);
+         }
+         else
+         {
+            combined.removeParam(strName);
+         }
+      }
+      for (Map.Entry<String, String> entry
+          : next.m_mpChangedDefaults.entrySet())
+      {
+         combined.changeDefault(entry.getKey(), entry.getValue());
+      }
+      for (String strName : next.m_setRemovedDefaults)
+      {
+         if (m_bFullSnapshot)
+         {
+            combined.m_mpChangedDefaults.remove(strName);
+         }
+         else
+         {
+            combined.removeDefault(strName);
+         }
+      }
+
+      return combined;
+   }
+
+   /**
+    * Apply changes represented by this delta to the specified configuration.
+    * Parameters are changed using addParam and removeParam so that the changes
+    * are applied also to configurations, which do not keep their parameters
+    * in the map returned by getParametersByName.
+    *
+    * @param config - configuration to modify, in case of full snapshot this
+    *                 should be empty configuration
+    * @throws OSSException - an error has occurred
+    */
+   public void applyTo(
+      ConfigurationImpl config
+   ) throws OSSException
+   {
+      Map<String, String> mpDefaults;
+
+      mpDefaults = config.getDefaultValuesByName();
+
+      for (String strName : m_setRemovedParams)
+      {
+         config.removeParam(strName);
+      }
+      for (Map.Entry<String, List<String>> entry : m_mpChangedParams.entrySet())
+      {
+         // Remove the parameter first since addParam warns about replaced
+         // parameters and here the replacement is expected
+         config.removeParam(entry.getKey());
+         config.addParam(new ParameterImpl<String>(
+                                DataDescriptor.NO_DATA_DESCRIPTOR_CLASS,
+                                DataObject.NEW_ID, entry.getKey(), null,
+                                entry.getValue()));
+      }
+      for (String strName : m_setRemovedDefaults)
+      {
+         mpDefaults.remove(strName);
+      }
+      mpDefaults.putAll(m_mpChangedDefaults);
+   }
+}
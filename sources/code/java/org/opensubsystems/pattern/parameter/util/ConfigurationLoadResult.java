@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+
+/**
+ * Result of loading configuration from multiple sources containing the merged
+ * configuration and the time spent loading each source.
+ *
+ * @author OpenSubsystems
+ */
+public class ConfigurationLoadResult extends OSSObject
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Configuration merged from all sources.
+    */
+   protected ConfigurationImpl m_config;
+
+   /**
+    * Time in nanoseconds spent parsing each source keyed by the source name in
+    * the order in which the sources were specified.
+    */
+   protected Map<String, Long> m_mpParseTimes;
+
+   /**
+    * Time in nanoseconds spent merging the parsed sources.
+    */
+   protected long m_lMergeTime;
+
+   /**
+    * Time in nanoseconds elapsed from the start of loading until the merged
+    * configuration was available.
+    */
+   protected long m_lTotalTime;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param config - configuration merged from all sources
+    * @param mpParseTimes - time in nanoseconds spent parsing each source keyed
+    *                       by the source name
+    * @param lMergeTime - time in nanoseconds spent merging the parsed sources
+    * @param lTotalTime - total elapsed time in nanoseconds
+    */
+   public ConfigurationLoadResult(
+      ConfigurationImpl config,
+      Map<String, Long> mpParseTimes,
+      long              lMergeTime,
+      long              lTotalTime
+   )
+   {
+      super();
+
+      m_config = config;
+      m_mpParseTimes = Collections.unmodifiableMap(mpParseTimes);
+      m_lMergeTime = lMergeTime;
+      m_lTotalTime = lTotalTime;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ConfigurationLoadResult[");
+      append(sb, ind + 1, "m_mpParseTimes = ", m_mpParseTimes);
+      append(sb, ind + 1, "m_lMergeTime = ", m_lMergeTime);
+      append(sb, ind + 1, "m_lTotalTime = ", m_lTotalTime);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return ConfigurationImpl - configuration merged from all sources
+    */
+   public ConfigurationImpl getConfiguration()
+   {
+      return m_config;
+   }
+
+   /**
+    * @return Map<String, Long> - read only map of time in nanoseconds spent
+    *                             parsing each source keyed by the source name
+    *                             in the order in which the sources were
+    *                             specified
+    */
+   public Map<String, Long> getParseTimes()
+   {
+      return m_mpParseTimes;
+   }
+
+   /**
+    * Get time spent parsing specified source.
+    *
+    * @param strSource - name of the source
+    * @param unit - unit in which to return the time
+    * @return long - time spent parsing the source or -1 if the source is not
+    *                known
+    */
+   public long getParseTime(
+      String   strSource,
+      TimeUnit unit
+   )
+   {
+      Long lTime = m_mpParseTimes.get(strSource);
+
+      return (lTime == null) ? -1 : unit.convert(lTime, TimeUnit.NANOSECONDS);
+   }
+
+   /**
+    * @return long - time in nanoseconds spent merging the parsed sources
+    */
+   public long getMergeTime()
+   {
+      return m_lMergeTime;
+   }
+
+   /**
+    * @return long - total elapsed time in nanoseconds
+    */
+   public long getTotalTime()
+   {
+      return m_lTotalTime;
+   }
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.opensubsystems.core.util.OSSObject;
+
+/**
+ * Trace of loading of configuration from a single source. It records how long 
+ * each phase of the load took, how many bytes were read and how many 
+ * parameters and default values were loaded. Phases are recorded in the order
+ * in which they were started and starting a new phase ends the previous one.
+ *
+ * The trace is not thread safe, it is expected to be filled in by the thread
+ * loading the configuration and only read once the load is finished.
+ *
+ * @author OpenSubsystems
+ */
+public class ConfigurationLoadTrace extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Phase locating the configuration file.
+    */
+   public static final String PHASE_LOCATE = "locate";
+
+   /**
+    * Phase opening the configuration file.
+    */
+   public static final String PHASE_OPEN = "open";
+
+   /**
+    * Phase creating the parser.
+    */
+   public static final String PHASE_CREATE_PARSER = "create-parser";
+
+   /**
+    * Phase parsing the configuration.
+    */
+   public static final String PHASE_PARSE = "parse";
+
+   /**
+    * Phase indexing the configuration.
+    */
+   public static final String PHASE_INDEX = "index";
+
+   /**
+    * Phase logging the loaded configuration.
+    */
+   public static final String PHASE_LOG = "log";
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Description of the source from which the configuration is loaded.
+    */
+   protected String m_strSource;
+
+   /**
+    * Duration of the finished phases in nanoseconds keyed by name of the 
+    * phase.
+    */
+   protected Map<String, Long> m_mpPhases;
+
+   /**
+    * Phase which is in progress or null if there is none.
+    */
+   protected String m_strCurrentPhase;
+
+   /**
+    * Time when the current phase started.
+    */
+   protected long m_lPhaseStart;
+
+   /**
+    * Time when the trace was created.
+    */
+   protected long m_lStart;
+
+   /**
+    * Time in nanoseconds from creation of the trace until it was finished or
+    * -1 if it wasn't finished yet.
+    */
+   protected long m_lTotalTime;
+
+   /**
+    * Number of bytes read from the source.
+    */
+   protected long m_lBytes;
+
+   /**
+    * Number of loaded parameters.
+    */
+   protected int m_iParamCount;
+
+   /**
+    * Number of loaded default values.
+    */
+   protected int m_iDefaultCount;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor starting the trace.
+    *
+    * @param strSource - description of the source from which the configuration
+    *                    is loaded
+    */
+   public ConfigurationLoadTrace(
+      String strSource
+   )
+   {
+      super();
+
+      m_strSource = strSource;
+      m_mpPhases = new LinkedHashMap<>();
+      m_lStart = System.nanoTime();
+      m_lTotalTime = -1;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ConfigurationLoadTrace[");
+      append(sb, ind + 1, "m_strSource = ", m_strSource);
+      append(sb, ind + 1, "m_mpPhases = ", m_mpPhases);
+      append(sb, ind + 1, "m_lTotalTime = ", m_lTotalTime);
+      append(sb, ind + 1, "m_lBytes = ", m_lBytes);
+      append(sb, ind + 1, "m_iParamCount = ", m_iParamCount);
+      append(sb, ind + 1, "m_iDefaultCount = ", m_iDefaultCount);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * Start new phase of the load and finish the current one if any.
+    *
+    * @param strPhase - name of the phase
+    */
+   public void startPhase(
+      String strPhase
+   )
+   {
+      long lNow = System.nanoTime();
+
+      endPhase(lNow);
+      m_strCurrentPhase = strPhase;
+      m_lPhaseStart = lNow;
+   }
+
+   /**
+    * Finish the current phase and the whole trace.
+    */
+   public void finish(
+   )
+   {
+      long lNow = System.nanoTime();
+
+      endPhase(lNow);
+      m_lTotalTime = lNow - m_lStart;
+   }
+
+   /**
+    * @return String - description of the source from which the configuration
+    *                  is loaded
+    */
+   public String getSource()
+   {
+      return m_strSource;
+   }
+
+   /**
+    * @param strSource - description of the source from which the configuration
+    *                    is loaded
+    */
+   public void setSource(
+      String strSource
+   )
+   {
+      m_strSource = strSource;
+   }
+
+   /**
+    * @return Map<String, Long> - read only map of duration of the finished 
+    *                             phases in nanoseconds keyed by name of the 
+    *                             phase in the order in which they were started
+    */
+   public Map<String, Long> getPhases()
+   {
+      return Collections.unmodifiableMap(m_mpPhases);
+   }
+
+   /**
+    * Get duration of the specified phase.
+    *
+    * @param strPhase - name of the phase
+    * @return long - duration of the phase in nanoseconds or -1 if the phase 
+    *                wasn't recorded
+    */
+   public long getPhaseTime(
+      String strPhase
+   )
+   {
+      Long lTime = m_mpPhases.get(strPhase);
+
+      return (lTime == null) ? -1 : lTime;
+   }
+
+   /**
+    * @return long - time in nanoseconds from creation of the trace until it 
+    *                was finished or -1 if it wasn't finished yet
+    */
+   public long getTotalTime()
+   {
+      return m_lTotalTime;
+   }
+
+   /**
+    * @return long - number of bytes read from the source
+    */
+   public long getBytes()
+   {
+      return m_lBytes;
+   }
+
+   /**
+    * @param lBytes - number of bytes read from the source
+    */
+   public void setBytes(
+      long lBytes
+   )
+   {
+      m_lBytes = lBytes;
+   }
+
+   /**
+    * @return int - number of loaded parameters
+    */
+   public int getParamCount()
+   {
+      return m_iParamCount;
+   }
+
+   /**
+    * @param iParamCount - number of loaded parameters
+    */
+   public void setParamCount(
+      int iParamCount
+   )
+   {
+      m_iParamCount = iParamCount;
+   }
+
+   /**
+    * @return int - number of loaded default values
+    */
+   public int getDefaultCount()
+   {
+      return m_iDefaultCount;
+   }
+
+   /**
+    * @param iDefaultCount - number of loaded default values
+    */
+   public void setDefaultCount(
+      int iDefaultCount
+   )
+   {
+      m_iDefaultCount = iDefaultCount;
+   }
+
+   /**
+    * Get single line summary of the trace suitable for logging.
+    *
+    * @return String - summary of the trace
+    */
+   public String getSummary(
+   )
+   {
+      StringBuilder sbSummary = new StringBuilder(128);
+
+      sbSummary.append("Loaded configuration from ");
+      sbSummary.append(m_strSource);
+      sbSummary.append(" in ");
+      appendMillis(sbSummary, m_lTotalTime);
+      sbSummary.append(" ms (");
+      for (Map.Entry<String, Long> entry : m_mpPhases.entrySet())
+      {
+         sbSummary.append(entry.getKey());
+         sbSummary.append(' ');
+         appendMillis(sbSummary, entry.getValue());
+         sbSummary.append(" ms, ");
+      }
+      sbSummary.append(m_lBytes);
+      sbSummary.append(" bytes, ");
+      sbSummary.append(m_iParamCount);
+      sbSummary.append(" parameters, ");
+      sbSummary.append(m_iDefaultCount);
+      sbSummary.append(" default values)");
+
+      return sbSummary.toString();
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Record duration of the current phase if there is any.
+    *
+    * @param lNow - current time
+    */
+   protected void endPhase(
+      long lNow
+   )
+   {
+      if (m_strCurrentPhase != null)
+      {
+         Long lPrevious = m_mpPhases.get(m_strCurrentPhase);
+
+         // The same phase may be entered multiple times
+         m_mpPhases.put(m_strCurrentPhase, (lNow - m_lPhaseStart) 
+                        + ((lPrevious == null) ? 0 : lPrevious));
+         m_strCurrentPhase = null;
+      }
+   }
+
+   /**
+    * Append time in milliseconds with precision of hundredths of millisecond.
+    *
+    * @param sb - buffer where to append the time
+    * @param lNanos - time in nanoseconds
+    */
+   protected static void appendMillis(
+      StringBuilder sb,
+      long          lNanos
+   )
+   {
+      long lHundredths = lNanos / 10000L;
+
+      sb.append(lHundredths / 100);
+      sb.append('.');
+      if (lHundredths % 100 < 10)
+      {
+         sb.append('0');
+      }
+      sb.append(lHundredths % 100);
+   }
+}
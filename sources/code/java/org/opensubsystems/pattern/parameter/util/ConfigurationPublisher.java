@@ -0,0 +1,337 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.opensubsystems.core.util.Log;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.parameter.data.Parameter;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+
+/**
+ * Publisher of configuration snapshots. Every time a configuration is published
+ * it receives new monotonically increasing version and the publisher remembers
+ * the changes compared to the previously published version. Subscribers then
+ * request only changes since the version they already know about. If the
+ * subscriber knows version which is too old to be reconstructed from the
+ * remembered changes, it receives full snapshot of the current configuration.
+ *
+ * This class is thread safe.
+ *
+ * @author OpenSubsystems
+ */
+public class ConfigurationPublisher extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Version known by subscribers which haven't received any configuration yet.
+    */
+   public static final long NO_VERSION = 0;
+
+   /**
+    * Default number of deltas remembered by the publisher.
+    */
+   public static final int DEFAULT_HISTORY_SIZE = 32;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Maximal number of deltas remembered by the publisher.
+    */
+   protected int m_iHistorySize;
+
+   /**
+    * Version of the last published configuration.
+    */
+   protected volatile long m_lVersion;
+
+   /**
+    * Values of parameters of the last published configuration keyed by the
+    * parameter name.
+    */
+   protected Map<String, List<String>> m_mpPublishedParams;
+
+   /**
+    * Default values of the last published configuration keyed by the parameter
+    * name.
+    */
+   protected Map<String, String> m_mpPublishedDefaults;
+
+   /**
+    * Remembered deltas keyed by the version they create. The iteration order
+    * is from the oldest to the newest delta.
+    */
+   protected LinkedHashMap<Long, ConfigurationDelta> m_mpHistory;
+
+   // Cached values ////////////////////////////////////////////////////////////
+
+   /**
+    * Commons logger variable used to log runtime information.
+    */
+   private static Logger s_logger = Log.getInstance(ConfigurationPublisher.class);
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Default constructor.
+    */
+   public ConfigurationPublisher(
+   )
+   {
+      this(DEFAULT_HISTORY_SIZE);
+   }
+
+   /**
+    * Constructor.
+    *
+    * @param iHistorySize - maximal number of deltas remembered by the publisher
+    */
+   public ConfigurationPublisher(
+      int iHistorySize
+   )
+   {
+      super();
+
+      m_iHistorySize = iHistorySize;
+      m_lVersion = NO_VERSION;
+      m_mpPublishedParams = new HashMap<>();
+      m_mpPublishedDefaults = new HashMap<>();
+      m_mpHistory = new LinkedHashMap<>();
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ConfigurationPublisher[");
+      append(sb, ind + 1, "m_iHistorySize = ", m_iHistorySize);
+      append(sb, ind + 1, "m_lVersion = ", m_lVersion);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * Get version of the last published configuration.
+    *
+    * @return long - version or NO_VERSION if nothing was published yet
+    */
+   public long getVersion()
+   {
+      return m_lVersion;
+   }
+
+   /**
+    * Publish new snapshot of the configuration. The configuration is copied
+    * so it can be freely modified after it was published.
+    *
+    * @param config - configuration to publish
+    * @return ConfigurationDelta - changes compared to the previously published
+    *                              configuration, it is empty if there are
+    *                              no changes, in which case the version is not
+    *                              incremented
+    */
+   public synchronized ConfigurationDelta publish(
+      ConfigurationImpl config
+   )
+   {
+      ConfigurationDelta          delta;
+      Map<String, List<String>>   mpParams = new HashMap<>();
+      Map<String, String>         mpDefaults;
+      Map<String, Parameter>      mpSourceParams;
+
+      mpSourceParams = config.getParametersByName();
+      for (Map.Entry<String, Parameter> entry : mpSourceParams.entrySet())
+      {
+         Parameter<?> param = entry.getValue();
+         List<?>      lstValues = param.getValues();
+         List<String> lstCopy = null;
+
+         if (lstValues != null)
+         {
+            // Values are published as strings the same way as they are
+            // applied by ConfigurationDelta
+            lstCopy = new ArrayList<>(lstValues.size());
+            for (Object value : lstValues)
+            {
+               lstCopy.add((value == null) ? null : value.toString());
+            }
+         }
+         mpParams.put(entry.getKey(), lstCopy);
+      }
+      mpDefaults = new HashMap<>(config.getDefaultValuesByName());
+
+      delta = new ConfigurationDelta(m_lVersion, m_lVersion + 1, false);
+      for (Map.Entry<String, List<String>> entry : mpParams.entrySet())
+      {
+         if ((!m_mpPublishedParams.containsKey(entry.getKey()))
+            || (!equals(m_mpPublishedParams.get(entry.getKey()),
+                        entry.getValue())))
+         {
+            delta.changeParam(entry.getKey(), entry.getValue());
+         }
+      }
+      for (String strName : m_mpPublishedParams.keySet())
+      {
+         if (!mpParams.containsKey(strName))
+         {
+            delta.removeParam(strName);
+         }
+      }
+      for (Map.Entry<String, String> entry : mpDefaults.entrySet())
+      {
+         if ((!m_mpPublishedDefaults.containsKey(entry.getKey()))
+            || (!equals(m_mpPublishedDefaults.get(entry.getKey()),
+                        entry.getValue())))
+         {
+            delta.changeDefault(entry.getKey(), entry.getValue());
+         }
+      }
+      for (String strName : m_mpPublishedDefaults.keySet())
+      {
+         if (!mpDefaults.containsKey(strName))
+         {
+            delta.removeDefault(strName);
+         }
+      }
+
+      if (delta.isEmpty())
+      {
+         s_logger.log(Level.FINE, "Published configuration is the same as"
+                      + " version {0}", m_lVersion);
+         delta = new ConfigurationDelta(m_lVersion, m_lVersion, false);
+      }
+      else
+      {
+         m_mpPublishedParams = mpParams;
+         m_mpPublishedDefaults = mpDefaults;
+         m_mpHistory.put(delta.getVersion(), delta);
+         if (m_mpHistory.size() > m_iHistorySize)
+         {
+            Iterator<Long> itrVersions = m_mpHistory.keySet().iterator();
+
+            itrVersions.next();
+            itrVersions.remove();
+         }
+         m_lVersion = delta.getVersion();
+         s_logger.log(Level.FINE, "Published configuration version {0} with"
+                      + " {1} changed and {2} removed parameters",
+                      new Object[]{m_lVersion,
+                                   delta.getChangedParams().size(),
+                                   delta.getRemovedParams().size()});
+      }
+
+      return delta;
+   }
+
+   /**
+    * Get changes that need to be applied to the configuration with specified
+    * version to get the last published configuration.
+    *
+    * @param lKnownVersion - version of the configuration known to the caller,
+    *                        NO_VERSION if the caller doesn't know any version
+    * @return ConfigurationDelta - changes that need to be applied, full
+    *                              snapshot if the known version is not known to
+    *                              the publisher anymore or null if the known
+    *                              version is the last published version
+    */
+   public synchronized ConfigurationDelta getChangesSince(
+      long lKnownVersion
+   )
+   {
+      ConfigurationDelta delta = null;
+
+      if (lKnownVersion != m_lVersion)
+      {
+         if ((lKnownVersion != NO_VERSION) && (lKnownVersion < m_lVersion)
+            && (m_mpHistory.containsKey(lKnownVersion + 1)))
+         {
+            for (ConfigurationDelta historic : m_mpHistory.values())
+            {
+               if (historic.getVersion() > lKnownVersion)
+               {
+                  delta = (delta == null) ? historic : delta.combine(historic);
+               }
+            }
+         }
+         else
+         {
+            delta = getSnapshot();
+         }
+      }
+
+      return delta;
+   }
+
+   /**
+    * Get full snapshot of the last published configuration.
+    *
+    * @return ConfigurationDelta - delta representing full snapshot
+    */
+   public synchronized ConfigurationDelta getSnapshot(
+   )
+   {
+      ConfigurationDelta snapshot;
+
+      snapshot = new ConfigurationDelta(NO_VERSION, m_lVersion, true);
+      for (Map.Entry<String, List<String>> entry
+          : m_mpPublishedParams.entrySet())
+      {
+         snapshot.changeParam(entry.getKey(), entry.getValue());
+      }
+      for (Map.Entry<String, String> entry : m_mpPublishedDefaults.entrySet())
+      {
+         snapshot.changeDefault(entry.getKey(), entry.getValue());
+      }
+
+      return snapshot;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Null safe comparison of two objects.
+    *
+    * @param first - first object to compare, can be null
+    * @param second - second object to compare, can be null
+    * @return boolean - true if both objects are null or equal
+    */
+   protected static boolean equals(
+      Object first,
+      Object second
+   )
+   {
+      return (first == null) ? (second == null) : first.equals(second);
+   }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.opensubsystems.core.util.OSSObject;
+
+/**
+ * Snapshot of statistics of access to configuration collected by 
+ * InstrumentedConfiguration. 
+ *
+ * @author OpenSubsystems
+ */
+public class ConfigurationStatistics extends OSSObject
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Number of requests for parameters.
+    */
+   protected long m_lReads;
+
+   /**
+    * Number of requests for parameters explicitly defined in configuration.
+    */
+   protected long m_lHits;
+
+   /**
+    * Number of requests satisfied using default value of the parameter.
+    */
+   protected long m_lDefaults;
+
+   /**
+    * Number of requests for parameters which were not found.
+    */
+   protected long m_lMisses;
+
+   /**
+    * Number of requests for each parameter keyed by the parameter name.
+    */
+   protected Map<String, Long> m_mpKeyReads;
+
+   /**
+    * Histogram of sampled latencies of requests resolving variables.
+    */
+   protected long[] m_arrResolutionLatencies;
+
+   /**
+    * Histogram of sampled latencies of requests not resolving variables.
+    */
+   protected long[] m_arrLookupLatencies;
+
+   /**
+    * Histogram of sampled latencies of requests replacing variables in values.
+    */
+   protected long[] m_arrReplacementLatencies;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param lReads - number of requests for parameters
+    * @param lHits - estimated number of requests for explicitly defined 
+    *                parameters
+    * @param lDefaults - estimated number of requests satisfied using default 
+    *                    value
+    * @param lMisses - number of requests for parameters which were not found
+    * @param mpKeyReads - number of requests for each parameter
+    * @param arrResolutionLatencies - histogram of sampled latencies of requests
+    *                                 resolving variables
+    * @param arrLookupLatencies - histogram of sampled latencies of requests not
+    *                             resolving variables
+    * @param arrReplacementLatencies - histogram of sampled latencies of 
+    *                                  requests replacing variables in values
+    */
+   public ConfigurationStatistics(
+      long              lReads,
+      long              lHits,
+      long              lDefaults,
+      long              lMisses,
+      Map<String, Long> mpKeyReads,
+      long[]            arrResolutionLatencies,
+      long[]            arrLookupLatencies,
+      long[]            arrReplacementLatencies
+   )
+   {
+      super();
+
+      m_lReads = lReads;
+      m_lHits = lHits;
+      m_lDefaults = lDefaults;
+      m_lMisses = lMisses;
+      m_mpKeyReads = Collections.unmodifiableMap(mpKeyReads);
+      m_arrResolutionLatencies = arrResolutionLatencies;
+      m_arrLookupLatencies = arrLookupLatencies;
+      m_arrReplacementLatencies = arrReplacementLatencies;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ConfigurationStatistics[");
+      append(sb, ind + 1, "m_lReads = ", m_lReads);
+      append(sb, ind + 1, "m_lHits = ", m_lHits);
+      append(sb, ind + 1, "m_lDefaults = ", m_lDefaults);
+      append(sb, ind + 1, "m_lMisses = ", m_lMisses);
+      append(sb, ind + 1, "m_mpKeyReads = ", m_mpKeyReads);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return long - number of requests for parameters
+    */
+   public long getReads()
+   {
+      return m_lReads;
+   }
+
+   /**
+    * @return long - estimated number of requests for parameters explicitly 
+    *                defined in configuration
+    */
+   public long getHits()
+   {
+      return m_lHits;
+   }
+
+   /**
+    * @return long - estimated number of requests satisfied using default 
+    *                value of the parameter
+    */
+   public long getDefaults()
+   {
+      return m_lDefaults;
+   }
+
+   /**
+    * @return long - number of requests for parameters which were not found
+    */
+   public long getMisses()
+   {
+      return m_lMisses;
+   }
+
+   /**
+    * @return Map<String, Long> - read only map of number of requests for each 
+    *                             parameter keyed by the parameter name
+    */
+   public Map<String, Long> getKeyReads()
+   {
+      return m_mpKeyReads;
+   }
+
+   /**
+    * @return long[] - histogram of sampled latencies of requests resolving 
+    *                  variables, see LatencyHistogram for meaning of buckets
+    */
+   public long[] getResolutionLatencies()
+   {
+      return m_arrResolutionLatencies;
+   }
+
+   /**
+    * @return long[] - histogram of sampled latencies of requests not resolving
+    *                  variables, see LatencyHistogram for meaning of buckets
+    */
+   public long[] getLookupLatencies()
+   {
+      return m_arrLookupLatencies;
+   }
+
+   /**
+    * @return long[] - histogram of sampled latencies of requests replacing 
+    *                  variables in values, see LatencyHistogram for meaning of
+    *                  buckets
+    */
+   public long[] getReplacementLatencies()
+   {
+      return m_arrReplacementLatencies;
+   }
+
+   /**
+    * Get approximate percentile of sampled latencies of requests resolving 
+    * variables.
+    *
+    * @param dPercentile - percentile between 0 and 100
+    * @return long - latency in nanoseconds
+    */
+   public long getResolutionLatency(
+      double dPercentile
+   )
+   {
+      return LatencyHistogram.getPercentile(m_arrResolutionLatencies, 
+                                            dPercentile);
+   }
+
+   /**
+    * Get approximate percentile of sampled latencies of requests not resolving
+    * variables.
+    *
+    * @param dPercentile - percentile between 0 and 100
+    * @return long - latency in nanoseconds
+    */
+   public long getLookupLatency(
+      double dPercentile
+   )
+   {
+      return LatencyHistogram.getPercentile(m_arrLookupLatencies, dPercentile);
+   }
+
+   /**
+    * Get approximate percentile of sampled latencies of requests replacing 
+    * variables in values.
+    *
+    * @param dPercentile - percentile between 0 and 100
+    * @return long - latency in nanoseconds
+    */
+   public long getReplacementLatency(
+      double dPercentile
+   )
+   {
+      return LatencyHistogram.getPercentile(m_arrReplacementLatencies, 
+                                            dPercentile);
+   }
+
+   /**
+    * Get names of the most frequently requested parameters.
+    *
+    * @param iCount - maximal number of names to return
+    * @return List<String> - names of parameters ordered from the most 
+    *                        frequently requested one
+    */
+   public List<String> getHotKeys(
+      int iCount
+   )
+   {
+      List<Map.Entry<String, Long>> lstEntries;
+      List<String>                  lstKeys;
+
+      lstEntries = new ArrayList<>(m_mpKeyReads.entrySet());
+      Collections.sort(lstEntries, new Comparator<Map.Entry<String, Long>>()
+      {
+         @Override
+         public int compare(
+            Map.Entry<String, Long> first,
+            Map.Entry<String, Long> second
+         )
+         {
+            return second.getValue().compareTo(first.getValue());
+         }
+      });
+      lstKeys = new ArrayList<>(Math.min(iCount, lstEntries.size()));
+      for (Map.Entry<String, Long> entry : lstEntries)
+      {
+         if (lstKeys.size() >= iCount)
+         {
+            break;
+         }
+         lstKeys.add(entry.getKey());
+      }
+
+      return lstKeys;
+   }
+}
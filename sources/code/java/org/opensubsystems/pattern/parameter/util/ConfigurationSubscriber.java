@@ -0,0 +1,306 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.error.OSSInconsistentDataException;
+import org.opensubsystems.core.util.Log;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.parameter.data.ParametrizedContext;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+
+/**
+ * Subscriber maintaining local copy of configuration published by another node.
+ * The subscriber pulls only changes since the version it already has and
+ * applies them to a new copy of the configuration, which then atomically
+ * replaces the current one. Readers therefore always see a complete
+ * configuration of single version and they are never blocked while changes
+ * are being applied.
+ *
+ * Configuration returned by getConfiguration should be treated as read only
+ * since it can be shared by multiple threads. Parameters resolved using the 
+ * replaced configuration are removed from the caches of contexts added using
+ * addContext.
+ *
+ * @author OpenSubsystems
+ */
+public class ConfigurationSubscriber extends OSSObject
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Transport used to pull the changes.
+    */
+   protected ConfigurationTransport m_transport;
+
+   /**
+    * Current version of the configuration. This is the only mutable state and
+    * it is always replaced as a whole.
+    */
+   protected volatile VersionedConfiguration m_current;
+
+   /**
+    * Executor used to periodically pull changes, null if not started.
+    */
+   protected ScheduledExecutorService m_executor;
+
+   /**
+    * Contexts whose caches of resolved parameters are cleared when the 
+    * configuration is replaced.
+    */
+   protected List<ParametrizedContext> m_lstContexts;
+
+   // Cached values ////////////////////////////////////////////////////////////
+
+   /**
+    * Commons logger variable used to log runtime information.
+    */
+   private static Logger s_logger = Log.getInstance(ConfigurationSubscriber.class);
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param transport - transport used to pull the changes
+    */
+   public ConfigurationSubscriber(
+      ConfigurationTransport transport
+   )
+   {
+      super();
+
+      m_transport = transport;
+      m_lstContexts = new CopyOnWriteArrayList<>();
+      m_current = new VersionedConfiguration(ConfigurationPublisher.NO_VERSION,
+                                             new ConfigurationImpl());
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ConfigurationSubscriber[");
+      append(sb, ind + 1, "m_transport = ", m_transport);
+      append(sb, ind + 1, "m_current.m_lVersion = ", m_current.m_lVersion);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * Get the current configuration.
+    *
+    * @return ConfigurationImpl - current configuration, never null
+    */
+   public ConfigurationImpl getConfiguration(
+   )
+   {
+      return m_current.m_config;
+   }
+
+   /**
+    * Get version of the current configuration.
+    *
+    * @return long - version of the current configuration or
+    *                ConfigurationPublisher.NO_VERSION if no configuration was
+    *                received yet
+    */
+   public long getVersion(
+   )
+   {
+      return m_current.m_lVersion;
+   }
+
+   /**
+    * Add context whose cache of resolved parameters is cleared every time 
+    * the configuration is replaced by a new version.
+    *
+    * @param context - context whose cache stores the resolved values
+    */
+   public void addContext(
+      ParametrizedContext context
+   )
+   {
+      m_lstContexts.add(context);
+   }
+
+   /**
+    * Pull changes from the publisher and apply them if there are any.
+    *
+    * @return boolean - true if the configuration was changed
+    * @throws OSSException - an error has occurred
+    */
+   public synchronized boolean update(
+   ) throws OSSException
+   {
+      VersionedConfiguration current = m_current;
+      ConfigurationDelta     delta;
+      boolean                bChanged = false;
+
+      delta = m_transport.fetchChanges(current.m_lVersion);
+      if ((delta != null) && (delta.getVersion() != current.m_lVersion))
+      {
+         ConfigurationImpl newConfig = new ConfigurationImpl();
+
+         // Variable sources are local to this node and they are not part of
+         // the published changes so they are kept for every version
+         newConfig.getVariableSources().addAll(
+            current.m_config.getVariableSources());
+         if (!delta.isFullSnapshot())
+         {
+            if (delta.getBaseVersion() != current.m_lVersion)
+            {
+               throw new OSSInconsistentDataException("Received changes for"
+                            + " version " + delta.getBaseVersion()
+                            + " but the current version is "
+                            + current.m_lVersion);
+            }
+            // Parameters are never modified once they are part of the
+            // configuration so they can be shared between versions
+            newConfig.getParametersByName().putAll(
+               current.m_config.getParametersByName());
+            newConfig.getDefaultValuesByName().putAll(
+               current.m_config.getDefaultValuesByName());
+         }
+         delta.applyTo(newConfig);
+         m_current = new VersionedConfiguration(delta.getVersion(), newConfig);
+         bChanged = true;
+         for (ParametrizedContext context : m_lstContexts)
+         {
+            ConfigurationUtils.clearResolvedParams(context, current.m_config);
+         }
+         s_logger.log(Level.FINE, "Configuration updated from version {0} to"
+                      + " version {1}", new Object[]{current.m_lVersion,
+                                                     delta.getVersion()});
+      }
+
+      return bChanged;
+   }
+
+   /**
+    * Start periodically pulling changes in the background.
+    *
+    * @param lPollPeriod - period between two consecutive pulls
+    * @param unit - time unit of the period
+    */
+   public synchronized void start(
+      long     lPollPeriod,
+      TimeUnit unit
+   )
+   {
+      if (m_executor == null)
+      {
+         m_executor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactory()
+            {
+               @Override
+               public Thread newThread(
+                  Runnable runnable
+               )
+               {
+                  Thread thread = new Thread(runnable,
+                                             "ConfigurationSubscriber");
+
+                  thread.setDaemon(true);
+                  return thread;
+               }
+            });
+         m_executor.scheduleWithFixedDelay(new Runnable()
+            {
+               @Override
+               public void run(
+               )
+               {
+                  try
+                  {
+                     update();
+                  }
+                  catch (OSSException | RuntimeException exc)
+                  {
+                     s_logger.log(Level.WARNING, "Unable to update"
+                                  + " configuration", exc);
+                  }
+               }
+            }, 0, lPollPeriod, unit);
+      }
+   }
+
+   /**
+    * Stop pulling changes in the background.
+    */
+   public synchronized void stop(
+   )
+   {
+      if (m_executor != null)
+      {
+         m_executor.shutdown();
+         m_executor = null;
+      }
+   }
+
+   // Helper classes ///////////////////////////////////////////////////////////
+
+   /**
+    * Configuration together with its version, so that both can be replaced
+    * atomically.
+    */
+   protected static class VersionedConfiguration
+   {
+      /**
+       * Version of the configuration.
+       */
+      protected final long m_lVersion;
+
+      /**
+       * Configuration of the given version.
+       */
+      protected final ConfigurationImpl m_config;
+
+      /**
+       * Constructor.
+       *
+       * @param lVersion - version of the configuration
+       * @param config - configuration of the given version
+       */
+      protected VersionedConfiguration(
+         long              lVersion,
+         ConfigurationImpl config
+      )
+      {
+         m_lVersion = lVersion;
+         m_config = config;
+      }
+   }
+}
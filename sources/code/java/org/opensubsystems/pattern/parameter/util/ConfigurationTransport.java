@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import org.opensubsystems.core.error.OSSException;
+
+/**
+ * Interface representing mechanism used by configuration subscribers to pull
+ * changes of the configuration from the node publishing the configuration.
+ *
+ * @author OpenSubsystems
+ */
+public interface ConfigurationTransport
+{
+   /**
+    * Get changes of the configuration published since the specified version.
+    *
+    * @param lKnownVersion - version of the configuration known to the caller or
+    *                        ConfigurationPublisher.NO_VERSION if the caller
+    *                        doesn't know any version
+    * @return ConfigurationDelta - changes that need to be applied, full
+    *                              snapshot if the known version cannot be
+    *                              updated using changes or null if the known
+    *                              version is the latest version
+    * @throws OSSException - an error has occurred
+    */
+   ConfigurationDelta fetchChanges(
+      long lKnownVersion
+   ) throws OSSException;
+}
@@ -6,13 +6,25 @@
 
 package org.opensubsystems.pattern.parameter.util;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import org.opensubsystems.core.data.DataDescriptor;
+import org.opensubsystems.core.data.DataObject;
+import org.opensubsystems.core.error.OSSConfigException;
 import org.opensubsystems.core.error.OSSException;
 import org.opensubsystems.core.util.Log;
 import org.opensubsystems.core.util.StringUtils;
 import org.opensubsystems.pattern.parameter.data.Configuration;
 import org.opensubsystems.pattern.parameter.data.Parameter;
+import org.opensubsystems.pattern.parameter.data.ParametrizedContext;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+import org.opensubsystems.pattern.parameter.data.impl.ParameterImpl;
 
 /**
  * Utility methods for working with configuration objects.
@@ -21,6 +33,16 @@ import org.opensubsystems.pattern.parameter.data.Parameter;
  */
 public class ConfigurationUtils
 {
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Key under which the resolved parameters are stored in the cache of the 
+    * ParametrizedContext. The cache stores map of resolved parameters for 
+    * each configuration keyed by the identity of the configuration.
+    */
+   public static final String RESOLVED_PARAMETERS_CACHE 
+                                 = "ConfigurationUtils.resolvedParameters";
+
    // Cached values ////////////////////////////////////////////////////////////
 
    /**
@@ -339,4 +361,366 @@ public class ConfigurationUtils
       
       return strValue;
    }
+
+   /**
+    * Get value of the specified parameter as an Integer. The resolved and 
+    * converted value is remembered in the cache of the context so that 
+    * subsequent requests don't have to resolve variables or parse the value.
+    * 
+    * @param config - configurable object holding the parameters
+    * @param context - context whose cache stores the resolved values
+    * @param strName - name of the configuration parameter to get value for. 
+    * @return Integer - value or null if it is not defined or it is not an Integer
+    * @throws OSSException - an error has occurred
+    */
+   public static Integer getCachedParamAsInt(
+      Configuration       config,
+      ParametrizedContext context,
+      String              strName
+   ) throws OSSException
+   {
+      ResolvedParameter temp;
+      Integer           iValue = null;
+      
+      temp = getResolvedParam(config, context, strName);
+      if (temp != null)
+      {
+         iValue = temp.getValueAsInt();
+         if (iValue == null)
+         {
+            s_logger.log(Level.SEVERE, "Cannot parse property {0} with value {1}", 
+                         new Object[]{strName, StringUtils.valueIfNotNull(temp.getValue())});
+         }
+      }
+      
+      return iValue;
+   }
+
+   /**
+    * Get value of the specified parameter as a Long. The resolved and 
+    * converted value is remembered in the cache of the context so that 
+    * subsequent requests don't have to resolve variables or parse the value.
+    * 
+    * @param config - configurable object holding the parameters
+    * @param context - context whose cache stores the resolved values
+    * @param strName - name of the configuration parameter to get value for. 
+    * @return Long - value or null if it is not defined or it is not a Long
+    * @throws OSSException - an error has occurred
+    */
+   public static Long getCachedParamAsLong(
+      Configuration       config,
+      ParametrizedContext context,
+      String              strName
+   ) throws OSSException
+   {
+      ResolvedParameter temp;
+      Long              lValue = null;
+      
+      temp = getResolvedParam(config, context, strName);
+      if (temp != null)
+      {
+         lValue = temp.getValueAsLong();
+         if (lValue == null)
+         {
+            s_logger.log(Level.SEVERE, "Cannot parse property {0} with value {1}", 
+                         new Object[]{strName, StringUtils.valueIfNotNull(temp.getValue())});
+         }
+      }
+      
+      return lValue;
+   }
+
+   /**
+    * Get value of the specified parameter as a Boolean. The resolved and 
+    * converted value is remembered in the cache of the context so that 
+    * subsequent requests don't have to resolve variables or parse the value.
+    * 
+    * @param config - configurable object holding the parameters
+    * @param context - context whose cache stores the resolved values
+    * @param strName - name of the configuration parameter to get value for. 
+    * @return Boolean - value or null if it is not defined
+    * @throws OSSException - an error has occurred
+    */
+   public static Boolean getCachedParamAsBoolean(
+      Configuration       config,
+      ParametrizedContext context,
+      String              strName
+   ) throws OSSException
+   {
+      ResolvedParameter temp;
+      Boolean           bValue = null;
+      
+      temp = getResolvedParam(config, context, strName);
+      if (temp != null)
+      {
+         bValue = temp.getValueAsBoolean();
+      }
+      
+      return bValue;
+   }
+
+   /**
+    * Get value of the specified parameter as a String. The resolved value is 
+    * remembered in the cache of the context so that subsequent requests don't
+    * have to resolve variables.
+    * 
+    * @param config - configurable object holding the parameters
+    * @param context - context whose cache stores the resolved values
+    * @param strName - name of the configuration parameter to get value for. 
+    * @return String - value or null if it is not defined
+    * @throws OSSException - an error has occurred
+    */
+   public static String getCachedParamAsString(
+      Configuration       config,
+      ParametrizedContext context,
+      String              strName
+   ) throws OSSException
+   {
+      ResolvedParameter temp;
+      String            strValue = null;
+      
+      temp = getResolvedParam(config, context, strName);
+      if (temp != null)
+      {
+         strValue = temp.getValue();
+      }
+      
+      return strValue;
+   }
+
+   /**
+    * Get the specified parameter with resolved variables from the cache of 
+    * the context. If it is not cached yet, it is resolved using the 
+    * configuration and stored in the cache. Parameters which are not defined 
+    * are not cached. Parameters resolved using different configurations are 
+    * cached separately, so that configuration replaced by its newer version 
+    * doesn't need to be removed from the cache to be resolved correctly.
+    * 
+    * @param config - configurable object holding the parameters
+    * @param context - context whose cache stores the resolved values
+    * @param strName - name of the configuration parameter to get value for. 
+    * @return ResolvedParameter - resolved parameter or null if it is not 
+    *                             defined
+    * @throws OSSException - an error has occurred
+    */
+   public static ResolvedParameter getResolvedParam(
+      Configuration       config,
+      ParametrizedContext context,
+      String              strName
+   ) throws OSSException
+   {
+      return resolveParam(config, 
+                          getResolvedParams(context.getCache(), config), 
+                          strName);
+   }
+
+   /**
+    * Get the specified parameter with resolved variables from the map of 
+    * resolved parameters. If it is not present yet, it is resolved using the 
+    * configuration and stored in the map. Parameters which are not defined 
+    * are not stored.
+    * 
+    * @param config - configurable object holding the parameters
+    * @param mpResolved - parameters resolved using the same configuration 
+    *                     keyed by name
+    * @param strName - name of the configuration parameter to get value for. 
+    * @return ResolvedParameter - resolved parameter or null if it is not 
+    *                             defined
+    * @throws OSSException - an error has occurred
+    */
+   public static ResolvedParameter resolveParam(
+      Configuration                            config,
+      ConcurrentMap<String, ResolvedParameter> mpResolved,
+      String                                   strName
+   ) throws OSSException
+   {
+      ResolvedParameter resolved;
+      
+      resolved = mpResolved.get(strName);
+      if (resolved == null)
+      {
+         Parameter<?> temp;
+         
+         temp = config.getParam(strName);
+         if (temp != null)
+         {
+            ResolvedParameter existing;
+            Object            value;
+            
+            value = temp.getValue();
+            resolved = new ResolvedParameter((value == null) 
+                                             ? null : value.toString());
+            existing = mpResolved.putIfAbsent(strName, resolved);
+            if (existing != null)
+            {
+               resolved = existing;
+            }
+         }
+      }
+      
+      return resolved;
+   }
+
+   /**
+    * Get map of parameters resolved using the specified configuration stored
+    * in the specified cache. If the cache doesn't contain one yet, it is 
+    * created. The cache itself doesn't have to be thread safe since access to
+    * it is synchronized. 
+    * 
+    * @param mpCache - cache of the ParametrizedContext
+    * @param config - configuration used to resolve the parameters
+    * @return ConcurrentMap<String, ResolvedParameter> - resolved parameters
+    *                                                    keyed by name
+    */
+   public static ConcurrentMap<String, ResolvedParameter> getResolvedParams(
+      Map<String, Object> mpCache,
+      Configuration       config
+   )
+   {
+      Map<Configuration, ConcurrentMap<String, ResolvedParameter>> mpByConfig;
+      ConcurrentMap<String, ResolvedParameter>                      mpResolved;
+      
+      synchronized (mpCache)
+      {
+         mpByConfig = getResolvedParamsByConfig(mpCache);
+         mpResolved = mpByConfig.get(config);
+         if (mpResolved == null)
+         {
+            mpResolved = new ConcurrentHashMap<>();
+            mpByConfig.put(config, mpResolved);
+         }
+      }
+      
+      return mpResolved;
+   }
+
+   /**
+    * Remove all resolved parameters from the cache of the context. This has 
+    * to be called when the configuration is modified.
+    * 
+    * @param context - context whose cache stores the resolved values
+    */
+   public static void clearResolvedParams(
+      ParametrizedContext context
+   )
+   {
+      Map<String, Object> mpCache = context.getCache();
+      
+      synchronized (mpCache)
+      {
+         mpCache.remove(RESOLVED_PARAMETERS_CACHE);
+      }
+   }
+
+   /**
+    * Remove parameters resolved using the specified configuration from 
+    * the cache of the context. This has to be called when the configuration 
+    * is modified or when it is not used anymore.
+    * 
+    * @param context - context whose cache stores the resolved values
+    * @param config - configuration used to resolve the parameters
+    */
+   public static void clearResolvedParams(
+      ParametrizedContext context,
+      Configuration       config
+   )
+   {
+      Map<String, Object> mpCache = context.getCache();
+      
+      synchronized (mpCache)
+      {
+         getResolvedParamsByConfig(mpCache).remove(config);
+      }
+   }
+
+   /**
+    * Add values to parameter of configuration. If the parameter doesn't have
+    * any value yet, it is created with the specified list as its values, 
+    * otherwise it is replaced by a new parameter with the specified values
+    * appended to the already existing values. The parameter is always added
+    * using addParam so that the values are added also to configurations, 
+    * which do not keep their parameters in the map returned by 
+    * getParametersByName. Readers of configuration should collect all values 
+    * of a parameter and add them at once since each call copies the already 
+    * existing values.
+    * 
+    * @param config - configuration to add the values to
+    * @param strName - name of the parameter
+    * @param lstValues - values of the parameter, the list is used by the newly
+    *                    created parameter and therefore it must not be 
+    *                    modified afterwards
+    * @throws OSSConfigException - an error has occurred
+    */
+   public static void addValues(
+      ConfigurationImpl config,
+      String            strName,
+      List<String>      lstValues
+   ) throws OSSConfigException
+   {
+      List<String> lstAllValues = lstValues;
+      
+      try
+      {
+         if (config.hasParam(strName))
+         {
+            Parameter<?> param;
+            List<?>      lstExistingValues;
+            
+            param = config.getParamWithoutVariableResolution(strName);
+            lstExistingValues = param.getValues();
+            lstAllValues = new ArrayList<>(lstExistingValues.size() 
+                                           + lstValues.size());
+            for (Object value : lstExistingValues)
+            {
+               lstAllValues.add((value == null) ? null : value.toString());
+            }
+            lstAllValues.addAll(lstValues);
+            // Remove the parameter first since addParam warns about replaced
+            // parameters and here the replacement is expected
+            config.removeParam(strName);
+         }
+         config.addParam(new ParameterImpl<String>(
+                            DataDescriptor.NO_DATA_DESCRIPTOR_CLASS, 
+                            DataObject.NEW_ID, strName, null, lstAllValues));
+      }
+      catch (OSSException exc)
+      {
+         throw new OSSConfigException("Cannot create parameter " + strName, 
+                                      exc);
+      }
+   }
+   
+   // Helper methods ///////////////////////////////////////////////////////////
+   
+   /**
+    * Get maps of resolved parameters stored in the specified cache keyed by 
+    * the identity of configuration used to resolve them. If the cache doesn't
+    * contain one yet, it is created. The caller has to synchronize on the 
+    * cache.
+    * 
+    * @param mpCache - cache of the ParametrizedContext
+    * @return Map<Configuration, ConcurrentMap<String, ResolvedParameter>> 
+    *         - resolved parameters for each configuration
+    */
+   @SuppressWarnings("unchecked")
+   private static Map<Configuration, ConcurrentMap<String, ResolvedParameter>> 
+      getResolvedParamsByConfig(
+      Map<String, Object> mpCache
+   )
+   {
+      Map<Configuration, ConcurrentMap<String, ResolvedParameter>> mpByConfig;
+      
+      mpByConfig 
+         = (Map<Configuration, ConcurrentMap<String, ResolvedParameter>>)
+              mpCache.get(RESOLVED_PARAMETERS_CACHE);
+      if (mpByConfig == null)
+      {
+         // Configurations define equals based on their content, but resolved
+         // values are valid only for the same instance
+         mpByConfig = new IdentityHashMap<>();
+         mpCache.put(RESOLVED_PARAMETERS_CACHE, mpByConfig);
+      }
+      
+      return mpByConfig;
+   }
 }
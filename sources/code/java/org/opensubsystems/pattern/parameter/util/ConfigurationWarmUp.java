@@ -0,0 +1,494 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.util.Log;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.parameter.data.ParametrizedContext;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+
+/**
+ * Warm-up of configuration parameters which resolves variables and converts 
+ * values of frequently used parameters before the first request needs them, 
+ * so that the first requests after start don't pay for it all at once. The 
+ * parameters to warm up are specified as names, as prefixes of names or as 
+ * a profile recorded by ConfigurationStatistics during a previous run.
+ *
+ * The resolved parameters are stored in the same map used by the cached 
+ * getters of ConfigurationUtils, so they are immediately available to them. 
+ * The warm-up can run in the calling thread, in a background thread or using 
+ * an executor and the service can wait until it is finished before it 
+ * reports it is ready.
+ *
+ * The profile file contains one parameter name per line. Lines starting with
+ * # are ignored and names ending with * are treated as prefixes.
+ *
+ * @author OpenSubsystems
+ */
+public class ConfigurationWarmUp extends OSSObject
+                                 implements Runnable
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Character marking comment in the profile file.
+    */
+   public static final String PROFILE_COMMENT = "#";
+
+   /**
+    * Character marking prefix in the profile file.
+    */
+   public static final String PROFILE_PREFIX_WILDCARD = "*";
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Configuration whose parameters are warmed up.
+    */
+   protected ConfigurationImpl m_config;
+
+   /**
+    * Map where the resolved parameters are stored.
+    */
+   protected ConcurrentMap<String, ResolvedParameter> m_mpResolved;
+
+   /**
+    * Names of parameters to warm up.
+    */
+   protected Set<String> m_setKeys;
+
+   /**
+    * Prefixes of names of parameters to warm up.
+    */
+   protected Set<String> m_setPrefixes;
+
+   /**
+    * Flag set by the first thread which starts the warm-up.
+    */
+   protected AtomicBoolean m_bStarted;
+
+   /**
+    * Latch released when the warm-up is finished.
+    */
+   protected CountDownLatch m_latchReady;
+
+   /**
+    * Number of parameters which were warmed up.
+    */
+   protected volatile int m_iWarmedCount;
+
+   /**
+    * Number of parameters which couldn't be warmed up.
+    */
+   protected volatile int m_iFailedCount;
+
+   /**
+    * Duration of the warm-up in milliseconds.
+    */
+   protected volatile long m_lDuration;
+
+   // Cached values ////////////////////////////////////////////////////////////
+
+   /**
+    * Commons logger variable used to log runtime information.
+    */
+   private static Logger s_logger = Log.getInstance(ConfigurationWarmUp.class);
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor warming up parameters into the cache of the context.
+    *
+    * @param config - configuration whose parameters are warmed up
+    * @param context - context whose cache stores the resolved values
+    */
+   public ConfigurationWarmUp(
+      ConfigurationImpl   config,
+      ParametrizedContext context
+   )
+   {
+      this(config, ConfigurationUtils.getResolvedParams(context.getCache(),
+                                                        config));
+   }
+
+   /**
+    * Constructor.
+    *
+    * @param config - configuration whose parameters are warmed up
+    * @param mpResolved - map where the resolved parameters are stored
+    */
+   public ConfigurationWarmUp(
+      ConfigurationImpl                        config,
+      ConcurrentMap<String, ResolvedParameter> mpResolved
+   )
+   {
+      super();
+
+      m_config = config;
+      m_mpResolved = mpResolved;
+      m_setKeys = new LinkedHashSet<>();
+      m_setPrefixes = new LinkedHashSet<>();
+      m_bStarted = new AtomicBoolean(false);
+      m_latchReady = new CountDownLatch(1);
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ConfigurationWarmUp[");
+      append(sb, ind + 1, "m_setKeys = ", m_setKeys);
+      append(sb, ind + 1, "m_setPrefixes = ", m_setPrefixes);
+      append(sb, ind + 1, "m_iWarmedCount = ", m_iWarmedCount);
+      append(sb, ind + 1, "m_iFailedCount = ", m_iFailedCount);
+      append(sb, ind + 1, "m_lDuration = ", m_lDuration);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * Add name of parameter to warm up. Names ending with * are treated as 
+    * prefixes.
+    *
+    * @param strName - name of the parameter
+    */
+   public synchronized void addKey(
+      String strName
+   )
+   {
+      if (strName.endsWith(PROFILE_PREFIX_WILDCARD))
+      {
+         m_setPrefixes.add(strName.substring(0, strName.length() - 1));
+      }
+      else
+      {
+         m_setKeys.add(strName);
+      }
+   }
+
+   /**
+    * Add names of parameters to warm up, for example a profile loaded using
+    * loadProfile or created using createProfile.
+    *
+    * @param colNames - names of the parameters
+    */
+   public synchronized void addKeys(
+      Collection<String> colNames
+   )
+   {
+      for (String strName : colNames)
+      {
+         addKey(strName);
+      }
+   }
+
+   /**
+    * Add prefix of names of parameters to warm up. All parameters and default
+    * values whose name starts with the prefix will be warmed up.
+    *
+    * @param strPrefix - prefix of the names
+    */
+   public synchronized void addPrefix(
+      String strPrefix
+   )
+   {
+      m_setPrefixes.add(strPrefix);
+   }
+
+   /**
+    * Start the warm-up in a new background daemon thread.
+    */
+   public void start(
+   )
+   {
+      Thread thread;
+
+      thread = new Thread(this, "ConfigurationWarmUp");
+      thread.setDaemon(true);
+      thread.start();
+   }
+
+   /**
+    * Start the warm-up using the specified executor.
+    *
+    * @param executor - executor which will perform the warm-up
+    */
+   public void start(
+      Executor executor
+   )
+   {
+      executor.execute(this);
+   }
+
+   /**
+    * Perform the warm-up in the calling thread. The warm-up is performed only
+    * once, subsequent calls don't do anything.
+    */
+   @Override
+   public void run(
+   )
+   {
+      if (m_bStarted.compareAndSet(false, true))
+      {
+         long lStart = System.currentTimeMillis();
+         int  iWarmed = 0;
+         int  iFailed = 0;
+
+         try
+         {
+            for (String strName : getNames())
+            {
+               try
+               {
+                  ResolvedParameter resolved;
+
+                  resolved = ConfigurationUtils.resolveParam(m_config, 
+                                                             m_mpResolved, 
+                                                             strName);
+                  if (resolved != null)
+                  {
+                     resolved.convertAll();
+                     iWarmed++;
+                  }
+               }
+               catch (OSSException | RuntimeException exc)
+               {
+                  // The parameter will be resolved when it is requested and 
+                  // the error will be reported to the caller then
+                  s_logger.log(Level.FINE, "Cannot warm up parameter " 
+                               + strName, exc);
+                  iFailed++;
+               }
+            }
+         }
+         finally
+         {
+            m_iWarmedCount = iWarmed;
+            m_iFailedCount = iFailed;
+            m_lDuration = System.currentTimeMillis() - lStart;
+            m_latchReady.countDown();
+         }
+         s_logger.log(Level.FINE, "Warmed up {0} configuration parameters in"
+                      + " {1} ms, {2} parameters failed", 
+                      new Object[]{iWarmed, m_lDuration, iFailed});
+      }
+   }
+
+   /**
+    * Wait until the warm-up is finished.
+    *
+    * @param lTimeout - maximal time to wait
+    * @param unit - unit of the timeout
+    * @return boolean - true if the warm-up is finished, false if the timeout
+    *                   elapsed before that
+    * @throws InterruptedException - the thread was interrupted while waiting
+    */
+   public boolean awaitReady(
+      long     lTimeout,
+      TimeUnit unit
+   ) throws InterruptedException
+   {
+      return m_latchReady.await(lTimeout, unit);
+   }
+
+   /**
+    * @return boolean - true if the warm-up is finished
+    */
+   public boolean isReady(
+   )
+   {
+      return m_latchReady.getCount() == 0;
+   }
+
+   /**
+    * @return int - number of parameters which were warmed up
+    */
+   public int getWarmedCount(
+   )
+   {
+      return m_iWarmedCount;
+   }
+
+   /**
+    * @return int - number of parameters which couldn't be warmed up
+    */
+   public int getFailedCount(
+   )
+   {
+      return m_iFailedCount;
+   }
+
+   /**
+    * @return long - duration of the warm-up in milliseconds
+    */
+   public long getDuration(
+   )
+   {
+      return m_lDuration;
+   }
+
+   /**
+    * Create profile from the most frequently read parameters recorded by the 
+    * statistics.
+    *
+    * @param statistics - statistics recorded during a previous run
+    * @param iCount - maximal number of parameters in the profile
+    * @return List<String> - names of the most frequently read parameters
+    */
+   public static List<String> createProfile(
+      ConfigurationStatistics statistics,
+      int                     iCount
+   )
+   {
+      return statistics.getHotKeys(iCount);
+   }
+
+   /**
+    * Save profile to the specified file so that it can be used to warm up
+    * the configuration during the next start.
+    *
+    * @param file - file to save the profile to
+    * @param colNames - names and prefixes of parameters to save
+    * @throws IOException - an error has occurred while writing the file
+    */
+   public static void saveProfile(
+      File               file,
+      Collection<String> colNames
+   ) throws IOException
+   {
+      try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                                      new FileOutputStream(file), 
+                                      StandardCharsets.UTF_8)))
+      {
+         for (String strName : colNames)
+         {
+            writer.write(strName);
+            writer.newLine();
+         }
+      }
+   }
+
+   /**
+    * Load profile from the specified file.
+    *
+    * @param file - file to load the profile from
+    * @return List<String> - names and prefixes of parameters in the profile
+    * @throws IOException - an error has occurred while reading the file
+    */
+   public static List<String> loadProfile(
+      File file
+   ) throws IOException
+   {
+      List<String> lstNames = new ArrayList<>();
+
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                                      new FileInputStream(file), 
+                                      StandardCharsets.UTF_8)))
+      {
+         String strLine;
+
+         while ((strLine = reader.readLine()) != null)
+         {
+            strLine = strLine.trim();
+            if ((!strLine.isEmpty()) && (!strLine.startsWith(PROFILE_COMMENT)))
+            {
+               lstNames.add(strLine);
+            }
+         }
+      }
+
+      return lstNames;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Get names of all parameters to warm up, including parameters and default
+    * values matching any of the prefixes.
+    *
+    * @return Set<String> - names of parameters to warm up
+    */
+   protected synchronized Set<String> getNames(
+   )
+   {
+      Set<String> setNames = new LinkedHashSet<>(m_setKeys);
+
+      if (!m_setPrefixes.isEmpty())
+      {
+         addMatching(setNames, m_config.getParametersByName().keySet());
+         addMatching(setNames, m_config.getDefaultValuesByName().keySet());
+      }
+
+      return setNames;
+   }
+
+   /**
+    * Add names which match any of the prefixes.
+    *
+    * @param setNames - set to add the matching names to
+    * @param colCandidates - names to test
+    */
+   protected void addMatching(
+      Set<String>        setNames,
+      Collection<String> colCandidates
+   )
+   {
+      for (String strCandidate : colCandidates)
+      {
+         for (String strPrefix : m_setPrefixes)
+         {
+            if (strCandidate.startsWith(strPrefix))
+            {
+               setNames.add(strCandidate);
+               break;
+            }
+         }
+      }
+   }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream counting number of bytes read from the underlying stream.
+ *
+ * @author OpenSubsystems
+ */
+public class CountingInputStream extends FilterInputStream
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Number of bytes read or skipped so far.
+    */
+   protected long m_lCount;
+
+   /**
+    * Position at which the stream was marked.
+    */
+   protected long m_lMark;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param input - stream from which to read
+    */
+   public CountingInputStream(
+      InputStream input
+   )
+   {
+      super(input);
+
+      m_lCount = 0;
+      m_lMark = -1;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * @return long - number of bytes read or skipped so far
+    */
+   public long getCount(
+   )
+   {
+      return m_lCount;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int read(
+   ) throws IOException
+   {
+      int iByte = super.read();
+
+      if (iByte != -1)
+      {
+         m_lCount++;
+      }
+
+      return iByte;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int read(
+      byte[] arrBuffer,
+      int    iOffset,
+      int    iLength
+   ) throws IOException
+   {
+      int iRead = super.read(arrBuffer, iOffset, iLength);
+
+      if (iRead != -1)
+      {
+         m_lCount += iRead;
+      }
+
+      return iRead;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public long skip(
+      long lCount
+   ) throws IOException
+   {
+      long lSkipped = super.skip(lCount);
+
+      m_lCount += lSkipped;
+
+      return lSkipped;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public synchronized void mark(
+      int iReadLimit
+   )
+   {
+      super.mark(iReadLimit);
+      m_lMark = m_lCount;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public synchronized void reset(
+   ) throws IOException
+   {
+      super.reset();
+      if (m_lMark != -1)
+      {
+         m_lCount = m_lMark;
+      }
+   }
+}
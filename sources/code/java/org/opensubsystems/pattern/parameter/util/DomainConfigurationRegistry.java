@@ -0,0 +1,367 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.parameter.data.Configuration;
+import org.opensubsystems.pattern.parameter.data.Parameter;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+import org.opensubsystems.pattern.parameter.data.impl.DomainConfigurationImpl;
+
+/**
+ * Registry of configurations of multiple domains (tenants). Values shared by
+ * all domains are stored only once in the base configuration and each domain
+ * stores only parameters which are different from the base configuration.
+ * Domains without any specific parameters don't occupy any memory at all.
+ *
+ * Reads don't acquire any locks. Modifications of the domain specific
+ * parameters are serialized per group of domains using striped locks, so
+ * that independent domains can be modified concurrently. The base
+ * configuration is expected not to be modified once the registry is created.
+ *
+ * @author OpenSubsystems
+ */
+public class DomainConfigurationRegistry extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Default number of locks used to serialize modifications.
+    */
+   public static final int DEFAULT_LOCK_STRIPES = 16;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Configuration shared by all domains.
+    */
+   protected ConfigurationImpl m_base;
+
+   /**
+    * Configurations of domains with at least one specific parameter keyed by
+    * the domain id.
+    */
+   protected ConcurrentMap<Long, DomainConfigurationImpl> m_mpDomains;
+
+   /**
+    * Locks used to serialize modifications of domains. Domain is assigned the
+    * lock based on its id.
+    */
+   protected ReentrantLock[] m_arrLocks;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param base - configuration shared by all domains
+    */
+   public DomainConfigurationRegistry(
+      ConfigurationImpl base
+   )
+   {
+      this(base, DEFAULT_LOCK_STRIPES);
+   }
+
+   /**
+    * Constructor.
+    *
+    * @param base - configuration shared by all domains
+    * @param iLockStripes - number of locks used to serialize modifications
+    */
+   public DomainConfigurationRegistry(
+      ConfigurationImpl base,
+      int               iLockStripes
+   )
+   {
+      super();
+
+      m_base = base;
+      m_mpDomains = new ConcurrentHashMap<>(16, 0.75f, iLockStripes);
+      m_arrLocks = new ReentrantLock[iLockStripes];
+      for (int iIndex = 0; iIndex < iLockStripes; iIndex++)
+      {
+         m_arrLocks[iIndex] = new ReentrantLock();
+      }
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "DomainConfigurationRegistry[");
+      append(sb, ind + 1, "m_base = ", m_base);
+      append(sb, ind + 1, "m_mpDomains = ", m_mpDomains);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return ConfigurationImpl - configuration shared by all domains
+    */
+   public ConfigurationImpl getBaseConfiguration()
+   {
+      return m_base;
+   }
+
+   /**
+    * Get value of the specified parameter for the specified domain. The
+    * variables are resolved within the context of the domain.
+    *
+    * @param lDomainId - domain for which to get the parameter
+    * @param strName - name of the parameter
+    * @return Parameter - value or null if it is not defined and it doesn't have
+    *                     a default value
+    * @throws OSSException - an error has occurred
+    */
+   public Parameter getParam(
+      long   lDomainId,
+      String strName
+   ) throws OSSException
+   {
+      Configuration config;
+
+      config = m_mpDomains.get(lDomainId);
+      if (config == null)
+      {
+         config = m_base;
+      }
+
+      return config.getParam(strName);
+   }
+
+   /**
+    * Get configuration of the specified domain. If the domain doesn't have any
+    * specific parameters, the base configuration is returned.
+    *
+    * @param lDomainId - domain for which to get the configuration
+    * @return Configuration - configuration of the domain
+    */
+   public Configuration getConfiguration(
+      long lDomainId
+   )
+   {
+      Configuration config;
+
+      config = m_mpDomains.get(lDomainId);
+      if (config == null)
+      {
+         config = m_base;
+      }
+
+      return config;
+   }
+
+   /**
+    * Set parameter specific for the domain. If the parameter has the same
+    * values as in the base configuration, the domain specific parameter is
+    * removed instead so that the shared value is used.
+    *
+    * @param lDomainId - domain for which to set the parameter
+    * @param param - parameter to set
+    * @throws OSSException - an error has occurred
+    */
+   public void setParam(
+      long      lDomainId,
+      Parameter param
+   ) throws OSSException
+   {
+      ReentrantLock lock = getLock(lDomainId);
+      Parameter     baseParam;
+
+      baseParam = m_base.getParamWithoutVariableResolution(param.getName());
+      lock.lock();
+      try
+      {
+         if ((baseParam != null)
+            && (equals(baseParam.getValues(), param.getValues())))
+         {
+            removeParamLocked(lDomainId, param.getName());
+         }
+         else
+         {
+            DomainConfigurationImpl domain = m_mpDomains.get(lDomainId);
+
+            if (domain == null)
+            {
+               domain = new DomainConfigurationImpl(lDomainId, m_base);
+               domain.addParam(param);
+               m_mpDomains.put(lDomainId, domain);
+            }
+            else
+            {
+               domain.addParam(param);
+            }
+         }
+      }
+      finally
+      {
+         lock.unlock();
+      }
+   }
+
+   /**
+    * Remove parameter specific for the domain so that the shared value is used.
+    *
+    * @param lDomainId - domain for which to remove the parameter
+    * @param strName - name of the parameter to remove
+    */
+   public void removeParam(
+      long   lDomainId,
+      String strName
+   )
+   {
+      ReentrantLock lock = getLock(lDomainId);
+
+      lock.lock();
+      try
+      {
+         removeParamLocked(lDomainId, strName);
+      }
+      finally
+      {
+         lock.unlock();
+      }
+   }
+
+   /**
+    * Remove all parameters specific for the domain.
+    *
+    * @param lDomainId - domain to remove
+    */
+   public void removeDomain(
+      long lDomainId
+   )
+   {
+      ReentrantLock lock = getLock(lDomainId);
+
+      lock.lock();
+      try
+      {
+         m_mpDomains.remove(lDomainId);
+      }
+      finally
+      {
+         lock.unlock();
+      }
+   }
+
+   /**
+    * Get ids of domains which have at least one specific parameter.
+    *
+    * @return Set<Long> - read only view of the domain ids
+    */
+   public Set<Long> getDomainIds(
+   )
+   {
+      return Collections.unmodifiableSet(m_mpDomains.keySet());
+   }
+
+   /**
+    * Get total number of domain specific parameters stored in the registry.
+    *
+    * @return int
+    */
+   public int getOverrideCount(
+   )
+   {
+      int iCount = 0;
+
+      for (DomainConfigurationImpl domain : m_mpDomains.values())
+      {
+         iCount += domain.getOverridesByName().size();
+      }
+
+      return iCount;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Get lock used to serialize modifications of the specified domain.
+    *
+    * @param lDomainId - id of the domain
+    * @return ReentrantLock - lock assigned to the domain
+    */
+   protected ReentrantLock getLock(
+      long lDomainId
+   )
+   {
+      int iHash = (int)(lDomainId ^ (lDomainId >>> 32));
+
+      iHash ^= (iHash >>> 16);
+
+      return m_arrLocks[(iHash & Integer.MAX_VALUE) % m_arrLocks.length];
+   }
+
+   /**
+    * Remove parameter specific for the domain. The caller has to hold the lock
+    * assigned to the domain.
+    *
+    * @param lDomainId - domain for which to remove the parameter
+    * @param strName - name of the parameter to remove
+    */
+   protected void removeParamLocked(
+      long   lDomainId,
+      String strName
+   )
+   {
+      DomainConfigurationImpl domain = m_mpDomains.get(lDomainId);
+
+      if (domain != null)
+      {
+         domain.getOverridesByName().remove(strName);
+         if (domain.getOverridesByName().isEmpty())
+         {
+            m_mpDomains.remove(lDomainId);
+         }
+      }
+   }
+
+   /**
+    * Null safe comparison of two lists of values.
+    *
+    * @param lstFirst - first list to compare, can be null
+    * @param lstSecond - second list to compare, can be null
+    * @return boolean - true if both lists are null or equal
+    */
+   protected static boolean equals(
+      List lstFirst,
+      List lstSecond
+   )
+   {
+      return (lstFirst == null) ? (lstSecond == null)
+                                : lstFirst.equals(lstSecond);
+   }
+}
@@ -0,0 +1,782 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.error.OSSInternalErrorException;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.parameter.data.Configuration;
+import org.opensubsystems.pattern.parameter.data.Parameter;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+
+/**
+ * Configuration collecting statistics about access to another configuration.
+ * It counts how many times each parameter was requested and whether the 
+ * request was satisfied by explicitly defined parameter, by default value or
+ * whether the parameter wasn't found at all. Latency of the requests and 
+ * whether the request was satisfied by defined parameter or by default value
+ * is determined only for a sample of requests to keep the overhead low, so 
+ * the number of hits and defaults is an estimate. Counters 
+ * are striped so that threads reading configuration concurrently don't 
+ * contend for the same memory. Requests are counted individually for at most
+ * MAX_KEYS distinct parameters so that requests for arbitrary names cannot
+ * exhaust the memory, requests for other parameters are counted only in the
+ * totals.
+ *
+ * The statistics can be accessed using getStatistics or through JMX once the
+ * configuration is registered with the platform MBean server. The most
+ * frequently requested parameters are good candidates to be read once and 
+ * kept in a field rather than looked up repeatedly.
+ *
+ * @author OpenSubsystems
+ */
+public class InstrumentedConfiguration extends OSSObject
+                                       implements Configuration, 
+                                                  InstrumentedConfigurationMBean
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Default number of requests per one measured latency.
+    */
+   public static final int DEFAULT_SAMPLE_RATE = 64;
+
+   /**
+    * Number of stripes of counters of individual parameters. Individual 
+    * parameters are contended less than totals so they use fewer stripes to
+    * save memory.
+    */
+   protected static final int KEY_STRIPES = 2;
+
+   /**
+    * Maximal number of distinct parameters for which the requests are counted
+    * individually.
+    */
+   public static final int MAX_KEYS = 4096;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Configuration to which all requests are delegated.
+    */
+   protected Configuration m_delegate;
+
+   /**
+    * Number of requests for each parameter keyed by the parameter name. It 
+    * contains at most about MAX_KEYS parameters.
+    */
+   protected ConcurrentMap<String, StripedCounter> m_mpKeyReads;
+
+   /**
+    * Number of requests for parameters.
+    */
+   protected StripedCounter m_reads;
+
+   /**
+    * Number of requests for parameters explicitly defined in configuration.
+    */
+   protected StripedCounter m_hits;
+
+   /**
+    * Number of requests satisfied using default value.
+    */
+   protected StripedCounter m_defaults;
+
+   /**
+    * Number of requests for parameters which were not found.
+    */
+   protected StripedCounter m_misses;
+
+   /**
+    * Sampled latencies of requests resolving variables.
+    */
+   protected LatencyHistogram m_resolutionLatencies;
+
+   /**
+    * Sampled latencies of requests not resolving variables.
+    */
+   protected LatencyHistogram m_lookupLatencies;
+
+   /**
+    * Sampled latencies of requests replacing variables in values.
+    */
+   protected LatencyHistogram m_replacementLatencies;
+
+   /**
+    * Every how many requests the latency is measured, 0 if never.
+    */
+   protected volatile int m_iSampleRate;
+
+   /**
+    * Name under which this configuration is registered with MBean server or 
+    * null if it is not registered.
+    */
+   protected ObjectName m_objectName;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param delegate - configuration to which all requests are delegated
+    */
+   public InstrumentedConfiguration(
+      Configuration delegate
+   )
+   {
+      this(delegate, DEFAULT_SAMPLE_RATE);
+   }
+
+   /**
+    * Constructor.
+    *
+    * @param delegate - configuration to which all requests are delegated
+    * @param iSampleRate - every how many requests the latency is measured and
+    *                      the request is classified, 0 disables both
+    */
+   public InstrumentedConfiguration(
+      Configuration delegate,
+      int           iSampleRate
+   )
+   {
+      super();
+
+      m_delegate = delegate;
+      m_iSampleRate = iSampleRate;
+      m_mpKeyReads = new ConcurrentHashMap<>();
+      m_reads = new StripedCounter();
+      m_hits = new StripedCounter();
+      m_defaults = new StripedCounter();
+      m_misses = new StripedCounter();
+      m_resolutionLatencies = new LatencyHistogram();
+      m_lookupLatencies = new LatencyHistogram();
+      m_replacementLatencies = new LatencyHistogram();
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "InstrumentedConfiguration[");
+      append(sb, ind + 1, "m_delegate = ", m_delegate);
+      append(sb, ind + 1, "m_reads = ", m_reads);
+      append(sb, ind + 1, "m_iSampleRate = ", m_iSampleRate);
+      append(sb, ind + 1, "m_objectName = ", m_objectName);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return Configuration - configuration to which all requests are delegated
+    */
+   public Configuration getDelegate()
+   {
+      return m_delegate;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public Map<String, Parameter> getParametersByName()
+   {
+      return m_delegate.getParametersByName();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public Collection<Parameter> getParameters()
+   {
+      return m_delegate.getParameters();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void addParam(
+      Parameter param
+   )
+   {
+      m_delegate.addParam(param);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void addDefault(
+      String strParamName,
+      String strDefaultValue
+   )
+   {
+      m_delegate.addDefault(strParamName, strDefaultValue);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public Parameter getParam(
+      String strName
+   ) throws OSSException
+   {
+      Parameter param;
+      int       iWeight = getSampleWeight();
+
+      if (iWeight > 0)
+      {
+         long lStart = System.nanoTime();
+
+         param = m_delegate.getParam(strName);
+         m_resolutionLatencies.record(System.nanoTime() - lStart);
+      }
+      else
+      {
+         param = m_delegate.getParam(strName);
+      }
+      record(strName, null, param, iWeight);
+
+      return param;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public Parameter getParam(
+      String strConfigPrefix,
+      String strName
+   ) throws OSSException
+   {
+      Parameter param;
+      int       iWeight = getSampleWeight();
+
+      if (iWeight > 0)
+      {
+         long lStart = System.nanoTime();
+
+         param = m_delegate.getParam(strConfigPrefix, strName);
+         m_resolutionLatencies.record(System.nanoTime() - lStart);
+      }
+      else
+      {
+         param = m_delegate.getParam(strConfigPrefix, strName);
+      }
+      record(strName, strConfigPrefix, param, iWeight);
+
+      return param;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public Parameter getParamWithoutVariableResolution(
+      String strName
+   ) throws OSSException
+   {
+      Parameter param;
+      int       iWeight = getSampleWeight();
+
+      if (iWeight > 0)
+      {
+         long lStart = System.nanoTime();
+
+         param = m_delegate.getParamWithoutVariableResolution(strName);
+         m_lookupLatencies.record(System.nanoTime() - lStart);
+      }
+      else
+      {
+         param = m_delegate.getParamWithoutVariableResolution(strName);
+      }
+      record(strName, null, param, iWeight);
+
+      return param;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public Parameter getParamWithoutVariableResolution(
+      String strConfigPrefix,
+      String strName
+   ) throws OSSException
+   {
+      Parameter param;
+      int       iWeight = getSampleWeight();
+
+      if (iWeight > 0)
+      {
+         long lStart = System.nanoTime();
+
+         param = m_delegate.getParamWithoutVariableResolution(strConfigPrefix, 
+                                                              strName);
+         m_lookupLatencies.record(System.nanoTime() - lStart);
+      }
+      else
+      {
+         param = m_delegate.getParamWithoutVariableResolution(strConfigPrefix, 
+                                                              strName);
+      }
+      record(strName, strConfigPrefix, param, iWeight);
+
+      return param;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public List<String> replaceVariables(
+      List<String> lstValues
+   ) throws OSSException
+   {
+      List<String> lstReplaced;
+
+      if (getSampleWeight() > 0)
+      {
+         long lStart = System.nanoTime();
+
+         lstReplaced = m_delegate.replaceVariables(lstValues);
+         m_replacementLatencies.record(System.nanoTime() - lStart);
+      }
+      else
+      {
+         lstReplaced = m_delegate.replaceVariables(lstValues);
+      }
+
+      return lstReplaced;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public String replaceVariables(
+      String strValue
+   ) throws OSSException
+   {
+      String strReplaced;
+
+      if (getSampleWeight() > 0)
+      {
+         long lStart = System.nanoTime();
+
+         strReplaced = m_delegate.replaceVariables(strValue);
+         m_replacementLatencies.record(System.nanoTime() - lStart);
+      }
+      else
+      {
+         strReplaced = m_delegate.replaceVariables(strValue);
+      }
+
+      return strReplaced;
+   }
+
+   /**
+    * Get snapshot of the collected statistics.
+    *
+    * @return ConfigurationStatistics - statistics collected so far
+    */
+   public ConfigurationStatistics getStatistics(
+   )
+   {
+      Map<String, Long> mpKeyReads = new HashMap<>(m_mpKeyReads.size() * 2);
+
+      for (Map.Entry<String, StripedCounter> entry : m_mpKeyReads.entrySet())
+      {
+         mpKeyReads.put(entry.getKey(), entry.getValue().sum());
+      }
+
+      return new ConfigurationStatistics(m_reads.sum(), m_hits.sum(), 
+                                         m_defaults.sum(), m_misses.sum(), 
+                                         mpKeyReads, 
+                                         m_resolutionLatencies.getBuckets(),
+                                         m_lookupLatencies.getBuckets(),
+                                         m_replacementLatencies.getBuckets());
+   }
+
+   /**
+    * Register this configuration with the platform MBean server.
+    *
+    * @param strObjectName - name under which to register the configuration, 
+    *                        e.g. org.opensubsystems:type=Configuration
+    * @throws OSSException - an error has occurred
+    */
+   public synchronized void register(
+      String strObjectName
+   ) throws OSSException
+   {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+      try
+      {
+         ObjectName name = new ObjectName(strObjectName);
+
+         server.registerMBean(this, name);
+         m_objectName = name;
+      }
+      catch (JMException exc)
+      {
+         throw new OSSInternalErrorException("Cannot register configuration"
+                                             + " statistics as " 
+                                             + strObjectName, exc);
+      }
+   }
+
+   /**
+    * Unregister this configuration from the platform MBean server if it was
+    * registered.
+    *
+    * @throws OSSException - an error has occurred
+    */
+   public synchronized void unregister(
+   ) throws OSSException
+   {
+      if (m_objectName != null)
+      {
+         try
+         {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(
+               m_objectName);
+            m_objectName = null;
+         }
+         catch (JMException exc)
+         {
+            throw new OSSInternalErrorException("Cannot unregister configuration"
+                                                + " statistics " 
+                                                + m_objectName, exc);
+         }
+      }
+   }
+
+   // InstrumentedConfigurationMBean ///////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public long getReadCount(
+   )
+   {
+      return m_reads.sum();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public long getHitCount(
+   )
+   {
+      return m_hits.sum();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public long getDefaultCount(
+   )
+   {
+      return m_defaults.sum();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public long getMissCount(
+   )
+   {
+      return m_misses.sum();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int getKeyCount(
+   )
+   {
+      return m_mpKeyReads.size();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public int getSampleRate(
+   )
+   {
+      return m_iSampleRate;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void setSampleRate(
+      int iSampleRate
+   )
+   {
+      m_iSampleRate = iSampleRate;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public long getReadCount(
+      String strName
+   )
+   {
+      StripedCounter counter = m_mpKeyReads.get(strName);
+
+      return (counter == null) ? 0 : counter.sum();
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public String[] getHotKeys(
+      int iCount
+   )
+   {
+      ConfigurationStatistics statistics = getStatistics();
+      List<String>            lstKeys = statistics.getHotKeys(iCount);
+      String[]                arrKeys = new String[lstKeys.size()];
+
+      for (int iIndex = 0; iIndex < arrKeys.length; iIndex++)
+      {
+         String strKey = lstKeys.get(iIndex);
+
+         arrKeys[iIndex] = strKey + "=" + statistics.getKeyReads().get(strKey);
+      }
+
+      return arrKeys;
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public long getResolutionLatency(
+      double dPercentile
+   )
+   {
+      return LatencyHistogram.getPercentile(m_resolutionLatencies.getBuckets(), 
+                                            dPercentile);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public long getLookupLatency(
+      double dPercentile
+   )
+   {
+      return LatencyHistogram.getPercentile(m_lookupLatencies.getBuckets(), 
+                                            dPercentile);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public long getReplacementLatency(
+      double dPercentile
+   )
+   {
+      return LatencyHistogram.getPercentile(
+                m_replacementLatencies.getBuckets(), dPercentile);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void reset(
+   )
+   {
+      m_mpKeyReads.clear();
+      m_reads.reset();
+      m_hits.reset();
+      m_defaults.reset();
+      m_misses.reset();
+      m_resolutionLatencies.reset();
+      m_lookupLatencies.reset();
+      m_replacementLatencies.reset();
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Decide if the current request should be sampled, that is if its latency 
+    * should be measured and if it should be classified as a hit or a default.
+    *
+    * @return int - 0 if the request is not sampled, otherwise number of 
+    *               requests represented by the sampled one
+    */
+   protected int getSampleWeight(
+   )
+   {
+      int iSampleRate = m_iSampleRate;
+      int iWeight;
+
+      if ((iSampleRate == 1) 
+         || ((iSampleRate > 1) 
+            && (ThreadLocalRandom.current().nextInt(iSampleRate) == 0)))
+      {
+         iWeight = iSampleRate;
+      }
+      else
+      {
+         iWeight = 0;
+      }
+
+      return iWeight;
+   }
+
+   /**
+    * Record request for parameter.
+    *
+    * @param strName - name of the requested parameter
+    * @param strConfigPrefix - prefix used to request the parameter, can be null
+    * @param param - parameter returned by the delegate, can be null
+    * @param iWeight - number of requests represented by this one if it is 
+    *                  sampled, 0 if it is not sampled
+    * @throws OSSException - an error has occurred
+    */
+   protected void record(
+      String    strName,
+      String    strConfigPrefix,
+      Parameter param,
+      int       iWeight
+   ) throws OSSException
+   {
+      StripedCounter counter;
+
+      m_reads.increment();
+      counter = m_mpKeyReads.get(strName);
+      // The limit can be exceeded by few keys when they are added 
+      // concurrently, which is not worth synchronizing for
+      if ((counter == null) && (m_mpKeyReads.size() < MAX_KEYS))
+      {
+         StripedCounter existing;
+
+         counter = new StripedCounter(KEY_STRIPES);
+         existing = m_mpKeyReads.putIfAbsent(strName, counter);
+         if (existing != null)
+         {
+            counter = existing;
+         }
+      }
+      if (counter != null)
+      {
+         counter.increment();
+      }
+
+      if (param == null)
+      {
+         m_misses.increment();
+      }
+      else if (iWeight > 0)
+      {
+         // Telling hit from default requires another lookup in the delegate
+         // so only sampled requests are classified and each of them is 
+         // counted for all the requests it represents
+         if (((strConfigPrefix != null) 
+               && (isDefined(strConfigPrefix + "." + strName)))
+            || (isDefined(strName)))
+         {
+            m_hits.add(iWeight);
+         }
+         else
+         {
+            m_defaults.add(iWeight);
+         }
+      }
+   }
+
+   /**
+    * Test if the parameter is explicitly defined in the delegate with some
+    * value. Only ConfigurationImpl can tell explicitly defined parameter from
+    * default value, for other delegates parameter with any value is 
+    * considered to be defined.
+    *
+    * @param strName - name of the parameter
+    * @return boolean - true if the parameter is defined
+    * @throws OSSException - an error has occurred
+    */
+   protected boolean isDefined(
+      String strName
+   ) throws OSSException
+   {
+      boolean bDefined;
+
+      if (m_delegate instanceof ConfigurationImpl)
+      {
+         bDefined = ((ConfigurationImpl)m_delegate).hasParam(strName);
+      }
+      else if (m_delegate instanceof InstrumentedConfiguration)
+      {
+         bDefined = ((InstrumentedConfiguration)m_delegate).isDefined(strName);
+      }
+      else
+      {
+         Parameter<?> param;
+         Object       firstValue = null;
+
+         param = m_delegate.getParamWithoutVariableResolution(strName);
+         if (param != null)
+         {
+            firstValue = param.getFirstValue();
+         }
+         bDefined = (firstValue != null) && (!firstValue.toString().isEmpty());
+      }
+
+      return bDefined;
+   }
+}
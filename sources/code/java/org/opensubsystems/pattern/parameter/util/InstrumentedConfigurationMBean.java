@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+/**
+ * Management interface exposing statistics of access to configuration 
+ * collected by InstrumentedConfiguration through JMX.
+ *
+ * @author OpenSubsystems
+ */
+public interface InstrumentedConfigurationMBean
+{
+   /**
+    * @return long - number of requests for parameters
+    */
+   long getReadCount(
+   );
+
+   /**
+    * @return long - estimated number of requests for parameters explicitly 
+    *                defined in configuration
+    */
+   long getHitCount(
+   );
+
+   /**
+    * @return long - estimated number of requests satisfied using default 
+    *                value of the parameter
+    */
+   long getDefaultCount(
+   );
+
+   /**
+    * @return long - number of requests for parameters which were not found
+    */
+   long getMissCount(
+   );
+
+   /**
+    * @return int - number of distinct parameters which were requested
+    */
+   int getKeyCount(
+   );
+
+   /**
+    * @return int - every how many requests the latency is measured and the 
+    *               request is classified
+    */
+   int getSampleRate(
+   );
+
+   /**
+    * @param iSampleRate - every how many requests the latency is measured and
+    *                      the request is classified, 0 disables both
+    */
+   void setSampleRate(
+      int iSampleRate
+   );
+
+   /**
+    * Get number of requests for specified parameter.
+    *
+    * @param strName - name of the parameter
+    * @return long - number of requests for the parameter
+    */
+   long getReadCount(
+      String strName
+   );
+
+   /**
+    * Get the most frequently requested parameters.
+    *
+    * @param iCount - maximal number of parameters to return
+    * @return String[] - parameters ordered from the most frequently requested
+    *                    one in format name=count
+    */
+   String[] getHotKeys(
+      int iCount
+   );
+
+   /**
+    * Get approximate percentile of sampled latencies of requests resolving 
+    * variables.
+    *
+    * @param dPercentile - percentile between 0 and 100
+    * @return long - latency in nanoseconds
+    */
+   long getResolutionLatency(
+      double dPercentile
+   );
+
+   /**
+    * Get approximate percentile of sampled latencies of requests not resolving
+    * variables.
+    *
+    * @param dPercentile - percentile between 0 and 100
+    * @return long - latency in nanoseconds
+    */
+   long getLookupLatency(
+      double dPercentile
+   );
+
+   /**
+    * Get approximate percentile of sampled latencies of requests replacing
+    * variables in values.
+    *
+    * @param dPercentile - percentile between 0 and 100
+    * @return long - latency in nanoseconds
+    */
+   long getReplacementLatency(
+      double dPercentile
+   );
+
+   /**
+    * Reset all collected statistics.
+    */
+   void reset(
+   );
+}
@@ -0,0 +1,663 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import org.opensubsystems.core.data.DataDescriptor;
+import org.opensubsystems.core.data.DataObject;
+import org.opensubsystems.core.error.OSSConfigException;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.util.Log;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+import org.opensubsystems.pattern.parameter.data.impl.ParameterImpl;
+
+/**
+ * Class for reading configuration parameters defined in JSON format. The 
+ * document is parsed in a single pass and the parameters are added directly 
+ * to the configuration without building any tree representing the document.
+ * 
+ * Nested objects are flattened so that name of the parameter is composed of 
+ * names of all enclosing objects separated by dots, e.g. {"db":{"user":"x"}} 
+ * defines parameter db.user. Array of simple values defines parameter with 
+ * multiple values, elements of arrays which are objects or arrays are named
+ * using their index, e.g. {"servers":[{"host":"a"}]} defines parameter 
+ * servers.0.host. Numbers and booleans are used as they are written in the 
+ * document and null defines parameter without any value.
+ * 
+ * @author OpenSubsystems
+ */
+public final class JSONConfig
+{
+   // Constants ////////////////////////////////////////////////////////////////
+   
+   /**
+    * Separator of names of nested objects.
+    */
+   public static final char NAME_SEPARATOR = '.';
+   
+   /**
+    * Pattern matching valid JSON numbers.
+    */
+   private static final Pattern NUMBER_PATTERN = Pattern.compile(
+                                "-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+   
+   // Cached values ////////////////////////////////////////////////////////////
+
+   /**
+    * Commons logger variable used to log runtime information.
+    */
+   private static Logger s_logger = Log.getInstance(JSONConfig.class);
+
+   // Attributes ///////////////////////////////////////////////////////////////
+   
+   /**
+    * Reader from which the document is read.
+    */
+   private Reader m_reader;
+   
+   /**
+    * Configuration where to add the parsed parameters.
+    */
+   private ConfigurationImpl m_config;
+   
+   /**
+    * Name of the value being parsed composed of names of enclosing objects.
+    */
+   private StringBuilder m_sbName;
+   
+   /**
+    * Buffer used to parse strings and literals.
+    */
+   private StringBuilder m_sbValue;
+   
+   /**
+    * Character read ahead or -2 if no character was read ahead.
+    */
+   private int m_iPeeked;
+   
+   /**
+    * Number of characters consumed so far used to report errors.
+    */
+   private long m_lPosition;
+   
+   // Constructors /////////////////////////////////////////////////////////////
+    
+   /** 
+    * Constructor.
+    * 
+    * @param reader - reader from which the document is read
+    * @param config - configuration where to add the parsed parameters
+    */
+   private JSONConfig(
+      Reader            reader,
+      ConfigurationImpl config
+   )
+   {
+      m_reader = reader;
+      m_config = config;
+      m_sbName = new StringBuilder();
+      m_sbValue = new StringBuilder();
+      m_iPeeked = -2;
+      m_lPosition = 0;
+   }
+   
+   // Public methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Read configuration from a specified file
+    * 
+    * @param strFileConfig - file from which to read configuration
+    * @return ConfigurationImpl 
+    * @throws OSSConfigException - an error has occurred
+    */
+   public static ConfigurationImpl read(
+      String strFileConfig
+   ) throws OSSConfigException
+   {
+      return read(new File(strFileConfig));
+   }
+   
+   /**
+    * Read configuration from a specified UTF-8 encoded file.
+    * 
+    * @param fileConfig - file from which to read configuration
+    * @return ConfigurationImpl 
+    * @throws OSSConfigException - an error has occurred
+    */
+   public static ConfigurationImpl read(
+      File fileConfig
+   ) throws OSSConfigException
+   {
+      ConfigurationImpl config;
+      
+      try (InputStream streamConfig = Files.newInputStream(fileConfig.toPath()))
+      {
+         config = read(streamConfig);
+      }
+      catch (IOException exc)
+      {
+         throw new OSSConfigException("Error reading input file " 
+                                      + fileConfig.getName(), exc);
+      }
+      
+      return config;
+   }
+   
+   /**
+    * Read configuration from a specified UTF-8 encoded input stream.
+    * 
+    * @param streamConfig - stream from which to read configuration
+    * @return ConfigurationImpl 
+    * @throws OSSConfigException - an error has occurred
+    */
+   public static ConfigurationImpl read(
+      InputStream streamConfig
+   ) throws OSSConfigException
+   {
+      return read(new InputStreamReader(streamConfig, StandardCharsets.UTF_8));
+   }
+   
+   /**
+    * Read configuration from a specified reader. 
+    * 
+    * @param readerConfig - reader from which to read configuration
+    * @return ConfigurationImpl 
+    * @throws OSSConfigException - an error has occurred
+    */
+   public static ConfigurationImpl read(
+      Reader readerConfig
+   ) throws OSSConfigException
+   {
+      ConfigurationImpl config = new ConfigurationImpl();
+      JSONConfig        parser;
+      
+      parser = new JSONConfig((readerConfig instanceof BufferedReader) 
+                              ? readerConfig 
+                              : new BufferedReader(readerConfig), config);
+      try
+      {
+         if (parser.skipWhitespace() != -1)
+         {
+            parser.expect('{');
+            parser.parseObject();
+            if (parser.skipWhitespace() != -1)
+            {
+               throw parser.error("Unexpected content after the end of document");
+            }
+         }
+      }
+      catch (IOException exc)
+      {
+         throw new OSSConfigException("Error reading configuration", exc);
+      }
+      if (s_logger.isLoggable(Level.FINE))
+      {
+         s_logger.log(Level.FINE, "Read configuration with {0} parameters", 
+                      config.getParametersByName().size());
+      }
+      
+      return config;
+   }
+   
+   // Helper methods ///////////////////////////////////////////////////////////
+   
+   /**
+    * Parse members of object after its opening brace.
+    * 
+    * @throws IOException - an error has occurred reading the document
+    * @throws OSSConfigException - the document is not valid
+    */
+   private void parseObject(
+   ) throws IOException, 
+            OSSConfigException
+   {
+      int iNameLength = m_sbName.length();
+      int iChar = skipWhitespace();
+      
+      if (iChar == '}')
+      {
+         read();
+      }
+      else
+      {
+         do
+         {
+            skipWhitespace();
+            expect('"');
+            if (iNameLength > 0)
+            {
+               m_sbName.append(NAME_SEPARATOR);
+            }
+            parseString(m_sbName);
+            skipWhitespace();
+            expect(':');
+            parseValue();
+            m_sbName.setLength(iNameLength);
+            iChar = skipWhitespace();
+            read();
+         }
+         while (iChar == ',');
+         if (iChar != '}')
+         {
+            throw error("Expected , or }");
+         }
+      }
+   }
+   
+   /**
+    * Parse value of the member whose name is in m_sbName.
+    * 
+    * @throws IOException - an error has occurred reading the document
+    * @throws OSSConfigException - the document is not valid
+    */
+   private void parseValue(
+   ) throws IOException, 
+            OSSConfigException
+   {
+      int iChar = skipWhitespace();
+      
+      if (iChar == '{')
+      {
+         read();
+         parseObject();
+      }
+      else if (iChar == '[')
+      {
+         read();
+         parseArray();
+      }
+      else
+      {
+         String strValue = parseSimpleValue();
+         
+         if (strValue == null)
+         {
+            addEmptyParam();
+         }
+         else
+         {
+            List<String> lstValues = new ArrayList<>(1);
+            
+            lstValues.add(strValue);
+            ConfigurationUtils.addValues(m_config, m_sbName.toString(), 
+                                         lstValues);
+         }
+      }
+   }
+   
+   /**
+    * Parse elements of array after its opening bracket. Simple values become
+    * values of the parameter, objects and arrays are named using their index.
+    * 
+    * @throws IOException - an error has occurred reading the document
+    * @throws OSSConfigException - the document is not valid
+    */
+   private void parseArray(
+   ) throws IOException, 
+            OSSConfigException
+   {
+      int          iNameLength = m_sbName.length();
+      List<String> lstValues = null;
+      boolean      bNested = false;
+      int          iIndex = 0;
+      int          iChar = skipWhitespace();
+      
+      if (iChar == ']')
+      {
+         read();
+      }
+      else
+      {
+         do
+         {
+            iChar = skipWhitespace();
+            if ((iChar == '{') || (iChar == '['))
+            {
+               read();
+               bNested = true;
+               m_sbName.append(NAME_SEPARATOR).append(iIndex);
+               if (iChar == '{')
+               {
+                  parseObject();
+               }
+               else
+               {
+                  parseArray();
+               }
+               m_sbName.setLength(iNameLength);
+            }
+            else
+            {
+               String strValue = parseSimpleValue();
+               
+               if (strValue != null)
+               {
+                  if (lstValues == null)
+                  {
+                     lstValues = new ArrayList<>();
+                  }
+                  lstValues.add(strValue);
+               }
+            }
+            iIndex++;
+            iChar = skipWhitespace();
+            read();
+         }
+         while (iChar == ',');
+         if (iChar != ']')
+         {
+            throw error("Expected , or ]");
+         }
+      }
+      if (lstValues != null)
+      {
+         ConfigurationUtils.addValues(m_config, m_sbName.toString(), lstValues);
+      }
+      else if (!bNested)
+      {
+         // Empty array or array of nulls
+         addEmptyParam();
+      }
+   }
+   
+   /**
+    * Parse string, number, boolean or null.
+    * 
+    * @return String - parsed value or null if the value is null
+    * @throws IOException - an error has occurred reading the document
+    * @throws OSSConfigException - the document is not valid
+    */
+   private String parseSimpleValue(
+   ) throws IOException, 
+            OSSConfigException
+   {
+      String strValue;
+      int    iChar = skipWhitespace();
+      
+      m_sbValue.setLength(0);
+      if (iChar == '"')
+      {
+         read();
+         parseString(m_sbValue);
+         strValue = m_sbValue.toString();
+      }
+      else
+      {
+         while ((iChar != -1) && (iChar != ',') && (iChar != '}') 
+               && (iChar != ']') && (!isWhitespace(iChar)))
+         {
+            m_sbValue.append((char)read());
+            iChar = peek();
+         }
+         strValue = m_sbValue.toString();
+         if (strValue.equals("null"))
+         {
+            strValue = null;
+         }
+         else if ((strValue.isEmpty()) || ((!strValue.equals("true")) 
+                 && (!strValue.equals("false")) && (!isNumber(strValue))))
+         {
+            throw error("Unexpected value " + strValue);
+         }
+      }
+      
+      return strValue;
+   }
+   
+   /**
+    * Parse string after its opening quote and append it to specified buffer.
+    * 
+    * @param sbOutput - buffer where to append the string
+    * @throws IOException - an error has occurred reading the document
+    * @throws OSSConfigException - the document is not valid
+    */
+   private void parseString(
+      StringBuilder sbOutput
+   ) throws IOException, 
+            OSSConfigException
+   {
+      int iChar;
+      
+      while ((iChar = read()) != '"')
+      {
+         if (iChar == -1)
+         {
+            throw error("Unterminated string");
+         }
+         if (iChar == '\\')
+         {
+            iChar = read();
+            switch (iChar)
+            {
+               case 'b':
+               {
+                  iChar = '\b';
+                  break;
+               }
+               case 'f':
+               {
+                  iChar = '\f';
+                  break;
+               }
+               case 'n':
+               {
+                  iChar = '\n';
+                  break;
+               }
+               case 'r':
+               {
+                  iChar = '\r';
+                  break;
+               }
+               case 't':
+               {
+                  iChar = '\t';
+                  break;
+               }
+               case 'u':
+               {
+                  int iCode = 0;
+                  
+                  for (int iDigit = 0; iDigit < 4; iDigit++)
+                  {
+                     int iValue = Character.digit(read(), 16);
+                     
+                     if (iValue == -1)
+                     {
+                        throw error("Malformed \\u escape sequence");
+                     }
+                     iCode = (iCode << 4) | iValue;
+                  }
+                  iChar = iCode;
+                  break;
+               }
+               case '"':
+               case '\\':
+               case '/':
+               {
+                  break;
+               }
+               default:
+               {
+                  throw error("Invalid escape sequence");
+               }
+            }
+         }
+         sbOutput.append((char)iChar);
+      }
+   }
+   
+   /**
+    * Add parameter without any value for the member whose name is in m_sbName.
+    * 
+    * @throws OSSConfigException - an error has occurred
+    */
+   private void addEmptyParam(
+   ) throws OSSConfigException
+   {
+      String strName = m_sbName.toString();
+      
+      if (!m_config.getParametersByName().containsKey(strName))
+      {
+         try
+         {
+            m_config.addParam(new ParameterImpl<String>(
+                                 DataDescriptor.NO_DATA_DESCRIPTOR_CLASS, 
+                                 DataObject.NEW_ID, strName, null, 
+                                 Collections.<String>emptyList()));
+         }
+         catch (OSSException exc)
+         {
+            throw new OSSConfigException("Cannot create parameter " + strName, 
+                                         exc);
+         }
+      }
+   }
+   
+   /**
+    * Consume the next character and verify it is the expected one.
+    * 
+    * @param cExpected - expected character
+    * @throws IOException - an error has occurred reading the document
+    * @throws OSSConfigException - a different character was found
+    */
+   private void expect(
+      char cExpected
+   ) throws IOException, 
+            OSSConfigException
+   {
+      if (read() != cExpected)
+      {
+         throw error("Expected " + cExpected);
+      }
+   }
+   
+   /**
+    * Skip whitespace without consuming the first other character.
+    * 
+    * @return int - the first character which is not whitespace or -1 at the
+    *               end of the document
+    * @throws IOException - an error has occurred reading the document
+    */
+   private int skipWhitespace(
+   ) throws IOException
+   {
+      int iChar;
+      
+      while (isWhitespace(iChar = peek()))
+      {
+         read();
+      }
+      
+      return iChar;
+   }
+   
+   /**
+    * @return int - the next character without consuming it or -1 at the end
+    *               of the document
+    * @throws IOException - an error has occurred reading the document
+    */
+   private int peek(
+   ) throws IOException
+   {
+      if (m_iPeeked == -2)
+      {
+         m_iPeeked = m_reader.read();
+      }
+      
+      return m_iPeeked;
+   }
+   
+   /**
+    * @return int - the next character or -1 at the end of the document
+    * @throws IOException - an error has occurred reading the document
+    */
+   private int read(
+   ) throws IOException
+   {
+      int iChar;
+      
+      if (m_iPeeked == -2)
+      {
+         iChar = m_reader.read();
+      }
+      else
+      {
+         iChar = m_iPeeked;
+         m_iPeeked = -2;
+      }
+      if (iChar != -1)
+      {
+         m_lPosition++;
+      }
+      
+      return iChar;
+   }
+   
+   /**
+    * Create exception describing error at the current position.
+    * 
+    * @param strMessage - description of the error
+    * @return OSSConfigException - exception to throw
+    */
+   private OSSConfigException error(
+      String strMessage
+   )
+   {
+      return new OSSConfigException(strMessage + " at position " + m_lPosition
+                                    + " of configuration");
+   }
+   
+   /**
+    * @param iChar - character to test
+    * @return boolean - true if the character is JSON whitespace
+    */
+   private static boolean isWhitespace(
+      int iChar
+   )
+   {
+      return (iChar == ' ') || (iChar == '\t') || (iChar == '\n') 
+             || (iChar == '\r');
+   }
+   
+   /**
+    * @param strValue - value to test
+    * @return boolean - true if the value is a valid JSON number
+    */
+   private static boolean isNumber(
+      String strValue
+   )
+   {
+      return NUMBER_PATTERN.matcher(strValue).matches();
+   }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies with buckets of exponentially growing size. Bucket 
+ * with index i counts latencies of at least 2^(i-1) and less than 2^i 
+ * nanoseconds, bucket 0 counts zero latencies. Recording a latency is a 
+ * single atomic increment which doesn't allocate any memory.
+ *
+ * @author OpenSubsystems
+ */
+public class LatencyHistogram
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Number of buckets of the histogram, enough for any positive long value.
+    */
+   public static final int BUCKET_COUNT = 64;
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Number of latencies recorded in each bucket.
+    */
+   protected AtomicLongArray m_arrBuckets;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    */
+   public LatencyHistogram(
+   )
+   {
+      m_arrBuckets = new AtomicLongArray(BUCKET_COUNT);
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * Record single latency.
+    *
+    * @param lNanos - latency in nanoseconds
+    */
+   public void record(
+      long lNanos
+   )
+   {
+      m_arrBuckets.getAndIncrement(getBucket(lNanos));
+   }
+
+   /**
+    * @return long[] - copy of number of latencies recorded in each bucket
+    */
+   public long[] getBuckets(
+   )
+   {
+      long[] arrBuckets = new long[BUCKET_COUNT];
+
+      for (int iIndex = 0; iIndex < BUCKET_COUNT; iIndex++)
+      {
+         arrBuckets[iIndex] = m_arrBuckets.get(iIndex);
+      }
+
+      return arrBuckets;
+   }
+
+   /**
+    * Reset all buckets to zero.
+    */
+   public void reset(
+   )
+   {
+      for (int iIndex = 0; iIndex < BUCKET_COUNT; iIndex++)
+      {
+         m_arrBuckets.set(iIndex, 0);
+      }
+   }
+
+   /**
+    * Get bucket for specified latency.
+    *
+    * @param lNanos - latency in nanoseconds
+    * @return int - index of the bucket
+    */
+   public static int getBucket(
+      long lNanos
+   )
+   {
+      return (lNanos <= 0) ? 0 : Math.min(BUCKET_COUNT - 1, 
+                                          64 - Long.numberOfLeadingZeros(lNanos));
+   }
+
+   /**
+    * Get upper bound of latencies counted in specified bucket.
+    *
+    * @param iBucket - index of the bucket
+    * @return long - latency in nanoseconds which is greater than any latency
+    *                counted in the bucket
+    */
+   public static long getUpperBound(
+      int iBucket
+   )
+   {
+      return (iBucket >= BUCKET_COUNT - 1) ? Long.MAX_VALUE : (1L << iBucket);
+   }
+
+   /**
+    * Get approximate percentile of latencies from specified buckets.
+    *
+    * @param arrBuckets - number of latencies recorded in each bucket
+    * @param dPercentile - percentile between 0 and 100
+    * @return long - upper bound of the bucket containing the percentile in 
+    *                nanoseconds or 0 if there are no latencies recorded
+    */
+   public static long getPercentile(
+      long[] arrBuckets,
+      double dPercentile
+   )
+   {
+      long lTotal = 0;
+      long lResult = 0;
+
+      for (long lCount : arrBuckets)
+      {
+         lTotal += lCount;
+      }
+      if (lTotal > 0)
+      {
+         long lThreshold = (long)Math.ceil(lTotal * dPercentile / 100.0);
+         long lSeen = 0;
+
+         lThreshold = Math.max(1, lThreshold);
+         for (int iIndex = 0; iIndex < arrBuckets.length; iIndex++)
+         {
+            lSeen += arrBuckets[iIndex];
+            if (lSeen >= lThreshold)
+            {
+               lResult = getUpperBound(iIndex);
+               break;
+            }
+         }
+      }
+
+      return lResult;
+   }
+}
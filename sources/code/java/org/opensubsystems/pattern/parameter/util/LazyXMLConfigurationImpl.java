@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.opensubsystems.core.data.DataDescriptor;
+import org.opensubsystems.core.data.DataObject;
+import org.opensubsystems.core.error.OSSConfigException;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.util.Log;
+import org.opensubsystems.pattern.parameter.data.Parameter;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+import org.opensubsystems.pattern.parameter.data.impl.ParameterImpl;
+
+/**
+ * Configuration read from XML file, parameters of which are parsed only when
+ * they are first accessed. When any parameter is requested, all parameters
+ * from the same section (see XMLConfigIndex) are parsed and cached so that
+ * processes using only few sections of large configuration file don't pay
+ * for parsing of the whole file.
+ *
+ * Parameters added explicitly using addParam take precedence over parameters
+ * parsed later from the file. Parameters are kept in a concurrent map so that
+ * sections can be loaded while other threads read the configuration.
+ *
+ * @author OpenSubsystems
+ */
+public class LazyXMLConfigurationImpl extends ConfigurationImpl
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Index of the param elements of the configuration file.
+    */
+   protected XMLConfigIndex m_index;
+
+   /**
+    * Sections which were already parsed.
+    */
+   protected Set<String> m_setLoadedSections;
+
+   // Cached values ////////////////////////////////////////////////////////////
+
+   /**
+    * Commons logger variable used to log runtime information.
+    */
+   private static Logger s_logger = Log.getInstance(LazyXMLConfigurationImpl.class);
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param index - index of the param elements of the configuration file
+    */
+   public LazyXMLConfigurationImpl(
+      XMLConfigIndex index
+   )
+   {
+      super();
+
+      m_index = index;
+      m_mpParamsByName = new ConcurrentHashMap<>();
+      m_setLoadedSections = Collections.newSetFromMap(
+                               new ConcurrentHashMap<String, Boolean>());
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "LazyXMLConfigurationImpl[");
+      append(sb, ind + 1, "m_index = ", m_index);
+      append(sb, ind + 1, "m_setLoadedSections = ", m_setLoadedSections);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * {@inheritDoc}
+    *
+    * All sections which were not accessed yet are parsed. If any of them 
+    * cannot be parsed, IllegalStateException is thrown.
+    */
+   @Override
+   public Map<String, Parameter> getParametersByName()
+   {
+      try
+      {
+         loadAllSections();
+      }
+      catch (OSSConfigException exc)
+      {
+         // This method cannot report checked exception
+         throw new IllegalStateException(exc);
+      }
+
+      return m_mpParamsByName;
+   }
+
+   /**
+    * {@inheritDoc}
+    *
+    * All sections which were not accessed yet are parsed. If any of them 
+    * cannot be parsed, IllegalStateException is thrown.
+    */
+   @Override
+   public Collection<Parameter> getParameters()
+   {
+      try
+      {
+         loadAllSections();
+      }
+      catch (OSSConfigException exc)
+      {
+         // This method cannot report checked exception
+         throw new IllegalStateException(exc);
+      }
+
+      return super.getParameters();
+   }
+
+   /**
+    * Test if the specified section was already parsed.
+    *
+    * @param strSection - section to test
+    * @return boolean - true if the section was already parsed
+    */
+   public boolean isSectionLoaded(
+      String strSection
+   )
+   {
+      return m_setLoadedSections.contains(strSection);
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   protected Parameter findParam(
+      String strName
+   ) throws OSSException
+   {
+      loadSection(XMLConfigIndex.getSection(strName));
+
+      return super.findParam(strName);
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void inheritAndOverride(
+      String            strLogPrefix,
+      String            strOverrideName,
+      ConfigurationImpl source,
+      String            strSourceName
+   ) throws OSSException
+   {
+      // Parsed parameters have to be present before the inherited ones
+      loadAllSections();
+      super.inheritAndOverride(strLogPrefix, strOverrideName, source,
+                               strSourceName);
+   }
+
+   /**
+    * Parse all sections which were not parsed yet.
+    *
+    * @throws OSSConfigException - some section cannot be parsed
+    */
+   protected void loadAllSections(
+   ) throws OSSConfigException
+   {
+      for (String strSection : m_index.getSections())
+      {
+         loadSection(strSection);
+      }
+   }
+
+   /**
+    * Parse all parameters of the specified section unless it was already
+    * parsed.
+    *
+    * @param strSection - section to parse
+    * @throws OSSConfigException - the section cannot be parsed
+    */
+   protected void loadSection(
+      String strSection
+   ) throws OSSConfigException
+   {
+      if ((!m_setLoadedSections.contains(strSection))
+         && (m_index.containsSection(strSection)))
+      {
+         synchronized (this)
+         {
+            if (!m_setLoadedSections.contains(strSection))
+            {
+               List<String[]>         lstParsed;
+               Map<String, Parameter> mpSection;
+
+               lstParsed = m_index.parseSection(strSection);
+               mpSection = new LinkedHashMap<>(lstParsed.size() * 2);
+               try
+               {
+                  for (String[] arrParam : lstParsed)
+                  {
+                     ParameterImpl<String> param;
+
+                     if (arrParam[1] == null)
+                     {
+                        param = new ParameterImpl<String>(
+                                       DataDescriptor.NO_DATA_DESCRIPTOR_CLASS,
+                                       DataObject.NEW_ID, arrParam[0], null,
+                                       Collections.<String>emptyList());
+                     }
+                     else
+                     {
+                        param = new ParameterImpl<String>(
+                                       DataDescriptor.NO_DATA_DESCRIPTOR_CLASS,
+                                       DataObject.NEW_ID, arrParam[0], null,
+                                       arrParam[1]);
+                     }
+                     mpSection.put(arrParam[0], param);
+                  }
+               }
+               catch (OSSException exc)
+               {
+                  // ParameterImpl doesn't actually throw when created without id
+                  throw new IllegalStateException(exc);
+               }
+               for (Map.Entry<String, Parameter> entry : mpSection.entrySet())
+               {
+                  // Explicitly added parameters take precedence
+                  if (!m_mpParamsByName.containsKey(entry.getKey()))
+                  {
+                     m_mpParamsByName.put(entry.getKey(), entry.getValue());
+                  }
+               }
+               m_setLoadedSections.add(strSection);
+               s_logger.log(Level.FINEST, "Loaded {0} parameters of section {1}",
+                            new Object[]{mpSection.size(), strSection});
+            }
+         }
+      }
+   }
+}
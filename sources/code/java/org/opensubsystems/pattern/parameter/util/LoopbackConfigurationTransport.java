@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.error.OSSInternalErrorException;
+import org.opensubsystems.core.util.OSSObject;
+
+/**
+ * Transport connecting subscribers directly to a publisher running within the
+ * same process. Every delta is serialized and deserialized the same way as it
+ * would be when sent between nodes so that the subscribers never share any
+ * state with the publisher. This transport is intended for testing and for
+ * components within single process.
+ *
+ * @author OpenSubsystems
+ */
+public class LoopbackConfigurationTransport extends    OSSObject
+                                            implements ConfigurationTransport
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Publisher providing the changes.
+    */
+   protected ConfigurationPublisher m_publisher;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param publisher - publisher providing the changes
+    */
+   public LoopbackConfigurationTransport(
+      ConfigurationPublisher publisher
+   )
+   {
+      super();
+
+      m_publisher = publisher;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "LoopbackConfigurationTransport[");
+      append(sb, ind + 1, "m_publisher = ", m_publisher);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public ConfigurationDelta fetchChanges(
+      long lKnownVersion
+   ) throws OSSException
+   {
+      ConfigurationDelta delta;
+
+      delta = m_publisher.getChangesSince(lKnownVersion);
+      if (delta != null)
+      {
+         try
+         {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+            try (ObjectOutputStream oos = new ObjectOutputStream(baos))
+            {
+               oos.writeObject(delta);
+            }
+            try (ObjectInputStream ois = new ObjectInputStream(
+                                            new ByteArrayInputStream(
+                                                   baos.toByteArray())))
+            {
+               delta = (ConfigurationDelta)ois.readObject();
+            }
+         }
+         catch (IOException | ClassNotFoundException exc)
+         {
+            throw new OSSInternalErrorException(
+                         "Cannot transfer configuration changes", exc);
+         }
+      }
+
+      return delta;
+   }
+}
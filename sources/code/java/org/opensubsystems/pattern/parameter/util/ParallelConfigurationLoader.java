@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.opensubsystems.core.error.OSSConfigException;
+import org.opensubsystems.core.error.OSSException;
+import org.opensubsystems.core.util.Log;
+import org.opensubsystems.core.util.OSSObject;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+
+/**
+ * Loader of configuration assembled from multiple sources, such as base file,
+ * environment specific files and per module fragments. All sources are parsed
+ * concurrently and then merged in the order of their priority using the same
+ * semantics as ConfigurationImpl.inheritAndOverride, that is parameters and 
+ * default values defined by source with higher priority override the ones 
+ * defined by sources with lower priority.
+ *
+ * @author OpenSubsystems
+ */
+public class ParallelConfigurationLoader extends OSSObject
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Executor used to parse the sources. If null, temporary executor is 
+    * created for each load.
+    */
+   protected ExecutorService m_executor;
+
+   // Cached values ////////////////////////////////////////////////////////////
+
+   /**
+    * Commons logger variable used to log runtime information.
+    */
+   private static Logger s_logger = Log.getInstance(ParallelConfigurationLoader.class);
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor creating temporary executor for each load sized according
+    * to the number of sources and available processors.
+    */
+   public ParallelConfigurationLoader(
+   )
+   {
+      this(null);
+   }
+
+   /**
+    * Constructor.
+    *
+    * @param executor - executor used to parse the sources, it is not shut down
+    *                   by the loader
+    */
+   public ParallelConfigurationLoader(
+      ExecutorService executor
+   )
+   {
+      super();
+
+      m_executor = executor;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ParallelConfigurationLoader[");
+      append(sb, ind + 1, "m_executor = ", m_executor);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * Load and merge configuration from specified sources.
+    *
+    * @param lstSources - files from which to read configuration ordered by 
+    *                     their priority, the first one has the lowest priority
+    *                     and the last one overrides all others
+    * @return ConfigurationLoadResult - merged configuration and time spent 
+    *                                   loading each source
+    * @throws OSSException - an error has occurred reading any of the sources
+    */
+   public ConfigurationLoadResult load(
+      List<File> lstSources
+   ) throws OSSException
+   {
+      long                    lStart = System.nanoTime();
+      int                     iCount = lstSources.size();
+      ConfigurationImpl[]     arrConfigs = new ConfigurationImpl[iCount];
+      long[]                  arrTimes = new long[iCount];
+      List<Future<Object>>    lstFutures = new ArrayList<>(iCount);
+      ExecutorService         executor = m_executor;
+      Map<String, Long>       mpParseTimes = new LinkedHashMap<>();
+      ConfigurationImpl       merged;
+      long                    lMergeStart;
+      long                    lEnd;
+
+      if ((executor == null) && (iCount > 1))
+      {
+         executor = Executors.newFixedThreadPool(Math.min(iCount, 
+                       Runtime.getRuntime().availableProcessors()));
+      }
+      try
+      {
+         for (int iIndex = 0; iIndex < iCount; iIndex++)
+         {
+            Callable<Object> task = createParseTask(lstSources.get(iIndex), 
+                                                    iIndex, arrConfigs, 
+                                                    arrTimes);
+            if (executor == null)
+            {
+               // Single source, there is nothing to parallelize
+               call(task);
+            }
+            else
+            {
+               lstFutures.add(executor.submit(task));
+            }
+         }
+         for (int iIndex = 0; iIndex < lstFutures.size(); iIndex++)
+         {
+            waitFor(lstFutures.get(iIndex), lstSources.get(iIndex));
+         }
+      }
+      finally
+      {
+         if (executor != m_executor)
+         {
+            executor.shutdownNow();
+         }
+      }
+
+      lMergeStart = System.nanoTime();
+      if (iCount == 0)
+      {
+         merged = new ConfigurationImpl();
+      }
+      else
+      {
+         String strOverrideName = lstSources.get(iCount - 1).getPath();
+
+         merged = arrConfigs[iCount - 1];
+         // Since inheritAndOverride only adds what is not defined yet, merge 
+         // from the highest priority to the lowest one
+         for (int iIndex = iCount - 2; iIndex >= 0; iIndex--)
+         {
+            merged.inheritAndOverride("", strOverrideName, arrConfigs[iIndex], 
+                                      lstSources.get(iIndex).getPath());
+         }
+      }
+      lEnd = System.nanoTime();
+
+      for (int iIndex = 0; iIndex < iCount; iIndex++)
+      {
+         mpParseTimes.put(lstSources.get(iIndex).getPath(), arrTimes[iIndex]);
+      }
+      s_logger.log(Level.FINE, "Loaded configuration from {0} sources in {1} ms"
+                   + " (merge {2} ms), parse times in ns {3}", 
+                   new Object[]{iCount, (lEnd - lStart) / 1000000L, 
+                                (lEnd - lMergeStart) / 1000000L, mpParseTimes});
+
+      return new ConfigurationLoadResult(merged, mpParseTimes, 
+                                         lEnd - lMergeStart, lEnd - lStart);
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Parse configuration from single source. This method is called 
+    * concurrently for different sources.
+    *
+    * @param fileSource - file from which to read configuration
+    * @return ConfigurationImpl - parsed configuration
+    * @throws OSSException - an error has occurred
+    */
+   protected ConfigurationImpl parse(
+      File fileSource
+   ) throws OSSException
+   {
+      return XMLConfig.read(fileSource);
+   }
+
+   /**
+    * Create task parsing single source and storing the result and the time 
+    * spent parsing into the specified arrays.
+    *
+    * @param fileSource - file from which to read configuration
+    * @param iIndex - index where to store the results
+    * @param arrConfigs - array where to store the parsed configuration
+    * @param arrTimes - array where to store the parse time
+    * @return Callable<Object> - task parsing the source
+    */
+   protected Callable<Object> createParseTask(
+      final File                fileSource,
+      final int                 iIndex,
+      final ConfigurationImpl[] arrConfigs,
+      final long[]              arrTimes
+   )
+   {
+      return new Callable<Object>()
+      {
+         @Override
+         public Object call(
+         ) throws OSSException
+         {
+            long lStart = System.nanoTime();
+
+            arrConfigs[iIndex] = parse(fileSource);
+            arrTimes[iIndex] = System.nanoTime() - lStart;
+
+            return null;
+         }
+      };
+   }
+
+   /**
+    * Execute the task in the current thread.
+    *
+    * @param task - task to execute
+    * @throws OSSException - an error has occurred
+    */
+   protected void call(
+      Callable<Object> task
+   ) throws OSSException
+   {
+      try
+      {
+         task.call();
+      }
+      catch (OSSException exc)
+      {
+         throw exc;
+      }
+      catch (Exception exc)
+      {
+         throw new OSSConfigException("Unexpected error while reading"
+                                      + " configuration", exc);
+      }
+   }
+
+   /**
+    * Wait until the task parsing the source is finished.
+    *
+    * @param future - future of the task parsing the source
+    * @param fileSource - source parsed by the task
+    * @throws OSSException - an error has occurred parsing the source
+    */
+   protected void waitFor(
+      Future<Object> future,
+      File           fileSource
+   ) throws OSSException
+   {
+      try
+      {
+         future.get();
+      }
+      catch (InterruptedException exc)
+      {
+         Thread.currentThread().interrupt();
+         throw new OSSConfigException("Interrupted while reading configuration"
+                                      + " file " + fileSource.getPath(), exc);
+      }
+      catch (ExecutionException exc)
+      {
+         if (exc.getCause() instanceof OSSException)
+         {
+            throw (OSSException)exc.getCause();
+         }
+         throw new OSSConfigException("Error reading configuration file " 
+                                      + fileSource.getPath(), exc.getCause());
+      }
+   }
+}
@@ -0,0 +1,412 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.opensubsystems.core.error.OSSConfigException;
+import org.opensubsystems.core.util.Log;
+import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+
+/**
+ * Class for reading configuration parameters defined in the format of Java 
+ * properties files. The file is parsed in a single pass during which the 
+ * values are collected for each key in the order in which the keys first
+ * appear in the file. Each parameter is then added to the configuration only
+ * once with all its values.
+ * 
+ * The format is the same as the one read by java.util.Properties including
+ * comments, line continuations and escape sequences. Unlike Properties, key
+ * which is specified multiple times defines parameter with multiple values in
+ * the order in which they appear in the file.
+ * 
+ * @author OpenSubsystems
+ */
+public final class PropertiesConfig
+{
+   // Cached values ////////////////////////////////////////////////////////////
+
+   /**
+    * Commons logger variable used to log runtime information.
+    */
+   private static Logger s_logger = Log.getInstance(PropertiesConfig.class);
+
+   // Constructors /////////////////////////////////////////////////////////////
+    
+   /** 
+    * Private constructor since this class cannot be instantiated
+    */
+   private PropertiesConfig(
+   )
+   {
+      // Do nothing
+   }
+   
+   // Public methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Read configuration from a specified file
+    * 
+    * @param strFileConfig - file from which to read configuration
+    * @return ConfigurationImpl 
+    * @throws OSSConfigException - an error has occurred
+    */
+   public static ConfigurationImpl read(
+      String strFileConfig
+   ) throws OSSConfigException
+   {
+      return read(new File(strFileConfig));
+   }
+   
+   /**
+    * Read configuration from a specified file. The file is expected to use
+    * ISO 8859-1 encoding the same way as files read by java.util.Properties.
+    * 
+    * @param fileConfig - file from which to read configuration
+    * @return ConfigurationImpl 
+    * @throws OSSConfigException - an error has occurred
+    */
+   public static ConfigurationImpl read(
+      File fileConfig
+   ) throws OSSConfigException
+   {
+      ConfigurationImpl config;
+      
+      try (InputStream streamConfig = Files.newInputStream(fileConfig.toPath()))
+      {
+         config = read(streamConfig);
+      }
+      catch (IOException exc)
+      {
+         throw new OSSConfigException("Error reading input file " 
+                                      + fileConfig.getName(), exc);
+      }
+      
+      return config;
+   }
+   
+   /**
+    * Read configuration from a specified input stream. The stream is expected
+    * to use ISO 8859-1 encoding the same way as streams read by 
+    * java.util.Properties.
+    * 
+    * @param streamConfig - stream from which to read configuration
+    * @return ConfigurationImpl 
+    * @throws OSSConfigException - an error has occurred
+    */
+   public static ConfigurationImpl read(
+      InputStream streamConfig
+   ) throws OSSConfigException
+   {
+      return read(new InputStreamReader(streamConfig, 
+                                        StandardCharsets.ISO_8859_1));
+   }
+   
+   /**
+    * Read configuration from a specified reader.
+    * 
+    * @param readerConfig - reader from which to read configuration
+    * @return ConfigurationImpl 
+    * @throws OSSConfigException - an error has occurred
+    */
+   public static ConfigurationImpl read(
+      Reader readerConfig
+   ) throws OSSConfigException
+   {
+      ConfigurationImpl         config = new ConfigurationImpl();
+      Map<String, List<String>> mpValues = new LinkedHashMap<>();
+      BufferedReader            reader;
+      StringBuilder             sbLine = new StringBuilder();
+      String                    strLine;
+      int                       iLineNumber = 0;
+      
+      reader = (readerConfig instanceof BufferedReader) 
+               ? (BufferedReader)readerConfig : new BufferedReader(readerConfig);
+      try
+      {
+         while ((strLine = reader.readLine()) != null)
+         {
+            int iStart;
+            
+            iLineNumber++;
+            iStart = skipWhitespace(strLine, 0);
+            if (sbLine.length() == 0)
+            {
+               if ((iStart == strLine.length()) 
+                  || (strLine.charAt(iStart) == '#') 
+                  || (strLine.charAt(iStart) == '!'))
+               {
+                  // Empty line or comment
+                  continue;
+               }
+            }
+            sbLine.append(strLine, iStart, strLine.length());
+            if (isContinued(sbLine))
+            {
+               // Remove the backslash and continue with the next line
+               sbLine.setLength(sbLine.length() - 1);
+            }
+            else
+            {
+               parseLine(mpValues, sbLine);
+               sbLine.setLength(0);
+            }
+         }
+         if (sbLine.length() > 0)
+         {
+            // The last line ended with backslash
+            parseLine(mpValues, sbLine);
+         }
+      }
+      catch (IOException exc)
+      {
+         throw new OSSConfigException("Error reading configuration at line " 
+                                      + iLineNumber, exc);
+      }
+      catch (IllegalArgumentException exc)
+      {
+         throw new OSSConfigException("Malformed configuration at line " 
+                                      + iLineNumber, exc);
+      }
+      // Values of parameters are collected first so that each parameter is 
+      // created only once even if its key is repeated in the file
+      for (Map.Entry<String, List<String>> entry : mpValues.entrySet())
+      {
+         ConfigurationUtils.addValues(config, entry.getKey(), entry.getValue());
+      }
+      if (s_logger.isLoggable(Level.FINE))
+      {
+         s_logger.log(Level.FINE, "Read configuration with {0} parameters", 
+                      config.getParametersByName().size());
+      }
+      
+      return config;
+   }
+   
+   // Helper methods ///////////////////////////////////////////////////////////
+   
+   /**
+    * Parse single logical line consisting of key and value and add the value
+    * to the values collected for the key.
+    * 
+    * @param mpValues - values of parameters collected so far keyed by their 
+    *                   names
+    * @param sbLine - line without leading whitespace and line continuations
+    */
+   private static void parseLine(
+      Map<String, List<String>> mpValues,
+      StringBuilder             sbLine
+   )
+   {
+      int          iLength = sbLine.length();
+      int          iKeyEnd = 0;
+      int          iValueStart;
+      boolean      bEscaped = false;
+      String       strName;
+      List<String> lstValues;
+      
+      // Find end of the key, which is the first unescaped separator
+      while (iKeyEnd < iLength)
+      {
+         char cChar = sbLine.charAt(iKeyEnd);
+         
+         if (bEscaped)
+         {
+            bEscaped = false;
+         }
+         else if (cChar == '\\')
+         {
+            bEscaped = true;
+         }
+         else if ((cChar == '=') || (cChar == ':') || (isWhitespace(cChar)))
+         {
+            break;
+         }
+         iKeyEnd++;
+      }
+      // Skip separator, which is whitespace optionally followed by = or :
+      iValueStart = skipWhitespace(sbLine, iKeyEnd);
+      if ((iValueStart < iLength) 
+         && ((sbLine.charAt(iValueStart) == '=') 
+            || (sbLine.charAt(iValueStart) == ':')))
+      {
+         iValueStart = skipWhitespace(sbLine, iValueStart + 1);
+      }
+      
+      strName = unescape(sbLine, 0, iKeyEnd);
+      lstValues = mpValues.get(strName);
+      if (lstValues == null)
+      {
+         lstValues = new ArrayList<>(1);
+         mpValues.put(strName, lstValues);
+      }
+      lstValues.add(unescape(sbLine, iValueStart, iLength));
+   }
+   
+   /**
+    * Test if the logical line continues on the next line, that is if it ends
+    * with odd number of backslashes.
+    * 
+    * @param sbLine - line to test
+    * @return boolean - true if the line continues
+    */
+   private static boolean isContinued(
+      StringBuilder sbLine
+   )
+   {
+      int iCount = 0;
+      
+      for (int iIndex = sbLine.length() - 1; 
+           (iIndex >= 0) && (sbLine.charAt(iIndex) == '\\'); iIndex--)
+      {
+         iCount++;
+      }
+      
+      return (iCount % 2) == 1;
+   }
+   
+   /**
+    * Resolve escape sequences in the specified part of the line.
+    * 
+    * @param text - text containing the escape sequences
+    * @param iStart - index where the part starts
+    * @param iEnd - index where the part ends
+    * @return String - text with resolved escape sequences
+    */
+   private static String unescape(
+      CharSequence text,
+      int          iStart,
+      int          iEnd
+   )
+   {
+      StringBuilder sbResult = null;
+      int           iIndex = iStart;
+      
+      while (iIndex < iEnd)
+      {
+         char cChar = text.charAt(iIndex++);
+         
+         if ((cChar == '\\') && (iIndex < iEnd))
+         {
+            if (sbResult == null)
+            {
+               sbResult = new StringBuilder(iEnd - iStart);
+               sbResult.append(text, iStart, iIndex - 1);
+            }
+            cChar = text.charAt(iIndex++);
+            switch (cChar)
+            {
+               case 't':
+               {
+                  cChar = '\t';
+                  break;
+               }
+               case 'n':
+               {
+                  cChar = '\n';
+                  break;
+               }
+               case 'r':
+               {
+                  cChar = '\r';
+                  break;
+               }
+               case 'f':
+               {
+                  cChar = '\f';
+                  break;
+               }
+               case 'u':
+               {
+                  if (iIndex + 4 > iEnd)
+                  {
+                     throw new IllegalArgumentException(
+                                  "Malformed \\uxxxx encoding.");
+                  }
+                  cChar = (char)Integer.parseInt(
+                                   text.subSequence(iIndex, iIndex + 4).toString(), 
+                                   16);
+                  iIndex += 4;
+                  break;
+               }
+               default:
+               {
+                  // Any other escaped character stands for itself
+                  break;
+               }
+            }
+            sbResult.append(cChar);
+         }
+         else if (sbResult != null)
+         {
+            sbResult.append(cChar);
+         }
+      }
+      
+      return (sbResult == null) ? text.subSequence(iStart, iEnd).toString()
+                                : sbResult.toString();
+   }
+   
+   /**
+    * Skip whitespace characters.
+    * 
+    * @param text - text in which to skip the whitespace
+    * @param iStart - index where to start
+    * @return int - index of the first character which is not whitespace
+    */
+   private static int skipWhitespace(
+      CharSequence text,
+      int          iStart
+   )
+   {
+      int iIndex = iStart;
+      
+      while ((iIndex < text.length()) && (isWhitespace(text.charAt(iIndex))))
+      {
+         iIndex++;
+      }
+      
+      return iIndex;
+   }
+   
+   /**
+    * @param cChar - character to test
+    * @return boolean - true if the character is whitespace as defined by the
+    *                   format of properties files
+    */
+   private static boolean isWhitespace(
+      char cChar
+   )
+   {
+      return (cChar == ' ') || (cChar == '\t') || (cChar == '\f');
+   }
+}
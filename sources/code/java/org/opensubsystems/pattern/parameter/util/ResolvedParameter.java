@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import org.opensubsystems.core.util.OSSObject;
+
+/**
+ * Value of configuration parameter with all variables resolved together with
+ * the value converted to the supported types. Each conversion is performed at 
+ * most once and its result is remembered, including the failure to convert 
+ * the value.
+ *
+ * @author OpenSubsystems
+ */
+public class ResolvedParameter extends OSSObject
+{
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Value of the parameter with all variables resolved.
+    */
+   protected final String m_strValue;
+
+   /**
+    * Value converted to Integer or null if it wasn't converted yet or it 
+    * cannot be converted.
+    */
+   protected volatile Integer m_iValue;
+
+   /**
+    * Value converted to Long or null if it wasn't converted yet or it cannot
+    * be converted.
+    */
+   protected volatile Long m_lValue;
+
+   /**
+    * Value converted to Boolean or null if it wasn't converted yet.
+    */
+   protected volatile Boolean m_bValue;
+
+   /**
+    * Flag signaling that conversion to Integer was already attempted.
+    */
+   protected volatile boolean m_bIntegerParsed;
+
+   /**
+    * Flag signaling that conversion to Long was already attempted.
+    */
+   protected volatile boolean m_bLongParsed;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor.
+    *
+    * @param strValue - value of the parameter with all variables resolved
+    */
+   public ResolvedParameter(
+      String strValue
+   )
+   {
+      super();
+
+      m_strValue = strValue;
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "ResolvedParameter[");
+      append(sb, ind + 1, "m_strValue = ", m_strValue);
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * @return String - value of the parameter with all variables resolved
+    */
+   public String getValue(
+   )
+   {
+      return m_strValue;
+   }
+
+   /**
+    * @return Integer - value converted to Integer or null if it cannot be 
+    *                   converted
+    */
+   public Integer getValueAsInt(
+   )
+   {
+      if (!m_bIntegerParsed)
+      {
+         try
+         {
+            m_iValue = (m_strValue == null) ? null : Integer.valueOf(m_strValue);
+         }
+         catch (NumberFormatException nfeExc)
+         {
+            m_iValue = null;
+         }
+         m_bIntegerParsed = true;
+      }
+
+      return m_iValue;
+   }
+
+   /**
+    * @return Long - value converted to Long or null if it cannot be converted
+    */
+   public Long getValueAsLong(
+   )
+   {
+      if (!m_bLongParsed)
+      {
+         try
+         {
+            m_lValue = (m_strValue == null) ? null : Long.valueOf(m_strValue);
+         }
+         catch (NumberFormatException nfeExc)
+         {
+            m_lValue = null;
+         }
+         m_bLongParsed = true;
+      }
+
+      return m_lValue;
+   }
+
+   /**
+    * @return Boolean - value converted to Boolean
+    */
+   public Boolean getValueAsBoolean(
+   )
+   {
+      if (m_bValue == null)
+      {
+         m_bValue = Boolean.valueOf(m_strValue);
+      }
+
+      return m_bValue;
+   }
+
+   /**
+    * Convert the value to all supported types so that later requests don't 
+    * have to do it.
+    */
+   public void convertAll(
+   )
+   {
+      getValueAsInt();
+      getValueAsLong();
+      getValueAsBoolean();
+   }
+}
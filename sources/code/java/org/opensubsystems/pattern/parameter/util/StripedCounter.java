@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counter which can be incremented by many threads concurrently without all of
+ * them contending for the same memory location. Each thread updates one of 
+ * several stripes selected based on the thread and the stripes are summed up 
+ * only when the value is read. The stripes are spaced apart so that each of 
+ * them occupies its own cache line.
+ *
+ * The value read while the counter is being updated is not an atomic snapshot
+ * but it includes all increments which happened before the read started.
+ *
+ * @author OpenSubsystems
+ */
+public class StripedCounter
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Number of array elements between two stripes, 8 longs fill 64 bytes long
+    * cache line.
+    */
+   protected static final int STRIPE_SPACING = 8;
+
+   /**
+    * Default number of stripes used when it is not specified.
+    */
+   public static final int DEFAULT_STRIPES = defaultStripes();
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Stripes of the counter.
+    */
+   protected AtomicLongArray m_arrStripes;
+
+   /**
+    * Mask used to select stripe, number of stripes is always power of two.
+    */
+   protected int m_iMask;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor using default number of stripes.
+    */
+   public StripedCounter(
+   )
+   {
+      this(DEFAULT_STRIPES);
+   }
+
+   /**
+    * Constructor.
+    *
+    * @param iStripes - number of stripes, it is rounded up to the nearest power
+    *                   of two
+    */
+   public StripedCounter(
+      int iStripes
+   )
+   {
+      int iSize = 1;
+
+      while (iSize < iStripes)
+      {
+         iSize <<= 1;
+      }
+      m_iMask = iSize - 1;
+      m_arrStripes = new AtomicLongArray(iSize * STRIPE_SPACING);
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public String toString()
+   {
+      return Long.toString(sum());
+   }
+
+   /**
+    * Increment the counter by one.
+    */
+   public void increment(
+   )
+   {
+      m_arrStripes.getAndIncrement(getStripe());
+   }
+
+   /**
+    * Add specified value to the counter.
+    *
+    * @param lValue - value to add
+    */
+   public void add(
+      long lValue
+   )
+   {
+      m_arrStripes.getAndAdd(getStripe(), lValue);
+   }
+
+   /**
+    * @return long - current value of the counter
+    */
+   public long sum(
+   )
+   {
+      long lSum = 0;
+
+      for (int iIndex = 0; iIndex < m_arrStripes.length(); 
+           iIndex += STRIPE_SPACING)
+      {
+         lSum += m_arrStripes.get(iIndex);
+      }
+
+      return lSum;
+   }
+
+   /**
+    * Reset the counter to zero. Increments happening concurrently with the 
+    * reset may or may not be included in the new value.
+    */
+   public void reset(
+   )
+   {
+      for (int iIndex = 0; iIndex < m_arrStripes.length(); 
+           iIndex += STRIPE_SPACING)
+      {
+         m_arrStripes.set(iIndex, 0);
+      }
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * @return int - index of the stripe updated by the current thread
+    */
+   protected int getStripe(
+   )
+   {
+      long lId = Thread.currentThread().getId();
+      int  iHash = (int)(lId * 0x9E3779B9L);
+
+      return ((iHash ^ (iHash >>> 16)) & m_iMask) * STRIPE_SPACING;
+   }
+
+   /**
+    * @return int - default number of stripes based on number of processors
+    */
+   private static int defaultStripes(
+   )
+   {
+      return Math.max(2, Runtime.getRuntime().availableProcessors());
+   }
+}
@@ -19,10 +19,17 @@
 
 package org.opensubsystems.pattern.parameter.util;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.apache.commons.digester3.Digester;
@@ -33,6 +40,7 @@ import org.opensubsystems.core.util.Log;
 import org.opensubsystems.core.util.OSSObject;
 import org.opensubsystems.core.util.ResourceUtils;
 import org.opensubsystems.pattern.parameter.data.impl.ConfigurationImpl;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 /**
@@ -61,6 +69,17 @@ public class XMLConfig extends OSSObject
     * Commons logger variable used to log runtime information.
     */
    private static Logger s_logger = Log.getInstance(XMLConfig.class);
+   
+   /**
+    * Loader used to create digesters parsing the configuration.
+    */
+   private static final DigesterLoader s_digesterLoader = DigesterLoader.newLoader(
+                                                  new ConfigurationRulesModule());
+   
+   /**
+    * Trace of the last finished load of configuration.
+    */
+   private static volatile ConfigurationLoadTrace s_lastLoadTrace;
 
    // Constructors /////////////////////////////////////////////////////////////
     
@@ -87,6 +106,19 @@ public class XMLConfig extends OSSObject
       s_strConfigurationFileName = strConfigurationFileName;
    }
    
+   /**
+    * Get trace of the last load of configuration performed by this class. 
+    * 
+    * @return ConfigurationLoadTrace - trace of the last finished load, either
+    *                                  successful or failed, or null if no 
+    *                                  configuration was loaded yet
+    */
+   public static ConfigurationLoadTrace getLastLoadTrace(
+   )
+   {
+      return s_lastLoadTrace;
+   }
+   
    /**
     * Read configuration from a previously configured file. If no file was 
     * configured then default location will be used.
@@ -96,11 +128,148 @@ public class XMLConfig extends OSSObject
     */
    public static ConfigurationImpl read(
    ) throws OSSConfigException
+   {
+      ConfigurationImpl      config;
+      ConfigurationLoadTrace trace;
+      
+      trace = new ConfigurationLoadTrace(DEFAULT_CONFIGURATION_FILE);
+      try
+      {
+         config = readDefault(trace);
+      }
+      finally
+      {
+         finishTrace(trace);
+      }
+      
+      return config;
+   }
+   
+   /**
+    * Read configuration from a specified file
+    * 
+    * @param strfileConfig - file from which to read configuration
+    * @return ConfigurableObject 
+    * @throws OSSConfigException - an error has occurred
+    */
+   public static ConfigurationImpl read(
+      String strfileConfig
+   ) throws OSSConfigException
+   {
+      return read(new File(strfileConfig));
+   }
+   
+   /**
+    * Read configuration from a specified file
+    * 
+    * @param fileConfig - file from which to read configuration
+    * @return ConfigurableObject 
+    * @throws OSSConfigException - an error has occurred
+    */
+   public static ConfigurationImpl read(
+      File fileConfig
+   ) throws OSSConfigException
+   {
+      ConfigurationImpl      config;
+      ConfigurationLoadTrace trace;
+      
+      trace = new ConfigurationLoadTrace(fileConfig.getPath());
+      try
+      {
+         config = read(fileConfig, trace);
+      }
+      finally
+      {
+         finishTrace(trace);
+      }
+      
+      return config;
+   }
+
+   /**
+    * Read configuration from a specified file lazily. The file is only scanned
+    * to locate all parameters and the parameters are parsed when they are 
+    * first accessed, one section at a time (see XMLConfigIndex). If the file 
+    * declares encoding which is not compatible with UTF-8, it is read fully 
+    * the same way as by method read.
+    * 
+    * @param fileConfig - file from which to read configuration
+    * @return ConfigurationImpl 
+    * @throws OSSConfigException - an error has occurred
+    */
+   public static ConfigurationImpl readLazy(
+      File fileConfig
+   ) throws OSSConfigException
+   {
+      ConfigurationImpl      config;
+      ConfigurationLoadTrace trace;
+      
+      trace = new ConfigurationLoadTrace(fileConfig.getPath());
+      try
+      {
+         config = readLazy(fileConfig, trace);
+      }
+      finally
+      {
+         finishTrace(trace);
+      }
+      
+      return config;
+   }
+   
+   /**
+    * Read configuration from a specified input stream
+    * 
+    * @param streamConfig - stream from which to read configuration
+    * @return ConfigurableObject 
+    * @throws OSSConfigException - an error has occurred
+    */
+   public static ConfigurationImpl read(
+      InputStream streamConfig
+   ) throws OSSConfigException
+   {
+      ConfigurationImpl      config = null;
+      ConfigurationLoadTrace trace;
+      
+      trace = new ConfigurationLoadTrace(streamConfig.toString());
+      try
+      {
+         config = parse(streamConfig, null, trace);
+      }
+      catch (IOException | SAXException exc)
+      {
+         throw new OSSConfigException("Error reading input stream " 
+                                          + streamConfig.toString(), 
+                                          exc);
+      }
+      finally
+      {
+         finishTrace(trace);
+      }
+      
+      return config;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+   
+   /**
+    * Read configuration from a previously configured file or from the default
+    * location recording the load into the specified trace.
+    * 
+    * @param trace - trace of the load
+    * @return ConfigurationImpl - configuration or null if no configuration 
+    *                             file was found
+    * @throws OSSConfigException - an error has occurred
+    */
+   protected static ConfigurationImpl readDefault(
+      ConfigurationLoadTrace trace
+   ) throws OSSConfigException
    {
       ConfigurationImpl  configData = null;
       File                configFile = null;
       URL                 configURL = null;
       
+      trace.startPhase(ConfigurationLoadTrace.PHASE_LOCATE);
       try
       {
          if ((s_strConfigurationFileName != null) 
@@ -132,18 +301,20 @@ public class XMLConfig extends OSSObject
       
       if (configFile != null)
       {
-         configData = read(configFile);
+         configData = read(configFile, trace);
       }
       else if (configURL != null)
       {
          InputStream isConfigFile = null;
          
+         trace.setSource(configURL.toString());
+         trace.startPhase(ConfigurationLoadTrace.PHASE_OPEN);
          try
          {
             isConfigFile = configURL.openStream();
-            configData = read(isConfigFile);
+            configData = parse(isConfigFile, configURL.toString(), trace);
          }
-         catch (IOException exc) 
+         catch (IOException | SAXException exc) 
          {
             throw new OSSConfigException("Error reading file " + configURL, 
                                              exc);
@@ -158,38 +329,99 @@ public class XMLConfig extends OSSObject
    }
    
    /**
-    * Read configuration from a specified file
+    * Read configuration from a specified file lazily recording the load into 
+    * the specified trace.
     * 
-    * @param strfileConfig - file from which to read configuration
-    * @return ConfigurableObject 
+    * @param fileConfig - file from which to read configuration
+    * @param trace - trace of the load
+    * @return ConfigurationImpl 
     * @throws OSSConfigException - an error has occurred
     */
-   public static ConfigurationImpl read(
-      String strfileConfig
+   protected static ConfigurationImpl readLazy(
+      File                   fileConfig,
+      ConfigurationLoadTrace trace
    ) throws OSSConfigException
    {
-      return read(new File(strfileConfig));
+      ConfigurationImpl config;
+      MappedByteBuffer  buffer;
+      
+      trace.startPhase(ConfigurationLoadTrace.PHASE_OPEN);
+      try (FileChannel channel = FileChannel.open(fileConfig.toPath(), 
+                                                  StandardOpenOption.READ))
+      {
+         // The mapping stays valid after the channel is closed
+         buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+      catch (IOException exc)
+      {
+         throw new OSSConfigException("Error reading input file " 
+                                      + fileConfig.getName(), exc);
+      }
+      
+      if (isUTF8Compatible(buffer))
+      {
+         XMLConfigIndex index;
+         
+         trace.startPhase(ConfigurationLoadTrace.PHASE_INDEX);
+         index = new XMLConfigIndex(buffer);
+         config = new LazyXMLConfigurationImpl(index);
+         trace.setBytes(buffer.limit());
+         trace.setParamCount(index.getCount());
+         s_logger.log(Level.FINE, "Configuration file {0} contains {1}"
+                      + " sections", new Object[] {fileConfig.getName(), 
+                      index.getSections().size()});
+      }
+      else
+      {
+         s_logger.log(Level.FINE, "Configuration file {0} is not encoded using"
+                      + " UTF-8 and it cannot be read lazily", 
+                      fileConfig.getName());
+         config = read(fileConfig, trace);
+      }
+      
+      return config;
    }
    
    /**
-    * Read configuration from a specified file
+    * Finish the trace of load of configuration and remember it as the last 
+    * load trace. This is done regardless of whether the load succeeded or not.
+    * 
+    * @param trace - trace of the load
+    */
+   protected static void finishTrace(
+      ConfigurationLoadTrace trace
+   )
+   {
+      trace.finish();
+      s_lastLoadTrace = trace;
+      if (s_logger.isLoggable(Level.FINE))
+      {
+         s_logger.fine(trace.getSummary());
+      }
+   }
+   
+   /**
+    * Read configuration from a specified file recording the load into the 
+    * specified trace.
     * 
     * @param fileConfig - file from which to read configuration
-    * @return ConfigurableObject 
+    * @param trace - trace of the load
+    * @return ConfigurationImpl 
     * @throws OSSConfigException - an error has occurred
     */
-   public static ConfigurationImpl read(
-      File fileConfig
+   protected static ConfigurationImpl read(
+      File                   fileConfig,
+      ConfigurationLoadTrace trace
    ) throws OSSConfigException
    {
-      Digester digester = DigesterLoader.newLoader(
-                             new ConfigurationRulesModule()).newDigester();
       ConfigurationImpl config = null;
       
-      try
+      trace.setSource(fileConfig.getPath());
+      trace.startPhase(ConfigurationLoadTrace.PHASE_OPEN);
+      try (InputStream streamConfig = new BufferedInputStream(
+                                         new FileInputStream(fileConfig)))
       {
-         config = digester.parse(fileConfig);
-         s_logger.log(Level.FINE, "Read configuration {0}", config);
+         config = parse(streamConfig, fileConfig.toURI().toString(), trace);
       }
       catch (IOException | SAXException exc)
       {
@@ -200,35 +432,108 @@ public class XMLConfig extends OSSObject
       
       return config;
    }
-
    
    /**
-    * Read configuration from a specified input stream
+    * Parse configuration from a specified input stream recording the load into
+    * the specified trace. 
     * 
     * @param streamConfig - stream from which to read configuration
-    * @return ConfigurableObject 
-    * @throws OSSConfigException - an error has occurred
+    * @param strSystemId - system identifier of the stream used to resolve 
+    *                      relative references and to report errors, can be 
+    *                      null if not known
+    * @param trace - trace of the load
+    * @return ConfigurationImpl 
+    * @throws IOException - an error has occurred reading the stream
+    * @throws SAXException - an error has occurred parsing the stream
     */
-   public static ConfigurationImpl read(
-      InputStream streamConfig
-   ) throws OSSConfigException
+   protected static ConfigurationImpl parse(
+      InputStream            streamConfig,
+      String                 strSystemId,
+      ConfigurationLoadTrace trace
+   ) throws IOException, 
+            SAXException
    {
-      Digester digester = DigesterLoader.newLoader(
-                             new ConfigurationRulesModule()).newDigester();
-      ConfigurationImpl config = null;
+      CountingInputStream counter = new CountingInputStream(streamConfig);
+      InputSource         source = new InputSource(counter);
+      Digester            digester;
+      ConfigurationImpl   config;
       
-      try
+      if (strSystemId != null)
       {
-         config = digester.parse(streamConfig);
-         s_logger.log(Level.FINE, "Read configuration {0}", config);
+         source.setSystemId(strSystemId);
       }
-      catch (IOException | SAXException exc)
+      trace.startPhase(ConfigurationLoadTrace.PHASE_CREATE_PARSER);
+      // Digester is not thread safe but the loader is reused since creating 
+      // it requires processing of all the rules 
+      synchronized (s_digesterLoader)
       {
-         throw new OSSConfigException("Error reading input stream " 
-                                          + streamConfig.toString(), 
-                                          exc);
+         digester = s_digesterLoader.newDigester();
+      }
+      trace.startPhase(ConfigurationLoadTrace.PHASE_PARSE);
+      config = digester.parse(source);
+      trace.setBytes(counter.getCount());
+      if (config != null)
+      {
+         trace.setParamCount(config.getParametersByName().size());
+         trace.setDefaultCount(config.getDefaultValuesByName().size());
+         if (s_logger.isLoggable(Level.FINEST))
+         {
+            // Formatting the whole configuration is expensive so do it only
+            // when really requested
+            trace.startPhase(ConfigurationLoadTrace.PHASE_LOG);
+            s_logger.log(Level.FINEST, "Read configuration {0}", config);
+         }
       }
       
       return config;
    }
+   
+   /**
+    * Test if the XML declaration of the document either doesn't specify any 
+    * encoding or it specifies encoding compatible with UTF-8.
+    * 
+    * @param buffer - buffer containing the document
+    * @return boolean - true if the document can be decoded using UTF-8
+    */
+   protected static boolean isUTF8Compatible(
+      ByteBuffer buffer
+   )
+   {
+      boolean bCompatible = true;
+      int     iLength = Math.min(buffer.limit(), 200);
+      byte[]  arrStart = new byte[iLength];
+      String  strStart;
+      
+      for (int iIndex = 0; iIndex < iLength; iIndex++)
+      {
+         arrStart[iIndex] = buffer.get(iIndex);
+      }
+      strStart = new String(arrStart, StandardCharsets.ISO_8859_1);
+      if (strStart.startsWith("<?xml"))
+      {
+         int iEnd = strStart.indexOf("?>");
+         int iEncoding = strStart.indexOf("encoding");
+         
+         if ((iEncoding != -1) && ((iEnd == -1) || (iEncoding < iEnd)))
+         {
+            String strEncoding = strStart.substring(iEncoding + 8, 
+                                    (iEnd == -1) ? iLength : iEnd)
+                                    .replaceAll("[\\s='\"]", " ").trim();
+            
+            strEncoding = strEncoding.split(" ")[0];
+            bCompatible = "UTF-8".equalsIgnoreCase(strEncoding)
+                          || "UTF8".equalsIgnoreCase(strEncoding)
+                          || "US-ASCII".equalsIgnoreCase(strEncoding)
+                          || "ASCII".equalsIgnoreCase(strEncoding);
+         }
+      }
+      else if ((iLength >= 2) 
+              && (((arrStart[0] & 0xFF) == 0xFE) || ((arrStart[0] & 0xFF) == 0xFF)))
+      {
+         // UTF-16 byte order mark
+         bCompatible = false;
+      }
+      
+      return bCompatible;
+   }
 }
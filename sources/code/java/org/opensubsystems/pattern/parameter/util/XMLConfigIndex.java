@@ -0,0 +1,741 @@
+/*
+ * Copyright (C) 2026 OpenSubsystems.com/net/org and its owners. All rights reserved.
+ *
+ * This file is part of OpenSubsystems.
+ *
+ * OpenSubsystems is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensubsystems.pattern.parameter.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.opensubsystems.core.error.OSSConfigException;
+import org.opensubsystems.core.util.OSSObject;
+
+/**
+ * Index of param elements of configuration file in the format described by
+ * ConfigurationRulesModule. Only param elements directly under the config
+ * root element are indexed. The index is built by a single pass over the raw
+ * bytes of the file, which only locates the param elements and their names
+ * without creating any objects for their values. The values can be later
+ * extracted for individual sections of the configuration. Section of the
+ * parameter is the part of its name before the first dot or the whole name
+ * if it doesn't contain any dot.
+ *
+ * The file is expected to be encoded using UTF-8 or any encoding compatible
+ * with ASCII for the markup. Same as the commons digester, text of the name
+ * and value elements is trimmed and if the value element is present multiple
+ * times, the last one is used.
+ *
+ * @author OpenSubsystems
+ */
+public class XMLConfigIndex extends OSSObject
+{
+   // Constants ////////////////////////////////////////////////////////////////
+
+   /**
+    * Separator of the section and the rest of the parameter name.
+    */
+   public static final char SECTION_SEPARATOR = '.';
+
+   // Attributes ///////////////////////////////////////////////////////////////
+
+   /**
+    * Buffer with the content of the configuration file.
+    */
+   protected ByteBuffer m_buffer;
+
+   /**
+    * Offsets where the param elements start.
+    */
+   protected int[] m_arrStarts;
+
+   /**
+    * Offsets where the param elements end.
+    */
+   protected int[] m_arrEnds;
+
+   /**
+    * Names of the parameters defined by param elements.
+    */
+   protected String[] m_arrNames;
+
+   /**
+    * Number of the indexed param elements.
+    */
+   protected int m_iCount;
+
+   /**
+    * Indexes of param elements belonging to each section keyed by the section.
+    */
+   protected Map<String, int[]> m_mpSections;
+
+   // Constructors /////////////////////////////////////////////////////////////
+
+   /**
+    * Constructor building the index.
+    *
+    * @param buffer - buffer with the content of the configuration file, it is
+    *                 accessed only using absolute positions
+    * @throws OSSConfigException - the file is not well formed
+    */
+   public XMLConfigIndex(
+      ByteBuffer buffer
+   ) throws OSSConfigException
+   {
+      super();
+
+      m_buffer = buffer;
+      m_arrStarts = new int[64];
+      m_arrEnds = new int[64];
+      m_arrNames = new String[64];
+      m_iCount = 0;
+      m_mpSections = new HashMap<>();
+      build();
+   }
+
+   // Logic ////////////////////////////////////////////////////////////////////
+
+   /**
+    * {@inheritDoc}
+    */
+   @Override
+   public void toString(
+      StringBuilder sb,
+      int           ind
+   )
+   {
+      append(sb, ind + 0, "XMLConfigIndex[");
+      append(sb, ind + 1, "m_iCount = ", m_iCount);
+      append(sb, ind + 1, "m_mpSections = ", m_mpSections.keySet());
+      super.toString(sb, ind + 1);
+      append(sb, ind + 0, "]");
+   }
+
+   /**
+    * Get section to which parameter with specified name belongs.
+    *
+    * @param strName - name of the parameter
+    * @return String - section of the parameter
+    */
+   public static String getSection(
+      String strName
+   )
+   {
+      int iIndex = strName.indexOf(SECTION_SEPARATOR);
+
+      return (iIndex == -1) ? strName : strName.substring(0, iIndex);
+   }
+
+   /**
+    * @return int - number of indexed param elements
+    */
+   public int getCount()
+   {
+      return m_iCount;
+   }
+
+   /**
+    * @return Set<String> - all sections found in the configuration file
+    */
+   public Set<String> getSections()
+   {
+      return Collections.unmodifiableSet(m_mpSections.keySet());
+   }
+
+   /**
+    * Test if configuration file contains any parameters in specified section.
+    *
+    * @param strSection - section to test
+    * @return boolean - true if the section contains any parameters
+    */
+   public boolean containsSection(
+      String strSection
+   )
+   {
+      return m_mpSections.containsKey(strSection);
+   }
+
+   /**
+    * Parse names and values of all parameters in the specified section.
+    *
+    * @param strSection - section to parse
+    * @return List<String[]> - for each parameter array containing name and
+    *                          value of the parameter, the value can be null
+    *                          if the param element doesn't contain value
+    * @throws OSSConfigException - value of some parameter contains invalid 
+    *                              entity
+    */
+   public List<String[]> parseSection(
+      String strSection
+   ) throws OSSConfigException
+   {
+      int[]          arrEntries = m_mpSections.get(strSection);
+      List<String[]> lstParams;
+
+      if (arrEntries == null)
+      {
+         lstParams = Collections.emptyList();
+      }
+      else
+      {
+         lstParams = new ArrayList<>(arrEntries.length);
+         for (int iEntry : arrEntries)
+         {
+            lstParams.add(new String[] {m_arrNames[iEntry],
+                                        extractText(m_arrStarts[iEntry],
+                                                    m_arrEnds[iEntry],
+                                                    "value")});
+         }
+      }
+
+      return lstParams;
+   }
+
+   // Helper methods ///////////////////////////////////////////////////////////
+
+   /**
+    * Scan the buffer and locate all param elements.
+    *
+    * @throws OSSConfigException - the file is not well formed
+    */
+   protected void build(
+   ) throws OSSConfigException
+   {
+      int                  iPosition = 0;
+      int                  iLimit = m_buffer.limit();
+      int                  iDepth = 0;
+      boolean              bConfigRoot = false;
+      Map<String, int[]>   mpSections = new HashMap<>();
+      Map<String, Integer> mpCounts = new HashMap<>();
+
+      while (iPosition < iLimit)
+      {
+         if (m_buffer.get(iPosition) != '<')
+         {
+            iPosition++;
+         }
+         else if (startsWith(iPosition, "</"))
+         {
+            iDepth--;
+            iPosition = skipMarkup(iPosition);
+         }
+         else if ((startsWith(iPosition, "<!")) 
+                 || (startsWith(iPosition, "<?")))
+         {
+            iPosition = skipMarkup(iPosition);
+         }
+         else if ((iDepth == 1) && (bConfigRoot) && (isTag(iPosition, "param")))
+         {
+            // Same as the commons digester only params directly under the 
+            // config root element define parameters
+            int iEnd = skipTo(iPosition, '>');
+
+            if (m_buffer.get(iEnd - 1) == '/')
+            {
+               // Empty element cannot contain name of the parameter
+               iEnd++;
+            }
+            else
+            {
+               iEnd = findEndTag(iEnd + 1, iLimit, "param");
+               if (iEnd == -1)
+               {
+                  throw new OSSConfigException("Element param starting at "
+                                               + iPosition 
+                                               + " is not terminated");
+               }
+               iEnd = skipTo(iEnd, '>') + 1;
+
+               String strName = extractText(iPosition, iEnd, "name");
+               if (strName != null)
+               {
+                  addEntry(iPosition, iEnd, strName);
+               }
+            }
+            iPosition = iEnd;
+         }
+         else
+         {
+            int iEnd = skipTo(iPosition, '>');
+
+            if (iDepth == 0)
+            {
+               bConfigRoot = isTag(iPosition, "config");
+            }
+            if (m_buffer.get(iEnd - 1) != '/')
+            {
+               iDepth++;
+            }
+            iPosition = iEnd + 1;
+         }
+      }
+
+      for (int iEntry = 0; iEntry < m_iCount; iEntry++)
+      {
+         String  strSection = getSection(m_arrNames[iEntry]);
+         Integer iCount = mpCounts.get(strSection);
+
+         mpCounts.put(strSection, (iCount == null) ? 1 : iCount + 1);
+      }
+      for (int iEntry = 0; iEntry < m_iCount; iEntry++)
+      {
+         String strSection = getSection(m_arrNames[iEntry]);
+         int[]  arrEntries = mpSections.get(strSection);
+         int    iCount = mpCounts.get(strSection);
+
+         if (arrEntries == null)
+         {
+            arrEntries = new int[iCount];
+            mpSections.put(strSection, arrEntries);
+         }
+         // Fill from the end using the remaining count to preserve file order
+         arrEntries[arrEntries.length - iCount] = iEntry;
+         mpCounts.put(strSection, iCount - 1);
+      }
+      m_mpSections = mpSections;
+   }
+
+   /**
+    * Remember location of param element.
+    *
+    * @param iStart - offset where the element starts
+    * @param iEnd - offset after the end of the element
+    * @param strName - name of the parameter
+    */
+   protected void addEntry(
+      int    iStart,
+      int    iEnd,
+      String strName
+   )
+   {
+      if (m_iCount == m_arrStarts.length)
+      {
+         int iNewSize = m_iCount * 2;
+
+         m_arrStarts = Arrays.copyOf(m_arrStarts, iNewSize);
+         m_arrEnds = Arrays.copyOf(m_arrEnds, iNewSize);
+         m_arrNames = Arrays.copyOf(m_arrNames, iNewSize);
+      }
+      m_arrStarts[m_iCount] = iStart;
+      m_arrEnds[m_iCount] = iEnd;
+      m_arrNames[m_iCount] = strName;
+      m_iCount++;
+   }
+
+   /**
+    * Extract text of the last child element with specified name within the
+    * specified range of the buffer.
+    *
+    * @param iFrom - offset where to start searching
+    * @param iTo - offset where to stop searching
+    * @param strTag - name of the element
+    * @return String - trimmed text of the element with resolved entities or
+    *                  null if the element wasn't found
+    * @throws OSSConfigException - the text contains invalid entity
+    */
+   protected String extractText(
+      int    iFrom,
+      int    iTo,
+      String strTag
+   ) throws OSSConfigException
+   {
+      String strText = null;
+      // Skip the parent element tag
+      int    iPosition = skipTo(iFrom, '>') + 1;
+
+      while (iPosition < iTo)
+      {
+         if (m_buffer.get(iPosition) != '<')
+         {
+            iPosition++;
+         }
+         else if (isTag(iPosition, strTag))
+         {
+            int iStart = skipTo(iPosition, '>');
+
+            if (m_buffer.get(iStart - 1) == '/')
+            {
+               // Empty element
+               strText = "";
+               iPosition = iStart + 1;
+            }
+            else
+            {
+               int iEnd = findEndTag(iStart + 1, iTo, strTag);
+
+               if (iEnd == -1)
+               {
+                  break;
+               }
+               strText = decode(iStart + 1, iEnd).trim();
+               iPosition = skipTo(iEnd, '>') + 1;
+            }
+         }
+         else
+         {
+            iPosition = skipMarkup(iPosition);
+         }
+      }
+
+      return strText;
+   }
+
+   /**
+    * Decode text content between specified offsets, resolving entities and
+    * character data sections.
+    *
+    * @param iFrom - offset where the text starts
+    * @param iTo - offset where the text ends
+    * @return String - decoded text
+    * @throws OSSConfigException - the text contains invalid entity
+    */
+   protected String decode(
+      int iFrom,
+      int iTo
+   ) throws OSSConfigException
+   {
+      StringBuilder sbText = new StringBuilder(iTo - iFrom);
+      int           iPosition = iFrom;
+
+      while (iPosition < iTo)
+      {
+         int iMarkup = find(iPosition, iTo, "<");
+
+         if (iMarkup == -1)
+         {
+            iMarkup = iTo;
+         }
+         resolveEntities(getString(iPosition, iMarkup), sbText);
+         if (iMarkup < iTo)
+         {
+            if (startsWith(iMarkup, "<![CDATA["))
+            {
+               int iEnd = find(iMarkup, iTo, "]]>");
+
+               iEnd = (iEnd == -1) ? iTo : iEnd;
+               sbText.append(getString(iMarkup + 9, iEnd));
+               iPosition = Math.min(iEnd + 3, iTo);
+            }
+            else
+            {
+               iPosition = Math.min(skipMarkup(iMarkup), iTo);
+            }
+         }
+         else
+         {
+            iPosition = iTo;
+         }
+      }
+
+      return sbText.toString();
+   }
+
+   /**
+    * Resolve predefined and character entities.
+    *
+    * @param strText - text which may contain entities
+    * @param sbOutput - buffer where to append the resolved text
+    * @throws OSSConfigException - the text contains invalid character 
+    *                              reference
+    */
+   protected static void resolveEntities(
+      String        strText,
+      StringBuilder sbOutput
+   ) throws OSSConfigException
+   {
+      int iPosition = 0;
+      int iAmpersand;
+
+      while ((iAmpersand = strText.indexOf('&', iPosition)) != -1)
+      {
+         int iSemicolon = strText.indexOf(';', iAmpersand);
+
+         sbOutput.append(strText, iPosition, iAmpersand);
+         if (iSemicolon == -1)
+         {
+            iPosition = iAmpersand;
+            break;
+         }
+
+         String strEntity = strText.substring(iAmpersand + 1, iSemicolon);
+
+         switch (strEntity)
+         {
+            case "lt":
+            {
+               sbOutput.append('<');
+               break;
+            }
+            case "gt":
+            {
+               sbOutput.append('>');
+               break;
+            }
+            case "amp":
+            {
+               sbOutput.append('&');
+               break;
+            }
+            case "quot":
+            {
+               sbOutput.append('"');
+               break;
+            }
+            case "apos":
+            {
+               sbOutput.append('\'');
+               break;
+            }
+            default:
+            {
+               try
+               {
+                  if (strEntity.startsWith("#x"))
+                  {
+                     sbOutput.appendCodePoint(Integer.parseInt(
+                                                 strEntity.substring(2), 16));
+                  }
+                  else if (strEntity.startsWith("#"))
+                  {
+                     sbOutput.appendCodePoint(Integer.parseInt(
+                                                 strEntity.substring(1)));
+                  }
+                  else
+                  {
+                     // Unknown entity, keep it as it is
+                     sbOutput.append('&').append(strEntity).append(';');
+                  }
+               }
+               catch (IllegalArgumentException exc)
+               {
+                  // Either the number cannot be parsed or it is not valid
+                  // code point
+                  throw new OSSConfigException("Invalid character reference &"
+                                               + strEntity + ";", exc);
+               }
+            }
+         }
+         iPosition = iSemicolon + 1;
+      }
+      sbOutput.append(strText, iPosition, strText.length());
+   }
+
+   /**
+    * Skip markup starting at specified offset, which is either comment,
+    * character data section, processing instruction, declaration or tag.
+    *
+    * @param iPosition - offset of the opening bracket
+    * @return int - offset after the markup
+    */
+   protected int skipMarkup(
+      int iPosition
+   )
+   {
+      int iEnd;
+
+      if (startsWith(iPosition, "<!--"))
+      {
+         iEnd = find(iPosition + 4, m_buffer.limit(), "-->");
+         iEnd = (iEnd == -1) ? m_buffer.limit() : iEnd + 3;
+      }
+      else if (startsWith(iPosition, "<![CDATA["))
+      {
+         iEnd = find(iPosition + 9, m_buffer.limit(), "]]>");
+         iEnd = (iEnd == -1) ? m_buffer.limit() : iEnd + 3;
+      }
+      else if (startsWith(iPosition, "<?"))
+      {
+         iEnd = find(iPosition + 2, m_buffer.limit(), "?>");
+         iEnd = (iEnd == -1) ? m_buffer.limit() : iEnd + 2;
+      }
+      else
+      {
+         iEnd = skipTo(iPosition, '>') + 1;
+      }
+
+      return iEnd;
+   }
+
+   /**
+    * Test if there is start tag of element with specified name at specified
+    * offset.
+    *
+    * @param iPosition - offset of the opening bracket
+    * @param strTag - name of the element
+    * @return boolean - true if the element starts at the offset
+    */
+   protected boolean isTag(
+      int    iPosition,
+      String strTag
+   )
+   {
+      boolean bTag = false;
+      int     iAfter = iPosition + 1 + strTag.length();
+
+      if ((iAfter < m_buffer.limit()) && (startsWith(iPosition + 1, strTag)))
+      {
+         byte bAfter = m_buffer.get(iAfter);
+
+         bTag = (bAfter == '>') || (bAfter == '/') || (bAfter == ' ')
+                || (bAfter == '\t') || (bAfter == '\r') || (bAfter == '\n');
+      }
+
+      return bTag;
+   }
+
+   /**
+    * Test if the buffer contains specified ASCII text at specified offset.
+    *
+    * @param iPosition - offset to test
+    * @param strText - ASCII text
+    * @return boolean - true if the text is present
+    */
+   protected boolean startsWith(
+      int    iPosition,
+      String strText
+   )
+   {
+      boolean bMatch = iPosition + strText.length() <= m_buffer.limit();
+
+      for (int iIndex = 0; (bMatch) && (iIndex < strText.length()); iIndex++)
+      {
+         bMatch = (m_buffer.get(iPosition + iIndex) == strText.charAt(iIndex));
+      }
+
+      return bMatch;
+   }
+
+   /**
+    * Find ASCII text in the buffer.
+    *
+    * @param iFrom - offset where to start searching
+    * @param iTo - offset where to stop searching
+    * @param strText - ASCII text to find
+    * @return int - offset of the text or -1 if it wasn't found
+    */
+   protected int find(
+      int    iFrom,
+      int    iTo,
+      String strText
+   )
+   {
+      int  iFound = -1;
+      byte bFirst = (byte)strText.charAt(0);
+
+      for (int iPosition = iFrom; iPosition < iTo; iPosition++)
+      {
+         if ((m_buffer.get(iPosition) == bFirst)
+            && (startsWith(iPosition, strText)))
+         {
+            iFound = iPosition;
+            break;
+         }
+      }
+
+      return iFound;
+   }
+
+   /**
+    * Find end tag of element with specified name skipping any markup, such as
+    * comments or character data sections, which may contain the end tag text.
+    *
+    * @param iFrom - offset after the start tag of the element
+    * @param iTo - offset where to stop searching
+    * @param strTag - name of the element
+    * @return int - offset of the end tag or -1 if it wasn't found
+    */
+   protected int findEndTag(
+      int    iFrom,
+      int    iTo,
+      String strTag
+   )
+   {
+      int iFound = -1;
+      int iPosition = iFrom;
+
+      while (iPosition < iTo)
+      {
+         if (m_buffer.get(iPosition) != '<')
+         {
+            iPosition++;
+         }
+         else if ((startsWith(iPosition, "</"))
+                 && (isTag(iPosition + 1, strTag)))
+         {
+            iFound = iPosition;
+            break;
+         }
+         else
+         {
+            iPosition = skipMarkup(iPosition);
+         }
+      }
+
+      return iFound;
+   }
+
+   /**
+    * Find the first occurrence of specified character.
+    *
+    * @param iFrom - offset where to start searching
+    * @param cChar - ASCII character to find
+    * @return int - offset of the character or offset of the last byte of the
+    *               buffer if the character wasn't found
+    */
+   protected int skipTo(
+      int  iFrom,
+      char cChar
+   )
+   {
+      int iPosition = iFrom;
+      int iLast = m_buffer.limit() - 1;
+
+      while ((iPosition < iLast) && (m_buffer.get(iPosition) != cChar))
+      {
+         iPosition++;
+      }
+
+      return iPosition;
+   }
+
+   /**
+    * Decode UTF-8 encoded string from the buffer.
+    *
+    * @param iFrom - offset where the string starts
+    * @param iTo - offset where the string ends
+    * @return String - decoded string
+    */
+   protected String getString(
+      int iFrom,
+      int iTo
+   )
+   {
+      byte[]     arrBytes = new byte[iTo - iFrom];
+      ByteBuffer view = m_buffer.duplicate();
+
+      view.position(iFrom);
+      view.get(arrBytes);
+
+      return new String(arrBytes, StandardCharsets.UTF_8);
+   }
+}